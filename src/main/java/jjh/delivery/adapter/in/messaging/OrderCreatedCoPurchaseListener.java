@@ -0,0 +1,58 @@
+package jjh.delivery.adapter.in.messaging;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import jjh.delivery.application.port.in.FrequentlyBoughtTogetherUseCase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.stereotype.Component;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Order Created Co-Purchase Listener - Driving Adapter (Inbound)
+ * order.created 이벤트의 상품 목록을 "함께 구매한 상품" 집계에 반영
+ *
+ * 주문 처리와 독립적으로 소비하도록 별도 consumer group을 사용합니다.
+ * 집계는 근사치이므로 중복 수신(재전달)은 별도 멱등 처리 없이 허용하고,
+ * 해석할 수 없는 메시지는 로그만 남기고 건너뜁니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OrderCreatedCoPurchaseListener {
+
+    private final FrequentlyBoughtTogetherUseCase frequentlyBoughtTogetherUseCase;
+    private final JsonMapper jsonMapper;
+
+    @KafkaListener(
+            topics = "order.created",
+            groupId = "${recommendation.co-purchase.group-id:delivery-service-co-purchase}",
+            containerFactory = "kafkaListenerContainerFactory"
+    )
+    public void handleOrderCreated(@Payload String payload, Acknowledgment acknowledgment) {
+        try {
+            OrderCreatedPayload event = jsonMapper.readValue(payload, OrderCreatedPayload.class);
+            if (event.productIds() != null) {
+                frequentlyBoughtTogetherUseCase.recordOrder(event.productIds());
+            }
+        } catch (JacksonException e) {
+            log.warn("Skipping unreadable order created event: {}", e.getOriginalMessage());
+        }
+        acknowledgment.acknowledge();
+    }
+
+    /**
+     * OrderCreatedEvent 중 집계에 필요한 필드만 읽음 (나머지 필드는 무시)
+     */
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    record OrderCreatedPayload(
+            UUID orderId,
+            List<UUID> productIds
+    ) {}
+}
@@ -0,0 +1,58 @@
+package jjh.delivery.adapter.in.messaging;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import jjh.delivery.application.port.in.SyncProductIndexUseCase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.stereotype.Component;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Product Changed Index Listener - Driving Adapter (Inbound)
+ * product.* 이벤트를 받아 변경된 상품을 검색 인덱스에 즉시 반영
+ *
+ * 재인덱싱은 최신 상품 정보를 다시 읽으므로 중복 수신이나 순서 역전에도 결과가 같아 별도 멱등 처리를 하지 않습니다.
+ * 상품 캐시는 저장 시점에 무효화되므로 여기서는 검색 인덱스만 갱신합니다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "search.product", name = "engine", havingValue = "elasticsearch", matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+public class ProductChangedIndexListener {
+
+    private final SyncProductIndexUseCase syncProductIndexUseCase;
+    private final JsonMapper jsonMapper;
+
+    @KafkaListener(
+            topics = {"product.created", "product.price-changed", "product.stock-changed", "product.status-changed"},
+            groupId = "${search.product.sync.group-id:delivery-service-product-index}",
+            containerFactory = "kafkaListenerContainerFactory"
+    )
+    public void handleProductChanged(@Payload String payload, Acknowledgment acknowledgment) {
+        try {
+            ProductChangedPayload event = jsonMapper.readValue(payload, ProductChangedPayload.class);
+            if (event.productId() != null) {
+                syncProductIndexUseCase.syncProducts(List.of(event.productId()));
+            }
+        } catch (JacksonException e) {
+            log.warn("Skipping unreadable product event: {}", e.getOriginalMessage());
+        }
+        acknowledgment.acknowledge();
+    }
+
+    /**
+     * 모든 상품 이벤트에 공통인 상품 ID만 읽음 (나머지 필드는 무시)
+     */
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    record ProductChangedPayload(
+            UUID productId
+    ) {}
+}
@@ -3,10 +3,13 @@ package jjh.delivery.adapter.in.web;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 
+import jjh.delivery.adapter.in.web.dto.BulkCreateOrderRequest;
+import jjh.delivery.adapter.in.web.dto.BulkCreateOrderResponse;
 import jjh.delivery.adapter.in.web.dto.CreateOrderRequest;
 import jjh.delivery.adapter.in.web.dto.CursorPageResponse;
 import jjh.delivery.adapter.in.web.dto.OrderListResponse;
 import jjh.delivery.adapter.in.web.dto.OrderResponse;
+import jjh.delivery.adapter.in.web.dto.OrderSearchResponse;
 import jjh.delivery.adapter.in.web.dto.UpdateOrderStatusRequest;
 import jjh.delivery.adapter.in.web.mapper.OrderWebMapper;
 import jjh.delivery.application.port.in.CreateOrderUseCase;
@@ -45,6 +48,16 @@ public class OrderController {
         return ResponseEntity.status(HttpStatus.CREATED).body(mapper.toResponse(order));
     }
 
+    /**
+     * 주문 일괄 생성 (마켓플레이스 연동, B2B 재주문 등)
+     * 전체 주문이 하나의 트랜잭션으로 저장되며, 하나라도 실패하면 모두 롤백됩니다.
+     */
+    @PostMapping("/bulk")
+    public ResponseEntity<BulkCreateOrderResponse> createOrders(@Valid @RequestBody BulkCreateOrderRequest request) {
+        List<Order> orders = createOrderUseCase.createOrders(mapper.toBulkCommand(request));
+        return ResponseEntity.status(HttpStatus.CREATED).body(BulkCreateOrderResponse.from(orders));
+    }
+
     /**
      * 내 주문 목록 조회 (커서 기반 페이지네이션)
      *
@@ -69,9 +82,7 @@ public class OrderController {
             queryBuilder.status(OrderStatus.valueOf(status));
         }
 
-        CursorPageResponse<Order> result = searchOrderUseCase.searchOrders(queryBuilder.build());
-
-        return ResponseEntity.ok(OrderListResponse.from(result));
+        return ResponseEntity.ok(OrderListResponse.fromSummaries(searchOrderUseCase.searchOrders(queryBuilder.build())));
     }
 
     @GetMapping("/{orderId}")
@@ -125,15 +136,89 @@ public class OrderController {
         return ResponseEntity.ok(mapper.toResponse(order));
     }
 
+    /**
+     * 고객별 주문 검색 (검색 인덱스 결과를 그대로 응답)
+     *
+     * @param includeItems 아이템 포함 여부 (기본값: true, 목록 화면은 false 권장)
+     */
     @GetMapping("/customer/{customerId}")
-    public ResponseEntity<List<OrderResponse>> getOrdersByCustomer(@PathVariable UUID customerId) {
-        List<Order> orders = searchOrderUseCase.findByCustomerId(customerId);
-        return ResponseEntity.ok(mapper.toResponseList(orders));
+    public ResponseEntity<List<OrderSearchResponse>> getOrdersByCustomer(
+            @PathVariable UUID customerId,
+            @RequestParam(defaultValue = "true") boolean includeItems
+    ) {
+        return ResponseEntity.ok(OrderSearchResponse.fromList(
+                searchOrderUseCase.findByCustomerId(customerId, includeItems)));
     }
 
+    /**
+     * 판매자별 주문 검색 (검색 인덱스 결과를 그대로 응답)
+     *
+     * @param includeItems 아이템 포함 여부 (기본값: true, 목록 화면은 false 권장)
+     */
     @GetMapping("/seller/{sellerId}")
-    public ResponseEntity<List<OrderResponse>> getOrdersBySeller(@PathVariable UUID sellerId) {
-        List<Order> orders = searchOrderUseCase.findBySellerId(sellerId);
-        return ResponseEntity.ok(mapper.toResponseList(orders));
+    public ResponseEntity<List<OrderSearchResponse>> getOrdersBySeller(
+            @PathVariable UUID sellerId,
+            @RequestParam(defaultValue = "true") boolean includeItems
+    ) {
+        return ResponseEntity.ok(OrderSearchResponse.fromList(
+                searchOrderUseCase.findBySellerId(sellerId, includeItems)));
+    }
+
+    /**
+     * 고객별 주문 목록 조회 (커서 기반, 아이템 포함)
+     *
+     * @param cursor 이전 페이지의 nextCursor 값 (첫 페이지는 생략)
+     * @param size   조회할 주문 수 (기본값: 20)
+     */
+    @GetMapping("/customer/{customerId}/page")
+    public ResponseEntity<CursorPageResponse<OrderResponse>> getOrdersByCustomerPage(
+            @PathVariable UUID customerId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        CursorPageResponse<Order> result = searchOrderUseCase.findByCustomerId(customerId, cursor, size);
+        return ResponseEntity.ok(result.map(mapper::toResponse));
+    }
+
+    /**
+     * 판매자별 주문 목록 조회 (커서 기반, 아이템 포함)
+     *
+     * @param cursor 이전 페이지의 nextCursor 값 (첫 페이지는 생략)
+     * @param size   조회할 주문 수 (기본값: 20)
+     */
+    @GetMapping("/seller/{sellerId}/page")
+    public ResponseEntity<CursorPageResponse<OrderResponse>> getOrdersBySellerPage(
+            @PathVariable UUID sellerId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        CursorPageResponse<Order> result = searchOrderUseCase.findBySellerId(sellerId, cursor, size);
+        return ResponseEntity.ok(result.map(mapper::toResponse));
+    }
+
+    /**
+     * 고객별 주문 요약 목록 조회 (커서 기반, 아이템 미포함)
+     */
+    @GetMapping("/customer/{customerId}/summaries")
+    public ResponseEntity<OrderListResponse> getOrderSummariesByCustomer(
+            @PathVariable UUID customerId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return ResponseEntity.ok(OrderListResponse.fromSummaries(
+                searchOrderUseCase.findSummariesByCustomerId(customerId, cursor, size)));
+    }
+
+    /**
+     * 판매자별 주문 요약 목록 조회 (커서 기반, 아이템 미포함)
+     */
+    @GetMapping("/seller/{sellerId}/summaries")
+    public ResponseEntity<OrderListResponse> getOrderSummariesBySeller(
+            @PathVariable UUID sellerId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return ResponseEntity.ok(OrderListResponse.fromSummaries(
+                searchOrderUseCase.findSummariesBySellerId(sellerId, cursor, size)));
     }
 }
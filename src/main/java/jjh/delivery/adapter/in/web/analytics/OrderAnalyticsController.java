@@ -0,0 +1,51 @@
+package jjh.delivery.adapter.in.web.analytics;
+
+import lombok.RequiredArgsConstructor;
+
+import jjh.delivery.adapter.in.web.analytics.dto.OrderAnalyticsResponse;
+import jjh.delivery.application.port.in.GetOrderAnalyticsUseCase;
+import jjh.delivery.application.port.in.GetOrderAnalyticsUseCase.AnalyticsInterval;
+import jjh.delivery.application.port.in.GetOrderAnalyticsUseCase.OrderAnalyticsQuery;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Order Analytics REST Controller - Driving Adapter (Inbound)
+ * 대시보드용 주문 분석 API (ADMIN 전용, 검색 인덱스 집계)
+ */
+@RestController
+@RequestMapping("/api/v2/admin/analytics")
+@RequiredArgsConstructor
+public class OrderAnalyticsController {
+
+    private final GetOrderAnalyticsUseCase getOrderAnalyticsUseCase;
+
+    /**
+     * 주문 분석 조회
+     * 인덱싱은 비동기이므로 최근 수 초 내의 변경은 반영되지 않을 수 있습니다.
+     *
+     * @param sellerId   판매자 범위 (생략 시 전체)
+     * @param from       집계 시작 시각 (포함)
+     * @param to         집계 종료 시각 (미포함)
+     * @param interval   기간별 추이 단위 (HOUR, DAY, WEEK, MONTH, 기본값: DAY)
+     * @param topSellers 매출 상위 판매자 수 (기본값: 10)
+     */
+    @GetMapping("/orders")
+    public ResponseEntity<OrderAnalyticsResponse> getOrderAnalytics(
+            @RequestParam(required = false) UUID sellerId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "DAY") AnalyticsInterval interval,
+            @RequestParam(defaultValue = "10") int topSellers
+    ) {
+        OrderAnalyticsQuery query = new OrderAnalyticsQuery(sellerId, from, to, interval, topSellers);
+        return ResponseEntity.ok(OrderAnalyticsResponse.from(getOrderAnalyticsUseCase.getOrderAnalytics(query)));
+    }
+}
@@ -0,0 +1,79 @@
+package jjh.delivery.adapter.in.web.analytics.dto;
+
+import jjh.delivery.application.port.out.OrderAnalyticsPort.AmountPercentiles;
+import jjh.delivery.application.port.out.OrderAnalyticsPort.OrderAnalytics;
+import jjh.delivery.application.port.out.OrderAnalyticsPort.PeriodBucket;
+import jjh.delivery.application.port.out.OrderAnalyticsPort.SellerBucket;
+import jjh.delivery.application.port.out.OrderAnalyticsPort.StatusBucket;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 주문 분석 응답
+ */
+public record OrderAnalyticsResponse(
+        long totalOrders,
+        BigDecimal totalRevenue,
+        BigDecimal averageOrderAmount,
+        AmountPercentilesResponse amountPercentiles,
+        List<PeriodResponse> periods,
+        List<StatusResponse> statuses,
+        List<SellerResponse> topSellers
+) {
+    public static OrderAnalyticsResponse from(OrderAnalytics analytics) {
+        return new OrderAnalyticsResponse(
+                analytics.totalOrders(),
+                analytics.totalRevenue(),
+                analytics.averageOrderAmount(),
+                AmountPercentilesResponse.from(analytics.amountPercentiles()),
+                analytics.periods().stream().map(PeriodResponse::from).toList(),
+                analytics.statuses().stream().map(StatusResponse::from).toList(),
+                analytics.topSellers().stream().map(SellerResponse::from).toList()
+        );
+    }
+
+    public record AmountPercentilesResponse(
+            BigDecimal p50,
+            BigDecimal p90,
+            BigDecimal p95,
+            BigDecimal p99
+    ) {
+        public static AmountPercentilesResponse from(AmountPercentiles percentiles) {
+            return new AmountPercentilesResponse(
+                    percentiles.p50(), percentiles.p90(), percentiles.p95(), percentiles.p99()
+            );
+        }
+    }
+
+    public record PeriodResponse(
+            LocalDateTime periodStart,
+            long orderCount,
+            BigDecimal revenue
+    ) {
+        public static PeriodResponse from(PeriodBucket bucket) {
+            return new PeriodResponse(bucket.periodStart(), bucket.orderCount(), bucket.revenue());
+        }
+    }
+
+    public record StatusResponse(
+            String status,
+            long orderCount,
+            BigDecimal revenue
+    ) {
+        public static StatusResponse from(StatusBucket bucket) {
+            return new StatusResponse(bucket.status().name(), bucket.orderCount(), bucket.revenue());
+        }
+    }
+
+    public record SellerResponse(
+            String sellerId,
+            long orderCount,
+            BigDecimal revenue
+    ) {
+        public static SellerResponse from(SellerBucket bucket) {
+            return new SellerResponse(bucket.sellerId().toString(), bucket.orderCount(), bucket.revenue());
+        }
+    }
+}
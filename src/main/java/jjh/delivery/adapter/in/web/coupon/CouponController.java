@@ -5,11 +5,14 @@ import lombok.RequiredArgsConstructor;
 
 import jjh.delivery.adapter.in.web.coupon.dto.*;
 import jjh.delivery.adapter.in.web.dto.CursorPageResponse;
+import jjh.delivery.application.port.in.FindBestCouponsUseCase;
 import jjh.delivery.application.port.in.ManageCouponUseCase;
 import jjh.delivery.application.port.in.ManageCouponUseCase.*;
 import jjh.delivery.domain.promotion.Coupon;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -25,6 +28,7 @@ import java.util.UUID;
 public class CouponController {
 
     private final ManageCouponUseCase manageCouponUseCase;
+    private final FindBestCouponsUseCase findBestCouponsUseCase;
 
     // ==================== Admin Endpoints ====================
 
@@ -202,6 +206,23 @@ public class CouponController {
         return ResponseEntity.ok(CouponValidationResponse.from(result));
     }
 
+    /**
+     * 내 장바구니에 적용 가능한 쿠폰 (예상 할인 금액 내림차순)
+     */
+    @GetMapping("/best")
+    public ResponseEntity<List<ApplicableCouponResponse>> getBestCoupons(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @RequestParam(defaultValue = "5") int limit
+    ) {
+        UUID customerId = UUID.fromString(userDetails.getUsername());
+
+        List<ApplicableCouponResponse> response = findBestCouponsUseCase.findBestCoupons(customerId, limit).stream()
+                .map(ApplicableCouponResponse::from)
+                .toList();
+
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * 할인 금액 계산
      */
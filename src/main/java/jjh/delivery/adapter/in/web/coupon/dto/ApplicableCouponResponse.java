@@ -0,0 +1,39 @@
+package jjh.delivery.adapter.in.web.coupon.dto;
+
+import jjh.delivery.application.port.in.FindBestCouponsUseCase.ApplicableCoupon;
+import jjh.delivery.domain.promotion.CouponScope;
+import jjh.delivery.domain.promotion.DiscountType;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 장바구니 적용 가능 쿠폰 응답
+ */
+public record ApplicableCouponResponse(
+        String couponId,
+        String code,
+        String name,
+        DiscountType discountType,
+        BigDecimal discountValue,
+        CouponScope scope,
+        String scopeTargetId,
+        BigDecimal eligibleAmount,
+        BigDecimal discountAmount,
+        LocalDateTime validUntil
+) {
+    public static ApplicableCouponResponse from(ApplicableCoupon coupon) {
+        return new ApplicableCouponResponse(
+                coupon.couponId().toString(),
+                coupon.code(),
+                coupon.name(),
+                coupon.discountType(),
+                coupon.discountValue(),
+                coupon.scope(),
+                coupon.scopeTargetId() != null ? coupon.scopeTargetId().toString() : null,
+                coupon.eligibleAmount(),
+                coupon.discountAmount(),
+                coupon.validUntil()
+        );
+    }
+}
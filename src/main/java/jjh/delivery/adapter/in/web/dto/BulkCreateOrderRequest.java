@@ -0,0 +1,20 @@
+package jjh.delivery.adapter.in.web.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * Bulk Create Order Request DTO
+ * 형식 검증 (Format Validation) 담당
+ */
+public record BulkCreateOrderRequest(
+
+        @NotEmpty(message = "주문은 최소 1개 이상이어야 합니다")
+        @Size(max = 500, message = "한 번에 최대 500개의 주문까지 생성할 수 있습니다")
+        @Valid
+        List<CreateOrderRequest> orders
+
+) {}
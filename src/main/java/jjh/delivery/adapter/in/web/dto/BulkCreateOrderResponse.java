@@ -0,0 +1,28 @@
+package jjh.delivery.adapter.in.web.dto;
+
+import jjh.delivery.domain.order.Order;
+
+import java.util.List;
+
+/**
+ * Bulk Create Order Response DTO
+ * 대량 생성 결과는 전체 주문 대신 식별 정보만 반환
+ */
+public record BulkCreateOrderResponse(
+        int createdCount,
+        List<CreatedOrder> orders
+) {
+    public static BulkCreateOrderResponse from(List<Order> orders) {
+        return new BulkCreateOrderResponse(
+                orders.size(),
+                orders.stream()
+                        .map(order -> new CreatedOrder(order.getId().toString(), order.getOrderNumber()))
+                        .toList()
+        );
+    }
+
+    public record CreatedOrder(
+            String id,
+            String orderNumber
+    ) {}
+}
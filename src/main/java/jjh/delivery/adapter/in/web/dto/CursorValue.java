@@ -1,6 +1,7 @@
 package jjh.delivery.adapter.in.web.dto;
 
 import java.time.Instant;
+import java.time.format.DateTimeParseException;
 import java.util.Base64;
 import java.util.UUID;
 
@@ -15,6 +16,10 @@ import java.util.UUID;
  *   <li>JPA/jOOQ: UUID.toString() (데이터베이스 id)</li>
  *   <li>Elasticsearch: orderNumber (정렬 가능한 Keyword 필드)</li>
  * </ul>
+ *
+ * <p>createdAt은 ISO-8601 instant로 인코딩해 DB 정밀도(PostgreSQL 마이크로초)를 그대로 유지합니다.
+ * 밀리초로 자르면 같은 밀리초에 생성된 행 사이에서 keyset 비교가 어긋나 페이지 경계의 행이 누락됩니다.
+ * (이전 형식인 epoch millis 커서도 디코딩은 지원)</p>
  */
 public record CursorValue(
         Instant createdAt,
@@ -29,7 +34,7 @@ public record CursorValue(
         if (createdAt == null || identifier == null) {
             return null;
         }
-        String raw = createdAt.toEpochMilli() + DELIMITER + identifier;
+        String raw = createdAt + DELIMITER + identifier;
         return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes());
     }
 
@@ -46,15 +51,19 @@ public record CursorValue(
             if (parts.length != 2) {
                 return null;
             }
-            return new CursorValue(
-                    Instant.ofEpochMilli(Long.parseLong(parts[0])),
-                    parts[1]
-            );
-        } catch (IllegalArgumentException e) {
+            return new CursorValue(parseCreatedAt(parts[0]), parts[1]);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
             return null;
         }
     }
 
+    private static Instant parseCreatedAt(String value) {
+        if (!value.isEmpty() && value.chars().allMatch(Character::isDigit)) {
+            return Instant.ofEpochMilli(Long.parseLong(value));
+        }
+        return Instant.parse(value);
+    }
+
     /**
      * 현재 커서 값을 인코딩된 문자열로 반환
      */
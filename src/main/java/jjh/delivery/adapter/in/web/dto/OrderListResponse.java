@@ -1,6 +1,6 @@
 package jjh.delivery.adapter.in.web.dto;
 
-import jjh.delivery.domain.order.Order;
+import jjh.delivery.application.port.out.OrderQueryPort.OrderSummary;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -16,9 +16,9 @@ public record OrderListResponse(
         String nextCursor
 ) {
     /**
-     * CursorPageResponse에서 OrderListResponse 생성
+     * 요약 Projection 페이지에서 OrderListResponse 생성 (아이템 미조회)
      */
-    public static OrderListResponse from(CursorPageResponse<Order> cursorPage) {
+    public static OrderListResponse fromSummaries(CursorPageResponse<OrderSummary> cursorPage) {
         return new OrderListResponse(
                 cursorPage.content().stream()
                         .map(OrderSummaryResponse::from)
@@ -44,18 +44,18 @@ public record OrderListResponse(
             LocalDateTime createdAt,
             LocalDateTime deliveredAt
     ) {
-        public static OrderSummaryResponse from(Order order) {
+        public static OrderSummaryResponse from(OrderSummary summary) {
             return new OrderSummaryResponse(
-                    order.getId().toString(),
-                    order.getOrderNumber(),
-                    order.getSellerId().toString(),
+                    summary.id().toString(),
+                    summary.orderNumber(),
+                    summary.sellerId().toString(),
                     null, // sellerName은 별도 조회 필요
-                    order.getStatus().name(),
-                    order.getTotalAmount(),
-                    order.getItems().size(),
+                    summary.status().name(),
+                    summary.totalAmount(),
+                    summary.itemCount(),
                     null, // thumbnailUrl은 첫 번째 상품 이미지
-                    order.getCreatedAt(),
-                    order.getDeliveredAt()
+                    summary.createdAt(),
+                    summary.deliveredAt()
             );
         }
     }
@@ -0,0 +1,77 @@
+package jjh.delivery.adapter.in.web.dto;
+
+import jjh.delivery.application.port.out.OrderSearchPort.OrderSearchItem;
+import jjh.delivery.application.port.out.OrderSearchPort.OrderSearchResult;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 주문 검색 결과 응답 DTO (검색 인덱스 Read Model)
+ * 인덱스에 저장된 필드만 포함합니다. (결제/배송 시각 등 전체 정보는 주문 상세 조회 사용)
+ */
+public record OrderSearchResponse(
+        String id,
+        String orderNumber,
+        String customerId,
+        String sellerId,
+        String status,
+        BigDecimal totalAmount,
+        String shippingAddress,
+        int itemCount,
+        List<OrderSearchItemResponse> items,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {
+    public static OrderSearchResponse from(OrderSearchResult result) {
+        return new OrderSearchResponse(
+                result.id().toString(),
+                result.orderNumber(),
+                result.customerId().toString(),
+                result.sellerId().toString(),
+                result.status().name(),
+                result.totalAmount(),
+                result.shippingAddress(),
+                result.itemCount(),
+                result.items().stream()
+                        .map(OrderSearchItemResponse::from)
+                        .toList(),
+                result.createdAt(),
+                result.updatedAt()
+        );
+    }
+
+    public static List<OrderSearchResponse> fromList(List<OrderSearchResult> results) {
+        return results.stream()
+                .map(OrderSearchResponse::from)
+                .toList();
+    }
+
+    public record OrderSearchItemResponse(
+            String productId,
+            String productName,
+            String variantId,
+            String variantName,
+            String sku,
+            Map<String, String> optionValues,
+            int quantity,
+            BigDecimal unitPrice,
+            BigDecimal subtotal
+    ) {
+        public static OrderSearchItemResponse from(OrderSearchItem item) {
+            return new OrderSearchItemResponse(
+                    item.productId().toString(),
+                    item.productName(),
+                    item.variantId() != null ? item.variantId().toString() : null,
+                    item.variantName(),
+                    item.sku(),
+                    item.optionValues(),
+                    item.quantity(),
+                    item.unitPrice(),
+                    item.unitPrice().multiply(BigDecimal.valueOf(item.quantity()))
+            );
+        }
+    }
+}
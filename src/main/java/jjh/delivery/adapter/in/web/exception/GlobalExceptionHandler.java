@@ -3,6 +3,7 @@ package jjh.delivery.adapter.in.web.exception;
 import jjh.delivery.domain.customer.exception.CustomerNotFoundException;
 import jjh.delivery.domain.order.exception.OrderNotFoundException;
 import jjh.delivery.domain.payment.exception.PaymentNotFoundException;
+import jjh.delivery.domain.product.exception.InsufficientStockException;
 import jjh.delivery.domain.product.exception.ProductNotFoundException;
 import jjh.delivery.domain.returns.exception.ReturnNotFoundException;
 import jjh.delivery.domain.review.exception.ReviewNotFoundException;
@@ -91,6 +92,20 @@ public class GlobalExceptionHandler {
         return problem;
     }
 
+    @ExceptionHandler(InsufficientStockException.class)
+    public ProblemDetail handleInsufficientStock(InsufficientStockException ex) {
+        ProblemDetail problem = ProblemDetail.forStatusAndDetail(
+                HttpStatus.CONFLICT,
+                ex.getMessage()
+        );
+        problem.setTitle("Insufficient Stock");
+        problem.setType(URI.create("https://api.delivery.com/errors/insufficient-stock"));
+        problem.setProperty("productId", ex.getProductId());
+        problem.setProperty("variantId", ex.getVariantId());
+        problem.setProperty("timestamp", Instant.now());
+        return problem;
+    }
+
     // Authentication & Authorization
     @ExceptionHandler(AuthenticationException.class)
     public ProblemDetail handleAuthentication(AuthenticationException ex) {
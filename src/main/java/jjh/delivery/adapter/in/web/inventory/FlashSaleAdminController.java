@@ -0,0 +1,80 @@
+package jjh.delivery.adapter.in.web.inventory;
+
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+
+import jjh.delivery.adapter.in.web.inventory.dto.FlashSaleResponse;
+import jjh.delivery.adapter.in.web.inventory.dto.ScheduleFlashSaleRequest;
+import jjh.delivery.application.port.in.ManageFlashSaleUseCase;
+import jjh.delivery.application.port.in.ManageFlashSaleUseCase.FlashSaleInfo;
+import jjh.delivery.application.port.in.ManageFlashSaleUseCase.ScheduleFlashSaleCommand;
+import jjh.delivery.domain.inventory.FlashSaleStatus;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Flash Sale Admin REST Controller - Driving Adapter (Inbound)
+ * 변형 단위 플래시 세일(분할 재고 카운터) 캠페인 관리 API (ADMIN 전용)
+ */
+@RestController
+@RequestMapping("/api/v2/admin/flash-sales")
+@RequiredArgsConstructor
+public class FlashSaleAdminController {
+
+    private final ManageFlashSaleUseCase manageFlashSaleUseCase;
+
+    /**
+     * 캠페인 등록 (시작 시각에 변형 재고 전량이 카운터로 이관되고, 종료 시각에 남은 수량이 반환됨)
+     */
+    @PostMapping
+    public ResponseEntity<FlashSaleResponse> scheduleFlashSale(
+            @Valid @RequestBody ScheduleFlashSaleRequest request
+    ) {
+        FlashSaleInfo info = manageFlashSaleUseCase.scheduleFlashSale(new ScheduleFlashSaleCommand(
+                request.variantId(),
+                request.startsAt(),
+                request.endsAt(),
+                request.shardCount()
+        ));
+
+        return ResponseEntity.status(HttpStatus.CREATED).body(FlashSaleResponse.from(info));
+    }
+
+    /**
+     * 캠페인 목록 조회 (기본값: 진행 중)
+     */
+    @GetMapping
+    public ResponseEntity<List<FlashSaleResponse>> getFlashSales(
+            @RequestParam(defaultValue = "ACTIVE") FlashSaleStatus status
+    ) {
+        return ResponseEntity.ok(manageFlashSaleUseCase.getFlashSales(status).stream()
+                .map(FlashSaleResponse::from)
+                .toList());
+    }
+
+    /**
+     * 캠페인 조회 (진행 중이면 카운터의 현재 남은 수량)
+     */
+    @GetMapping("/{variantId}")
+    public ResponseEntity<FlashSaleResponse> getFlashSale(@PathVariable UUID variantId) {
+        return ResponseEntity.ok(FlashSaleResponse.from(manageFlashSaleUseCase.getFlashSale(variantId)));
+    }
+
+    /**
+     * 캠페인 즉시 종료
+     */
+    @PostMapping("/{variantId}/end")
+    public ResponseEntity<FlashSaleResponse> endFlashSale(@PathVariable UUID variantId) {
+        return ResponseEntity.ok(FlashSaleResponse.from(manageFlashSaleUseCase.endFlashSale(variantId)));
+    }
+}
@@ -0,0 +1,39 @@
+package jjh.delivery.adapter.in.web.inventory.dto;
+
+import jjh.delivery.application.port.in.ManageFlashSaleUseCase.FlashSaleInfo;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 플래시 세일 응답
+ */
+public record FlashSaleResponse(
+        UUID variantId,
+        UUID productId,
+        String status,
+        int shardCount,
+        int allocatedQuantity,
+        int remainingQuantity,
+        int soldQuantity,
+        LocalDateTime startsAt,
+        LocalDateTime endsAt,
+        LocalDateTime activatedAt,
+        LocalDateTime endedAt
+) {
+    public static FlashSaleResponse from(FlashSaleInfo info) {
+        return new FlashSaleResponse(
+                info.variantId(),
+                info.productId(),
+                info.status().name(),
+                info.shardCount(),
+                info.allocatedQuantity(),
+                info.remainingQuantity(),
+                Math.max(0, info.allocatedQuantity() - info.remainingQuantity()),
+                info.startsAt(),
+                info.endsAt(),
+                info.activatedAt(),
+                info.endedAt()
+        );
+    }
+}
@@ -0,0 +1,24 @@
+package jjh.delivery.adapter.in.web.inventory.dto;
+
+import jakarta.validation.constraints.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 플래시 세일 등록 요청
+ */
+public record ScheduleFlashSaleRequest(
+        @NotNull(message = "상품 변형 ID는 필수입니다")
+        UUID variantId,
+
+        @NotNull(message = "시작 시각은 필수입니다")
+        LocalDateTime startsAt,
+
+        @NotNull(message = "종료 시각은 필수입니다")
+        LocalDateTime endsAt,
+
+        @Positive(message = "카운터 분할 수는 0보다 커야 합니다")
+        Integer shardCount
+) {
+}
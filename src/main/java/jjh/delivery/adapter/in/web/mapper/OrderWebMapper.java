@@ -1,11 +1,13 @@
 package jjh.delivery.adapter.in.web.mapper;
 
+import jjh.delivery.adapter.in.web.dto.BulkCreateOrderRequest;
 import jjh.delivery.adapter.in.web.dto.CreateOrderRequest;
 import jjh.delivery.adapter.in.web.dto.CreateOrderRequest.OrderItemRequest;
 import jjh.delivery.adapter.in.web.dto.CreateOrderRequest.ShippingAddressRequest;
 import jjh.delivery.adapter.in.web.dto.OrderResponse;
 import jjh.delivery.adapter.in.web.dto.OrderResponse.OrderItemResponse;
 import jjh.delivery.adapter.in.web.dto.OrderResponse.ShippingAddressResponse;
+import jjh.delivery.application.port.in.CreateOrderUseCase.BulkCreateOrderCommand;
 import jjh.delivery.application.port.in.CreateOrderUseCase.CreateOrderCommand;
 import jjh.delivery.application.port.in.CreateOrderUseCase.OrderItemCommand;
 import jjh.delivery.domain.order.Order;
@@ -37,6 +39,14 @@ public class OrderWebMapper {
         );
     }
 
+    public BulkCreateOrderCommand toBulkCommand(BulkCreateOrderRequest request) {
+        return new BulkCreateOrderCommand(
+                request.orders().stream()
+                        .map(this::toCommand)
+                        .toList()
+        );
+    }
+
     private OrderItemCommand toItemCommand(OrderItemRequest item) {
         if (item.variantId() != null && !item.variantId().isBlank()) {
             return OrderItemCommand.ofVariant(
@@ -3,8 +3,8 @@ package jjh.delivery.adapter.in.web.product;
 import lombok.RequiredArgsConstructor;
 
 import jjh.delivery.adapter.in.web.product.dto.CategoryListResponse;
-import jjh.delivery.application.port.out.LoadCategoryPort;
-import jjh.delivery.domain.category.Category;
+import jjh.delivery.application.port.in.GetCategoryTreeUseCase;
+import jjh.delivery.application.port.in.GetCategoryTreeUseCase.CategoryNode;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -21,14 +21,14 @@ import java.util.List;
 @RequiredArgsConstructor
 public class CategoryController {
 
-    private final LoadCategoryPort loadCategoryPort;
+    private final GetCategoryTreeUseCase getCategoryTreeUseCase;
 
     /**
-     * 카테고리 목록 조회 (트리 구조)
+     * 카테고리 목록 조회 (트리 구조, 메모리 스냅샷)
      */
     @GetMapping
     public ResponseEntity<CategoryListResponse> getCategories() {
-        List<Category> categories = loadCategoryPort.findAllActiveAsTree();
+        List<CategoryNode> categories = getCategoryTreeUseCase.getTree();
         return ResponseEntity.ok(CategoryListResponse.from(categories));
     }
 }
@@ -0,0 +1,95 @@
+package jjh.delivery.adapter.in.web.product;
+
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+
+import jjh.delivery.adapter.in.web.product.dto.AdjustProductStockRequest;
+import jjh.delivery.adapter.in.web.product.dto.ChangeProductPriceRequest;
+import jjh.delivery.adapter.in.web.product.dto.ChangeProductStatusRequest;
+import jjh.delivery.adapter.in.web.product.dto.ProductResponse;
+import jjh.delivery.adapter.in.web.product.dto.RegisterProductRequest;
+import jjh.delivery.application.port.in.ManageProductUseCase;
+import jjh.delivery.application.port.in.ManageProductUseCase.RegisterProductCommand;
+import jjh.delivery.domain.product.Product;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.UUID;
+
+/**
+ * Product Admin REST Controller - Driving Adapter (Inbound)
+ * 상품 등록/가격/재고/상태 변경 API (ADMIN 전용)
+ *
+ * 변경은 상품 이벤트(product.* 토픽)로 발행되어 검색 인덱스에 즉시 반영됩니다.
+ */
+@RestController
+@RequestMapping("/api/v2/admin/products")
+@RequiredArgsConstructor
+public class ProductAdminController {
+
+    private final ManageProductUseCase manageProductUseCase;
+
+    /**
+     * 상품 등록 (DRAFT 상태)
+     */
+    @PostMapping
+    public ResponseEntity<ProductResponse> registerProduct(
+            @Valid @RequestBody RegisterProductRequest request
+    ) {
+        Product product = manageProductUseCase.registerProduct(new RegisterProductCommand(
+                request.sellerId(),
+                request.name(),
+                request.description(),
+                request.basePrice(),
+                request.categoryIds(),
+                request.imageUrls()
+        ));
+
+        return ResponseEntity.status(HttpStatus.CREATED).body(ProductResponse.from(product));
+    }
+
+    /**
+     * 기본 가격 변경
+     */
+    @PutMapping("/{productId}/price")
+    public ResponseEntity<ProductResponse> changePrice(
+            @PathVariable UUID productId,
+            @Valid @RequestBody ChangeProductPriceRequest request
+    ) {
+        Product product = manageProductUseCase.changePrice(productId, request.basePrice());
+
+        return ResponseEntity.ok(ProductResponse.from(product));
+    }
+
+    /**
+     * 재고 증감 (양수면 입고, 음수면 차감)
+     */
+    @PostMapping("/{productId}/stock")
+    public ResponseEntity<ProductResponse> adjustStock(
+            @PathVariable UUID productId,
+            @Valid @RequestBody AdjustProductStockRequest request
+    ) {
+        Product product = manageProductUseCase.adjustStock(productId, request.variantId(), request.quantityDelta());
+
+        return ResponseEntity.ok(ProductResponse.from(product));
+    }
+
+    /**
+     * 판매 상태 변경
+     */
+    @PutMapping("/{productId}/status")
+    public ResponseEntity<ProductResponse> changeStatus(
+            @PathVariable UUID productId,
+            @Valid @RequestBody ChangeProductStatusRequest request
+    ) {
+        Product product = manageProductUseCase.changeStatus(productId, request.status());
+
+        return ResponseEntity.ok(ProductResponse.from(product));
+    }
+}
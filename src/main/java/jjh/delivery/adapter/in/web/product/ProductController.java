@@ -4,12 +4,16 @@ import lombok.RequiredArgsConstructor;
 
 import jjh.delivery.adapter.in.web.dto.CursorPageResponse;
 import jjh.delivery.adapter.in.web.product.dto.*;
+import jjh.delivery.application.port.in.AutocompleteProductUseCase;
+import jjh.delivery.application.port.in.FrequentlyBoughtTogetherUseCase;
 import jjh.delivery.application.port.out.LoadProductPort;
 import jjh.delivery.application.port.out.LoadProductPort.SearchProductQuery;
 import jjh.delivery.application.port.out.LoadReviewPort;
 import jjh.delivery.application.port.out.LoadReviewStatsPort;
 import jjh.delivery.application.port.out.LoadSellerInfoPort;
 import jjh.delivery.application.port.out.LoadCustomerPort;
+import jjh.delivery.application.port.out.ProductSearchPort;
+import jjh.delivery.application.port.out.ProductSearchPort.ProductSearchResult;
 import jjh.delivery.domain.product.Product;
 import jjh.delivery.domain.product.ProductStatus;
 import jjh.delivery.domain.product.exception.ProductNotFoundException;
@@ -18,6 +22,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.math.BigDecimal;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -36,19 +41,26 @@ public class ProductController {
     private final LoadReviewStatsPort loadReviewStatsPort;
     private final LoadSellerInfoPort loadSellerInfoPort;
     private final LoadCustomerPort loadCustomerPort;
+    private final ProductSearchPort productSearchPort;
+    private final AutocompleteProductUseCase autocompleteProductUseCase;
+    private final FrequentlyBoughtTogetherUseCase frequentlyBoughtTogetherUseCase;
 
     /**
-     * 상품 목록 조회 (커서 기반 페이지네이션)
+     * 상품 목록 검색 (커서 기반 페이지네이션 + 패싯)
+     * 평점/리뷰 수는 검색 결과에 포함되어 상품별 추가 조회가 없습니다.
+     * search.product.engine=postgres 인 경우 패싯은 빈 목록입니다.
      *
-     * @param cursor 이전 페이지의 nextCursor 값 (첫 페이지는 생략)
+     * @param minRating 최소 평균 평점 (0~5)
+     * @param cursor    이전 페이지의 nextCursor 값 (첫 페이지는 생략)
      */
     @GetMapping
-    public ResponseEntity<ProductListResponse> getProducts(
+    public ResponseEntity<ProductSearchResponse> getProducts(
             @RequestParam(required = false) String categoryId,
             @RequestParam(required = false) String keyword,
             @RequestParam(required = false) String sellerId,
             @RequestParam(required = false) BigDecimal minPrice,
             @RequestParam(required = false) BigDecimal maxPrice,
+            @RequestParam(required = false) Double minRating,
             @RequestParam(required = false) String cursor,
             @RequestParam(defaultValue = "20") int size
     ) {
@@ -58,21 +70,40 @@ public class ProductController {
                 .keyword(keyword)
                 .minPrice(minPrice)
                 .maxPrice(maxPrice)
+                .minRating(minRating)
                 .statuses(List.of(ProductStatus.ACTIVE, ProductStatus.OUT_OF_STOCK))
                 .cursor(cursor)
                 .size(size)
                 .build();
 
-        CursorPageResponse<Product> products = loadProductPort.searchProducts(query);
+        ProductSearchResult result = productSearchPort.search(query);
 
-        CursorPageResponse<ProductListItemResponse> responsePage = products.map(product -> {
-            double ratingAvg = loadReviewStatsPort.getAverageRatingByProductId(product.getId());
-            long reviewCount = loadReviewPort.countByProductId(product.getId());
-            String sellerName = loadSellerInfoPort.findBusinessNameById(product.getSellerId()).orElse("Unknown");
-            return ProductListItemResponse.from(product, ratingAvg, reviewCount, sellerName);
+        // 같은 판매자의 상품이 여러 개여도 판매자명은 한 번만 조회
+        Map<UUID, String> sellerNames = new HashMap<>();
+        CursorPageResponse<ProductListItemResponse> responsePage = result.page().map(hit -> {
+            String sellerName = sellerNames.computeIfAbsent(hit.sellerId(),
+                    id -> loadSellerInfoPort.findBusinessNameById(id).orElse("Unknown"));
+            return ProductListItemResponse.from(hit, sellerName);
         });
 
-        return ResponseEntity.ok(ProductListResponse.from(responsePage));
+        return ResponseEntity.ok(ProductSearchResponse.from(responsePage, result.facets()));
+    }
+
+    /**
+     * 상품명 자동완성 (메모리 인덱스, 인기순)
+     *
+     * @param q 입력 중인 검색어 (상품명 또는 상품명 중간 단어의 접두어)
+     */
+    @GetMapping("/autocomplete")
+    public ResponseEntity<List<ProductSuggestionResponse>> autocomplete(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        List<ProductSuggestionResponse> suggestions = autocompleteProductUseCase.suggest(q, size).stream()
+                .map(ProductSuggestionResponse::from)
+                .toList();
+
+        return ResponseEntity.ok(suggestions);
     }
 
     /**
@@ -90,6 +121,23 @@ public class ProductController {
         return ResponseEntity.ok(ProductDetailResponse.from(product, sellerName, ratingAvg, reviewCount));
     }
 
+    /**
+     * 함께 구매한 상품 (사전 집계, 함께 구매 횟수순)
+     * 집계가 없거나 관련 상품이 판매 중이 아니면 빈 목록을 반환합니다.
+     */
+    @GetMapping("/{productId}/frequently-bought-together")
+    public ResponseEntity<List<RelatedProductResponse>> getFrequentlyBoughtTogether(
+            @PathVariable UUID productId,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        List<RelatedProductResponse> products = frequentlyBoughtTogetherUseCase
+                .getFrequentlyBoughtTogether(productId, size).stream()
+                .map(RelatedProductResponse::from)
+                .toList();
+
+        return ResponseEntity.ok(products);
+    }
+
     /**
      * 상품 리뷰 목록 조회 (커서 기반 페이지네이션)
      *
@@ -0,0 +1,16 @@
+package jjh.delivery.adapter.in.web.product.dto;
+
+import jakarta.validation.constraints.NotNull;
+
+import java.util.UUID;
+
+/**
+ * 상품 재고 증감 요청 (variantId가 없으면 단일 상품 재고)
+ */
+public record AdjustProductStockRequest(
+        UUID variantId,
+
+        @NotNull(message = "증감 수량은 필수입니다")
+        Integer quantityDelta
+) {
+}
@@ -1,6 +1,6 @@
 package jjh.delivery.adapter.in.web.product.dto;
 
-import jjh.delivery.domain.category.Category;
+import jjh.delivery.application.port.in.GetCategoryTreeUseCase.CategoryNode;
 
 import java.util.List;
 
@@ -10,7 +10,7 @@ import java.util.List;
 public record CategoryListResponse(
         List<CategoryResponse> categories
 ) {
-    public static CategoryListResponse from(List<Category> categories) {
+    public static CategoryListResponse from(List<CategoryNode> categories) {
         return new CategoryListResponse(
                 categories.stream()
                         .map(CategoryResponse::from)
@@ -1,9 +1,8 @@
 package jjh.delivery.adapter.in.web.product.dto;
 
-import jjh.delivery.domain.category.Category;
+import jjh.delivery.application.port.in.GetCategoryTreeUseCase.CategoryNode;
 
 import java.util.List;
-import java.util.UUID;
 
 /**
  * 카테고리 응답
@@ -14,12 +13,12 @@ public record CategoryResponse(
         int depth,
         List<CategoryResponse> children
 ) {
-    public static CategoryResponse from(Category category) {
+    public static CategoryResponse from(CategoryNode category) {
         return new CategoryResponse(
-                category.getId().toString(),
-                category.getName(),
-                category.getDepth(),
-                category.getChildren().stream()
+                category.id().toString(),
+                category.name(),
+                category.depth(),
+                category.children().stream()
                         .map(CategoryResponse::from)
                         .toList()
         );
@@ -0,0 +1,16 @@
+package jjh.delivery.adapter.in.web.product.dto;
+
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotNull;
+
+import java.math.BigDecimal;
+
+/**
+ * 상품 기본 가격 변경 요청
+ */
+public record ChangeProductPriceRequest(
+        @NotNull(message = "기본 가격은 필수입니다")
+        @DecimalMin(value = "0", message = "기본 가격은 0 이상이어야 합니다")
+        BigDecimal basePrice
+) {
+}
@@ -0,0 +1,13 @@
+package jjh.delivery.adapter.in.web.product.dto;
+
+import jakarta.validation.constraints.NotNull;
+import jjh.delivery.domain.product.ProductStatus;
+
+/**
+ * 상품 판매 상태 변경 요청 (ACTIVE, INACTIVE, DELETED)
+ */
+public record ChangeProductStatusRequest(
+        @NotNull(message = "상품 상태는 필수입니다")
+        ProductStatus status
+) {
+}
@@ -1,6 +1,8 @@
 package jjh.delivery.adapter.in.web.product.dto;
 
-import jjh.delivery.domain.product.Product;
+import jjh.delivery.application.port.out.LoadProductPort.ProductSummary;
+import jjh.delivery.application.port.out.LoadReviewStatsPort.RatingSummary;
+import jjh.delivery.application.port.out.ProductSearchPort.ProductSearchHit;
 
 import java.math.BigDecimal;
 import java.util.UUID;
@@ -19,17 +21,30 @@ public record ProductListItemResponse(
         String sellerId,
         String sellerName
 ) {
-    public static ProductListItemResponse from(Product product, double ratingAvg, long reviewCount, String sellerName) {
-        String thumbnail = product.getImageUrls().isEmpty() ? null : product.getImageUrls().get(0);
+    public static ProductListItemResponse from(ProductSearchHit hit, String sellerName) {
         return new ProductListItemResponse(
-                product.getId().toString(),
-                product.getName(),
-                product.getBasePrice(),
+                hit.id().toString(),
+                hit.name(),
+                hit.basePrice(),
                 null, // discountPrice - 할인 기능 추가 시 구현
-                thumbnail,
-                ratingAvg,
-                reviewCount,
-                product.getSellerId().toString(),
+                hit.thumbnailUrl(),
+                hit.ratingAvg(),
+                hit.reviewCount(),
+                hit.sellerId().toString(),
+                sellerName
+        );
+    }
+
+    public static ProductListItemResponse from(ProductSummary summary, RatingSummary rating, String sellerName) {
+        return new ProductListItemResponse(
+                summary.id().toString(),
+                summary.name(),
+                summary.basePrice(),
+                null, // discountPrice - 할인 기능 추가 시 구현
+                summary.thumbnailUrl(),
+                rating.averageRating(),
+                rating.reviewCount(),
+                summary.sellerId().toString(),
                 sellerName
         );
     }
@@ -0,0 +1,41 @@
+package jjh.delivery.adapter.in.web.product.dto;
+
+import jjh.delivery.domain.product.Product;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 상품 관리 응답 (변경 결과)
+ */
+public record ProductResponse(
+        UUID id,
+        UUID sellerId,
+        String name,
+        String description,
+        BigDecimal basePrice,
+        String status,
+        int totalStockQuantity,
+        List<UUID> categoryIds,
+        List<String> imageUrls,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {
+    public static ProductResponse from(Product product) {
+        return new ProductResponse(
+                product.getId(),
+                product.getSellerId(),
+                product.getName(),
+                product.getDescription(),
+                product.getBasePrice(),
+                product.getStatus().name(),
+                product.getTotalStockQuantity(),
+                product.getCategoryIds(),
+                product.getImageUrls(),
+                product.getCreatedAt(),
+                product.getUpdatedAt()
+        );
+    }
+}
@@ -0,0 +1,67 @@
+package jjh.delivery.adapter.in.web.product.dto;
+
+import jjh.delivery.adapter.in.web.dto.CursorPageResponse;
+import jjh.delivery.application.port.out.ProductSearchPort.FacetCount;
+import jjh.delivery.application.port.out.ProductSearchPort.ProductFacets;
+import jjh.delivery.application.port.out.ProductSearchPort.RangeFacetCount;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 상품 검색 응답 (커서 기반 페이지네이션 + 패싯)
+ * 패싯은 첫 페이지에서만 채워지며, 다음 페이지에서는 빈 목록입니다.
+ */
+public record ProductSearchResponse(
+        List<ProductListItemResponse> content,
+        int size,
+        boolean hasNext,
+        String nextCursor,
+        Facets facets
+) {
+    public static ProductSearchResponse from(CursorPageResponse<ProductListItemResponse> cursorPage, ProductFacets facets) {
+        return new ProductSearchResponse(
+                cursorPage.content(),
+                cursorPage.size(),
+                cursorPage.hasNext(),
+                cursorPage.nextCursor(),
+                Facets.from(facets)
+        );
+    }
+
+    public record Facets(
+            List<CategoryFacet> categories,
+            List<RangeFacet> priceRanges,
+            List<RangeFacet> ratings
+    ) {
+        static Facets from(ProductFacets facets) {
+            return new Facets(
+                    facets.categories().stream().map(CategoryFacet::from).toList(),
+                    facets.priceRanges().stream().map(RangeFacet::from).toList(),
+                    facets.ratings().stream().map(RangeFacet::from).toList()
+            );
+        }
+    }
+
+    public record CategoryFacet(
+            String categoryId,
+            long count
+    ) {
+        static CategoryFacet from(FacetCount facet) {
+            return new CategoryFacet(facet.value(), facet.count());
+        }
+    }
+
+    /**
+     * from 이상 to 미만 구간 (null이면 해당 방향 제한 없음)
+     */
+    public record RangeFacet(
+            BigDecimal from,
+            BigDecimal to,
+            long count
+    ) {
+        static RangeFacet from(RangeFacetCount facet) {
+            return new RangeFacet(facet.from(), facet.to(), facet.count());
+        }
+    }
+}
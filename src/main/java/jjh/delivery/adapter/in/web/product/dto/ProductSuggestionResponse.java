@@ -0,0 +1,18 @@
+package jjh.delivery.adapter.in.web.product.dto;
+
+import jjh.delivery.application.port.in.AutocompleteProductUseCase.ProductSuggestion;
+
+/**
+ * 상품명 자동완성 응답 아이템
+ */
+public record ProductSuggestionResponse(
+        String id,
+        String name
+) {
+    public static ProductSuggestionResponse from(ProductSuggestion suggestion) {
+        return new ProductSuggestionResponse(
+                suggestion.productId().toString(),
+                suggestion.name()
+        );
+    }
+}
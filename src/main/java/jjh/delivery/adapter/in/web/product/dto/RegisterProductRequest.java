@@ -0,0 +1,33 @@
+package jjh.delivery.adapter.in.web.product.dto;
+
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 상품 등록 요청
+ */
+public record RegisterProductRequest(
+        @NotNull(message = "판매자 ID는 필수입니다")
+        UUID sellerId,
+
+        @NotBlank(message = "상품명은 필수입니다")
+        @Size(max = 200, message = "상품명은 200자 이내여야 합니다")
+        String name,
+
+        String description,
+
+        @NotNull(message = "기본 가격은 필수입니다")
+        @DecimalMin(value = "0", message = "기본 가격은 0 이상이어야 합니다")
+        BigDecimal basePrice,
+
+        List<UUID> categoryIds,
+
+        List<String> imageUrls
+) {
+}
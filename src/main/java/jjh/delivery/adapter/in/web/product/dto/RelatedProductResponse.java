@@ -0,0 +1,24 @@
+package jjh.delivery.adapter.in.web.product.dto;
+
+import jjh.delivery.application.port.in.FrequentlyBoughtTogetherUseCase.RelatedProduct;
+
+import java.math.BigDecimal;
+
+/**
+ * 함께 구매한 상품 응답 아이템
+ */
+public record RelatedProductResponse(
+        String id,
+        String name,
+        BigDecimal basePrice,
+        String thumbnailUrl
+) {
+    public static RelatedProductResponse from(RelatedProduct product) {
+        return new RelatedProductResponse(
+                product.productId().toString(),
+                product.name(),
+                product.basePrice(),
+                product.thumbnailUrl()
+        );
+    }
+}
@@ -0,0 +1,83 @@
+package jjh.delivery.adapter.in.web.search;
+
+import lombok.RequiredArgsConstructor;
+
+import jjh.delivery.adapter.in.web.dto.OrderListResponse;
+import jjh.delivery.adapter.in.web.search.dto.ReindexProgressResponse;
+import jjh.delivery.application.port.in.ReindexOrderUseCase;
+import jjh.delivery.application.port.in.SearchOrderUseCase;
+import jjh.delivery.application.port.in.SearchOrderUseCase.SearchOrderQuery;
+import jjh.delivery.domain.order.OrderStatus;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Search Admin REST Controller - Driving Adapter (Inbound)
+ * 검색 인덱스 관리 및 관리자용 주문 탐색 API (ADMIN 전용)
+ */
+@RestController
+@RequestMapping("/api/v2/admin/search")
+@RequiredArgsConstructor
+public class SearchAdminController {
+
+    private final ReindexOrderUseCase reindexOrderUseCase;
+    private final SearchOrderUseCase searchOrderUseCase;
+
+    /**
+     * 주문 탐색 (point-in-time 커서 기반, 요약 목록)
+     * 첫 페이지 조회 시점의 스냅샷으로 페이지가 고정되므로 탐색 중 새 주문이 인덱싱되어도 중복/누락이 없습니다.
+     *
+     * @param cursor 이전 페이지의 nextCursor 값 (첫 페이지는 생략, 일정 시간 사용하지 않으면 만료)
+     * @param size   조회할 주문 수 (기본값: 20)
+     */
+    @GetMapping("/orders")
+    public ResponseEntity<OrderListResponse> browseOrders(
+            @RequestParam(required = false) UUID customerId,
+            @RequestParam(required = false) UUID sellerId,
+            @RequestParam(required = false) OrderStatus status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime fromDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime toDate,
+            @RequestParam(required = false) String keyword,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        SearchOrderQuery query = SearchOrderQuery.builder()
+                .customerId(customerId != null ? customerId.toString() : null)
+                .sellerId(sellerId != null ? sellerId.toString() : null)
+                .status(status)
+                .fromDate(fromDate)
+                .toDate(toDate)
+                .keyword(keyword)
+                .cursor(cursor)
+                .size(size)
+                .build();
+
+        return ResponseEntity.ok(OrderListResponse.fromSummaries(searchOrderUseCase.browseOrders(query)));
+    }
+
+    /**
+     * 주문 인덱스 전체 재구축 시작 (미완료 작업이 있으면 재개)
+     */
+    @PostMapping("/orders/reindex")
+    public ResponseEntity<ReindexProgressResponse> startOrderReindex() {
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(ReindexProgressResponse.from(reindexOrderUseCase.startReindex()));
+    }
+
+    /**
+     * 주문 인덱스 재구축 진행 상황 조회
+     */
+    @GetMapping("/orders/reindex")
+    public ResponseEntity<ReindexProgressResponse> getOrderReindexProgress() {
+        return ResponseEntity.ok(ReindexProgressResponse.from(reindexOrderUseCase.getReindexProgress()));
+    }
+}
@@ -0,0 +1,40 @@
+package jjh.delivery.adapter.in.web.search.dto;
+
+import jjh.delivery.application.port.in.ReindexOrderUseCase.ReindexProgress;
+
+import java.time.LocalDateTime;
+
+/**
+ * 주문 인덱스 재구축 진행 상황 응답
+ */
+public record ReindexProgressResponse(
+        String indexName,
+        String status,
+        int totalSlices,
+        int completedSlices,
+        long indexedCount,
+        long totalCount,
+        double percent,
+        double docsPerSecond,
+        LocalDateTime startedAt,
+        LocalDateTime finishedAt
+) {
+    public static ReindexProgressResponse from(ReindexProgress progress) {
+        double percent = progress.totalCount() > 0
+                ? Math.min(100.0, progress.indexedCount() * 100.0 / progress.totalCount())
+                : ("COMPLETED".equals(progress.status()) ? 100.0 : 0.0);
+
+        return new ReindexProgressResponse(
+                progress.indexName(),
+                progress.status(),
+                progress.totalSlices(),
+                progress.completedSlices(),
+                progress.indexedCount(),
+                progress.totalCount(),
+                Math.round(percent * 10) / 10.0,
+                Math.round(progress.docsPerSecond() * 10) / 10.0,
+                progress.startedAt(),
+                progress.finishedAt()
+        );
+    }
+}
@@ -10,11 +10,11 @@ import jjh.delivery.adapter.in.web.seller.dto.*;
 import jjh.delivery.application.port.in.ManageSellerUseCase;
 import jjh.delivery.application.port.in.ManageSellerUseCase.*;
 import jjh.delivery.application.port.out.LoadProductPort;
+import jjh.delivery.application.port.out.LoadProductPort.ProductSummary;
 import jjh.delivery.application.port.out.LoadProductPort.SearchProductQuery;
-import jjh.delivery.application.port.out.LoadReviewPort;
 import jjh.delivery.application.port.out.LoadReviewStatsPort;
+import jjh.delivery.application.port.out.LoadReviewStatsPort.RatingSummary;
 import jjh.delivery.application.port.out.LoadSellerInfoPort;
-import jjh.delivery.domain.product.Product;
 import jjh.delivery.domain.product.ProductStatus;
 import jjh.delivery.domain.seller.Seller;
 import jjh.delivery.domain.seller.SellerStatus;
@@ -27,6 +27,7 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.Map;
 import java.util.UUID;
 
 /**
@@ -40,7 +41,6 @@ public class SellerAdminController {
 
     private final ManageSellerUseCase manageSellerUseCase;
     private final LoadProductPort loadProductPort;
-    private final LoadReviewPort loadReviewPort;
     private final LoadReviewStatsPort loadReviewStatsPort;
     private final LoadSellerInfoPort loadSellerInfoPort;
 
@@ -249,14 +249,14 @@ public class SellerAdminController {
                 .size(size)
                 .build();
 
-        CursorPageResponse<Product> products = loadProductPort.searchProducts(query);
+        // 목록 화면은 요약만 필요 (옵션/카테고리 미조회), 평점은 페이지 단위로 일괄 조회
+        CursorPageResponse<ProductSummary> products = loadProductPort.searchProductSummaries(query);
+        Map<UUID, RatingSummary> ratings = loadReviewStatsPort.getRatingSummariesByProductIds(
+                products.content().stream().map(ProductSummary::id).toList());
+        String sellerName = loadSellerInfoPort.findBusinessNameById(sellerId).orElse("Unknown");
 
-        CursorPageResponse<ProductListItemResponse> responsePage = products.map(product -> {
-            double ratingAvg = loadReviewStatsPort.getAverageRatingByProductId(product.getId());
-            long reviewCount = loadReviewPort.countByProductId(product.getId());
-            String sellerName = loadSellerInfoPort.findBusinessNameById(product.getSellerId()).orElse("Unknown");
-            return ProductListItemResponse.from(product, ratingAvg, reviewCount, sellerName);
-        });
+        CursorPageResponse<ProductListItemResponse> responsePage = products.map(product -> ProductListItemResponse.from(
+                product, ratings.getOrDefault(product.id(), RatingSummary.empty()), sellerName));
 
         return ResponseEntity.ok(ProductListResponse.from(responsePage));
     }
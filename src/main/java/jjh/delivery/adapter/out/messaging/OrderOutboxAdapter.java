@@ -12,6 +12,8 @@ import jjh.delivery.domain.outbox.OutboxEvent;
 import org.springframework.stereotype.Component;
 import tools.jackson.databind.json.JsonMapper;
 
+import java.util.List;
+
 /**
  * Order Outbox Adapter - Driven Adapter (Outbound)
  * Transactional Outbox Pattern을 사용한 이벤트 발행 구현
@@ -49,6 +51,18 @@ public class OrderOutboxAdapter implements OrderEventPort {
         publish(event);
     }
 
+    @Override
+    public void publishAll(List<? extends OrderEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        List<OutboxEvent> outboxEvents = events.stream()
+                .map(this::toOutboxEvent)
+                .toList();
+        saveOutboxEventPort.saveAll(outboxEvents);
+        log.info("Saved {} outbox events in batch", outboxEvents.size());
+    }
+
     /**
      * OrderEvent를 OutboxEvent로 변환
      */
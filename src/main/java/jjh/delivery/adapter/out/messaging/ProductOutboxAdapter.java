@@ -0,0 +1,73 @@
+package jjh.delivery.adapter.out.messaging;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import jjh.delivery.application.port.out.ProductEventPort;
+import jjh.delivery.application.port.out.SaveOutboxEventPort;
+import jjh.delivery.domain.outbox.OutboxEvent;
+import jjh.delivery.domain.product.event.ProductCreatedEvent;
+import jjh.delivery.domain.product.event.ProductEvent;
+import jjh.delivery.domain.product.event.ProductPriceChangedEvent;
+import jjh.delivery.domain.product.event.ProductStatusChangedEvent;
+import jjh.delivery.domain.product.event.ProductStockChangedEvent;
+import org.springframework.stereotype.Component;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.List;
+
+/**
+ * Product Outbox Adapter - Driven Adapter (Outbound)
+ * 상품 변경 이벤트를 outbox 테이블에 저장 (OutboxEventPublisher가 product.* 토픽으로 발행)
+ *
+ * 상품 저장과 같은 트랜잭션에서 저장되므로 커밋된 변경만 발행되고,
+ * aggregateId(상품 ID)를 메시지 키로 사용하여 같은 상품의 이벤트는 순서가 유지됩니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ProductOutboxAdapter implements ProductEventPort {
+
+    private static final String AGGREGATE_TYPE = "Product";
+
+    private final SaveOutboxEventPort saveOutboxEventPort;
+    private final JsonMapper jsonMapper;
+
+    @Override
+    public void publish(ProductEvent event) {
+        OutboxEvent outboxEvent = toOutboxEvent(event);
+        saveOutboxEventPort.save(outboxEvent);
+        log.info("Saved outbox event: type={}, aggregateId={}",
+                outboxEvent.getEventType(), outboxEvent.getAggregateId());
+    }
+
+    @Override
+    public void publishAll(List<? extends ProductEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        List<OutboxEvent> outboxEvents = events.stream()
+                .map(this::toOutboxEvent)
+                .toList();
+        saveOutboxEventPort.saveAll(outboxEvents);
+        log.info("Saved {} product outbox events in batch", outboxEvents.size());
+    }
+
+    private OutboxEvent toOutboxEvent(ProductEvent event) {
+        return OutboxEvent.builder()
+                .aggregateType(AGGREGATE_TYPE)
+                .aggregateId(event.productId().toString())
+                .eventType(resolveEventType(event))
+                .payload(jsonMapper.writeValueAsString(event))
+                .build();
+    }
+
+    private String resolveEventType(ProductEvent event) {
+        return switch (event) {
+            case ProductCreatedEvent e -> "ProductCreated";
+            case ProductPriceChangedEvent e -> "ProductPriceChanged";
+            case ProductStockChangedEvent e -> "ProductStockChanged";
+            case ProductStatusChangedEvent e -> "ProductStatusChanged";
+        };
+    }
+}
@@ -0,0 +1,56 @@
+package jjh.delivery.adapter.out.persistence.jooq;
+
+import jjh.delivery.application.port.out.LoadCatalogVersionPort;
+import jjh.delivery.application.port.out.SaveCatalogVersionPort;
+import lombok.RequiredArgsConstructor;
+import org.jooq.DSLContext;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import static jjh.delivery.adapter.out.persistence.jooq.generated.tables.CatalogVersions.CATALOG_VERSIONS;
+
+/**
+ * Catalog Version jOOQ Adapter - Driven Adapter (Outbound)
+ * catalog_versions 단건 PK 조회
+ * (categories는 db/category_version.sql 트리거가, coupons는 애플리케이션이 변경 트랜잭션 안에서 값을 증가시킴)
+ * 테이블은 CatalogVersionJpaEntity로 생성되므로 쿠폰 버전은 별도 스크립트 없이 동작하며, 행이 없으면 upsert로 만들고 조회 시 0으로 봅니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CatalogVersionJooqAdapter implements LoadCatalogVersionPort, SaveCatalogVersionPort {
+
+    private static final String CATEGORIES = "categories";
+    private static final String COUPONS = "coupons";
+
+    private final DSLContext dsl;
+
+    @Override
+    public long loadCategoryVersion() {
+        return loadVersion(CATEGORIES);
+    }
+
+    @Override
+    public long loadCouponVersion() {
+        return loadVersion(COUPONS);
+    }
+
+    @Override
+    @Transactional
+    public void incrementCouponVersion() {
+        dsl.insertInto(CATALOG_VERSIONS)
+                .set(CATALOG_VERSIONS.NAME, COUPONS)
+                .set(CATALOG_VERSIONS.VERSION, 1L)
+                .onConflict(CATALOG_VERSIONS.NAME)
+                .doUpdate()
+                .set(CATALOG_VERSIONS.VERSION, CATALOG_VERSIONS.VERSION.plus(1))
+                .execute();
+    }
+
+    private long loadVersion(String name) {
+        return dsl.select(CATALOG_VERSIONS.VERSION)
+                .from(CATALOG_VERSIONS)
+                .where(CATALOG_VERSIONS.NAME.eq(name))
+                .fetchOptional(CATALOG_VERSIONS.VERSION)
+                .orElse(0L);
+    }
+}
@@ -0,0 +1,50 @@
+package jjh.delivery.adapter.out.persistence.jooq;
+
+import jjh.delivery.application.port.out.CategoryIndexPathPort;
+import lombok.RequiredArgsConstructor;
+import org.jooq.DSLContext;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Map;
+import java.util.UUID;
+
+import static jjh.delivery.adapter.out.persistence.jooq.generated.tables.CategoryIndexPaths.CATEGORY_INDEX_PATHS;
+import static org.jooq.impl.DSL.excluded;
+
+/**
+ * Category Index Path jOOQ Adapter - Driven Adapter (Outbound)
+ * category_index_paths 전체 조회 / 다중 행 upsert 한 문장으로 저장
+ * 여러 인스턴스가 같은 경로를 동시에 저장해도 결과가 같으므로 카테고리 ID 순서로만 기록합니다. (데드락 방지)
+ */
+@Component
+@RequiredArgsConstructor
+public class CategoryIndexPathJooqAdapter implements CategoryIndexPathPort {
+
+    private final DSLContext dsl;
+
+    @Override
+    public Map<UUID, String> loadIndexedPaths() {
+        return dsl.select(CATEGORY_INDEX_PATHS.CATEGORY_ID, CATEGORY_INDEX_PATHS.PATH)
+                .from(CATEGORY_INDEX_PATHS)
+                .fetchMap(CATEGORY_INDEX_PATHS.CATEGORY_ID, CATEGORY_INDEX_PATHS.PATH);
+    }
+
+    @Override
+    @Transactional
+    public void saveIndexedPaths(Map<UUID, String> paths) {
+        if (paths.isEmpty()) {
+            return;
+        }
+        var insert = dsl.insertInto(CATEGORY_INDEX_PATHS,
+                CATEGORY_INDEX_PATHS.CATEGORY_ID,
+                CATEGORY_INDEX_PATHS.PATH);
+        for (UUID categoryId : paths.keySet().stream().sorted().toList()) {
+            insert = insert.values(categoryId, paths.get(categoryId));
+        }
+        insert.onConflict(CATEGORY_INDEX_PATHS.CATEGORY_ID)
+                .doUpdate()
+                .set(CATEGORY_INDEX_PATHS.PATH, excluded(CATEGORY_INDEX_PATHS.PATH))
+                .execute();
+    }
+}
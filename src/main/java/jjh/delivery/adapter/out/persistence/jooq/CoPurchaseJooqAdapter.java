@@ -0,0 +1,119 @@
+package jjh.delivery.adapter.out.persistence.jooq;
+
+import jjh.delivery.application.port.out.LoadCoPurchasePort;
+import jjh.delivery.application.port.out.SaveCoPurchasePort;
+import jjh.delivery.domain.product.ProductStatus;
+import lombok.RequiredArgsConstructor;
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.Query;
+import org.jooq.Table;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+import static jjh.delivery.adapter.out.persistence.jooq.generated.tables.ProductCoPurchases.PRODUCT_CO_PURCHASES;
+import static jjh.delivery.adapter.out.persistence.jooq.generated.tables.ProductImages.PRODUCT_IMAGES;
+import static jjh.delivery.adapter.out.persistence.jooq.generated.tables.Products.PRODUCTS;
+import static org.jooq.impl.DSL.excluded;
+import static org.jooq.impl.DSL.row;
+import static org.jooq.impl.DSL.rowNumber;
+import static org.jooq.impl.DSL.select;
+
+/**
+ * Co-Purchase jOOQ Adapter - Driven Adapter (Outbound)
+ * product_co_purchases 증분 upsert / 상위 후보 정리 / 조회
+ *
+ * 조회는 PK (product_id, related_product_id) 범위 스캔으로 기준 상품의 후보(최대 stored-size개)만 읽습니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CoPurchaseJooqAdapter implements SaveCoPurchasePort, LoadCoPurchasePort {
+
+    // 동시 저장 간 데드락 방지를 위해 항상 같은 키 순서로 upsert
+    private static final Comparator<CoPurchaseCount> KEY_ORDER = Comparator
+            .comparing(CoPurchaseCount::productId)
+            .thenComparing(CoPurchaseCount::relatedProductId);
+
+    private final DSLContext dsl;
+
+    @Override
+    @Transactional
+    public void addCounts(List<CoPurchaseCount> counts, int keepPerProduct) {
+        if (counts.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+
+        List<Query> upserts = counts.stream()
+                .sorted(KEY_ORDER)
+                .map(count -> (Query) dsl.insertInto(PRODUCT_CO_PURCHASES)
+                        .set(PRODUCT_CO_PURCHASES.PRODUCT_ID, count.productId())
+                        .set(PRODUCT_CO_PURCHASES.RELATED_PRODUCT_ID, count.relatedProductId())
+                        .set(PRODUCT_CO_PURCHASES.PURCHASE_COUNT, count.count())
+                        .set(PRODUCT_CO_PURCHASES.UPDATED_AT, now)
+                        .onConflict(PRODUCT_CO_PURCHASES.PRODUCT_ID, PRODUCT_CO_PURCHASES.RELATED_PRODUCT_ID)
+                        .doUpdate()
+                        .set(PRODUCT_CO_PURCHASES.PURCHASE_COUNT,
+                                PRODUCT_CO_PURCHASES.PURCHASE_COUNT.plus(excluded(PRODUCT_CO_PURCHASES.PURCHASE_COUNT)))
+                        .set(PRODUCT_CO_PURCHASES.UPDATED_AT, now))
+                .toList();
+        dsl.batch(upserts).execute();
+
+        List<UUID> productIds = counts.stream().map(CoPurchaseCount::productId).distinct().toList();
+        pruneBeyond(productIds, keepPerProduct);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<CoPurchasedProduct> findTopRelated(UUID productId, int limit) {
+        Field<String> thumbnailUrl = select(PRODUCT_IMAGES.IMAGE_URL)
+                .from(PRODUCT_IMAGES)
+                .where(PRODUCT_IMAGES.PRODUCT_ID.eq(PRODUCTS.ID))
+                .orderBy(PRODUCT_IMAGES.DISPLAY_ORDER)
+                .limit(1)
+                .asField("thumbnail_url");
+
+        return dsl.select(PRODUCTS.ID, PRODUCTS.NAME, PRODUCTS.BASE_PRICE, thumbnailUrl,
+                        PRODUCT_CO_PURCHASES.PURCHASE_COUNT)
+                .from(PRODUCT_CO_PURCHASES)
+                .join(PRODUCTS).on(PRODUCTS.ID.eq(PRODUCT_CO_PURCHASES.RELATED_PRODUCT_ID))
+                .where(PRODUCT_CO_PURCHASES.PRODUCT_ID.eq(productId))
+                .and(PRODUCTS.STATUS.eq(ProductStatus.ACTIVE.name()))
+                .orderBy(PRODUCT_CO_PURCHASES.PURCHASE_COUNT.desc(), PRODUCTS.ID)
+                .limit(limit)
+                .fetch(record -> new CoPurchasedProduct(
+                        record.value1(),
+                        record.value2(),
+                        record.value3(),
+                        record.value4(),
+                        record.value5()
+                ));
+    }
+
+    /**
+     * 기준 상품마다 횟수 상위 keep개를 넘는 후보 삭제 (테이블 크기를 상품 수 x keep으로 제한)
+     */
+    private void pruneBeyond(List<UUID> productIds, int keep) {
+        Field<Integer> rank = rowNumber().over()
+                .partitionBy(PRODUCT_CO_PURCHASES.PRODUCT_ID)
+                .orderBy(PRODUCT_CO_PURCHASES.PURCHASE_COUNT.desc(), PRODUCT_CO_PURCHASES.RELATED_PRODUCT_ID)
+                .as("rank");
+        Table<?> ranked = dsl.select(PRODUCT_CO_PURCHASES.PRODUCT_ID, PRODUCT_CO_PURCHASES.RELATED_PRODUCT_ID, rank)
+                .from(PRODUCT_CO_PURCHASES)
+                .where(PRODUCT_CO_PURCHASES.PRODUCT_ID.in(productIds))
+                .asTable("ranked");
+
+        dsl.deleteFrom(PRODUCT_CO_PURCHASES)
+                .where(row(PRODUCT_CO_PURCHASES.PRODUCT_ID, PRODUCT_CO_PURCHASES.RELATED_PRODUCT_ID).in(
+                        select(ranked.field(PRODUCT_CO_PURCHASES.PRODUCT_ID),
+                                ranked.field(PRODUCT_CO_PURCHASES.RELATED_PRODUCT_ID))
+                                .from(ranked)
+                                .where(ranked.field(rank).gt(keep))))
+                .execute();
+    }
+}
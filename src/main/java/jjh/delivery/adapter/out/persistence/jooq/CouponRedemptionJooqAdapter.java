@@ -0,0 +1,103 @@
+package jjh.delivery.adapter.out.persistence.jooq;
+
+import jjh.delivery.application.port.out.CouponRedemptionPort;
+import jjh.delivery.domain.common.IdGenerator;
+import jjh.delivery.domain.promotion.CouponRedemptionStatus;
+import lombok.RequiredArgsConstructor;
+import org.jooq.DSLContext;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static jjh.delivery.adapter.out.persistence.jooq.generated.tables.CouponRedemptions.COUPON_REDEMPTIONS;
+import static jjh.delivery.adapter.out.persistence.jooq.generated.tables.Coupons.COUPONS;
+import static org.jooq.impl.DSL.excluded;
+
+/**
+ * Coupon Redemption jOOQ Adapter - Driven Adapter (Outbound)
+ * coupons.used_quantity 조건부 UPDATE + coupon_redemptions upsert
+ *
+ * - 사용: UPDATE coupons SET used_quantity = used_quantity + 1
+ *         WHERE id = ? AND is_active AND (수량 무제한 OR used_quantity < total_quantity) AND 유효 기간 내
+ *   수량이 소진된 뒤의 요청은 조건에 맞지 않아 행을 잠그지 않고 바로 0건으로 끝납니다.
+ * - 원장: (coupon_id, customer_id) 유니크 제약으로 고객당 1회를 보장하며, 취소된 기록만 다시 사용으로 전환합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CouponRedemptionJooqAdapter implements CouponRedemptionPort {
+
+    private final DSLContext dsl;
+
+    @Override
+    @Transactional
+    public boolean incrementUsage(UUID couponId, LocalDateTime now) {
+        return dsl.update(COUPONS)
+                .set(COUPONS.USED_QUANTITY, COUPONS.USED_QUANTITY.plus(1))
+                .set(COUPONS.UPDATED_AT, now)
+                .where(COUPONS.ID.eq(couponId))
+                .and(COUPONS.IS_ACTIVE.isTrue())
+                .and(COUPONS.TOTAL_QUANTITY.isNull()
+                        .or(COUPONS.TOTAL_QUANTITY.eq(0))
+                        .or(COUPONS.USED_QUANTITY.lt(COUPONS.TOTAL_QUANTITY)))
+                .and(COUPONS.VALID_FROM.isNull().or(COUPONS.VALID_FROM.le(now)))
+                .and(COUPONS.VALID_UNTIL.isNull().or(COUPONS.VALID_UNTIL.ge(now)))
+                .execute() > 0;
+    }
+
+    @Override
+    @Transactional
+    public boolean decrementUsage(UUID couponId, LocalDateTime now) {
+        return dsl.update(COUPONS)
+                .set(COUPONS.USED_QUANTITY, COUPONS.USED_QUANTITY.minus(1))
+                .set(COUPONS.UPDATED_AT, now)
+                .where(COUPONS.ID.eq(couponId))
+                .and(COUPONS.USED_QUANTITY.gt(0))
+                .execute() > 0;
+    }
+
+    @Override
+    @Transactional
+    public boolean recordRedemption(UUID couponId, UUID customerId, UUID orderId, LocalDateTime now) {
+        return dsl.insertInto(COUPON_REDEMPTIONS)
+                .set(COUPON_REDEMPTIONS.ID, IdGenerator.newId())
+                .set(COUPON_REDEMPTIONS.COUPON_ID, couponId)
+                .set(COUPON_REDEMPTIONS.CUSTOMER_ID, customerId)
+                .set(COUPON_REDEMPTIONS.ORDER_ID, orderId)
+                .set(COUPON_REDEMPTIONS.STATUS, CouponRedemptionStatus.REDEEMED.name())
+                .set(COUPON_REDEMPTIONS.REDEEMED_AT, now)
+                .onConflict(COUPON_REDEMPTIONS.COUPON_ID, COUPON_REDEMPTIONS.CUSTOMER_ID)
+                .doUpdate()
+                .set(COUPON_REDEMPTIONS.ORDER_ID, excluded(COUPON_REDEMPTIONS.ORDER_ID))
+                .set(COUPON_REDEMPTIONS.STATUS, excluded(COUPON_REDEMPTIONS.STATUS))
+                .set(COUPON_REDEMPTIONS.REDEEMED_AT, excluded(COUPON_REDEMPTIONS.REDEEMED_AT))
+                .set(COUPON_REDEMPTIONS.CANCELLED_AT, (LocalDateTime) null)
+                .where(COUPON_REDEMPTIONS.STATUS.eq(CouponRedemptionStatus.CANCELLED.name()))
+                .execute() > 0;
+    }
+
+    @Override
+    @Transactional
+    public List<UUID> cancelRedemption(UUID orderId, LocalDateTime now) {
+        return dsl.update(COUPON_REDEMPTIONS)
+                .set(COUPON_REDEMPTIONS.STATUS, CouponRedemptionStatus.CANCELLED.name())
+                .set(COUPON_REDEMPTIONS.CANCELLED_AT, now)
+                .where(COUPON_REDEMPTIONS.ORDER_ID.eq(orderId))
+                .and(COUPON_REDEMPTIONS.STATUS.eq(CouponRedemptionStatus.REDEEMED.name()))
+                .returningResult(COUPON_REDEMPTIONS.COUPON_ID)
+                .fetch(COUPON_REDEMPTIONS.COUPON_ID);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Set<UUID> findRedeemedCouponIds(UUID customerId) {
+        return dsl.select(COUPON_REDEMPTIONS.COUPON_ID)
+                .from(COUPON_REDEMPTIONS)
+                .where(COUPON_REDEMPTIONS.CUSTOMER_ID.eq(customerId))
+                .and(COUPON_REDEMPTIONS.STATUS.eq(CouponRedemptionStatus.REDEEMED.name()))
+                .fetchSet(COUPON_REDEMPTIONS.COUPON_ID);
+    }
+}
@@ -0,0 +1,195 @@
+package jjh.delivery.adapter.out.persistence.jooq;
+
+import jjh.delivery.application.port.out.FlashSalePort;
+import jjh.delivery.domain.inventory.FlashSaleStatus;
+import lombok.RequiredArgsConstructor;
+import org.jooq.DSLContext;
+import org.jooq.Record;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.UUID;
+import java.util.function.IntConsumer;
+
+import static jjh.delivery.adapter.out.persistence.jooq.generated.tables.FlashSaleStocks.FLASH_SALE_STOCKS;
+import static jjh.delivery.adapter.out.persistence.jooq.generated.tables.ProductVariants.PRODUCT_VARIANTS;
+import static org.jooq.impl.DSL.excluded;
+import static org.jooq.impl.DSL.inline;
+import static org.jooq.impl.DSL.select;
+import static org.jooq.impl.DSL.val;
+import static org.jooq.impl.DSL.when;
+
+/**
+ * Flash Sale jOOQ Adapter - Driven Adapter (Outbound)
+ * flash_sale_stocks 상태 전환 + product_variants.stock_quantity 이관/반환
+ *
+ * 활성화는 변형 행을 잠근 뒤 SCHEDULED → ACTIVE 조건부 UPDATE로 전환하므로
+ * 여러 인스턴스가 동시에 시도해도 재고는 한 번만 이관됩니다.
+ * 카운터 생성은 같은 트랜잭션 안에서 수행되어, 실패하면 ACTIVE 전환도 남지 않습니다.
+ * (커밋 전에 생성된 카운터는 ACTIVE가 아니므로 차감 대상이 아니며 다음 활성화 시 덮어씀)
+ */
+@Component
+@RequiredArgsConstructor
+public class FlashSaleJooqAdapter implements FlashSalePort {
+
+    private final DSLContext dsl;
+
+    @Override
+    @Transactional
+    public boolean schedule(UUID variantId, int shardCount, LocalDateTime startsAt, LocalDateTime endsAt) {
+        LocalDateTime now = LocalDateTime.now();
+        return dsl.insertInto(FLASH_SALE_STOCKS,
+                        FLASH_SALE_STOCKS.VARIANT_ID,
+                        FLASH_SALE_STOCKS.PRODUCT_ID,
+                        FLASH_SALE_STOCKS.SHARD_COUNT,
+                        FLASH_SALE_STOCKS.STATUS,
+                        FLASH_SALE_STOCKS.ALLOCATED_QUANTITY,
+                        FLASH_SALE_STOCKS.REMAINING_QUANTITY,
+                        FLASH_SALE_STOCKS.STARTS_AT,
+                        FLASH_SALE_STOCKS.ENDS_AT,
+                        FLASH_SALE_STOCKS.CREATED_AT,
+                        FLASH_SALE_STOCKS.UPDATED_AT)
+                .select(select(
+                        PRODUCT_VARIANTS.ID,
+                        PRODUCT_VARIANTS.PRODUCT_ID,
+                        val(shardCount),
+                        val(FlashSaleStatus.SCHEDULED.name()),
+                        inline(0),
+                        inline(0),
+                        val(startsAt),
+                        val(endsAt),
+                        val(now),
+                        val(now))
+                        .from(PRODUCT_VARIANTS)
+                        .where(PRODUCT_VARIANTS.ID.eq(variantId)))
+                .onConflict(FLASH_SALE_STOCKS.VARIANT_ID)
+                .doUpdate()
+                .set(FLASH_SALE_STOCKS.SHARD_COUNT, excluded(FLASH_SALE_STOCKS.SHARD_COUNT))
+                .set(FLASH_SALE_STOCKS.STATUS, excluded(FLASH_SALE_STOCKS.STATUS))
+                .set(FLASH_SALE_STOCKS.ALLOCATED_QUANTITY, 0)
+                .set(FLASH_SALE_STOCKS.REMAINING_QUANTITY, 0)
+                .set(FLASH_SALE_STOCKS.STARTS_AT, excluded(FLASH_SALE_STOCKS.STARTS_AT))
+                .set(FLASH_SALE_STOCKS.ENDS_AT, excluded(FLASH_SALE_STOCKS.ENDS_AT))
+                .set(FLASH_SALE_STOCKS.ACTIVATED_AT, (LocalDateTime) null)
+                .set(FLASH_SALE_STOCKS.ENDED_AT, (LocalDateTime) null)
+                .set(FLASH_SALE_STOCKS.CREATED_AT, excluded(FLASH_SALE_STOCKS.CREATED_AT))
+                .set(FLASH_SALE_STOCKS.UPDATED_AT, excluded(FLASH_SALE_STOCKS.UPDATED_AT))
+                .where(FLASH_SALE_STOCKS.STATUS.eq(FlashSaleStatus.ENDED.name()))
+                .execute() > 0;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<FlashSale> findByVariantId(UUID variantId) {
+        return dsl.selectFrom(FLASH_SALE_STOCKS)
+                .where(FLASH_SALE_STOCKS.VARIANT_ID.eq(variantId))
+                .fetchOptional(this::toFlashSale);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<FlashSale> findByStatus(FlashSaleStatus status) {
+        return dsl.selectFrom(FLASH_SALE_STOCKS)
+                .where(FLASH_SALE_STOCKS.STATUS.eq(status.name()))
+                .orderBy(FLASH_SALE_STOCKS.STARTS_AT)
+                .fetch(this::toFlashSale);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<FlashSale> findEndedSince(LocalDateTime since) {
+        return dsl.selectFrom(FLASH_SALE_STOCKS)
+                .where(FLASH_SALE_STOCKS.STATUS.eq(FlashSaleStatus.ENDED.name()))
+                .and(FLASH_SALE_STOCKS.ENDED_AT.ge(since))
+                .fetch(this::toFlashSale);
+    }
+
+    @Override
+    @Transactional
+    public OptionalInt activate(UUID variantId, LocalDateTime now, IntConsumer onAllocated) {
+        // 변형 행을 먼저 잠가 이관 중 재고 차감/복원이 끼어들지 않도록 함 (선점과 같은 잠금 순서)
+        Integer stock = dsl.select(PRODUCT_VARIANTS.STOCK_QUANTITY)
+                .from(PRODUCT_VARIANTS)
+                .where(PRODUCT_VARIANTS.ID.eq(variantId))
+                .forUpdate()
+                .fetchOne(PRODUCT_VARIANTS.STOCK_QUANTITY);
+        if (stock == null) {
+            return OptionalInt.empty();
+        }
+
+        int activated = dsl.update(FLASH_SALE_STOCKS)
+                .set(FLASH_SALE_STOCKS.STATUS, FlashSaleStatus.ACTIVE.name())
+                .set(FLASH_SALE_STOCKS.ALLOCATED_QUANTITY, stock)
+                .set(FLASH_SALE_STOCKS.REMAINING_QUANTITY, stock)
+                .set(FLASH_SALE_STOCKS.ACTIVATED_AT, now)
+                .set(FLASH_SALE_STOCKS.UPDATED_AT, now)
+                .where(FLASH_SALE_STOCKS.VARIANT_ID.eq(variantId))
+                .and(FLASH_SALE_STOCKS.STATUS.eq(FlashSaleStatus.SCHEDULED.name()))
+                .execute();
+        if (activated == 0) {
+            return OptionalInt.empty();
+        }
+
+        dsl.update(PRODUCT_VARIANTS)
+                .set(PRODUCT_VARIANTS.STOCK_QUANTITY, 0)
+                .where(PRODUCT_VARIANTS.ID.eq(variantId))
+                .execute();
+
+        // 카운터 생성이 실패하면 트랜잭션이 롤백되어 재고가 DB에 그대로 남음
+        onAllocated.accept(stock);
+        return OptionalInt.of(stock);
+    }
+
+    @Override
+    @Transactional
+    public void end(UUID variantId, int remainingQuantity, LocalDateTime now) {
+        if (remainingQuantity > 0) {
+            dsl.update(PRODUCT_VARIANTS)
+                    .set(PRODUCT_VARIANTS.STOCK_QUANTITY, PRODUCT_VARIANTS.STOCK_QUANTITY.plus(remainingQuantity))
+                    .where(PRODUCT_VARIANTS.ID.eq(variantId))
+                    .execute();
+        }
+
+        dsl.update(FLASH_SALE_STOCKS)
+                .set(FLASH_SALE_STOCKS.REMAINING_QUANTITY,
+                        when(FLASH_SALE_STOCKS.STATUS.eq(FlashSaleStatus.ENDED.name()),
+                                FLASH_SALE_STOCKS.REMAINING_QUANTITY.plus(remainingQuantity))
+                                .otherwise(val(remainingQuantity)))
+                .set(FLASH_SALE_STOCKS.STATUS, FlashSaleStatus.ENDED.name())
+                .set(FLASH_SALE_STOCKS.ENDED_AT, when(FLASH_SALE_STOCKS.ENDED_AT.isNull(), val(now))
+                        .otherwise(FLASH_SALE_STOCKS.ENDED_AT))
+                .set(FLASH_SALE_STOCKS.UPDATED_AT, now)
+                .where(FLASH_SALE_STOCKS.VARIANT_ID.eq(variantId))
+                .execute();
+    }
+
+    @Override
+    @Transactional
+    public void updateRemaining(UUID variantId, int remainingQuantity) {
+        dsl.update(FLASH_SALE_STOCKS)
+                .set(FLASH_SALE_STOCKS.REMAINING_QUANTITY, remainingQuantity)
+                .set(FLASH_SALE_STOCKS.UPDATED_AT, LocalDateTime.now())
+                .where(FLASH_SALE_STOCKS.VARIANT_ID.eq(variantId))
+                .and(FLASH_SALE_STOCKS.STATUS.eq(FlashSaleStatus.ACTIVE.name()))
+                .execute();
+    }
+
+    private FlashSale toFlashSale(Record record) {
+        return new FlashSale(
+                record.get(FLASH_SALE_STOCKS.VARIANT_ID),
+                record.get(FLASH_SALE_STOCKS.PRODUCT_ID),
+                record.get(FLASH_SALE_STOCKS.SHARD_COUNT),
+                FlashSaleStatus.valueOf(record.get(FLASH_SALE_STOCKS.STATUS)),
+                record.get(FLASH_SALE_STOCKS.ALLOCATED_QUANTITY),
+                record.get(FLASH_SALE_STOCKS.REMAINING_QUANTITY),
+                record.get(FLASH_SALE_STOCKS.STARTS_AT),
+                record.get(FLASH_SALE_STOCKS.ENDS_AT),
+                record.get(FLASH_SALE_STOCKS.ACTIVATED_AT),
+                record.get(FLASH_SALE_STOCKS.ENDED_AT)
+        );
+    }
+}
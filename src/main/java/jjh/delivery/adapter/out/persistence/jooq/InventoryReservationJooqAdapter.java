@@ -0,0 +1,277 @@
+package jjh.delivery.adapter.out.persistence.jooq;
+
+import jjh.delivery.application.port.out.InventoryReservationPort;
+import jjh.delivery.config.cache.CacheNames;
+import jjh.delivery.domain.common.IdGenerator;
+import jjh.delivery.domain.inventory.ReservationStatus;
+import jjh.delivery.domain.product.exception.InsufficientStockException;
+import lombok.RequiredArgsConstructor;
+import org.jooq.DSLContext;
+import org.jooq.InsertValuesStep9;
+import org.jooq.Query;
+import org.jooq.Record4;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+
+import static jjh.delivery.adapter.out.persistence.jooq.generated.tables.InventoryReservations.INVENTORY_RESERVATIONS;
+import static jjh.delivery.adapter.out.persistence.jooq.generated.tables.ProductVariants.PRODUCT_VARIANTS;
+import static jjh.delivery.adapter.out.persistence.jooq.generated.tables.Products.PRODUCTS;
+import static org.jooq.impl.DSL.select;
+import static org.jooq.impl.DSL.sum;
+import static org.jooq.impl.DSL.when;
+
+/**
+ * Inventory Reservation jOOQ Adapter - Driven Adapter (Outbound)
+ * 조건부 UPDATE 재고 차감/복원 + inventory_reservations 상태 전환
+ *
+ * - 차감: UPDATE ... SET stock = stock - ? WHERE id = ? AND stock >= ? 를 줄마다 만들어 한 번의 JDBC 배치로 전송
+ *   변형 상품은 product_variants.stock_quantity, 단일 상품은 products.total_stock_quantity를 차감합니다.
+ * - 변형 상품은 변형 행만 갱신하고 products 행(버전 포함)은 건드리지 않으므로, 같은 상품의 다른 변형 구매자끼리 대기하지 않고
+ *   관리자 상품 저장과도 낙관적 락으로 충돌하지 않습니다. (재고 열은 엔티티에서 updatable = false라 저장이 덮어쓰지 않음)
+ * - 같은 SKU는 수량을 합쳐 한 번만 갱신하고, 데드락 방지를 위해 항상 (상품 ID, 변형 ID) 순서로 갱신합니다.
+ * - 행 잠금은 호출 트랜잭션 커밋까지만 유지되며, 재고가 남아 있는 한 재시도 없이 순서대로 성공합니다.
+ * - 재고가 바뀐 상품은 상품 캐시에서 제거합니다. (트랜잭션 인식 캐시이므로 커밋 후 제거)
+ * - 플래시 세일 중인 변형은 재고를 Redis 카운터가 관리하므로 선점 기록/상태 전환만 하고 DB 재고는 건드리지 않습니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class InventoryReservationJooqAdapter implements InventoryReservationPort {
+
+    private static final Comparator<StockKey> KEY_ORDER = Comparator
+            .comparing(StockKey::productId)
+            .thenComparing(StockKey::variantId, Comparator.nullsFirst(Comparator.naturalOrder()));
+
+    private final DSLContext dsl;
+    private final CacheManager cacheManager;
+
+    @Override
+    @Transactional
+    public void reserve(List<StockReservation> reservations, ReservationStatus status, LocalDateTime expiresAt,
+                        Set<UUID> flashSaleVariantIds) {
+        if (reservations.isEmpty()) {
+            return;
+        }
+
+        Map<StockKey, Integer> quantities = sumBySku(stockManagedRows(reservations, flashSaleVariantIds));
+        if (!quantities.isEmpty()) {
+            List<StockKey> keys = List.copyOf(quantities.keySet());
+            int[] updated = dsl.batch(stockUpdates(quantities, true)).execute();
+            for (int i = 0; i < updated.length; i++) {
+                if (updated[i] == 0) {
+                    // 예외로 호출 트랜잭션이 롤백되어 앞서 차감된 줄도 복원됨
+                    throw new InsufficientStockException(keys.get(i).productId(), keys.get(i).variantId());
+                }
+            }
+            evictProducts(keys);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        InsertValuesStep9<?, UUID, UUID, UUID, UUID, Integer, String, LocalDateTime, LocalDateTime, LocalDateTime> insert =
+                dsl.insertInto(INVENTORY_RESERVATIONS,
+                        INVENTORY_RESERVATIONS.ID,
+                        INVENTORY_RESERVATIONS.ORDER_ID,
+                        INVENTORY_RESERVATIONS.PRODUCT_ID,
+                        INVENTORY_RESERVATIONS.VARIANT_ID,
+                        INVENTORY_RESERVATIONS.QUANTITY,
+                        INVENTORY_RESERVATIONS.STATUS,
+                        INVENTORY_RESERVATIONS.EXPIRES_AT,
+                        INVENTORY_RESERVATIONS.CREATED_AT,
+                        INVENTORY_RESERVATIONS.UPDATED_AT);
+        for (StockReservation reservation : reservations) {
+            insert = insert.values(IdGenerator.newId(), reservation.orderId(), reservation.productId(),
+                    reservation.variantId(), reservation.quantity(), status.name(), expiresAt, now, now);
+        }
+        insert.execute();
+    }
+
+    @Override
+    @Transactional
+    public List<StockReservation> confirm(UUID orderId) {
+        return dsl.update(INVENTORY_RESERVATIONS)
+                .set(INVENTORY_RESERVATIONS.STATUS, ReservationStatus.CONFIRMED.name())
+                .set(INVENTORY_RESERVATIONS.UPDATED_AT, LocalDateTime.now())
+                .where(INVENTORY_RESERVATIONS.ORDER_ID.eq(orderId))
+                .and(INVENTORY_RESERVATIONS.STATUS.eq(ReservationStatus.RESERVED.name()))
+                .returningResult(INVENTORY_RESERVATIONS.ORDER_ID, INVENTORY_RESERVATIONS.PRODUCT_ID,
+                        INVENTORY_RESERVATIONS.VARIANT_ID, INVENTORY_RESERVATIONS.QUANTITY)
+                .fetch(this::toStockReservation);
+    }
+
+    @Override
+    @Transactional
+    public List<StockReservation> release(UUID orderId, Set<UUID> flashSaleVariantIds) {
+        List<StockReservation> released = dsl.update(INVENTORY_RESERVATIONS)
+                .set(INVENTORY_RESERVATIONS.STATUS, ReservationStatus.RELEASED.name())
+                .set(INVENTORY_RESERVATIONS.UPDATED_AT, LocalDateTime.now())
+                .where(INVENTORY_RESERVATIONS.ORDER_ID.eq(orderId))
+                .and(INVENTORY_RESERVATIONS.STATUS.in(
+                        ReservationStatus.RESERVED.name(), ReservationStatus.CONFIRMED.name()))
+                .returningResult(INVENTORY_RESERVATIONS.ORDER_ID, INVENTORY_RESERVATIONS.PRODUCT_ID,
+                        INVENTORY_RESERVATIONS.VARIANT_ID, INVENTORY_RESERVATIONS.QUANTITY)
+                .fetch(this::toStockReservation);
+        restock(stockManagedRows(released, flashSaleVariantIds));
+        return released;
+    }
+
+    @Override
+    @Transactional
+    public List<StockReservation> releaseExpired(LocalDateTime now, int limit, Set<UUID> flashSaleVariantIds) {
+        List<StockReservation> released = dsl.update(INVENTORY_RESERVATIONS)
+                .set(INVENTORY_RESERVATIONS.STATUS, ReservationStatus.RELEASED.name())
+                .set(INVENTORY_RESERVATIONS.UPDATED_AT, now)
+                .where(INVENTORY_RESERVATIONS.ID.in(
+                        select(INVENTORY_RESERVATIONS.ID)
+                                .from(INVENTORY_RESERVATIONS)
+                                .where(INVENTORY_RESERVATIONS.STATUS.eq(ReservationStatus.RESERVED.name()))
+                                .and(INVENTORY_RESERVATIONS.EXPIRES_AT.lt(now))
+                                .orderBy(INVENTORY_RESERVATIONS.EXPIRES_AT)
+                                .limit(limit)
+                                .forUpdate()
+                                .skipLocked()))
+                .and(INVENTORY_RESERVATIONS.STATUS.eq(ReservationStatus.RESERVED.name()))
+                .returningResult(INVENTORY_RESERVATIONS.ORDER_ID, INVENTORY_RESERVATIONS.PRODUCT_ID,
+                        INVENTORY_RESERVATIONS.VARIANT_ID, INVENTORY_RESERVATIONS.QUANTITY)
+                .fetch(this::toStockReservation);
+        restock(stockManagedRows(released, flashSaleVariantIds));
+        return released;
+    }
+
+    /**
+     * 수량을 재고에 되돌림 (차감과 같은 키 순서)
+     */
+    @Override
+    @Transactional
+    public void restock(List<StockReservation> reservations) {
+        if (reservations.isEmpty()) {
+            return;
+        }
+        Map<StockKey, Integer> quantities = sumBySku(reservations);
+        dsl.batch(stockUpdates(quantities, false)).execute();
+        evictProducts(quantities.keySet());
+    }
+
+    /**
+     * 관리자 재고 조정 (주문 차감과 같은 조건부 UPDATE, 차감은 재고가 충분할 때만)
+     */
+    @Override
+    @Transactional
+    public boolean adjustStock(UUID productId, UUID variantId, int quantityDelta) {
+        StockKey key = new StockKey(productId, variantId);
+        boolean decrement = quantityDelta < 0;
+        Query update = variantId == null
+                ? updateProduct(productId, quantityDelta, decrement)
+                : updateVariant(key, quantityDelta, decrement);
+        if (update.execute() == 0) {
+            return false;
+        }
+        evictProducts(List.of(key));
+        return true;
+    }
+
+    /**
+     * 변형 상품은 활성 변형 재고 합계, 단일 상품은 products.total_stock_quantity (도메인 총 재고와 같은 기준)
+     */
+    @Override
+    public Map<UUID, Integer> findTotalStockQuantities(Collection<UUID> productIds) {
+        if (productIds.isEmpty()) {
+            return Map.of();
+        }
+        Map<UUID, Integer> totals = new HashMap<>(dsl.select(PRODUCTS.ID, PRODUCTS.TOTAL_STOCK_QUANTITY)
+                .from(PRODUCTS)
+                .where(PRODUCTS.ID.in(productIds))
+                .fetchMap(PRODUCTS.ID, PRODUCTS.TOTAL_STOCK_QUANTITY));
+        dsl.select(PRODUCT_VARIANTS.PRODUCT_ID,
+                        sum(when(PRODUCT_VARIANTS.IS_ACTIVE.isTrue(), PRODUCT_VARIANTS.STOCK_QUANTITY).otherwise(0)))
+                .from(PRODUCT_VARIANTS)
+                .where(PRODUCT_VARIANTS.PRODUCT_ID.in(productIds))
+                .groupBy(PRODUCT_VARIANTS.PRODUCT_ID)
+                .forEach(row -> totals.put(row.value1(), row.value2().intValue()));
+        return totals;
+    }
+
+    /**
+     * 키 순서대로 재고 증감 쿼리 생성 (키마다 한 문장, 변형은 변형 행만)
+     *
+     * @param decrement true면 재고 조건(재고 >= 수량)을 건 차감, false면 복원
+     */
+    private List<Query> stockUpdates(Map<StockKey, Integer> quantities, boolean decrement) {
+        List<Query> updates = new ArrayList<>();
+        quantities.forEach((key, quantity) -> {
+            int delta = decrement ? -quantity : quantity;
+            updates.add(key.variantId() == null
+                    ? updateProduct(key.productId(), delta, decrement)
+                    : updateVariant(key, delta, decrement));
+        });
+        return updates;
+    }
+
+    private Query updateProduct(UUID productId, int delta, boolean checkStock) {
+        var update = dsl.update(PRODUCTS)
+                .set(PRODUCTS.TOTAL_STOCK_QUANTITY, PRODUCTS.TOTAL_STOCK_QUANTITY.plus(delta))
+                .where(PRODUCTS.ID.eq(productId));
+        return checkStock ? update.and(PRODUCTS.TOTAL_STOCK_QUANTITY.ge(-delta)) : update;
+    }
+
+    private Query updateVariant(StockKey key, int delta, boolean checkStock) {
+        var update = dsl.update(PRODUCT_VARIANTS)
+                .set(PRODUCT_VARIANTS.STOCK_QUANTITY, PRODUCT_VARIANTS.STOCK_QUANTITY.plus(delta))
+                .where(PRODUCT_VARIANTS.ID.eq(key.variantId()))
+                .and(PRODUCT_VARIANTS.PRODUCT_ID.eq(key.productId()));
+        return checkStock ? update.and(PRODUCT_VARIANTS.STOCK_QUANTITY.ge(-delta)) : update;
+    }
+
+    private void evictProducts(Collection<StockKey> keys) {
+        Cache cache = cacheManager.getCache(CacheNames.PRODUCTS);
+        if (cache == null) {
+            return;
+        }
+        keys.stream()
+                .map(StockKey::productId)
+                .distinct()
+                .forEach(productId -> cache.evict(productId.toString()));
+    }
+
+    /**
+     * DB에서 재고를 관리하는 줄 (플래시 세일 카운터가 관리하는 변형 제외)
+     */
+    private static List<StockReservation> stockManagedRows(List<StockReservation> reservations,
+                                                           Set<UUID> flashSaleVariantIds) {
+        if (flashSaleVariantIds.isEmpty()) {
+            return reservations;
+        }
+        return reservations.stream()
+                .filter(reservation -> reservation.variantId() == null
+                        || !flashSaleVariantIds.contains(reservation.variantId()))
+                .toList();
+    }
+
+    private static Map<StockKey, Integer> sumBySku(List<StockReservation> reservations) {
+        Map<StockKey, Integer> quantities = new TreeMap<>(KEY_ORDER);
+        for (StockReservation reservation : reservations) {
+            quantities.merge(new StockKey(reservation.productId(), reservation.variantId()),
+                    reservation.quantity(), Integer::sum);
+        }
+        return quantities;
+    }
+
+    private StockReservation toStockReservation(Record4<UUID, UUID, UUID, Integer> record) {
+        return new StockReservation(record.value1(), record.value2(), record.value3(),
+                Objects.requireNonNullElse(record.value4(), 0));
+    }
+
+    private record StockKey(UUID productId, UUID variantId) {}
+}
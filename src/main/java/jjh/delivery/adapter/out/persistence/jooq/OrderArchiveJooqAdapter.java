@@ -0,0 +1,150 @@
+package jjh.delivery.adapter.out.persistence.jooq;
+
+import jjh.delivery.adapter.out.persistence.jooq.generated.tables.OrderItems;
+import jjh.delivery.adapter.out.persistence.jooq.generated.tables.Orders;
+import jjh.delivery.adapter.out.persistence.jooq.repository.OrderJooqRepository.OrderTier;
+import jjh.delivery.application.port.out.ArchiveOrderPort;
+import jjh.delivery.domain.order.OrderStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.jooq.DSLContext;
+import org.jooq.impl.DSL;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.jooq.impl.DSL.field;
+import static org.jooq.impl.DSL.name;
+import static org.jooq.impl.DSL.table;
+
+/**
+ * Order Archive jOOQ Adapter - Driven Adapter (Outbound)
+ * 주문 월 파티션 관리 및 hot → archive 이관 구현 (PostgreSQL 전용, db/partitioning.sql 적용 필요)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OrderArchiveJooqAdapter implements ArchiveOrderPort {
+
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("yyyy_MM");
+
+    private static final Orders ORDERS = OrderTier.HOT.orders();
+    private static final OrderItems ORDER_ITEMS = OrderTier.HOT.items();
+    private static final Orders ORDERS_ARCHIVE = OrderTier.ARCHIVE.orders();
+    private static final OrderItems ORDER_ITEMS_ARCHIVE = OrderTier.ARCHIVE.items();
+
+    private final DSLContext dsl;
+
+    @Override
+    public void createMonthlyPartitions(YearMonth month) {
+        String from = month.atDay(1).toString();
+        String to = month.plusMonths(1).atDay(1).toString();
+
+        createPartition("orders", month, from, to, "");
+        createPartition("order_items", month, from, to, "");
+        createPartition("orders_archive", month, from, to, " WITH (fillfactor = 100)");
+        createPartition("order_items_archive", month, from, to, " WITH (fillfactor = 100)");
+    }
+
+    @Override
+    public int archiveOrders(LocalDateTime createdBefore, Set<OrderStatus> statuses, int batchSize) {
+        List<String> statusNames = statuses.stream().map(Enum::name).toList();
+
+        // 아이템 → 주문 순으로 복사/삭제 (order_items FK), 한 배치는 하나의 트랜잭션
+        return dsl.transactionResult(configuration -> {
+            DSLContext tx = DSL.using(configuration);
+
+            List<UUID> orderIds = tx.select(ORDERS.ID)
+                    .from(ORDERS)
+                    .where(ORDERS.CREATED_AT.lt(createdBefore))
+                    .and(ORDERS.STATUS.in(statusNames))
+                    .orderBy(ORDERS.CREATED_AT)
+                    .limit(batchSize)
+                    .forUpdate()
+                    .skipLocked()
+                    .fetch(ORDERS.ID);
+
+            if (orderIds.isEmpty()) {
+                return 0;
+            }
+
+            // created_at 조건은 파티션 프루닝용
+            tx.insertInto(ORDER_ITEMS_ARCHIVE)
+                    .columns(ORDER_ITEMS_ARCHIVE.fields())
+                    .select(tx.select(ORDER_ITEMS.fields())
+                            .from(ORDER_ITEMS)
+                            .where(ORDER_ITEMS.ORDER_ID.in(orderIds))
+                            .and(ORDER_ITEMS.ORDER_CREATED_AT.lt(createdBefore)))
+                    .execute();
+            tx.deleteFrom(ORDER_ITEMS)
+                    .where(ORDER_ITEMS.ORDER_ID.in(orderIds))
+                    .and(ORDER_ITEMS.ORDER_CREATED_AT.lt(createdBefore))
+                    .execute();
+
+            tx.insertInto(ORDERS_ARCHIVE)
+                    .columns(ORDERS_ARCHIVE.fields())
+                    .select(tx.select(ORDERS.fields())
+                            .from(ORDERS)
+                            .where(ORDERS.ID.in(orderIds))
+                            .and(ORDERS.CREATED_AT.lt(createdBefore)))
+                    .execute();
+            tx.deleteFrom(ORDERS)
+                    .where(ORDERS.ID.in(orderIds))
+                    .and(ORDERS.CREATED_AT.lt(createdBefore))
+                    .execute();
+
+            return orderIds.size();
+        });
+    }
+
+    @Override
+    public List<String> dropEmptyPartitionsBefore(YearMonth before) {
+        String cutoff = "orders_" + before.format(PARTITION_SUFFIX);
+        List<String> dropped = new ArrayList<>();
+
+        // 파티션 이름이 orders_yyyy_MM 형식이므로 문자열 비교 = 월 비교
+        List<String> candidates = dsl.select(field("c.relname", String.class))
+                .from(table(name("pg_inherits")).as("i"))
+                .join(table(name("pg_class")).as("c")).on(field("c.oid").eq(field("i.inhrelid")))
+                .join(table(name("pg_class")).as("p")).on(field("p.oid").eq(field("i.inhparent")))
+                .where(field("p.relname").eq("orders"))
+                .and(field("c.relname", String.class).likeRegex("^orders_[0-9]{4}_[0-9]{2}$"))
+                .and(field("c.relname", String.class).lt(cutoff))
+                .orderBy(field("c.relname"))
+                .fetch(field("c.relname", String.class));
+
+        for (String ordersPartition : candidates) {
+            String itemsPartition = "order_items_" + ordersPartition.substring("orders_".length());
+
+            boolean empty = !dsl.fetchExists(table(name(ordersPartition)))
+                    && !dsl.fetchExists(table(name(itemsPartition)));
+            if (!empty) {
+                continue;
+            }
+
+            dsl.transaction(configuration -> {
+                DSLContext tx = DSL.using(configuration);
+                tx.execute("ALTER TABLE order_items DETACH PARTITION " + itemsPartition);
+                tx.execute("DROP TABLE " + itemsPartition);
+                tx.execute("ALTER TABLE orders DETACH PARTITION " + ordersPartition);
+                tx.execute("DROP TABLE " + ordersPartition);
+            });
+            dropped.add(ordersPartition);
+            log.info("Dropped empty order partitions: {}, {}", ordersPartition, itemsPartition);
+        }
+        return dropped;
+    }
+
+    private void createPartition(String parent, YearMonth month, String from, String to, String options) {
+        String partition = parent + "_" + month.format(PARTITION_SUFFIX);
+        dsl.execute("CREATE TABLE IF NOT EXISTS " + partition
+                + " PARTITION OF " + parent
+                + " FOR VALUES FROM ('" + from + "') TO ('" + to + "')" + options);
+    }
+}
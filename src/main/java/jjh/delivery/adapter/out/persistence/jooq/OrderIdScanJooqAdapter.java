@@ -0,0 +1,101 @@
+package jjh.delivery.adapter.out.persistence.jooq;
+
+import jjh.delivery.adapter.out.persistence.jooq.generated.tables.Orders;
+import jjh.delivery.adapter.out.persistence.jooq.repository.OrderJooqRepository.OrderTier;
+import jjh.delivery.application.port.out.ScanOrderIdPort;
+import lombok.RequiredArgsConstructor;
+import org.jooq.Condition;
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.Table;
+import org.jooq.impl.DSL;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Order Id Scan jOOQ Adapter - Driven Adapter (Outbound)
+ * 재인덱싱용 주문 ID 구간 분할 및 keyset 스캔 (orders PK 인덱스만 사용)
+ */
+@Component
+@RequiredArgsConstructor
+public class OrderIdScanJooqAdapter implements ScanOrderIdPort {
+
+    private final DSLContext dsl;
+
+    @Value("${order.archive.enabled:false}")
+    private boolean archiveEnabled;
+
+    @Override
+    public List<UUID> findSliceBoundaries(OrderStorage storage, int slices) {
+        if (!available(storage)) {
+            return List.of();
+        }
+        Orders orders = toTier(storage).orders();
+
+        // ntile로 ID 오름차순을 균등 분할한 뒤 구간별 최대 ID를 경계로 사용
+        Field<Integer> bucket = DSL.ntile(slices).over(DSL.orderBy(orders.ID)).as("bucket");
+        Table<?> numbered = dsl.select(orders.ID, bucket).from(orders).asTable("numbered");
+        Field<UUID> id = numbered.field(orders.ID);
+
+        return dsl.select(DSL.max(id))
+                .from(numbered)
+                .groupBy(numbered.field(bucket))
+                .orderBy(DSL.max(id))
+                .fetch(DSL.max(id));
+    }
+
+    @Override
+    public List<UUID> findIdsInRange(OrderStorage storage, UUID after, UUID upTo, int limit) {
+        if (!available(storage)) {
+            return List.of();
+        }
+        Orders orders = toTier(storage).orders();
+
+        Condition condition = DSL.noCondition();
+        if (after != null) {
+            condition = condition.and(orders.ID.gt(after));
+        }
+        if (upTo != null) {
+            condition = condition.and(orders.ID.le(upTo));
+        }
+
+        return dsl.select(orders.ID)
+                .from(orders)
+                .where(condition)
+                .orderBy(orders.ID)
+                .limit(limit)
+                .fetch(orders.ID);
+    }
+
+    @Override
+    public long countOrders(OrderStorage storage) {
+        if (!available(storage)) {
+            return 0;
+        }
+        return dsl.fetchCount(toTier(storage).orders());
+    }
+
+    @Override
+    public List<UUID> findIdsUpdatedSince(LocalDateTime since) {
+        Orders orders = OrderTier.HOT.orders();
+        return dsl.select(orders.ID)
+                .from(orders)
+                .where(orders.UPDATED_AT.ge(since))
+                .fetch(orders.ID);
+    }
+
+    private boolean available(OrderStorage storage) {
+        return storage == OrderStorage.HOT || archiveEnabled;
+    }
+
+    private OrderTier toTier(OrderStorage storage) {
+        return switch (storage) {
+            case HOT -> OrderTier.HOT;
+            case ARCHIVE -> OrderTier.ARCHIVE;
+        };
+    }
+}
@@ -0,0 +1,75 @@
+package jjh.delivery.adapter.out.persistence.jooq;
+
+import jjh.delivery.application.port.out.OrderIndexPendingPort;
+import lombok.RequiredArgsConstructor;
+import org.jooq.Condition;
+import org.jooq.DSLContext;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static jjh.delivery.adapter.out.persistence.jooq.generated.tables.OrderIndexRetries.ORDER_INDEX_RETRIES;
+import static org.jooq.impl.DSL.excluded;
+import static org.jooq.impl.DSL.greatest;
+import static org.jooq.impl.DSL.or;
+
+/**
+ * Order Index Pending jOOQ Adapter - Driven Adapter (Outbound)
+ * order_index_retries에 인덱싱 대기 기록을 다중 행 upsert / 조건부 DELETE 한 문장으로 처리
+ *
+ * - 기록: next_attempt_at = 기록 시각 + pending-grace-seconds (기존 행은 더 늦은 시각으로만 연기)
+ *   같은 주문을 동시에 기록하는 트랜잭션은 행 잠금으로 순서가 정해지며, 데드락 방지를 위해 주문 ID 순서로 기록합니다.
+ * - 제거: 인덱싱한 요청의 기록 시각 + 유예 시간 이전인 행만 삭제하므로, flush 이후 다시 기록된 요청은 남습니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class OrderIndexPendingJooqAdapter implements OrderIndexPendingPort {
+
+    private final DSLContext dsl;
+
+    @Value("${search.indexing.pending-grace-seconds:60}")
+    private long graceSeconds;
+
+    @Override
+    @Transactional
+    public void registerPending(Collection<UUID> orderIds, LocalDateTime registeredAt) {
+        if (orderIds.isEmpty()) {
+            return;
+        }
+        LocalDateTime retryAt = registeredAt.plusSeconds(graceSeconds);
+        var insert = dsl.insertInto(ORDER_INDEX_RETRIES,
+                ORDER_INDEX_RETRIES.ORDER_ID,
+                ORDER_INDEX_RETRIES.ATTEMPTS,
+                ORDER_INDEX_RETRIES.NEXT_ATTEMPT_AT,
+                ORDER_INDEX_RETRIES.CREATED_AT);
+        for (UUID orderId : orderIds.stream().distinct().sorted().toList()) {
+            insert = insert.values(orderId, 0, retryAt, registeredAt);
+        }
+        insert.onConflict(ORDER_INDEX_RETRIES.ORDER_ID)
+                .doUpdate()
+                .set(ORDER_INDEX_RETRIES.NEXT_ATTEMPT_AT,
+                        greatest(ORDER_INDEX_RETRIES.NEXT_ATTEMPT_AT, excluded(ORDER_INDEX_RETRIES.NEXT_ATTEMPT_AT)))
+                .execute();
+    }
+
+    @Override
+    @Transactional
+    public void removeIndexed(Map<UUID, LocalDateTime> registeredAt) {
+        if (registeredAt.isEmpty()) {
+            return;
+        }
+        List<Condition> indexed = registeredAt.entrySet().stream()
+                .map(entry -> ORDER_INDEX_RETRIES.ORDER_ID.eq(entry.getKey())
+                        .and(ORDER_INDEX_RETRIES.NEXT_ATTEMPT_AT.le(entry.getValue().plusSeconds(graceSeconds))))
+                .toList();
+        dsl.deleteFrom(ORDER_INDEX_RETRIES)
+                .where(or(indexed))
+                .execute();
+    }
+}
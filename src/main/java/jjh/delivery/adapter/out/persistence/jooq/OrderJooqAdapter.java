@@ -2,6 +2,12 @@ package jjh.delivery.adapter.out.persistence.jooq;
 
 import jjh.delivery.adapter.in.web.dto.CursorPageResponse;
 import jjh.delivery.adapter.in.web.dto.CursorValue;
+import jjh.delivery.adapter.out.persistence.jooq.repository.OrderJooqRepository;
+import jjh.delivery.adapter.out.persistence.jooq.repository.OrderJooqRepository.OrderKeyset;
+import jjh.delivery.adapter.out.persistence.jooq.repository.OrderJooqRepository.OrderSummaryRow;
+import jjh.delivery.adapter.out.persistence.jooq.repository.OrderJooqRepository.OrderTier;
+import jjh.delivery.adapter.out.persistence.jooq.repository.OrderJooqRepository.OrderWithItems;
+import jjh.delivery.application.port.out.LoadArchivedOrderPort;
 import jjh.delivery.application.port.out.OrderQueryPort;
 import jjh.delivery.domain.order.Order;
 import jjh.delivery.domain.order.OrderItem;
@@ -10,34 +16,57 @@ import jjh.delivery.domain.order.ShippingAddress;
 import org.jooq.Condition;
 import org.jooq.DSLContext;
 import org.jooq.Record;
+import org.jooq.Table;
 import org.jooq.impl.DSL;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.time.ZoneId;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static org.jooq.impl.DSL.field;
+import static org.jooq.impl.DSL.select;
 import static org.jooq.impl.DSL.table;
 
 /**
  * Order jOOQ Adapter - Driven Adapter (Outbound)
  * jOOQ를 사용한 복잡한 쿼리 구현
  * v2 - Product Delivery
+ *
+ * 아카이브가 활성화되어 있으면 조회 범위가 아카이브 경계(now - after-days) 이전까지 닿는 경우에만
+ * orders_archive/order_items_archive를 함께 조회합니다. 아카이브 잡은 경계 이전에 생성된 주문만 이관하므로
+ * 경계 이후 범위의 조회는 hot 테이블만으로 완전합니다.
  */
 @Component
 @RequiredArgsConstructor
-public class OrderJooqAdapter implements OrderQueryPort {
+public class OrderJooqAdapter implements OrderQueryPort, LoadArchivedOrderPort {
+
+    private static final Comparator<LocalDateTime> NEWEST_FIRST = Comparator.reverseOrder();
 
     private final DSLContext dsl;
+    private final OrderJooqRepository orderJooqRepository;
+
+    @Value("${order.archive.enabled:false}")
+    private boolean archiveEnabled;
+
+    @Value("${order.archive.after-days:180}")
+    private int archiveAfterDays;
 
     @Override
     public CursorPageResponse<Order> findOrdersWithComplexCriteria(ComplexQueryCriteria criteria) {
@@ -75,18 +104,32 @@ public class OrderJooqAdapter implements OrderQueryPort {
                 : new org.jooq.SortField[]{field(sortField).desc(), field("id").desc()};
 
         // size + 1 개 조회하여 hasNext 판단
-        List<Record> records = dsl.select()
-                .from(table("orders"))
-                .where(combinedCondition)
+        int limit = criteria.size() + 1;
+        Condition condition = combinedCondition;
+        Function<Table<?>, List<Record>> page = source -> dsl.select()
+                .from(source)
+                .where(condition)
                 .orderBy(orderFields)
-                .limit(criteria.size() + 1)
+                .limit(limit)
                 .fetch();
 
+        // 기본 정렬(created_at DESC)은 hot 페이지만으로 채워지면 아카이브를 UNION하지 않음
+        List<Record> records;
+        boolean newestFirst = !criteria.ascending() && "created_at".equals(sortField);
+        if (reachesArchive(criteria.fromDate()) && newestFirst) {
+            List<Record> hot = page.apply(table("orders"));
+            records = hotPageSuffices(hot, limit, r -> r.get("created_at", LocalDateTime.class))
+                    ? hot
+                    : page.apply(ordersSource(criteria.fromDate()));
+        } else {
+            records = page.apply(ordersSource(criteria.fromDate()));
+        }
+
         List<UUID> orderIds = records.stream()
                 .map(r -> r.get("id", UUID.class))
                 .toList();
 
-        Map<UUID, List<OrderItem>> itemsMap = fetchOrderItems(orderIds);
+        Map<UUID, List<OrderItem>> itemsMap = fetchOrderItems(orderIds, containsArchivable(records));
 
         List<Order> orders = records.stream()
                 .map(r -> mapToOrder(r, itemsMap.getOrDefault(r.get("id", UUID.class), List.of())))
@@ -116,12 +159,78 @@ public class OrderJooqAdapter implements OrderQueryPort {
         return Optional.ofNullable(value).map(mapper);
     }
 
+    /**
+     * 판매자 통계 = seller_daily_stats 롤업(완전한 과거 일자) + 원본 orders 집계(오늘, 구간 양 끝의 부분 일자)
+     * 1년 범위 조회 시 원본 주문 대신 일자별 롤업 ~365행만 합산합니다.
+     */
     @Override
     public List<OrderStatistics> getOrderStatisticsBySeller(
             UUID sellerId,
             LocalDateTime from,
             LocalDateTime to
     ) {
+        LocalDate today = LocalDate.now();
+        // 롤업으로 처리할 완전한 일자 구간 [rollupFrom, rollupUntil), 오늘은 항상 원본 집계
+        LocalDate rollupFrom = from == null ? null
+                : from.toLocalTime().equals(LocalTime.MIDNIGHT) ? from.toLocalDate() : from.toLocalDate().plusDays(1);
+        LocalDate rollupUntil = to == null || !to.toLocalDate().isBefore(today)
+                ? today
+                : to.toLocalTime().equals(LocalTime.MAX) ? to.toLocalDate().plusDays(1) : to.toLocalDate();
+
+        Map<UUID, SellerStats> stats = new LinkedHashMap<>();
+
+        if (rollupFrom != null && !rollupFrom.isBefore(rollupUntil)) {
+            rawStatistics(sellerId, from, to == null ? null : field("created_at").le(to))
+                    .forEach((id, value) -> stats.merge(id, value, SellerStats::plus));
+        } else {
+            rollupStatistics(sellerId, rollupFrom, rollupUntil)
+                    .forEach((id, value) -> stats.merge(id, value, SellerStats::plus));
+
+            // 시작 일자의 부분 구간 [from, rollupFrom)
+            if (from != null && from.isBefore(rollupFrom.atStartOfDay())) {
+                rawStatistics(sellerId, from, field("created_at").lt(rollupFrom.atStartOfDay()))
+                        .forEach((id, value) -> stats.merge(id, value, SellerStats::plus));
+            }
+
+            // 롤업 이후 구간 [rollupUntil, to] (오늘 포함)
+            LocalDateTime tailStart = rollupUntil.atStartOfDay();
+            if (to == null || !to.isBefore(tailStart)) {
+                rawStatistics(sellerId, tailStart, to == null ? null : field("created_at").le(to))
+                        .forEach((id, value) -> stats.merge(id, value, SellerStats::plus));
+            }
+        }
+
+        return stats.entrySet().stream()
+                .map(entry -> entry.getValue().toStatistics(entry.getKey()))
+                .toList();
+    }
+
+    /**
+     * seller_daily_stats 롤업 합산 (stat_date in [fromDate, untilDate))
+     */
+    private Map<UUID, SellerStats> rollupStatistics(UUID sellerId, LocalDate fromDate, LocalDate untilDate) {
+        return dsl.select(
+                        field("seller_id"),
+                        DSL.sum(field("total_orders", Long.class)).as("total_orders"),
+                        DSL.sum(field("completed_orders", Long.class)).as("completed_orders"),
+                        DSL.sum(field("cancelled_orders", Long.class)).as("cancelled_orders"),
+                        DSL.sum(field("total_revenue", BigDecimal.class)).as("total_revenue")
+                )
+                .from(table("seller_daily_stats"))
+                .where(sellerId != null ? field("seller_id").eq(sellerId) : DSL.trueCondition())
+                .and(fromDate != null ? field("stat_date").ge(fromDate) : DSL.trueCondition())
+                .and(field("stat_date").lt(untilDate))
+                .groupBy(field("seller_id"))
+                .fetchMap(
+                        r -> r.get("seller_id", UUID.class),
+                        this::toSellerStats
+                );
+    }
+
+    /**
+     * 원본 orders 집계 (created_at >= from, 상한 조건은 upper)
+     */
+    private Map<UUID, SellerStats> rawStatistics(UUID sellerId, LocalDateTime from, Condition upper) {
         return dsl.select(
                         field("seller_id"),
                         DSL.count().as("total_orders"),
@@ -131,23 +240,26 @@ public class OrderJooqAdapter implements OrderQueryPort {
                         DSL.count(DSL.case_()
                                 .when(field("status").eq("CANCELLED"), 1)
                                 .otherwise((Integer) null)).as("cancelled_orders"),
-                        DSL.sum(field("total_amount", BigDecimal.class)).as("total_revenue"),
-                        DSL.avg(field("total_amount", BigDecimal.class)).as("avg_order_amount")
+                        DSL.sum(field("total_amount", BigDecimal.class)).as("total_revenue")
                 )
-                .from(table("orders"))
+                .from(ordersSource(from))
                 .where(sellerId != null ? field("seller_id").eq(sellerId) : DSL.trueCondition())
                 .and(from != null ? field("created_at").ge(from) : DSL.trueCondition())
-                .and(to != null ? field("created_at").le(to) : DSL.trueCondition())
+                .and(upper != null ? upper : DSL.trueCondition())
                 .groupBy(field("seller_id"))
-                .fetch()
-                .map(r -> new OrderStatistics(
-                        r.get("seller_id", UUID.class),
-                        r.get("total_orders", Long.class),
-                        r.get("completed_orders", Long.class),
-                        r.get("cancelled_orders", Long.class),
-                        r.get("total_revenue", BigDecimal.class),
-                        r.get("avg_order_amount", BigDecimal.class)
-                ));
+                .fetchMap(
+                        r -> r.get("seller_id", UUID.class),
+                        this::toSellerStats
+                );
+    }
+
+    private SellerStats toSellerStats(Record r) {
+        return new SellerStats(
+                r.get("total_orders", Long.class),
+                r.get("completed_orders", Long.class),
+                r.get("cancelled_orders", Long.class),
+                Optional.ofNullable(r.get("total_revenue", BigDecimal.class)).orElse(BigDecimal.ZERO)
+        );
     }
 
     @Override
@@ -163,7 +275,7 @@ public class OrderJooqAdapter implements OrderQueryPort {
                 .orElse(DSL.trueCondition());
 
         List<Record> records = dsl.select()
-                .from(table("orders"))
+                .from(ordersSource(criteria.fromDate()))
                 .where(condition)
                 .orderBy(field("created_at").desc())
                 .fetch();
@@ -171,7 +283,7 @@ public class OrderJooqAdapter implements OrderQueryPort {
         // 함수 합성: 아이템 포함 여부에 따라 다른 매핑 전략 (함수형)
         Function<Record, UUID> extractId = r -> r.get("id", UUID.class);
         Map<UUID, List<OrderItem>> itemsMap = criteria.includeItems()
-                ? fetchOrderItems(records.stream().map(extractId).toList())
+                ? fetchOrderItems(records.stream().map(extractId).toList(), containsArchivable(records))
                 : Map.of();
 
         return records.stream()
@@ -179,30 +291,252 @@ public class OrderJooqAdapter implements OrderQueryPort {
                 .toList();
     }
 
-    private Map<UUID, List<OrderItem>> fetchOrderItems(List<UUID> orderIds) {
+    @Override
+    public CursorPageResponse<Order> findOrdersByOwner(OwnerOrderPageQuery query) {
+        OrderKeyset after = toKeyset(query.cursor());
+        // size + 1 개 조회하여 hasNext 판단
+        int limit = query.size() + 1;
+
+        Function<OrderTier, List<OrderWithItems>> page = tier -> query.customerId() != null
+                ? orderJooqRepository.findByCustomerIdWithItems(tier, query.customerId(), after, limit)
+                : orderJooqRepository.findBySellerIdWithItems(tier, query.sellerId(), after, limit);
+
+        List<OrderWithItems> rows = mergeWithArchive(
+                page.apply(OrderTier.HOT),
+                () -> page.apply(OrderTier.ARCHIVE),
+                limit,
+                row -> row.order().getCreatedAt(),
+                row -> row.order().getId()
+        );
+
+        List<Order> orders = rows.stream()
+                .map(this::mapToOrder)
+                .toList();
+
+        return CursorPageResponse.ofWithUuidId(
+                orders,
+                query.size(),
+                order -> order.getCreatedAt().atZone(ZoneId.systemDefault()).toInstant(),
+                Order::getId
+        );
+    }
+
+    @Override
+    public CursorPageResponse<OrderSummary> findOrderSummariesByOwner(OwnerOrderPageQuery query) {
+        OrderKeyset after = toKeyset(query.cursor());
+        int limit = query.size() + 1;
+
+        Function<OrderTier, List<OrderSummaryRow>> page = tier -> query.customerId() != null
+                ? orderJooqRepository.findSummariesByCustomerId(tier, query.customerId(), after, limit)
+                : orderJooqRepository.findSummariesBySellerId(tier, query.sellerId(), after, limit);
+
+        List<OrderSummaryRow> rows = mergeWithArchive(
+                page.apply(OrderTier.HOT),
+                () -> page.apply(OrderTier.ARCHIVE),
+                limit,
+                OrderSummaryRow::createdAt,
+                OrderSummaryRow::id
+        );
+
+        List<OrderSummary> summaries = rows.stream()
+                .map(row -> new OrderSummary(
+                        row.id(),
+                        row.orderNumber(),
+                        row.customerId(),
+                        row.sellerId(),
+                        OrderStatus.valueOf(row.status()),
+                        row.totalAmount(),
+                        row.itemCount(),
+                        row.createdAt(),
+                        row.deliveredAt()
+                ))
+                .toList();
+
+        return CursorPageResponse.ofWithUuidId(
+                summaries,
+                query.size(),
+                summary -> summary.createdAt().atZone(ZoneId.systemDefault()).toInstant(),
+                OrderSummary::id
+        );
+    }
+
+    // ==================== LoadArchivedOrderPort ====================
+
+    @Override
+    public Optional<Order> findArchivedById(UUID orderId) {
+        if (!archiveEnabled) {
+            return Optional.empty();
+        }
+        return orderJooqRepository.findByIdWithItems(OrderTier.ARCHIVE, orderId)
+                .map(this::mapToOrder);
+    }
+
+    @Override
+    public List<Order> findArchivedAllById(Collection<UUID> orderIds) {
+        if (!archiveEnabled || orderIds.isEmpty()) {
+            return List.of();
+        }
+        return orderJooqRepository.findAllByIdWithItems(OrderTier.ARCHIVE, orderIds).stream()
+                .map(this::mapToOrder)
+                .toList();
+    }
+
+    @Override
+    public List<Order> findArchivedByCustomerId(UUID customerId) {
+        if (!archiveEnabled) {
+            return List.of();
+        }
+        return orderJooqRepository.findAllByCustomerIdWithItems(OrderTier.ARCHIVE, customerId).stream()
+                .map(this::mapToOrder)
+                .toList();
+    }
+
+    @Override
+    public List<Order> findArchivedBySellerId(UUID sellerId) {
+        if (!archiveEnabled) {
+            return List.of();
+        }
+        return orderJooqRepository.findAllBySellerIdWithItems(OrderTier.ARCHIVE, sellerId).stream()
+                .map(this::mapToOrder)
+                .toList();
+    }
+
+    @Override
+    public boolean existsArchivedById(UUID orderId) {
+        return archiveEnabled && orderJooqRepository.existsById(OrderTier.ARCHIVE, orderId);
+    }
+
+    @Override
+    public boolean existsArchivedById(UUID orderId, LocalDateTime createdAt) {
+        return archiveEnabled
+                && createdAt.isBefore(archiveBoundary())
+                && orderJooqRepository.existsById(OrderTier.ARCHIVE, orderId);
+    }
+
+    // ==================== Archive helpers ====================
+
+    /**
+     * 아카이브 경계: 이 시각 이전에 생성된 완료 주문만 아카이브에 존재할 수 있음
+     */
+    private LocalDateTime archiveBoundary() {
+        return LocalDateTime.now().minusDays(archiveAfterDays);
+    }
+
+    /**
+     * 조회 시작일이 아카이브 경계 이전(또는 미지정)이면 hot + archive UNION ALL 파생 테이블을 사용
+     * 파생 테이블 별칭을 "orders"로 유지하므로 기존 문자열 기반 field() 조건을 그대로 사용할 수 있습니다.
+     */
+    private Table<?> ordersSource(LocalDateTime from) {
+        if (!reachesArchive(from)) {
+            return table("orders");
+        }
+        return select().from(table("orders"))
+                .unionAll(select().from(table("orders_archive")))
+                .asTable("orders");
+    }
+
+    private boolean reachesArchive(LocalDateTime from) {
+        return archiveEnabled && (from == null || !from.isAfter(archiveBoundary()));
+    }
+
+    /**
+     * hot 페이지가 가득 찼고 마지막 행(created_at DESC 기준 가장 오래된 행)이 아카이브 경계 이후라면
+     * 아카이브 행이 페이지에 끼어들 수 없음
+     */
+    private <T> boolean hotPageSuffices(List<T> hot, int limit, Function<T, LocalDateTime> createdAt) {
+        return hot.size() >= limit && createdAt.apply(hot.get(hot.size() - 1)).isAfter(archiveBoundary());
+    }
+
+    /**
+     * 조회된 주문 중 아카이브에 있을 수 있는 주문(경계 이전 생성)이 있는지 확인
+     */
+    private boolean containsArchivable(List<Record> records) {
+        if (!archiveEnabled) {
+            return false;
+        }
+        LocalDateTime boundary = archiveBoundary();
+        return records.stream()
+                .map(r -> r.get("created_at", LocalDateTime.class))
+                .anyMatch(createdAt -> createdAt.isBefore(boundary));
+    }
+
+    /**
+     * keyset 페이지를 hot/archive에서 각각 조회해 (created_at DESC, id DESC) 순으로 병합
+     * hot 페이지가 가득 찼고 마지막 행이 아카이브 경계 이후라면 아카이브 행이 끼어들 수 없으므로 아카이브를 조회하지 않습니다.
+     * id 비교는 PostgreSQL uuid 정렬(부호 없는 바이트 순)과 같도록 문자열로 비교합니다.
+     */
+    private <T> List<T> mergeWithArchive(
+            List<T> hot,
+            Supplier<List<T>> archive,
+            int limit,
+            Function<T, LocalDateTime> createdAt,
+            Function<T, UUID> id
+    ) {
+        if (!archiveEnabled) {
+            return hot;
+        }
+        if (hotPageSuffices(hot, limit, createdAt)) {
+            return hot;
+        }
+        return Stream.concat(hot.stream(), archive.get().stream())
+                .sorted(Comparator.comparing(createdAt, NEWEST_FIRST)
+                        .thenComparing(row -> id.apply(row).toString(), Comparator.reverseOrder()))
+                .limit(limit)
+                .toList();
+    }
+
+    /**
+     * 커서 문자열을 keyset 위치로 변환 (첫 페이지는 null)
+     */
+    private OrderKeyset toKeyset(String cursor) {
+        CursorValue cursorValue = CursorValue.decode(cursor);
+        if (cursorValue == null) {
+            return null;
+        }
+        return new OrderKeyset(
+                LocalDateTime.ofInstant(cursorValue.createdAt(), ZoneId.systemDefault()),
+                cursorValue.id()
+        );
+    }
+
+    private Map<UUID, List<OrderItem>> fetchOrderItems(List<UUID> orderIds, boolean includeArchive) {
         if (orderIds.isEmpty()) {
             return Map.of();
         }
 
+        Table<?> itemsSource = includeArchive
+                ? select().from(table("order_items"))
+                        .unionAll(select().from(table("order_items_archive")))
+                        .asTable("order_items")
+                : table("order_items");
+
         return dsl.select()
-                .from(table("order_items"))
+                .from(itemsSource)
                 .where(field("order_id").in(orderIds))
                 .fetch()
                 .stream()
                 .collect(Collectors.groupingBy(
                         r -> r.get("order_id", UUID.class),
-                        Collectors.mapping(
-                                r -> OrderItem.of(
-                                        r.get("product_id", UUID.class),
-                                        r.get("product_name", String.class),
-                                        r.get("quantity", Integer.class),
-                                        r.get("unit_price", BigDecimal.class)
-                                ),
-                                Collectors.toList()
-                        )
+                        Collectors.mapping(this::mapToOrderItem, Collectors.toList())
                 ));
     }
 
+    private OrderItem mapToOrderItem(Record record) {
+        return OrderItem.of(
+                record.get("product_id", UUID.class),
+                record.get("product_name", String.class),
+                record.get("quantity", Integer.class),
+                record.get("unit_price", BigDecimal.class)
+        );
+    }
+
+    private Order mapToOrder(OrderWithItems row) {
+        return mapToOrder(
+                row.order(),
+                row.items().stream().map(this::mapToOrderItem).toList()
+        );
+    }
+
     private Order mapToOrder(Record record, List<OrderItem> items) {
         return Order.builder()
                 .id(record.get("id", UUID.class))
@@ -219,7 +553,41 @@ public class OrderJooqAdapter implements OrderQueryPort {
                         record.get("shipping_address2", String.class),
                         record.get("shipping_delivery_note", String.class)
                 ))
+                .subtotalAmount(record.get("subtotal_amount", BigDecimal.class))
+                .shippingFee(record.get("shipping_fee", BigDecimal.class))
+                .discountAmount(record.get("discount_amount", BigDecimal.class))
+                .totalAmount(record.get("total_amount", BigDecimal.class))
+                .orderMemo(record.get("order_memo", String.class))
+                .shippingMemo(record.get("shipping_memo", String.class))
+                .couponId(record.get("coupon_id", UUID.class))
                 .createdAt(record.get("created_at", LocalDateTime.class))
+                .paidAt(record.get("paid_at", LocalDateTime.class))
+                .confirmedAt(record.get("confirmed_at", LocalDateTime.class))
+                .shippedAt(record.get("shipped_at", LocalDateTime.class))
+                .deliveredAt(record.get("delivered_at", LocalDateTime.class))
+                .cancelledAt(record.get("cancelled_at", LocalDateTime.class))
                 .build();
     }
+
+    /**
+     * 판매자 통계 누적값 (롤업/원본 집계 병합용)
+     */
+    private record SellerStats(long totalOrders, long completedOrders, long cancelledOrders, BigDecimal totalRevenue) {
+
+        SellerStats plus(SellerStats other) {
+            return new SellerStats(
+                    totalOrders + other.totalOrders,
+                    completedOrders + other.completedOrders,
+                    cancelledOrders + other.cancelledOrders,
+                    totalRevenue.add(other.totalRevenue)
+            );
+        }
+
+        OrderStatistics toStatistics(UUID sellerId) {
+            BigDecimal average = totalOrders == 0
+                    ? BigDecimal.ZERO
+                    : totalRevenue.divide(BigDecimal.valueOf(totalOrders), 2, RoundingMode.HALF_UP);
+            return new OrderStatistics(sellerId, totalOrders, completedOrders, cancelledOrders, totalRevenue, average);
+        }
+    }
 }
@@ -0,0 +1,82 @@
+package jjh.delivery.adapter.out.persistence.jooq;
+
+import jjh.delivery.application.port.out.OrderNumberNodeLeasePort;
+import jjh.delivery.domain.order.OrderNumberGenerator;
+import lombok.RequiredArgsConstructor;
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.Table;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.OptionalInt;
+
+import static jjh.delivery.adapter.out.persistence.jooq.generated.tables.OrderNumberNodeLeases.ORDER_NUMBER_NODE_LEASES;
+import static org.jooq.impl.DSL.excluded;
+import static org.jooq.impl.DSL.generateSeries;
+import static org.jooq.impl.DSL.select;
+import static org.jooq.impl.DSL.selectOne;
+import static org.jooq.impl.DSL.val;
+
+/**
+ * Order Number Node Lease jOOQ Adapter - Driven Adapter (Outbound)
+ * order_number_node_leases 점유를 INSERT ... SELECT ... ON CONFLICT 한 문장으로 처리
+ *
+ * 0~999 중 유효한 점유가 없는 가장 작은 노드 ID를 고르고, 만료된 행은 조건부 upsert로 넘겨받습니다.
+ * 두 인스턴스가 같은 노드 ID를 동시에 고르면 나중 트랜잭션은 행 잠금 후 만료 조건에 걸려 아무 행도 반환하지 않습니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class OrderNumberNodeLeaseJooqAdapter implements OrderNumberNodeLeasePort {
+
+    private final DSLContext dsl;
+
+    @Override
+    @Transactional
+    public OptionalInt acquire(String owner, LocalDateTime now, LocalDateTime expiresAt) {
+        Table<?> candidates = generateSeries(0, OrderNumberGenerator.MAX_NODE_ID).as("candidates", "node_id");
+        Field<Integer> candidate = candidates.field("node_id", Integer.class);
+
+        return dsl.insertInto(ORDER_NUMBER_NODE_LEASES,
+                        ORDER_NUMBER_NODE_LEASES.NODE_ID,
+                        ORDER_NUMBER_NODE_LEASES.OWNER,
+                        ORDER_NUMBER_NODE_LEASES.EXPIRES_AT)
+                .select(select(candidate, val(owner), val(expiresAt))
+                        .from(candidates)
+                        .whereNotExists(selectOne()
+                                .from(ORDER_NUMBER_NODE_LEASES)
+                                .where(ORDER_NUMBER_NODE_LEASES.NODE_ID.eq(candidate))
+                                .and(ORDER_NUMBER_NODE_LEASES.EXPIRES_AT.gt(now)))
+                        .orderBy(candidate)
+                        .limit(1))
+                .onConflict(ORDER_NUMBER_NODE_LEASES.NODE_ID)
+                .doUpdate()
+                .set(ORDER_NUMBER_NODE_LEASES.OWNER, excluded(ORDER_NUMBER_NODE_LEASES.OWNER))
+                .set(ORDER_NUMBER_NODE_LEASES.EXPIRES_AT, excluded(ORDER_NUMBER_NODE_LEASES.EXPIRES_AT))
+                .where(ORDER_NUMBER_NODE_LEASES.EXPIRES_AT.le(now))
+                .returningResult(ORDER_NUMBER_NODE_LEASES.NODE_ID)
+                .fetchOptional()
+                .map(record -> OptionalInt.of(record.value1()))
+                .orElse(OptionalInt.empty());
+    }
+
+    @Override
+    @Transactional
+    public boolean renew(int nodeId, String owner, LocalDateTime expiresAt) {
+        return dsl.update(ORDER_NUMBER_NODE_LEASES)
+                .set(ORDER_NUMBER_NODE_LEASES.EXPIRES_AT, expiresAt)
+                .where(ORDER_NUMBER_NODE_LEASES.NODE_ID.eq(nodeId))
+                .and(ORDER_NUMBER_NODE_LEASES.OWNER.eq(owner))
+                .execute() == 1;
+    }
+
+    @Override
+    @Transactional
+    public void release(int nodeId, String owner) {
+        dsl.deleteFrom(ORDER_NUMBER_NODE_LEASES)
+                .where(ORDER_NUMBER_NODE_LEASES.NODE_ID.eq(nodeId))
+                .and(ORDER_NUMBER_NODE_LEASES.OWNER.eq(owner))
+                .execute();
+    }
+}
@@ -0,0 +1,40 @@
+package jjh.delivery.adapter.out.persistence.jooq;
+
+import jjh.delivery.application.port.out.ScanProductChangePort;
+import lombok.RequiredArgsConstructor;
+import org.jooq.Condition;
+import org.jooq.DSLContext;
+import org.jooq.impl.DSL;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static jjh.delivery.adapter.out.persistence.jooq.generated.tables.Products.PRODUCTS;
+
+/**
+ * Product Change Scan jOOQ Adapter - Driven Adapter (Outbound)
+ * products (updated_at, id) 인덱스를 이용한 변경분 keyset 스캔
+ */
+@Component
+@RequiredArgsConstructor
+public class ProductChangeScanJooqAdapter implements ScanProductChangePort {
+
+    private final DSLContext dsl;
+
+    @Override
+    public List<ProductChange> findChangedAfter(LocalDateTime afterUpdatedAt, UUID afterId, LocalDateTime until, int limit) {
+        Condition condition = PRODUCTS.UPDATED_AT.lt(until);
+        if (afterUpdatedAt != null) {
+            condition = condition.and(DSL.row(PRODUCTS.UPDATED_AT, PRODUCTS.ID).gt(afterUpdatedAt, afterId));
+        }
+
+        return dsl.select(PRODUCTS.ID, PRODUCTS.UPDATED_AT)
+                .from(PRODUCTS)
+                .where(condition)
+                .orderBy(PRODUCTS.UPDATED_AT, PRODUCTS.ID)
+                .limit(limit)
+                .fetch(record -> new ProductChange(record.value1(), record.value2()));
+    }
+}
@@ -0,0 +1,32 @@
+package jjh.delivery.adapter.out.persistence.jooq;
+
+import jjh.delivery.application.port.out.ProductIndexingPort;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Product Full-Text Indexing Adapter - Driven Adapter (Outbound)
+ * PostgreSQL 검색(search.product.engine=postgres)용 인덱싱 포트
+ *
+ * search_vector는 products 행과 함께 갱신되는 생성 컬럼이고 평점은 조회 시 집계하므로
+ * 별도로 반영할 인덱스가 없습니다. 리뷰/상품 변경 시 인덱싱 요청은 무시합니다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "search.product", name = "engine", havingValue = "postgres")
+public class ProductFullTextIndexingAdapter implements ProductIndexingPort {
+
+    @Override
+    public void requestIndexing(Collection<UUID> productIds) {
+        // 생성 컬럼이므로 반영할 것이 없음
+    }
+
+    @Override
+    public Optional<LocalDateTime> findLatestIndexedUpdatedAt() {
+        return Optional.empty();
+    }
+}
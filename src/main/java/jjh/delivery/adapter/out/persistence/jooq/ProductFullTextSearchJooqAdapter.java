@@ -0,0 +1,246 @@
+package jjh.delivery.adapter.out.persistence.jooq;
+
+import jjh.delivery.adapter.in.web.dto.CursorPageResponse;
+import jjh.delivery.adapter.out.persistence.jooq.generated.tables.Categories;
+import jjh.delivery.application.port.out.LoadProductPort.SearchProductQuery;
+import jjh.delivery.application.port.out.ProductSearchPort;
+import jjh.delivery.domain.product.ProductStatus;
+import lombok.RequiredArgsConstructor;
+import org.jooq.Condition;
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.Record;
+import org.jooq.Record1;
+import org.jooq.Select;
+import org.jooq.SortField;
+import org.jooq.impl.DSL;
+import org.jooq.impl.SQLDataType;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+
+import static jjh.delivery.adapter.out.persistence.jooq.generated.tables.Categories.CATEGORIES;
+import static jjh.delivery.adapter.out.persistence.jooq.generated.tables.ProductCategories.PRODUCT_CATEGORIES;
+import static jjh.delivery.adapter.out.persistence.jooq.generated.tables.ProductImages.PRODUCT_IMAGES;
+import static jjh.delivery.adapter.out.persistence.jooq.generated.tables.Products.PRODUCTS;
+import static jjh.delivery.adapter.out.persistence.jooq.generated.tables.Reviews.REVIEWS;
+import static org.jooq.impl.DSL.avg;
+import static org.jooq.impl.DSL.count;
+import static org.jooq.impl.DSL.field;
+import static org.jooq.impl.DSL.select;
+import static org.jooq.impl.DSL.val;
+
+/**
+ * Product Full-Text Search jOOQ Adapter - Driven Adapter (Outbound)
+ * 검색 클러스터 없이 PostgreSQL 인덱스로 상품 키워드 검색 (search.product.engine=postgres)
+ *
+ * db/product_search.sql 적용이 필요합니다.
+ * - search_vector: name(A)/description(B) 가중치 tsvector 생성 컬럼 + GIN 인덱스
+ * - name gin_trgm_ops 인덱스: 형태소 분리가 안 되는 부분 문자열(한글 포함) ILIKE 매칭
+ * 두 조건은 BitmapOr로 결합되어 전체 스캔 없이 후보를 찾고, ts_rank_cd + similarity 합으로 정렬합니다.
+ *
+ * 패싯은 제공하지 않습니다. (ProductFacets.empty())
+ */
+@Component
+@ConditionalOnProperty(prefix = "search.product", name = "engine", havingValue = "postgres")
+@RequiredArgsConstructor
+public class ProductFullTextSearchJooqAdapter implements ProductSearchPort {
+
+    private static final Field<Object> SEARCH_VECTOR = field(DSL.name("products", "search_vector"));
+
+    private final DSLContext dsl;
+    private final JsonMapper jsonMapper;
+
+    @Override
+    @Transactional(readOnly = true)
+    public ProductSearchResult search(SearchProductQuery query) {
+        boolean hasKeyword = query.keyword() != null && !query.keyword().isBlank();
+        String keyword = hasKeyword ? query.keyword().trim() : null;
+
+        Field<Double> rank = hasKeyword ? relevance(keyword) : val(0.0);
+        Field<String> thumbnailUrl = select(PRODUCT_IMAGES.IMAGE_URL)
+                .from(PRODUCT_IMAGES)
+                .where(PRODUCT_IMAGES.PRODUCT_ID.eq(PRODUCTS.ID))
+                .orderBy(PRODUCT_IMAGES.DISPLAY_ORDER)
+                .limit(1)
+                .asField("thumbnail_url");
+        Field<BigDecimal> ratingAvg = select(avg(REVIEWS.RATING))
+                .from(REVIEWS)
+                .where(REVIEWS.PRODUCT_ID.eq(PRODUCTS.ID))
+                .and(REVIEWS.IS_VISIBLE.eq(true))
+                .asField("rating_avg");
+        Field<Integer> reviewCount = select(count())
+                .from(REVIEWS)
+                .where(REVIEWS.PRODUCT_ID.eq(PRODUCTS.ID))
+                .and(REVIEWS.IS_VISIBLE.eq(true))
+                .asField("review_count");
+
+        List<Condition> conditions = buildConditions(query, keyword);
+
+        RankCursor cursor = RankCursor.decode(query.cursor(), jsonMapper);
+        if (cursor != null) {
+            conditions.add(hasKeyword
+                    ? DSL.row(rank, PRODUCTS.CREATED_AT, PRODUCTS.ID).lt(cursor.rank(), cursor.createdAt(), cursor.id())
+                    : DSL.row(PRODUCTS.CREATED_AT, PRODUCTS.ID).lt(cursor.createdAt(), cursor.id()));
+        }
+
+        List<SortField<?>> orderBy = new ArrayList<>();
+        if (hasKeyword) {
+            orderBy.add(rank.desc());
+        }
+        orderBy.add(PRODUCTS.CREATED_AT.desc());
+        orderBy.add(PRODUCTS.ID.desc());
+
+        // size + 1 조회하여 hasNext 판단 (스칼라 서브쿼리는 LIMIT 이후 행에만 평가됨)
+        List<Record> records = dsl.select(
+                        PRODUCTS.ID, PRODUCTS.SELLER_ID, PRODUCTS.NAME, PRODUCTS.BASE_PRICE,
+                        PRODUCTS.STATUS, PRODUCTS.CREATED_AT, rank.as("rank"),
+                        thumbnailUrl, ratingAvg, reviewCount)
+                .from(PRODUCTS)
+                .where(conditions)
+                .orderBy(orderBy)
+                .limit(query.size() + 1)
+                .fetch();
+
+        boolean hasNext = records.size() > query.size();
+        List<Record> page = hasNext ? records.subList(0, query.size()) : records;
+
+        String nextCursor = null;
+        if (hasNext) {
+            Record last = page.get(page.size() - 1);
+            nextCursor = new RankCursor(
+                    last.get("rank", Double.class),
+                    last.get(PRODUCTS.CREATED_AT),
+                    last.get(PRODUCTS.ID)
+            ).encode(jsonMapper);
+        }
+
+        List<ProductSearchHit> content = page.stream()
+                .map(record -> new ProductSearchHit(
+                        record.get(PRODUCTS.ID),
+                        record.get(PRODUCTS.SELLER_ID),
+                        record.get(PRODUCTS.NAME),
+                        record.get(PRODUCTS.BASE_PRICE),
+                        ProductStatus.valueOf(record.get(PRODUCTS.STATUS)),
+                        record.get(thumbnailUrl),
+                        record.get(ratingAvg) != null ? record.get(ratingAvg).doubleValue() : 0.0,
+                        record.get(reviewCount),
+                        record.get(PRODUCTS.CREATED_AT)
+                ))
+                .toList();
+
+        return new ProductSearchResult(
+                new CursorPageResponse<>(content, query.size(), hasNext, nextCursor),
+                ProductFacets.empty()
+        );
+    }
+
+    private List<Condition> buildConditions(SearchProductQuery query, String keyword) {
+        List<Condition> conditions = new ArrayList<>();
+
+        if (query.statuses() != null && !query.statuses().isEmpty()) {
+            conditions.add(PRODUCTS.STATUS.in(query.statuses().stream().map(Enum::name).toList()));
+        }
+
+        if (query.sellerId() != null) {
+            conditions.add(PRODUCTS.SELLER_ID.eq(query.sellerId()));
+        }
+
+        if (query.categoryId() != null) {
+            conditions.add(DSL.exists(categorySubtree(query.categoryId())));
+        }
+
+        if (keyword != null) {
+            // tsvector(GIN) 또는 name trigram(GIN) 매칭 - containsIgnoreCase는 %, _ 를 이스케이프한 ILIKE
+            conditions.add(DSL.condition("{0} @@ {1}", SEARCH_VECTOR, tsQuery(keyword))
+                    .or(PRODUCTS.NAME.containsIgnoreCase(keyword)));
+        }
+
+        if (query.minPrice() != null) {
+            conditions.add(PRODUCTS.BASE_PRICE.ge(query.minPrice()));
+        }
+        if (query.maxPrice() != null) {
+            conditions.add(PRODUCTS.BASE_PRICE.le(query.maxPrice()));
+        }
+
+        if (query.minRating() != null) {
+            conditions.add(select(avg(REVIEWS.RATING))
+                    .from(REVIEWS)
+                    .where(REVIEWS.PRODUCT_ID.eq(PRODUCTS.ID))
+                    .and(REVIEWS.IS_VISIBLE.eq(true))
+                    .asField()
+                    .ge(BigDecimal.valueOf(query.minRating())));
+        }
+
+        return conditions;
+    }
+
+    /**
+     * 선택한 카테고리 또는 그 하위 카테고리에 속한 상품
+     * categories.path 접두어(text_pattern_ops) 범위 스캔 + product_categories(product_id, category_id) PK 조회
+     */
+    private Select<Record1<Integer>> categorySubtree(UUID categoryId) {
+        Categories category = CATEGORIES.as("c");
+        Categories selected = CATEGORIES.as("selected");
+        return DSL.selectOne()
+                .from(PRODUCT_CATEGORIES)
+                .join(category).on(category.ID.eq(PRODUCT_CATEGORIES.CATEGORY_ID))
+                .where(PRODUCT_CATEGORIES.PRODUCT_ID.eq(PRODUCTS.ID))
+                .and(category.PATH.like(field(select(selected.PATH)
+                        .from(selected)
+                        .where(selected.ID.eq(categoryId)))
+                        .concat("%")));
+    }
+
+    /**
+     * 검색어 파싱: websearch_to_tsquery는 임의 입력에도 구문 오류를 내지 않음
+     * 형태소 분석기가 없는 한글을 고려해 'simple' 사전 사용 (db/product_search.sql과 동일해야 인덱스 사용)
+     */
+    private Field<Object> tsQuery(String keyword) {
+        return field("websearch_to_tsquery('simple', {0})", val(keyword));
+    }
+
+    /**
+     * 관련도: 가중치 반영 전문 검색 점수 + 상품명 trigram 유사도
+     * 커서 비교 시 같은 값이 재계산되도록 double precision으로 고정
+     */
+    private Field<Double> relevance(String keyword) {
+        Field<Double> textRank = field("ts_rank_cd({0}, {1})", SQLDataType.DOUBLE, SEARCH_VECTOR, tsQuery(keyword));
+        Field<Double> nameSimilarity = field("similarity({0}, {1})", SQLDataType.DOUBLE, PRODUCTS.NAME, val(keyword));
+        return textRank.cast(SQLDataType.DOUBLE).plus(nameSimilarity.cast(SQLDataType.DOUBLE));
+    }
+
+    /**
+     * 검색 커서: 마지막 행의 (rank, created_at, id)
+     * JSON 직렬화 후 URL-safe Base64로 인코딩합니다. (키워드가 없으면 rank는 사용하지 않음)
+     */
+    record RankCursor(
+            Double rank,
+            LocalDateTime createdAt,
+            UUID id
+    ) {
+        String encode(JsonMapper jsonMapper) {
+            return Base64.getUrlEncoder().withoutPadding()
+                    .encodeToString(jsonMapper.writeValueAsBytes(this));
+        }
+
+        static RankCursor decode(String cursor, JsonMapper jsonMapper) {
+            if (cursor == null || cursor.isBlank()) {
+                return null;
+            }
+            try {
+                return jsonMapper.readValue(Base64.getUrlDecoder().decode(cursor), RankCursor.class);
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("Invalid search cursor", e);
+            }
+        }
+    }
+}
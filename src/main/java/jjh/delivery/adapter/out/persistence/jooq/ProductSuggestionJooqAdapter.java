@@ -0,0 +1,92 @@
+package jjh.delivery.adapter.out.persistence.jooq;
+
+import jjh.delivery.application.port.out.LoadProductSuggestionPort;
+import jjh.delivery.domain.product.ProductStatus;
+import lombok.RequiredArgsConstructor;
+import org.jooq.Condition;
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.Record3;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static jjh.delivery.adapter.out.persistence.jooq.generated.tables.OrderItems.ORDER_ITEMS;
+import static jjh.delivery.adapter.out.persistence.jooq.generated.tables.Products.PRODUCTS;
+import static org.jooq.impl.DSL.sum;
+
+/**
+ * Product Suggestion jOOQ Adapter - Driven Adapter (Outbound)
+ * 자동완성 인덱스 적재용 조회 (상품 배치 조회 후 같은 ID 목록으로 주문 수량 집계)
+ *
+ * 인기도 집계는 idx_order_items_product_id + order_created_at 조건으로 배치 상품의 주문 항목만 읽습니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ProductSuggestionJooqAdapter implements LoadProductSuggestionPort {
+
+    private final DSLContext dsl;
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ProductSuggestionSource> findSellableAfter(UUID afterId, int limit, LocalDateTime popularitySince) {
+        Condition condition = PRODUCTS.STATUS.eq(ProductStatus.ACTIVE.name());
+        if (afterId != null) {
+            condition = condition.and(PRODUCTS.ID.gt(afterId));
+        }
+
+        List<Record3<UUID, String, String>> products = dsl.select(PRODUCTS.ID, PRODUCTS.NAME, PRODUCTS.STATUS)
+                .from(PRODUCTS)
+                .where(condition)
+                .orderBy(PRODUCTS.ID)
+                .limit(limit)
+                .fetch();
+
+        return withPopularity(products, popularitySince);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ProductSuggestionSource> findAllById(Collection<UUID> productIds, LocalDateTime popularitySince) {
+        if (productIds.isEmpty()) {
+            return List.of();
+        }
+
+        List<Record3<UUID, String, String>> products = dsl.select(PRODUCTS.ID, PRODUCTS.NAME, PRODUCTS.STATUS)
+                .from(PRODUCTS)
+                .where(PRODUCTS.ID.in(productIds))
+                .fetch();
+
+        return withPopularity(products, popularitySince);
+    }
+
+    private List<ProductSuggestionSource> withPopularity(List<Record3<UUID, String, String>> products,
+                                                         LocalDateTime popularitySince) {
+        if (products.isEmpty()) {
+            return List.of();
+        }
+
+        Field<BigDecimal> quantity = sum(ORDER_ITEMS.QUANTITY).as("quantity");
+        Map<UUID, BigDecimal> quantities = dsl.select(ORDER_ITEMS.PRODUCT_ID, quantity)
+                .from(ORDER_ITEMS)
+                .where(ORDER_ITEMS.PRODUCT_ID.in(products.stream().map(Record3::value1).toList()))
+                .and(ORDER_ITEMS.ORDER_CREATED_AT.ge(popularitySince))
+                .groupBy(ORDER_ITEMS.PRODUCT_ID)
+                .fetchMap(ORDER_ITEMS.PRODUCT_ID, quantity);
+
+        return products.stream()
+                .map(record -> new ProductSuggestionSource(
+                        record.value1(),
+                        record.value2(),
+                        ProductStatus.valueOf(record.value3()),
+                        quantities.getOrDefault(record.value1(), BigDecimal.ZERO).longValue()
+                ))
+                .toList();
+    }
+}
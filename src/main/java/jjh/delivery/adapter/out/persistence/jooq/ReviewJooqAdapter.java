@@ -6,6 +6,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.Map;
 import java.util.UUID;
 import java.util.function.Function;
@@ -42,4 +43,17 @@ public class ReviewJooqAdapter implements LoadReviewStatsPort {
                         rating -> resultMap.getOrDefault(rating, 0L)
                 ));
     }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<UUID, RatingSummary> getRatingSummariesByProductIds(Collection<UUID> productIds) {
+        if (productIds.isEmpty()) {
+            return Map.of();
+        }
+        return repository.getRatingSummariesByProductIds(productIds).entrySet().stream()
+                .collect(Collectors.toMap(
+                        Map.Entry::getKey,
+                        entry -> new RatingSummary(entry.getValue().averageRating(), entry.getValue().reviewCount())
+                ));
+    }
 }
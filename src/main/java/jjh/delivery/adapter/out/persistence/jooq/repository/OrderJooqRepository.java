@@ -1,23 +1,38 @@
 package jjh.delivery.adapter.out.persistence.jooq.repository;
 
+import jjh.delivery.adapter.out.persistence.jooq.generated.tables.OrderItems;
+import jjh.delivery.adapter.out.persistence.jooq.generated.tables.Orders;
 import jjh.delivery.adapter.out.persistence.jooq.generated.tables.records.OrderItemsRecord;
 import jjh.delivery.adapter.out.persistence.jooq.generated.tables.records.OrdersRecord;
+import org.jooq.Condition;
 import org.jooq.DSLContext;
-import org.jooq.Record;
 import org.jooq.Result;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.*;
 import java.util.stream.Collectors;
 
 import static jjh.delivery.adapter.out.persistence.jooq.generated.tables.OrderItems.ORDER_ITEMS;
 import java.util.UUID;
 import static jjh.delivery.adapter.out.persistence.jooq.generated.tables.Orders.ORDERS;
+import static org.jooq.impl.DSL.field;
+import static org.jooq.impl.DSL.row;
+import static org.jooq.impl.DSL.selectCount;
 
 /**
  * Order jOOQ Repository - Type-safe queries
  * Replaces @Query methods in OrderJpaRepository
+ *
+ * 주문 + 아이템 조회는 2단계 fetch로 처리합니다.
+ * 1) orders를 (created_at, id) keyset 기준으로 한 페이지만 조회
+ * 2) 해당 페이지 주문들의 order_items를 단일 IN 쿼리로 조회
+ * LEFT JOIN 방식은 주문 컬럼이 아이템 수만큼 중복 전송되고 Java에서 재그룹/재정렬이 필요했습니다.
+ *
+ * 모든 조회는 {@link OrderTier}로 hot 테이블(orders, order_items) 또는
+ * 아카이브 테이블(orders_archive, order_items_archive)을 선택합니다. 두 테이블 세트는 컬럼 구조가 같습니다.
  */
 @Repository
 @RequiredArgsConstructor
@@ -30,89 +45,242 @@ public class OrderJooqRepository {
      * Compile-time type-safe version of:
      * SELECT o FROM OrderJpaEntity o LEFT JOIN FETCH o.items WHERE o.id = :id
      */
-    public Optional<OrderWithItems> findByIdWithItems(UUID id) {
-        Result<Record> result = dsl
-                .select()
-                .from(ORDERS)
-                .leftJoin(ORDER_ITEMS)
-                    .on(ORDER_ITEMS.ORDER_ID.eq(ORDERS.ID))
-                .where(ORDERS.ID.eq(id))
+    public Optional<OrderWithItems> findByIdWithItems(OrderTier tier, UUID id) {
+        Orders orders = tier.orders();
+        return dsl.selectFrom(orders)
+                .where(orders.ID.eq(id))
+                .fetchOptional()
+                .map(order -> new OrderWithItems(
+                        order,
+                        fetchItemsByOrderIds(tier, List.of(id)).getOrDefault(id, List.of())
+                ));
+    }
+
+    /**
+     * Find orders by IDs with items (2단계 fetch, 순서 보장 없음)
+     */
+    public List<OrderWithItems> findAllByIdWithItems(OrderTier tier, Collection<UUID> ids) {
+        Orders orders = tier.orders();
+        Result<OrdersRecord> records = dsl.selectFrom(orders)
+                .where(orders.ID.in(ids))
                 .fetch();
 
-        if (result.isEmpty()) {
-            return Optional.empty();
+        if (records.isEmpty()) {
+            return List.of();
         }
 
-        return Optional.of(mapToOrderWithItems(result).get(0));
+        Map<UUID, List<OrderItemsRecord>> itemsByOrderId = fetchItemsByOrderIds(tier, records.getValues(orders.ID));
+        return records.stream()
+                .map(order -> new OrderWithItems(
+                        order,
+                        itemsByOrderId.getOrDefault(order.getId(), List.of())
+                ))
+                .toList();
+    }
+
+    /**
+     * Check order existence in the given tier
+     */
+    public boolean existsById(OrderTier tier, UUID id) {
+        Orders orders = tier.orders();
+        return dsl.fetchExists(orders, orders.ID.eq(id));
+    }
+
+    /**
+     * Find all orders of the customer with items (keyset 없이 전체 조회, created_at DESC)
+     */
+    public List<OrderWithItems> findAllByCustomerIdWithItems(OrderTier tier, UUID customerId) {
+        return findPageWithItems(tier, tier.orders().CUSTOMER_ID.eq(customerId), null, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Find all orders of the seller with items (keyset 없이 전체 조회, created_at DESC)
+     */
+    public List<OrderWithItems> findAllBySellerIdWithItems(OrderTier tier, UUID sellerId) {
+        return findPageWithItems(tier, tier.orders().SELLER_ID.eq(sellerId), null, Integer.MAX_VALUE);
     }
 
     /**
      * Find orders by customer ID with items (replaces findByCustomerIdWithItems)
-     * Compile-time type-safe version of:
+     * Keyset-paginated version of:
      * SELECT o FROM OrderJpaEntity o LEFT JOIN FETCH o.items
      * WHERE o.customerId = :customerId ORDER BY o.createdAt DESC
+     *
+     * @param after 이전 페이지 마지막 주문의 위치 (첫 페이지는 null)
+     * @param limit 조회할 최대 주문 수
      */
-    public List<OrderWithItems> findByCustomerIdWithItems(UUID customerId) {
-        Result<Record> result = dsl
-                .select()
-                .from(ORDERS)
-                .leftJoin(ORDER_ITEMS)
-                    .on(ORDER_ITEMS.ORDER_ID.eq(ORDERS.ID))
-                .where(ORDERS.CUSTOMER_ID.eq(customerId))
-                .orderBy(ORDERS.CREATED_AT.desc())
-                .fetch();
-
-        return mapToOrderWithItems(result);
+    public List<OrderWithItems> findByCustomerIdWithItems(OrderTier tier, UUID customerId, OrderKeyset after, int limit) {
+        return findPageWithItems(tier, tier.orders().CUSTOMER_ID.eq(customerId), after, limit);
     }
 
     /**
      * Find orders by seller ID with items (replaces findBySellerIdWithItems)
-     * Compile-time type-safe version of:
+     * Keyset-paginated version of:
      * SELECT o FROM OrderJpaEntity o LEFT JOIN FETCH o.items
      * WHERE o.sellerId = :sellerId ORDER BY o.createdAt DESC
+     *
+     * @param after 이전 페이지 마지막 주문의 위치 (첫 페이지는 null)
+     * @param limit 조회할 최대 주문 수
      */
-    public List<OrderWithItems> findBySellerIdWithItems(UUID sellerId) {
-        Result<Record> result = dsl
-                .select()
-                .from(ORDERS)
-                .leftJoin(ORDER_ITEMS)
-                    .on(ORDER_ITEMS.ORDER_ID.eq(ORDERS.ID))
-                .where(ORDERS.SELLER_ID.eq(sellerId))
-                .orderBy(ORDERS.CREATED_AT.desc())
-                .fetch();
+    public List<OrderWithItems> findBySellerIdWithItems(OrderTier tier, UUID sellerId, OrderKeyset after, int limit) {
+        return findPageWithItems(tier, tier.orders().SELLER_ID.eq(sellerId), after, limit);
+    }
 
-        return mapToOrderWithItems(result);
+    /**
+     * Find order summaries by customer ID (items 제외, 아이템 수만 포함)
+     *
+     * @param after 이전 페이지 마지막 주문의 위치 (첫 페이지는 null)
+     * @param limit 조회할 최대 주문 수
+     */
+    public List<OrderSummaryRow> findSummariesByCustomerId(OrderTier tier, UUID customerId, OrderKeyset after, int limit) {
+        return findSummaryPage(tier, tier.orders().CUSTOMER_ID.eq(customerId), after, limit);
     }
 
     /**
-     * Helper method to map result to list of OrderWithItems
+     * Find order summaries by seller ID (items 제외, 아이템 수만 포함)
+     *
+     * @param after 이전 페이지 마지막 주문의 위치 (첫 페이지는 null)
+     * @param limit 조회할 최대 주문 수
      */
-    private List<OrderWithItems> mapToOrderWithItems(Result<Record> result) {
-        if (result.isEmpty()) {
+    public List<OrderSummaryRow> findSummariesBySellerId(OrderTier tier, UUID sellerId, OrderKeyset after, int limit) {
+        return findSummaryPage(tier, tier.orders().SELLER_ID.eq(sellerId), after, limit);
+    }
+
+    /**
+     * Helper method - 목록 화면에 필요한 컬럼만 조회 (order_items는 COUNT 서브쿼리로 대체)
+     */
+    private List<OrderSummaryRow> findSummaryPage(OrderTier tier, Condition condition, OrderKeyset after, int limit) {
+        Orders orders = tier.orders();
+        OrderItems items = tier.items();
+        var itemCount = field(selectCount()
+                .from(items)
+                .where(items.ORDER_ID.eq(orders.ID)));
+
+        return dsl.select(
+                        orders.ID,
+                        orders.ORDER_NUMBER,
+                        orders.CUSTOMER_ID,
+                        orders.SELLER_ID,
+                        orders.STATUS,
+                        orders.TOTAL_AMOUNT,
+                        itemCount,
+                        orders.CREATED_AT,
+                        orders.DELIVERED_AT
+                )
+                .from(orders)
+                .where(afterKeyset(orders, condition, after))
+                .orderBy(orders.CREATED_AT.desc(), orders.ID.desc())
+                .limit(limit)
+                .fetch(r -> new OrderSummaryRow(
+                        r.get(orders.ID),
+                        r.get(orders.ORDER_NUMBER),
+                        r.get(orders.CUSTOMER_ID),
+                        r.get(orders.SELLER_ID),
+                        r.get(orders.STATUS),
+                        r.get(orders.TOTAL_AMOUNT),
+                        r.get(itemCount),
+                        r.get(orders.CREATED_AT),
+                        r.get(orders.DELIVERED_AT)
+                ));
+    }
+
+    /**
+     * Helper method - orders 페이지 조회 후 items 일괄 조회
+     * 정렬: created_at DESC, id DESC (id는 tie-breaker)
+     */
+    private List<OrderWithItems> findPageWithItems(OrderTier tier, Condition condition, OrderKeyset after, int limit) {
+        Orders table = tier.orders();
+        Result<OrdersRecord> orders = dsl.selectFrom(table)
+                .where(afterKeyset(table, condition, after))
+                .orderBy(table.CREATED_AT.desc(), table.ID.desc())
+                .limit(limit)
+                .fetch();
+
+        if (orders.isEmpty()) {
             return List.of();
         }
 
-        // Group by order ID
-        Map<UUID, List<Record>> groupedByOrderId = result.stream()
-                .collect(Collectors.groupingBy(r -> r.get(ORDERS.ID)));
-
-        List<OrderWithItems> orders = new ArrayList<>();
-        for (Map.Entry<UUID, List<Record>> entry : groupedByOrderId.entrySet()) {
-            List<Record> records = entry.getValue();
-            OrdersRecord order = records.get(0).into(ORDERS);
-            List<OrderItemsRecord> items = records.stream()
-                    .filter(r -> r.get(ORDER_ITEMS.ID) != null)
-                    .map(r -> r.into(ORDER_ITEMS))
-                    .toList();
-            orders.add(new OrderWithItems(order, items));
+        Map<UUID, List<OrderItemsRecord>> itemsByOrderId = fetchItemsByOrderIds(tier, orders.getValues(table.ID));
+
+        // orders 조회 순서(정렬)를 그대로 유지
+        return orders.stream()
+                .map(order -> new OrderWithItems(
+                        order,
+                        itemsByOrderId.getOrDefault(order.getId(), List.of())
+                ))
+                .toList();
+    }
+
+    /**
+     * Helper method - keyset 조건 추가: (created_at, id) < (after.createdAt, after.id)
+     */
+    private Condition afterKeyset(Orders orders, Condition condition, OrderKeyset after) {
+        return after != null
+                ? condition.and(row(orders.CREATED_AT, orders.ID).lt(after.createdAt(), after.id()))
+                : condition;
+    }
+
+    /**
+     * Helper method to fetch items of the given orders in one query
+     */
+    private Map<UUID, List<OrderItemsRecord>> fetchItemsByOrderIds(OrderTier tier, Collection<UUID> orderIds) {
+        OrderItems items = tier.items();
+        return dsl.selectFrom(items)
+                .where(items.ORDER_ID.in(orderIds))
+                .fetch()
+                .stream()
+                .collect(Collectors.groupingBy(OrderItemsRecord::getOrderId));
+    }
+
+    /**
+     * 조회 대상 테이블 세트
+     * HOT: 진행 중/최근 주문 (orders, order_items)
+     * ARCHIVE: 아카이브 잡이 이관한 오래된 완료 주문 (orders_archive, order_items_archive)
+     */
+    public enum OrderTier {
+        HOT(ORDERS, ORDER_ITEMS),
+        ARCHIVE(ORDERS.rename("orders_archive"), ORDER_ITEMS.rename("order_items_archive"));
+
+        private final Orders orders;
+        private final OrderItems items;
+
+        OrderTier(Orders orders, OrderItems items) {
+            this.orders = orders;
+            this.items = items;
         }
 
-        // Sort by created_at DESC
-        orders.sort((a, b) -> b.order().getCreatedAt().compareTo(a.order().getCreatedAt()));
+        public Orders orders() {
+            return orders;
+        }
 
-        return orders;
+        public OrderItems items() {
+            return items;
+        }
     }
 
+    /**
+     * Keyset 페이지 위치 (마지막으로 조회한 주문의 created_at, id)
+     */
+    public record OrderKeyset(
+            LocalDateTime createdAt,
+            UUID id
+    ) {}
+
+    /**
+     * Result DTO for order summary (items 미포함)
+     */
+    public record OrderSummaryRow(
+            UUID id,
+            String orderNumber,
+            UUID customerId,
+            UUID sellerId,
+            String status,
+            BigDecimal totalAmount,
+            int itemCount,
+            LocalDateTime createdAt,
+            LocalDateTime deliveredAt
+    ) {}
+
     /**
      * Result DTO for order with items
      */
@@ -93,6 +93,26 @@ public class ReviewJooqRepository {
         return distribution;
     }
 
+    /**
+     * Get average rating and visible review count for multiple products in one query
+     * SELECT r.product_id, AVG(r.rating), COUNT(*) FROM reviews r
+     * WHERE r.product_id IN (:productIds) AND r.is_visible = true GROUP BY r.product_id
+     */
+    public Map<UUID, RatingSummaryRow> getRatingSummariesByProductIds(Collection<UUID> productIds) {
+        Map<UUID, RatingSummaryRow> summaries = new HashMap<>();
+        dsl.select(REVIEWS.PRODUCT_ID, avg(REVIEWS.RATING), count())
+                .from(REVIEWS)
+                .where(REVIEWS.PRODUCT_ID.in(productIds))
+                .and(REVIEWS.IS_VISIBLE.eq(true))
+                .groupBy(REVIEWS.PRODUCT_ID)
+                .fetch()
+                .forEach(record -> summaries.put(record.value1(), new RatingSummaryRow(
+                        record.value2() != null ? record.value2().doubleValue() : 0.0,
+                        record.value3().longValue()
+                )));
+        return summaries;
+    }
+
     /**
      * Helper method to map result to ReviewWithDetails
      */
@@ -114,6 +134,14 @@ public class ReviewJooqRepository {
         return new ReviewWithDetails(review, images, reply);
     }
 
+    /**
+     * Result DTO for product rating summary
+     */
+    public record RatingSummaryRow(
+            double averageRating,
+            long reviewCount
+    ) {}
+
     /**
      * Result DTO for review with details
      */
@@ -2,7 +2,6 @@ package jjh.delivery.adapter.out.persistence.jpa;
 
 import lombok.RequiredArgsConstructor;
 
-import jjh.delivery.adapter.out.persistence.jpa.entity.CategoryJpaEntity;
 import jjh.delivery.adapter.out.persistence.jpa.mapper.CategoryPersistenceMapper;
 import jjh.delivery.adapter.out.persistence.jpa.repository.CategoryJpaRepository;
 import jjh.delivery.application.port.out.LoadCategoryPort;
@@ -12,9 +11,10 @@ import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.*;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 /**
  * Category JPA Adapter - Driven Adapter (Outbound)
@@ -37,55 +37,20 @@ public class CategoryJpaAdapter implements LoadCategoryPort {
 
     @Override
     @Transactional(readOnly = true)
-    @Cacheable(cacheNames = CacheNames.CATEGORIES, key = "'tree'")
-    public List<Category> findAllActiveAsTree() {
-        var entities = repository.findAllActiveOrderByDepthAndDisplayOrder();
-        return buildTree(entities);
-    }
-
-    @Override
-    @Transactional(readOnly = true)
-    public List<Category> findByParentId(UUID parentId) {
-        return repository.findByParentIdAndIsActiveTrueOrderByDisplayOrder(parentId).stream()
+    public List<Category> findAllById(Collection<UUID> categoryIds) {
+        if (categoryIds.isEmpty()) {
+            return List.of();
+        }
+        return repository.findAllById(categoryIds).stream()
                 .map(mapper::toDomain)
                 .toList();
     }
 
     @Override
     @Transactional(readOnly = true)
-    @Cacheable(cacheNames = CacheNames.CATEGORIES, key = "'roots'")
-    public List<Category> findRootCategories() {
-        return repository.findRootCategoriesActive().stream()
+    public List<Category> findAllActive() {
+        return repository.findAllActiveOrderByDepthAndDisplayOrder().stream()
                 .map(mapper::toDomain)
                 .toList();
     }
-
-    /**
-     * JPA Entities → Domain Category Tree 구성
-     */
-    private List<Category> buildTree(List<CategoryJpaEntity> entities) {
-        Map<UUID, Category> categoryMap = entities.stream()
-                .collect(Collectors.toMap(
-                        CategoryJpaEntity::getId,
-                        mapper::toDomain,
-                        (a, b) -> a,
-                        LinkedHashMap::new
-                ));
-
-        List<Category> roots = new ArrayList<>();
-
-        for (CategoryJpaEntity entity : entities) {
-            Category category = categoryMap.get(entity.getId());
-            if (entity.getParentId() == null) {
-                roots.add(category);
-            } else {
-                Category parent = categoryMap.get(entity.getParentId());
-                if (parent != null) {
-                    parent.addChild(category);
-                }
-            }
-        }
-
-        return roots;
-    }
 }
@@ -0,0 +1,67 @@
+package jjh.delivery.adapter.out.persistence.jpa;
+
+import jjh.delivery.adapter.out.persistence.jpa.entity.OrderIndexRetryJpaEntity;
+import jjh.delivery.adapter.out.persistence.jpa.repository.OrderIndexRetryJpaRepository;
+import jjh.delivery.application.port.out.OrderIndexRetryPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Order Index Retry JPA Adapter - Driven Adapter (Outbound)
+ * 검색 인덱싱 재시도 큐 저장/조회 구현
+ */
+@Component
+@RequiredArgsConstructor
+public class OrderIndexRetryJpaAdapter implements OrderIndexRetryPort {
+
+    private final OrderIndexRetryJpaRepository repository;
+
+    @Value("${search.indexing.retry.max-backoff-seconds:3600}")
+    private long maxBackoffSeconds;
+
+    @Override
+    @Transactional
+    public void scheduleRetries(Map<UUID, String> failures) {
+        if (failures.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        Map<UUID, OrderIndexRetryJpaEntity> existing = repository.findAllById(failures.keySet()).stream()
+                .collect(Collectors.toMap(OrderIndexRetryJpaEntity::getOrderId, Function.identity()));
+
+        List<OrderIndexRetryJpaEntity> entities = failures.entrySet().stream()
+                .map(failure -> {
+                    OrderIndexRetryJpaEntity entity = existing.computeIfAbsent(
+                            failure.getKey(), orderId -> new OrderIndexRetryJpaEntity(orderId, now));
+                    entity.recordFailure(failure.getValue(), now, maxBackoffSeconds);
+                    return entity;
+                })
+                .toList();
+        repository.saveAll(entities);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<UUID> findDueRetries(int limit) {
+        return repository.findDueOrderIds(LocalDateTime.now(), PageRequest.of(0, limit));
+    }
+
+    @Override
+    @Transactional
+    public void removeRetries(Collection<UUID> orderIds) {
+        if (!orderIds.isEmpty()) {
+            repository.deleteAllByIdInBatch(orderIds);
+        }
+    }
+}
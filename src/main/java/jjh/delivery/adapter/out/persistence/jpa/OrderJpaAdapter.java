@@ -5,44 +5,81 @@ import lombok.RequiredArgsConstructor;
 import jjh.delivery.adapter.out.persistence.jpa.entity.OrderJpaEntity;
 import jjh.delivery.adapter.out.persistence.jpa.mapper.OrderPersistenceMapper;
 import jjh.delivery.adapter.out.persistence.jpa.repository.OrderJpaRepository;
+import jjh.delivery.application.port.out.LoadArchivedOrderPort;
 import jjh.delivery.application.port.out.LoadOrderPort;
 import jjh.delivery.application.port.out.SaveOrderPort;
 import jjh.delivery.domain.order.Order;
 import jjh.delivery.domain.order.OrderStatus;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Order JPA Adapter - Driven Adapter (Outbound)
  * JPA를 사용한 주문 저장/조회 구현
  * Note: 조인 쿼리는 JPA @Query 사용 (OrderJooqAdapter에서 복잡한 쿼리 처리)
+ *
+ * hot 테이블에 없는 주문은 아카이브(LoadArchivedOrderPort)에서 조회합니다.
+ * 아카이브된 주문은 읽기 전용이며, findByStatus는 진행 중 주문 조회 용도이므로 hot 테이블만 조회합니다.
  */
 @Component
 @RequiredArgsConstructor
 public class OrderJpaAdapter implements LoadOrderPort, SaveOrderPort {
 
+    private static final Comparator<Order> NEWEST_FIRST = Comparator.comparing(Order::getCreatedAt).reversed();
+
     private final OrderJpaRepository repository;
     private final OrderPersistenceMapper mapper;
+    private final LoadArchivedOrderPort loadArchivedOrderPort;
 
     // ==================== LoadOrderPort ====================
 
     @Override
     public Optional<Order> findById(UUID orderId) {
         return repository.findByIdWithItems(orderId)
-                .map(mapper::toDomain);
+                .map(mapper::toDomain)
+                .or(() -> loadArchivedOrderPort.findArchivedById(orderId));
+    }
+
+    @Override
+    public List<Order> findAllById(Collection<UUID> orderIds) {
+        if (orderIds.isEmpty()) {
+            return List.of();
+        }
+        List<Order> orders = new ArrayList<>(mapper.toDomainList(repository.findAllByIdWithItems(orderIds)));
+        if (orders.size() < orderIds.size()) {
+            // hot 테이블에 없는 주문만 아카이브에서 조회
+            Set<UUID> found = orders.stream().map(Order::getId).collect(Collectors.toSet());
+            List<UUID> missing = orderIds.stream()
+                    .filter(id -> !found.contains(id))
+                    .toList();
+            orders.addAll(loadArchivedOrderPort.findArchivedAllById(missing));
+        }
+        return orders;
     }
 
     @Override
     public List<Order> findByCustomerId(UUID customerId) {
-        return mapper.toDomainList(repository.findByCustomerIdWithItems(customerId));
+        return Stream.concat(
+                mapper.toDomainList(repository.findByCustomerIdWithItems(customerId)).stream(),
+                loadArchivedOrderPort.findArchivedByCustomerId(customerId).stream()
+        ).sorted(NEWEST_FIRST).toList();
     }
 
     @Override
     public List<Order> findBySellerId(UUID sellerId) {
-        return mapper.toDomainList(repository.findBySellerIdWithItems(sellerId));
+        return Stream.concat(
+                mapper.toDomainList(repository.findBySellerIdWithItems(sellerId)).stream(),
+                loadArchivedOrderPort.findArchivedBySellerId(sellerId).stream()
+        ).sorted(NEWEST_FIRST).toList();
     }
 
     @Override
@@ -52,7 +89,7 @@ public class OrderJpaAdapter implements LoadOrderPort, SaveOrderPort {
 
     @Override
     public boolean existsById(UUID orderId) {
-        return repository.existsById(orderId);
+        return repository.existsById(orderId) || loadArchivedOrderPort.existsArchivedById(orderId);
     }
 
     // ==================== SaveOrderPort ====================
@@ -62,17 +99,36 @@ public class OrderJpaAdapter implements LoadOrderPort, SaveOrderPort {
         // 기존 엔티티가 있으면 업데이트, 없으면 새로 생성
         OrderJpaEntity entity = repository.findById(order.getId())
                 .map(existing -> updateEntity(existing, order))
-                .orElseGet(() -> mapper.toEntity(order));
+                .orElseGet(() -> toNewEntity(order));
 
         OrderJpaEntity saved = repository.save(entity);
         return mapper.toDomain(saved);
     }
 
+    @Override
+    public List<Order> saveAll(List<Order> orders) {
+        // 신규 주문만 대상: @Version이 null인 엔티티는 persist되어
+        // hibernate.jdbc.batch_size 단위로 orders/order_items INSERT가 배치 전송됨
+        List<OrderJpaEntity> entities = orders.stream()
+                .map(mapper::toEntity)
+                .toList();
+        return mapper.toDomainList(repository.saveAll(entities));
+    }
+
     @Override
     public void delete(UUID orderId) {
         repository.deleteById(orderId);
     }
 
+    private OrderJpaEntity toNewEntity(Order order) {
+        // 아카이브된 주문이 hot 테이블에 중복 INSERT 되지 않도록 차단
+        // (새 주문은 아카이브 경계 이후에 생성되므로 아카이브를 조회하지 않음)
+        if (loadArchivedOrderPort.existsArchivedById(order.getId(), order.getCreatedAt())) {
+            throw new IllegalStateException("Archived order is read-only: " + order.getId());
+        }
+        return mapper.toEntity(order);
+    }
+
     private OrderJpaEntity updateEntity(OrderJpaEntity entity, Order order) {
         entity.setStatus(order.getStatus());
         entity.setTotalAmount(order.getTotalAmount());
@@ -0,0 +1,92 @@
+package jjh.delivery.adapter.out.persistence.jpa;
+
+import jjh.delivery.adapter.out.persistence.jpa.entity.OrderReindexJobJpaEntity;
+import jjh.delivery.adapter.out.persistence.jpa.entity.OrderReindexSliceJpaEntity;
+import jjh.delivery.adapter.out.persistence.jpa.entity.OrderReindexSliceJpaEntity.SliceId;
+import jjh.delivery.adapter.out.persistence.jpa.repository.OrderReindexJobJpaRepository;
+import jjh.delivery.adapter.out.persistence.jpa.repository.OrderReindexSliceJpaRepository;
+import jjh.delivery.application.port.out.OrderReindexCheckpointPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Order Reindex Checkpoint JPA Adapter - Driven Adapter (Outbound)
+ * 재인덱싱 작업/구간 체크포인트 저장 구현
+ */
+@Component
+@RequiredArgsConstructor
+public class OrderReindexCheckpointJpaAdapter implements OrderReindexCheckpointPort {
+
+    private final OrderReindexJobJpaRepository jobRepository;
+    private final OrderReindexSliceJpaRepository sliceRepository;
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<ReindexJob> findLatestJob() {
+        return jobRepository.findFirstByOrderByStartedAtDesc()
+                .map(this::toJob);
+    }
+
+    @Override
+    @Transactional
+    public void createJob(ReindexJob job, List<ReindexSlice> slices) {
+        jobRepository.save(new OrderReindexJobJpaEntity(
+                job.indexName(), job.status(), job.totalCount(), job.startedAt()));
+        sliceRepository.saveAll(slices.stream()
+                .map(slice -> new OrderReindexSliceJpaEntity(
+                        job.indexName(), slice.storage(), slice.sliceNo(), slice.lowerBound(), slice.upperBound()))
+                .toList());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ReindexSlice> findSlices(String indexName) {
+        return sliceRepository.findByIndexNameOrderByStorageAscSliceNoAsc(indexName).stream()
+                .map(this::toSlice)
+                .toList();
+    }
+
+    @Override
+    @Transactional
+    public void saveSliceProgress(String indexName, ReindexSlice slice) {
+        sliceRepository.findById(new SliceId(indexName, slice.storage(), slice.sliceNo()))
+                .orElseThrow(() -> new IllegalStateException(
+                        "Reindex slice not found: " + indexName + "/" + slice.storage() + "/" + slice.sliceNo()))
+                .updateProgress(slice.lastOrderId(), slice.indexedCount(), slice.completed());
+    }
+
+    @Override
+    @Transactional
+    public void updateJobStatus(String indexName, ReindexJobStatus status, LocalDateTime finishedAt) {
+        jobRepository.findById(indexName)
+                .orElseThrow(() -> new IllegalStateException("Reindex job not found: " + indexName))
+                .updateStatus(status, finishedAt);
+    }
+
+    private ReindexJob toJob(OrderReindexJobJpaEntity entity) {
+        return new ReindexJob(
+                entity.getIndexName(),
+                entity.getStatus(),
+                entity.getTotalCount(),
+                entity.getStartedAt(),
+                entity.getFinishedAt()
+        );
+    }
+
+    private ReindexSlice toSlice(OrderReindexSliceJpaEntity entity) {
+        return new ReindexSlice(
+                entity.getStorage(),
+                entity.getSliceNo(),
+                entity.getLowerBound(),
+                entity.getUpperBound(),
+                entity.getLastOrderId(),
+                entity.getIndexedCount(),
+                entity.isCompleted()
+        );
+    }
+}
@@ -51,6 +51,15 @@ public class OutboxEventJpaAdapter implements LoadOutboxEventPort, SaveOutboxEve
         return mapper.toDomain(savedEntity);
     }
 
+    @Override
+    public void saveAll(List<OutboxEvent> events) {
+        List<OutboxEventJpaEntity> entities = events.stream()
+                .map(mapper::toEntity)
+                .map(OutboxEventJpaEntity::markAsNew)
+                .toList();
+        repository.saveAll(entities);
+    }
+
     @Override
     public void deleteOldSentEvents(int retentionDays) {
         LocalDateTime threshold = LocalDateTime.now().minusDays(retentionDays);
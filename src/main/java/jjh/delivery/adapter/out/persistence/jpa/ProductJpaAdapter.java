@@ -2,16 +2,26 @@ package jjh.delivery.adapter.out.persistence.jpa;
 
 import lombok.RequiredArgsConstructor;
 
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
 import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
 import jjh.delivery.adapter.in.web.dto.CursorPageResponse;
 import jjh.delivery.adapter.in.web.dto.CursorValue;
+import jjh.delivery.adapter.out.persistence.jpa.entity.CategoryJpaEntity;
 import jjh.delivery.adapter.out.persistence.jpa.entity.ProductJpaEntity;
+import jjh.delivery.adapter.out.persistence.jpa.entity.ProductVariantJpaEntity;
 import jjh.delivery.adapter.out.persistence.jpa.mapper.ProductPersistenceMapper;
 import jjh.delivery.adapter.out.persistence.jpa.repository.ProductJpaRepository;
 import jjh.delivery.application.port.out.LoadProductPort;
+import jjh.delivery.application.port.out.SaveProductPort;
 import jjh.delivery.config.cache.CacheNames;
 import jjh.delivery.domain.product.Product;
 import jjh.delivery.domain.product.ProductStatus;
+import jjh.delivery.domain.product.ProductVariant;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
@@ -20,18 +30,24 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 /**
  * Product JPA Adapter - Driven Adapter (Outbound)
- * JPA를 사용한 상품 조회 구현 (커서 기반 페이지네이션)
+ * JPA를 사용한 상품 조회/저장 구현 (커서 기반 페이지네이션)
+ * 목록 조회는 페이지를 먼저 읽고 자식 컬렉션을 컬렉션별 IN 쿼리로 일괄 조회 (상품 수와 무관하게 쿼리 수 고정)
  * Note: 통계 쿼리(countByCategoryId)는 ProductJooqAdapter로 분리됨
  */
 @Component
 @RequiredArgsConstructor
-public class ProductJpaAdapter implements LoadProductPort {
+public class ProductJpaAdapter implements LoadProductPort, SaveProductPort {
 
     private final ProductJpaRepository repository;
     private final ProductPersistenceMapper mapper;
@@ -46,22 +62,22 @@ public class ProductJpaAdapter implements LoadProductPort {
 
     @Override
     @Transactional(readOnly = true)
-    public CursorPageResponse<Product> searchProducts(SearchProductQuery query) {
-        Specification<ProductJpaEntity> spec = buildSpecification(query);
-
-        // 커서 조건 추가
-        CursorValue cursorValue = CursorValue.decode(query.cursor());
-        if (cursorValue != null) {
-            spec = spec.and(buildCursorCondition(cursorValue));
+    public List<Product> findAllById(Collection<UUID> productIds) {
+        if (productIds.isEmpty()) {
+            return List.of();
         }
+        List<ProductJpaEntity> entities = repository.findAllById(productIds);
+        fetchChildren(entities);
+        return entities.stream()
+                .map(mapper::toDomain)
+                .toList();
+    }
 
-        // size + 1 조회하여 hasNext 판단
-        List<ProductJpaEntity> entities = repository.findAll(spec,
-                org.springframework.data.domain.PageRequest.of(0, query.size() + 1,
-                        org.springframework.data.domain.Sort.by(
-                                org.springframework.data.domain.Sort.Order.desc("createdAt"),
-                                org.springframework.data.domain.Sort.Order.desc("id")
-                        ))).getContent();
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponse<Product> searchProducts(SearchProductQuery query) {
+        List<ProductJpaEntity> entities = findPage(query);
+        fetchChildren(entities);
 
         List<Product> products = entities.stream()
                 .map(mapper::toDomain)
@@ -75,6 +91,38 @@ public class ProductJpaAdapter implements LoadProductPort {
         );
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponse<ProductSummary> searchProductSummaries(SearchProductQuery query) {
+        List<ProductJpaEntity> entities = findPage(query);
+
+        Map<UUID, String> thumbnails = new HashMap<>();
+        if (!entities.isEmpty()) {
+            repository.findThumbnailUrlsByIdIn(entities.stream().map(ProductJpaEntity::getId).toList())
+                    .forEach(row -> thumbnails.put((UUID) row[0], (String) row[1]));
+        }
+
+        // 컬렉션에 접근하지 않으므로 지연 로딩이 발생하지 않음
+        List<ProductSummary> summaries = entities.stream()
+                .map(entity -> new ProductSummary(
+                        entity.getId(),
+                        entity.getSellerId(),
+                        entity.getName(),
+                        entity.getBasePrice(),
+                        entity.getStatus(),
+                        thumbnails.get(entity.getId()),
+                        entity.getCreatedAt()
+                ))
+                .toList();
+
+        return CursorPageResponse.ofWithUuidId(
+                summaries,
+                query.size(),
+                summary -> summary.createdAt().atZone(ZoneId.systemDefault()).toInstant(),
+                ProductSummary::id
+        );
+    }
+
     @Override
     @Transactional(readOnly = true)
     public CursorPageResponse<Product> findBySellerId(UUID sellerId, ProductStatus status, String cursor, int size) {
@@ -97,6 +145,7 @@ public class ProductJpaAdapter implements LoadProductPort {
                 entities = repository.findBySellerIdOrderByCreatedAtDesc(sellerId, size + 1);
             }
         }
+        fetchChildren(entities);
 
         List<Product> products = entities.stream()
                 .map(mapper::toDomain)
@@ -115,6 +164,106 @@ public class ProductJpaAdapter implements LoadProductPort {
         return repository.existsById(productId);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<UUID> findIdsByCategoryIds(Collection<UUID> categoryIds) {
+        if (categoryIds.isEmpty()) {
+            return List.of();
+        }
+        return repository.findIdsByCategoryIdIn(categoryIds);
+    }
+
+    // ==================== SaveProductPort ====================
+
+    @Override
+    @Transactional
+    @CacheEvict(cacheNames = CacheNames.PRODUCTS, key = "#product.id.toString()")
+    public Product save(Product product) {
+        ProductJpaEntity saved = repository.findById(product.getId())
+                .map(existing -> updateExisting(existing, product))
+                .orElseGet(() -> repository.save(mapper.toEntity(product)));
+        return mapper.toDomain(saved);
+    }
+
+    private ProductJpaEntity updateExisting(ProductJpaEntity existing, Product product) {
+        existing.setName(product.getName());
+        existing.setDescription(product.getDescription());
+        existing.setBasePrice(product.getBasePrice());
+        existing.setStatus(product.getStatus());
+        existing.setCategoryIds(product.getCategoryIds());
+        existing.setImageUrls(product.getImageUrls());
+        existing.setUpdatedAt(product.getUpdatedAt());
+        if (product.getStatus() == ProductStatus.DELETED && existing.getDeletedAt() == null) {
+            existing.setDeletedAt(product.getUpdatedAt());
+        }
+
+        syncVariants(existing, product);
+
+        return repository.save(existing);
+    }
+
+    private void syncVariants(ProductJpaEntity existing, Product product) {
+        Set<UUID> domainVariantIds = product.getVariants().stream()
+                .map(ProductVariant::id)
+                .collect(Collectors.toSet());
+
+        existing.getVariants().stream()
+                .filter(variant -> !domainVariantIds.contains(variant.getId()))
+                .toList()
+                .forEach(existing::removeVariant);
+
+        product.getVariants().forEach(domainVariant ->
+                existing.getVariants().stream()
+                        .filter(variant -> variant.getId().equals(domainVariant.id()))
+                        .findFirst()
+                        .ifPresentOrElse(
+                                variant -> updateVariant(variant, domainVariant),
+                                () -> existing.addVariant(mapper.toEntityVariant(domainVariant))
+                        ));
+    }
+
+    private void updateVariant(ProductVariantJpaEntity variant, ProductVariant domainVariant) {
+        variant.setName(domainVariant.name());
+        variant.setSku(domainVariant.sku());
+        variant.setOptionValues(domainVariant.optionValues());
+        variant.setAdditionalPrice(domainVariant.additionalPrice());
+        variant.setActive(domainVariant.isActive());
+    }
+
+    /**
+     * 검색 조건 + 커서로 size + 1개 조회 (hasNext 판단용)
+     */
+    private List<ProductJpaEntity> findPage(SearchProductQuery query) {
+        Specification<ProductJpaEntity> spec = buildSpecification(query);
+
+        // 커서 조건 추가
+        CursorValue cursorValue = CursorValue.decode(query.cursor());
+        if (cursorValue != null) {
+            spec = spec.and(buildCursorCondition(cursorValue));
+        }
+
+        return repository.findAll(spec,
+                org.springframework.data.domain.PageRequest.of(0, query.size() + 1,
+                        org.springframework.data.domain.Sort.by(
+                                org.springframework.data.domain.Sort.Order.desc("createdAt"),
+                                org.springframework.data.domain.Sort.Order.desc("id")
+                        ))).getContent();
+    }
+
+    /**
+     * 목록 엔티티의 옵션/카테고리/이미지를 컬렉션별 IN 쿼리 1회로 초기화
+     * (상품마다 지연 로딩하면 페이지 크기 x 컬렉션 수만큼 쿼리 발생)
+     */
+    private void fetchChildren(List<ProductJpaEntity> entities) {
+        if (entities.isEmpty()) {
+            return;
+        }
+        List<UUID> ids = entities.stream().map(ProductJpaEntity::getId).toList();
+        repository.fetchVariantsByIdIn(ids);
+        repository.fetchCategoryIdsByIdIn(ids);
+        repository.fetchImageUrlsByIdIn(ids);
+    }
+
     private Specification<ProductJpaEntity> buildSpecification(SearchProductQuery query) {
         return (root, criteriaQuery, cb) -> {
             List<Predicate> predicates = new ArrayList<>();
@@ -128,7 +277,7 @@ public class ProductJpaAdapter implements LoadProductPort {
             }
 
             if (query.categoryId() != null) {
-                predicates.add(cb.isMember(query.categoryId(), root.get("categoryIds")));
+                predicates.add(cb.exists(categorySubtree(query.categoryId(), root, criteriaQuery, cb)));
             }
 
             if (query.keyword() != null && !query.keyword().isBlank()) {
@@ -150,6 +299,25 @@ public class ProductJpaAdapter implements LoadProductPort {
         };
     }
 
+    /**
+     * 선택한 카테고리 또는 그 하위 카테고리에 속한 상품 (EXISTS 서브쿼리 1개)
+     * categories.path 접두어 범위 스캔으로 하위 트리를 찾고 product_categories(category_id)로 상품을 매칭합니다.
+     */
+    private Subquery<Integer> categorySubtree(UUID categoryId, Root<ProductJpaEntity> root,
+                                              CriteriaQuery<?> criteriaQuery, CriteriaBuilder cb) {
+        Subquery<Integer> subquery = criteriaQuery.subquery(Integer.class);
+        Root<ProductJpaEntity> product = subquery.correlate(root);
+        Join<ProductJpaEntity, UUID> productCategoryId = product.join("categoryIds");
+        Root<CategoryJpaEntity> category = subquery.from(CategoryJpaEntity.class);
+        Root<CategoryJpaEntity> selected = subquery.from(CategoryJpaEntity.class);
+
+        return subquery.select(cb.literal(1)).where(
+                cb.equal(selected.get("id"), categoryId),
+                cb.like(category.get("path"), cb.concat(selected.<String>get("path"), "%")),
+                cb.equal(category.get("id"), productCategoryId)
+        );
+    }
+
     /**
      * 커서 조건을 위한 Specification 생성
      * Keyset pagination: (created_at, id) DESC 순서
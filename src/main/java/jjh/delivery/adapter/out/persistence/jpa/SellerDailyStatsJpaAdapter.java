@@ -0,0 +1,97 @@
+package jjh.delivery.adapter.out.persistence.jpa;
+
+import jjh.delivery.adapter.out.persistence.jpa.repository.SellerDailyStatsJpaRepository;
+import jjh.delivery.application.port.out.SaveSellerDailyStatsPort;
+import jjh.delivery.domain.order.Order;
+import jjh.delivery.domain.order.OrderStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * Seller Daily Stats JPA Adapter - Driven Adapter (Outbound)
+ * 주문 변경분을 (판매자, 주문 생성일) 단위 증분으로 변환하여 seller_daily_stats에 upsert
+ *
+ * 통계 정의는 OrderJooqAdapter.getOrderStatisticsBySeller의 원본 집계와 동일합니다.
+ * - total_orders / total_revenue: 생성된 모든 주문
+ * - completed_orders: 현재 DELIVERED 상태인 주문
+ * - cancelled_orders: 현재 CANCELLED 상태인 주문
+ */
+@Component
+@RequiredArgsConstructor
+public class SellerDailyStatsJpaAdapter implements SaveSellerDailyStatsPort {
+
+    private static final Comparator<StatsKey> KEY_ORDER = Comparator
+            .comparing((StatsKey key) -> key.sellerId().toString())
+            .thenComparing(StatsKey::statDate);
+
+    private final SellerDailyStatsJpaRepository repository;
+
+    @Override
+    public void applyOrdersCreated(List<Order> orders) {
+        // 같은 (판매자, 일자) 주문을 합산하고 키 순서로 upsert하여 동시 배치 간 데드락 방지
+        Map<StatsKey, StatsDelta> deltas = new TreeMap<>(KEY_ORDER);
+        for (Order order : orders) {
+            deltas.merge(
+                    StatsKey.of(order),
+                    new StatsDelta(1, statusCount(order.getStatus(), OrderStatus.DELIVERED),
+                            statusCount(order.getStatus(), OrderStatus.CANCELLED), order.getTotalAmount()),
+                    StatsDelta::plus
+            );
+        }
+        deltas.forEach(this::upsert);
+    }
+
+    @Override
+    public void applyStatusChange(Order order, OrderStatus previousStatus) {
+        OrderStatus currentStatus = order.getStatus();
+        long completed = statusCount(currentStatus, OrderStatus.DELIVERED)
+                - statusCount(previousStatus, OrderStatus.DELIVERED);
+        long cancelled = statusCount(currentStatus, OrderStatus.CANCELLED)
+                - statusCount(previousStatus, OrderStatus.CANCELLED);
+
+        if (completed == 0 && cancelled == 0) {
+            return;
+        }
+        upsert(StatsKey.of(order), new StatsDelta(0, completed, cancelled, BigDecimal.ZERO));
+    }
+
+    private void upsert(StatsKey key, StatsDelta delta) {
+        repository.upsertDelta(
+                key.sellerId(),
+                key.statDate(),
+                delta.totalOrders(),
+                delta.completedOrders(),
+                delta.cancelledOrders(),
+                delta.totalRevenue()
+        );
+    }
+
+    private static long statusCount(OrderStatus status, OrderStatus target) {
+        return status == target ? 1 : 0;
+    }
+
+    private record StatsKey(UUID sellerId, LocalDate statDate) {
+        static StatsKey of(Order order) {
+            return new StatsKey(order.getSellerId(), order.getCreatedAt().toLocalDate());
+        }
+    }
+
+    private record StatsDelta(long totalOrders, long completedOrders, long cancelledOrders, BigDecimal totalRevenue) {
+        StatsDelta plus(StatsDelta other) {
+            return new StatsDelta(
+                    totalOrders + other.totalOrders,
+                    completedOrders + other.completedOrders,
+                    cancelledOrders + other.cancelledOrders,
+                    totalRevenue.add(other.totalRevenue)
+            );
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package jjh.delivery.adapter.out.persistence.jpa.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Catalog Version JPA Entity
+ * 마스터 데이터(categories, coupons)별 변경 버전 (메모리 스냅샷 갱신 판단용)
+ * 조회/증가는 CatalogVersionJooqAdapter가 수행하며, 엔티티는 테이블 생성(ddl-auto)을 보장하기 위해 둡니다.
+ */
+@Entity
+@Table(name = "catalog_versions")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CatalogVersionJpaEntity {
+
+    @Id
+    @Column(length = 50)
+    private String name;
+
+    @Column(nullable = false)
+    private long version;
+}
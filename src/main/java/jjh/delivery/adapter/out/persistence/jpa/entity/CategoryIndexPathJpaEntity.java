@@ -0,0 +1,27 @@
+package jjh.delivery.adapter.out.persistence.jpa.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * Category Index Path JPA Entity
+ * 상품 검색 인덱스에 마지막으로 반영된 카테고리 경로 (카테고리당 1행)
+ * 조회/저장은 CategoryIndexPathJooqAdapter가 수행하며, 엔티티는 테이블 생성(ddl-auto)을 보장하기 위해 둡니다.
+ */
+@Entity
+@Table(name = "category_index_paths")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CategoryIndexPathJpaEntity {
+
+    @Id
+    @Column(name = "category_id")
+    private UUID categoryId;
+
+    @Column(nullable = false, length = 1000)
+    private String path;
+}
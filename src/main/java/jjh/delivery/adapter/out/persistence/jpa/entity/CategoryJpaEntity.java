@@ -43,6 +43,14 @@ public class CategoryJpaEntity {
     @Column(nullable = false)
     private int depth;
 
+    /**
+     * 루트부터의 카테고리 ID 경로 '/{rootId}/.../{id}/'
+     * db/category_path.sql 트리거가 생성/부모 변경 시 계산하므로 읽기 전용으로 매핑
+     * (접두어 검색용 text_pattern_ops 인덱스도 같은 스크립트에서 생성)
+     */
+    @Column(length = 1000, insertable = false, updatable = false)
+    private String path;
+
     @Column(name = "is_active", nullable = false)
     private boolean isActive;
 
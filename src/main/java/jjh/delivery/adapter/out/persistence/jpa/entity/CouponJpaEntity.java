@@ -59,7 +59,8 @@ public class CouponJpaEntity {
     @Column(name = "total_quantity")
     private int totalQuantity;
 
-    @Column(name = "used_quantity", nullable = false)
+    // 사용 수량은 CouponRedemptionJooqAdapter의 조건부 UPDATE로만 변경 (엔티티 저장 시 동시 사용분을 덮어쓰지 않음)
+    @Column(name = "used_quantity", nullable = false, updatable = false)
     private int usedQuantity;
 
     @Column(name = "valid_from")
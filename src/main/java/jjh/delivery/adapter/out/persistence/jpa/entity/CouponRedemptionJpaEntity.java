@@ -0,0 +1,46 @@
+package jjh.delivery.adapter.out.persistence.jpa.entity;
+
+import jakarta.persistence.*;
+import jjh.delivery.domain.promotion.CouponRedemptionStatus;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Coupon Redemption JPA Entity
+ * 고객별 쿠폰 사용 원장 (기록/상태 전환은 CouponRedemptionJooqAdapter에서 수행)
+ */
+@Entity
+@Table(name = "coupon_redemptions",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_coupon_redemptions_coupon_customer", columnNames = {"coupon_id", "customer_id"}),
+        indexes = @Index(name = "idx_coupon_redemptions_customer_id", columnList = "customer_id"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CouponRedemptionJpaEntity {
+
+    @Id
+    private UUID id;
+
+    @Column(name = "coupon_id", nullable = false)
+    private UUID couponId;
+
+    @Column(name = "customer_id", nullable = false)
+    private UUID customerId;
+
+    @Column(name = "order_id")
+    private UUID orderId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private CouponRedemptionStatus status;
+
+    @Column(name = "redeemed_at", nullable = false)
+    private LocalDateTime redeemedAt;
+
+    @Column(name = "cancelled_at")
+    private LocalDateTime cancelledAt;
+}
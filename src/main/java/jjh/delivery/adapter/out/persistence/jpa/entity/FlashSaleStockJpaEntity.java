@@ -0,0 +1,61 @@
+package jjh.delivery.adapter.out.persistence.jpa.entity;
+
+import jakarta.persistence.*;
+import jjh.delivery.domain.inventory.FlashSaleStatus;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Flash Sale Stock JPA Entity
+ * 변형 단위 플래시 세일 캠페인 (재고 이관/반환과 상태 전환은 FlashSaleJooqAdapter에서 수행)
+ */
+@Entity
+@Table(name = "flash_sale_stocks", indexes = {
+        @Index(name = "idx_flash_sale_stocks_status", columnList = "status")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class FlashSaleStockJpaEntity {
+
+    @Id
+    @Column(name = "variant_id")
+    private UUID variantId;
+
+    @Column(name = "product_id", nullable = false)
+    private UUID productId;
+
+    @Column(name = "shard_count", nullable = false)
+    private int shardCount;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private FlashSaleStatus status;
+
+    @Column(name = "allocated_quantity", nullable = false)
+    private int allocatedQuantity;
+
+    @Column(name = "remaining_quantity", nullable = false)
+    private int remainingQuantity;
+
+    @Column(name = "starts_at", nullable = false)
+    private LocalDateTime startsAt;
+
+    @Column(name = "ends_at", nullable = false)
+    private LocalDateTime endsAt;
+
+    @Column(name = "activated_at")
+    private LocalDateTime activatedAt;
+
+    @Column(name = "ended_at")
+    private LocalDateTime endedAt;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
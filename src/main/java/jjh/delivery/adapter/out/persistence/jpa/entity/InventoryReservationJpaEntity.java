@@ -0,0 +1,52 @@
+package jjh.delivery.adapter.out.persistence.jpa.entity;
+
+import jakarta.persistence.*;
+import jjh.delivery.domain.inventory.ReservationStatus;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Inventory Reservation JPA Entity
+ * 주문 상품 한 줄의 재고 선점 (재고 차감/복원과 상태 전환은 InventoryReservationJooqAdapter에서 수행)
+ */
+@Entity
+@Table(name = "inventory_reservations", indexes = {
+        @Index(name = "idx_inventory_reservations_order_id", columnList = "order_id"),
+        @Index(name = "idx_inventory_reservations_expires_at", columnList = "status, expires_at")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class InventoryReservationJpaEntity {
+
+    @Id
+    private UUID id;
+
+    @Column(name = "order_id", nullable = false)
+    private UUID orderId;
+
+    @Column(name = "product_id", nullable = false)
+    private UUID productId;
+
+    @Column(name = "variant_id")
+    private UUID variantId;
+
+    @Column(nullable = false)
+    private int quantity;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private ReservationStatus status;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
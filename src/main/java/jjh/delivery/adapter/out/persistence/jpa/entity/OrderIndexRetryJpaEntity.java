@@ -0,0 +1,56 @@
+package jjh.delivery.adapter.out.persistence.jpa.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Order Index Retry JPA Entity
+ * Elasticsearch 인덱싱에 실패한 주문의 재시도 큐 (주문당 1행)
+ * 주문 변경 시 유예 시각만큼 늦춘 대기 기록(attempts = 0)도 같은 행으로 남고, 인덱싱에 성공하면 제거됩니다.
+ */
+@Entity
+@Table(name = "order_index_retries", indexes = {
+        @Index(name = "idx_order_index_retries_next_attempt_at", columnList = "next_attempt_at")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OrderIndexRetryJpaEntity {
+
+    @Id
+    @Column(name = "order_id")
+    private UUID orderId;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    public OrderIndexRetryJpaEntity(UUID orderId, LocalDateTime now) {
+        this.orderId = orderId;
+        this.attempts = 0;
+        this.nextAttemptAt = now;
+        this.createdAt = now;
+    }
+
+    /**
+     * 실패 기록 - 시도 횟수 증가 및 지수 백오프 (최대 maxBackoffSeconds)
+     */
+    public void recordFailure(String error, LocalDateTime now, long maxBackoffSeconds) {
+        this.attempts++;
+        long backoffSeconds = Math.min(maxBackoffSeconds, 1L << Math.min(attempts, 20));
+        this.nextAttemptAt = now.plusSeconds(backoffSeconds);
+        this.lastError = error != null && error.length() > 1000 ? error.substring(0, 1000) : error;
+    }
+}
@@ -9,6 +9,7 @@ import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.type.SqlTypes;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.Map;
 import java.util.UUID;
 
@@ -31,6 +32,13 @@ public class OrderItemJpaEntity {
     @JoinColumn(name = "order_id", nullable = false)
     private OrderJpaEntity order;
 
+    /**
+     * 주문 생성 시각 (order_items 월 파티션 키, orders.created_at과 동일)
+     * 기존 행이 있는 테이블에도 ddl-auto로 추가되도록 NULL 허용 (기존 행은 db/order_created_at_backfill.sql로 채움)
+     */
+    @Column(name = "order_created_at")
+    private LocalDateTime orderCreatedAt;
+
     @Column(name = "product_id", nullable = false)
     private UUID productId;
 
@@ -111,6 +119,7 @@ public class OrderItemJpaEntity {
 
     void setOrder(OrderJpaEntity order) {
         this.order = order;
+        this.orderCreatedAt = order.getCreatedAt();
     }
 
     /**
@@ -18,8 +18,8 @@ import java.util.UUID;
  */
 @Entity
 @Table(name = "orders", indexes = {
-        @Index(name = "idx_orders_customer_id", columnList = "customer_id"),
-        @Index(name = "idx_orders_seller_id", columnList = "seller_id"),
+        @Index(name = "idx_orders_customer_created_at", columnList = "customer_id, created_at, id"),
+        @Index(name = "idx_orders_seller_created_at", columnList = "seller_id, created_at, id"),
         @Index(name = "idx_orders_status", columnList = "status"),
         @Index(name = "idx_orders_created_at", columnList = "created_at")
 })
@@ -0,0 +1,30 @@
+package jjh.delivery.adapter.out.persistence.jpa.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Order Number Node Lease JPA Entity
+ * 주문번호 노드 ID(0~999) 점유 기록 (노드 ID당 1행, 만료된 행은 다른 인스턴스가 다시 점유)
+ * 점유/갱신/해제는 OrderNumberNodeLeaseJooqAdapter가 수행하며, 엔티티는 테이블 생성(ddl-auto)을 보장하기 위해 둡니다.
+ */
+@Entity
+@Table(name = "order_number_node_leases")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OrderNumberNodeLeaseJpaEntity {
+
+    @Id
+    @Column(name = "node_id")
+    private int nodeId;
+
+    @Column(nullable = false, length = 100)
+    private String owner;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+}
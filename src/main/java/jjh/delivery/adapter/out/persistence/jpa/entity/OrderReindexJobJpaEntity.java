@@ -0,0 +1,49 @@
+package jjh.delivery.adapter.out.persistence.jpa.entity;
+
+import jakarta.persistence.*;
+import jjh.delivery.application.port.out.OrderReindexCheckpointPort.ReindexJobStatus;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Order Reindex Job JPA Entity
+ * 주문 검색 인덱스 전체 재구축 작업 (대상 인덱스당 1행)
+ */
+@Entity
+@Table(name = "order_reindex_jobs")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OrderReindexJobJpaEntity {
+
+    @Id
+    @Column(name = "index_name", length = 100)
+    private String indexName;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private ReindexJobStatus status;
+
+    @Column(name = "total_count", nullable = false)
+    private long totalCount;
+
+    @Column(name = "started_at", nullable = false)
+    private LocalDateTime startedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    public OrderReindexJobJpaEntity(String indexName, ReindexJobStatus status, long totalCount, LocalDateTime startedAt) {
+        this.indexName = indexName;
+        this.status = status;
+        this.totalCount = totalCount;
+        this.startedAt = startedAt;
+    }
+
+    public void updateStatus(ReindexJobStatus status, LocalDateTime finishedAt) {
+        this.status = status;
+        this.finishedAt = finishedAt;
+    }
+}
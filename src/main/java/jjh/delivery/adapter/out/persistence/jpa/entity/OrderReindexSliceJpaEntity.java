@@ -0,0 +1,88 @@
+package jjh.delivery.adapter.out.persistence.jpa.entity;
+
+import jakarta.persistence.*;
+import jjh.delivery.application.port.out.ScanOrderIdPort.OrderStorage;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Order Reindex Slice JPA Entity
+ * 재인덱싱 작업의 ID 구간별 체크포인트 (배치마다 갱신)
+ */
+@Entity
+@Table(name = "order_reindex_slices")
+@IdClass(OrderReindexSliceJpaEntity.SliceId.class)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OrderReindexSliceJpaEntity {
+
+    @Id
+    @Column(name = "index_name", length = 100)
+    private String indexName;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20)
+    private OrderStorage storage;
+
+    @Id
+    @Column(name = "slice_no")
+    private int sliceNo;
+
+    @Column(name = "lower_bound")
+    private UUID lowerBound;
+
+    @Column(name = "upper_bound")
+    private UUID upperBound;
+
+    @Column(name = "last_order_id")
+    private UUID lastOrderId;
+
+    @Column(name = "indexed_count", nullable = false)
+    private long indexedCount;
+
+    @Column(nullable = false)
+    private boolean completed;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    public OrderReindexSliceJpaEntity(String indexName, OrderStorage storage, int sliceNo, UUID lowerBound, UUID upperBound) {
+        this.indexName = indexName;
+        this.storage = storage;
+        this.sliceNo = sliceNo;
+        this.lowerBound = lowerBound;
+        this.upperBound = upperBound;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public void updateProgress(UUID lastOrderId, long indexedCount, boolean completed) {
+        this.lastOrderId = lastOrderId;
+        this.indexedCount = indexedCount;
+        this.completed = completed;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    /**
+     * Composite key (index_name, storage, slice_no)
+     */
+    @NoArgsConstructor
+    @EqualsAndHashCode
+    public static class SliceId implements Serializable {
+        private String indexName;
+        private OrderStorage storage;
+        private int sliceNo;
+
+        public SliceId(String indexName, OrderStorage storage, int sliceNo) {
+            this.indexName = indexName;
+            this.storage = storage;
+            this.sliceNo = sliceNo;
+        }
+    }
+}
@@ -8,6 +8,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.type.SqlTypes;
+import org.springframework.data.domain.Persistable;
 
 import java.time.LocalDateTime;
 import java.util.UUID;
@@ -15,6 +16,9 @@ import java.util.UUID;
 /**
  * Outbox Event JPA Entity
  * Transactional Outbox Pattern 구현을 위한 엔티티
+ *
+ * ID를 직접 할당하므로 Spring Data는 기본적으로 merge(SELECT 후 INSERT)를 사용합니다.
+ * 신규 이벤트 일괄 저장 시에는 markAsNew()로 persist 경로를 타게 하여 SELECT 없이 배치 INSERT 합니다.
  */
 @Entity
 @Table(name = "outbox_events", indexes = {
@@ -24,7 +28,7 @@ import java.util.UUID;
 })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-public class OutboxEventJpaEntity {
+public class OutboxEventJpaEntity implements Persistable<UUID> {
 
     @Id
     private UUID id;
@@ -58,6 +62,9 @@ public class OutboxEventJpaEntity {
     @Column(name = "error_message", columnDefinition = "TEXT")
     private String errorMessage;
 
+    @Transient
+    private boolean newEntity;
+
     @Builder
     public OutboxEventJpaEntity(
             UUID id,
@@ -82,4 +89,23 @@ public class OutboxEventJpaEntity {
         this.retryCount = retryCount;
         this.errorMessage = errorMessage;
     }
+
+    /**
+     * 신규 INSERT 대상으로 표시 (merge 대신 persist 사용)
+     */
+    public OutboxEventJpaEntity markAsNew() {
+        this.newEntity = true;
+        return this;
+    }
+
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    @PostPersist
+    @PostLoad
+    void markNotNew() {
+        this.newEntity = false;
+    }
 }
@@ -0,0 +1,48 @@
+package jjh.delivery.adapter.out.persistence.jpa.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Product Co-Purchase JPA Entity
+ * 기준 상품과 함께 구매된 상품별 누적 횟수 (기준 상품마다 상위 N개 후보만 유지)
+ * 쓰기/조회는 CoPurchaseJooqAdapter의 증분 upsert와 조인 쿼리로 수행합니다.
+ */
+@Entity
+@Table(name = "product_co_purchases")
+@IdClass(ProductCoPurchaseJpaEntity.CoPurchaseId.class)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ProductCoPurchaseJpaEntity {
+
+    @Id
+    @Column(name = "product_id")
+    private UUID productId;
+
+    @Id
+    @Column(name = "related_product_id")
+    private UUID relatedProductId;
+
+    @Column(name = "purchase_count", nullable = false)
+    private long purchaseCount;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    /**
+     * Composite key (product_id, related_product_id)
+     */
+    @NoArgsConstructor
+    @EqualsAndHashCode
+    public static class CoPurchaseId implements Serializable {
+        private UUID productId;
+        private UUID relatedProductId;
+    }
+}
@@ -20,7 +20,8 @@ import java.util.UUID;
 @Table(name = "products", indexes = {
         @Index(name = "idx_products_seller_id", columnList = "seller_id"),
         @Index(name = "idx_products_status", columnList = "status"),
-        @Index(name = "idx_products_name", columnList = "name")
+        @Index(name = "idx_products_name", columnList = "name"),
+        @Index(name = "idx_products_updated_at", columnList = "updated_at, id")
 })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -51,7 +52,8 @@ public class ProductJpaEntity {
     @ElementCollection
     @CollectionTable(
             name = "product_categories",
-            joinColumns = @JoinColumn(name = "product_id")
+            joinColumns = @JoinColumn(name = "product_id"),
+            indexes = @Index(name = "idx_product_categories_category_id", columnList = "category_id, product_id")
     )
     @Column(name = "category_id")
     private List<UUID> categoryIds = new ArrayList<>();
@@ -65,7 +67,8 @@ public class ProductJpaEntity {
     @OrderColumn(name = "display_order")
     private List<String> imageUrls = new ArrayList<>();
 
-    @Column(name = "total_stock_quantity", nullable = false)
+    // 재고는 InventoryReservationJooqAdapter의 조건부 UPDATE로만 변경 (엔티티 저장 시 동시 차감분을 덮어쓰지 않음)
+    @Column(name = "total_stock_quantity", nullable = false, updatable = false)
     private int totalStockQuantity;
 
     @Column(name = "created_at", nullable = false, updatable = false)
@@ -142,10 +145,6 @@ public class ProductJpaEntity {
         this.imageUrls = new ArrayList<>(imageUrls);
     }
 
-    public void setTotalStockQuantity(int totalStockQuantity) {
-        this.totalStockQuantity = totalStockQuantity;
-    }
-
     public void setUpdatedAt(LocalDateTime updatedAt) {
         this.updatedAt = updatedAt;
     }
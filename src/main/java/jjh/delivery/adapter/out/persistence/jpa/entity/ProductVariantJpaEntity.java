@@ -44,7 +44,8 @@ public class ProductVariantJpaEntity {
     @Column(name = "additional_price", nullable = false, precision = 10, scale = 2)
     private BigDecimal additionalPrice;
 
-    @Column(name = "stock_quantity", nullable = false)
+    // 재고는 InventoryReservationJooqAdapter의 조건부 UPDATE로만 변경 (엔티티 저장 시 동시 차감분을 덮어쓰지 않음)
+    @Column(name = "stock_quantity", nullable = false, updatable = false)
     private int stockQuantity;
 
     @Column(name = "is_active", nullable = false)
@@ -90,10 +91,6 @@ public class ProductVariantJpaEntity {
         this.additionalPrice = additionalPrice;
     }
 
-    public void setStockQuantity(int stockQuantity) {
-        this.stockQuantity = stockQuantity;
-    }
-
     public void setActive(boolean active) {
         isActive = active;
     }
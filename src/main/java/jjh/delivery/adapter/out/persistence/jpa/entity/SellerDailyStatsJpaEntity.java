@@ -0,0 +1,55 @@
+package jjh.delivery.adapter.out.persistence.jpa.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Seller Daily Stats JPA Entity
+ * 판매자별 일간 주문 통계 롤업 (주문 생성일 기준)
+ * 주문 생성/상태 변경 시 같은 트랜잭션에서 증분 upsert로 갱신됩니다.
+ */
+@Entity
+@Table(name = "seller_daily_stats")
+@IdClass(SellerDailyStatsJpaEntity.StatsId.class)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SellerDailyStatsJpaEntity {
+
+    @Id
+    @Column(name = "seller_id")
+    private UUID sellerId;
+
+    @Id
+    @Column(name = "stat_date")
+    private LocalDate statDate;
+
+    @Column(name = "total_orders", nullable = false)
+    private long totalOrders;
+
+    @Column(name = "completed_orders", nullable = false)
+    private long completedOrders;
+
+    @Column(name = "cancelled_orders", nullable = false)
+    private long cancelledOrders;
+
+    @Column(name = "total_revenue", nullable = false, precision = 14, scale = 2)
+    private BigDecimal totalRevenue;
+
+    /**
+     * Composite key (seller_id, stat_date)
+     */
+    @NoArgsConstructor
+    @EqualsAndHashCode
+    public static class StatsId implements Serializable {
+        private UUID sellerId;
+        private LocalDate statDate;
+    }
+}
@@ -25,6 +25,7 @@ public class CategoryPersistenceMapper {
                 .imageUrl(entity.getImageUrl())
                 .displayOrder(entity.getDisplayOrder())
                 .depth(entity.getDepth())
+                .path(entity.getPath())
                 .isActive(entity.isActive())
                 .createdAt(entity.getCreatedAt())
                 .build();
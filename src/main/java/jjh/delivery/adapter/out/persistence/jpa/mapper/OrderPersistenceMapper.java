@@ -3,12 +3,12 @@ package jjh.delivery.adapter.out.persistence.jpa.mapper;
 import jjh.delivery.adapter.out.persistence.jpa.entity.OrderItemJpaEntity;
 import jjh.delivery.adapter.out.persistence.jpa.entity.OrderJpaEntity;
 import jjh.delivery.adapter.out.persistence.jpa.entity.ShippingAddressEmbeddable;
+import jjh.delivery.domain.common.IdGenerator;
 import jjh.delivery.domain.order.Order;
 import jjh.delivery.domain.order.OrderItem;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
-import java.util.UUID;
 
 /**
  * Order Persistence Mapper (v2 - Product Delivery)
@@ -54,7 +54,7 @@ public class OrderPersistenceMapper {
 
     private OrderItemJpaEntity toItemEntity(OrderItem item) {
         return new OrderItemJpaEntity(
-                UUID.randomUUID(),
+                IdGenerator.newId(),
                 item.productId(),
                 item.productName(),
                 item.variantId(),
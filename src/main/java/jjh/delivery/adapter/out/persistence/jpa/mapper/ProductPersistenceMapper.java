@@ -27,7 +27,9 @@ public class ProductPersistenceMapper {
                         .collect(Collectors.toList()))
                 .categoryIds(entity.getCategoryIds())
                 .imageUrls(entity.getImageUrls())
+                .totalStockQuantity(entity.getTotalStockQuantity())
                 .createdAt(entity.getCreatedAt())
+                .updatedAt(entity.getUpdatedAt())
                 .build();
     }
 
@@ -66,7 +68,7 @@ public class ProductPersistenceMapper {
         return entity;
     }
 
-    private ProductVariantJpaEntity toEntityVariant(ProductVariant domain) {
+    public ProductVariantJpaEntity toEntityVariant(ProductVariant domain) {
         return new ProductVariantJpaEntity(
                 domain.id(),
                 domain.name(),
@@ -17,15 +17,4 @@ public interface CategoryJpaRepository extends JpaRepository<CategoryJpaEntity,
      */
     @Query("SELECT c FROM CategoryJpaEntity c WHERE c.isActive = true ORDER BY c.depth, c.displayOrder")
     List<CategoryJpaEntity> findAllActiveOrderByDepthAndDisplayOrder();
-
-    /**
-     * 부모 ID로 자식 카테고리 조회
-     */
-    List<CategoryJpaEntity> findByParentIdAndIsActiveTrueOrderByDisplayOrder(UUID parentId);
-
-    /**
-     * 최상위 카테고리 조회 (parentId = null)
-     */
-    @Query("SELECT c FROM CategoryJpaEntity c WHERE c.parentId IS NULL AND c.isActive = true ORDER BY c.displayOrder")
-    List<CategoryJpaEntity> findRootCategoriesActive();
 }
@@ -0,0 +1,22 @@
+package jjh.delivery.adapter.out.persistence.jpa.repository;
+
+import jjh.delivery.adapter.out.persistence.jpa.entity.OrderIndexRetryJpaEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Order Index Retry JPA Repository
+ */
+@Repository
+public interface OrderIndexRetryJpaRepository extends JpaRepository<OrderIndexRetryJpaEntity, UUID> {
+
+    @Query("SELECT r.orderId FROM OrderIndexRetryJpaEntity r WHERE r.nextAttemptAt <= :now ORDER BY r.nextAttemptAt ASC")
+    List<UUID> findDueOrderIds(@Param("now") LocalDateTime now, Pageable pageable);
+}
@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -18,6 +19,9 @@ public interface OrderJpaRepository extends JpaRepository<OrderJpaEntity, UUID>
     @Query("SELECT o FROM OrderJpaEntity o LEFT JOIN FETCH o.items WHERE o.id = :id")
     Optional<OrderJpaEntity> findByIdWithItems(@Param("id") UUID id);
 
+    @Query("SELECT DISTINCT o FROM OrderJpaEntity o LEFT JOIN FETCH o.items WHERE o.id IN :ids")
+    List<OrderJpaEntity> findAllByIdWithItems(@Param("ids") Collection<UUID> ids);
+
     @Query("SELECT o FROM OrderJpaEntity o LEFT JOIN FETCH o.items WHERE o.customerId = :customerId ORDER BY o.createdAt DESC")
     List<OrderJpaEntity> findByCustomerIdWithItems(@Param("customerId") UUID customerId);
 
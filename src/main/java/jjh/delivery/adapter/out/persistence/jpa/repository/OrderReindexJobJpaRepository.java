@@ -0,0 +1,16 @@
+package jjh.delivery.adapter.out.persistence.jpa.repository;
+
+import jjh.delivery.adapter.out.persistence.jpa.entity.OrderReindexJobJpaEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+/**
+ * Order Reindex Job JPA Repository
+ */
+@Repository
+public interface OrderReindexJobJpaRepository extends JpaRepository<OrderReindexJobJpaEntity, String> {
+
+    Optional<OrderReindexJobJpaEntity> findFirstByOrderByStartedAtDesc();
+}
@@ -0,0 +1,17 @@
+package jjh.delivery.adapter.out.persistence.jpa.repository;
+
+import jjh.delivery.adapter.out.persistence.jpa.entity.OrderReindexSliceJpaEntity;
+import jjh.delivery.adapter.out.persistence.jpa.entity.OrderReindexSliceJpaEntity.SliceId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Order Reindex Slice JPA Repository
+ */
+@Repository
+public interface OrderReindexSliceJpaRepository extends JpaRepository<OrderReindexSliceJpaEntity, SliceId> {
+
+    List<OrderReindexSliceJpaEntity> findByIndexNameOrderByStorageAscSliceNoAsc(String indexName);
+}
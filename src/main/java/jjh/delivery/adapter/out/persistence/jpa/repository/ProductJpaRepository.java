@@ -10,6 +10,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -25,6 +26,31 @@ public interface ProductJpaRepository extends JpaRepository<ProductJpaEntity, UU
     @Query("SELECT DISTINCT p FROM ProductJpaEntity p LEFT JOIN FETCH p.variants WHERE p.id = :id")
     Optional<ProductJpaEntity> findByIdWithVariants(@Param("id") UUID id);
 
+    // ==================== List Fetch (컬렉션별 IN 쿼리 1회) ====================
+    // 목록 조회로 영속성 컨텍스트에 올라온 엔티티의 컬렉션을 한 번에 초기화합니다.
+    // 여러 컬렉션을 한 쿼리로 fetch join하면 행이 곱해지므로 컬렉션마다 따로 조회합니다.
+
+    @Query("SELECT DISTINCT p FROM ProductJpaEntity p LEFT JOIN FETCH p.variants WHERE p.id IN :ids")
+    List<ProductJpaEntity> fetchVariantsByIdIn(@Param("ids") Collection<UUID> ids);
+
+    @Query("SELECT DISTINCT p FROM ProductJpaEntity p LEFT JOIN FETCH p.categoryIds WHERE p.id IN :ids")
+    List<ProductJpaEntity> fetchCategoryIdsByIdIn(@Param("ids") Collection<UUID> ids);
+
+    @Query("SELECT DISTINCT p FROM ProductJpaEntity p LEFT JOIN FETCH p.imageUrls WHERE p.id IN :ids")
+    List<ProductJpaEntity> fetchImageUrlsByIdIn(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * 대표 이미지 일괄 조회 (display_order = 0) - [productId, imageUrl]
+     */
+    @Query("SELECT p.id, i FROM ProductJpaEntity p JOIN p.imageUrls i WHERE p.id IN :ids AND INDEX(i) = 0")
+    List<Object[]> findThumbnailUrlsByIdIn(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * 카테고리 목록 중 하나라도 속한 상품 ID (product_categories(category_id) 인덱스 사용)
+     */
+    @Query("SELECT DISTINCT p.id FROM ProductJpaEntity p JOIN p.categoryIds c WHERE c IN :categoryIds")
+    List<UUID> findIdsByCategoryIdIn(@Param("categoryIds") Collection<UUID> categoryIds);
+
     /**
      * 판매자별 상품 조회
      */
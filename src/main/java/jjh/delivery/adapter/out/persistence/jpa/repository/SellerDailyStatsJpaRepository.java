@@ -0,0 +1,43 @@
+package jjh.delivery.adapter.out.persistence.jpa.repository;
+
+import jjh.delivery.adapter.out.persistence.jpa.entity.SellerDailyStatsJpaEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Seller Daily Stats JPA Repository
+ */
+@Repository
+public interface SellerDailyStatsJpaRepository
+        extends JpaRepository<SellerDailyStatsJpaEntity, SellerDailyStatsJpaEntity.StatsId> {
+
+    /**
+     * 일간 통계 증분 반영 (행이 없으면 생성)
+     * 단일 UPSERT 문이므로 동시 주문에도 read-modify-write 경합 없이 누적됩니다.
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO seller_daily_stats
+                (seller_id, stat_date, total_orders, completed_orders, cancelled_orders, total_revenue)
+            VALUES (:sellerId, :statDate, :totalOrders, :completedOrders, :cancelledOrders, :totalRevenue)
+            ON CONFLICT (seller_id, stat_date) DO UPDATE SET
+                total_orders = seller_daily_stats.total_orders + EXCLUDED.total_orders,
+                completed_orders = seller_daily_stats.completed_orders + EXCLUDED.completed_orders,
+                cancelled_orders = seller_daily_stats.cancelled_orders + EXCLUDED.cancelled_orders,
+                total_revenue = seller_daily_stats.total_revenue + EXCLUDED.total_revenue
+            """, nativeQuery = true)
+    int upsertDelta(
+            @Param("sellerId") UUID sellerId,
+            @Param("statDate") LocalDate statDate,
+            @Param("totalOrders") long totalOrders,
+            @Param("completedOrders") long completedOrders,
+            @Param("cancelledOrders") long cancelledOrders,
+            @Param("totalRevenue") BigDecimal totalRevenue);
+}
@@ -0,0 +1,188 @@
+package jjh.delivery.adapter.out.redis;
+
+import lombok.RequiredArgsConstructor;
+
+import jjh.delivery.application.port.out.FlashSaleCounterPort;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.IntStream;
+
+/**
+ * Flash Sale Counter Redis Adapter - Driven Adapter (Outbound)
+ * 변형 재고를 샤드별 Redis 키(flash-sale:stock:{변형 ID}:{샤드 번호})로 나눠 관리
+ *
+ * - 차감: 샤드마다 Lua 스크립트로 "남은 수량과 요청 수량 중 작은 값"을 원자적으로 차감하므로 샤드는 음수가 되지 않습니다.
+ *   요청마다 임의의 샤드에서 시작해 필요하면 다음 샤드로 넘어가며, 합계가 모자라면 차감한 만큼 되돌리고 실패합니다.
+ * - 키에 해시 태그를 쓰지 않으므로 Redis Cluster에서는 샤드가 여러 노드로 분산됩니다. (스크립트는 모두 단일 키)
+ * - 캠페인 종료로 샤드가 회수된 뒤 들어온 반환은 flash-sale:returned:{변형 ID}에 적립되어 DB 재고로 정산됩니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class FlashSaleCounterRedisAdapter implements FlashSaleCounterPort {
+
+    private static final String STOCK_KEY_PREFIX = "flash-sale:stock:";
+    private static final String RETURNED_KEY_PREFIX = "flash-sale:returned:";
+
+    /** 샤드가 없으면 -1, 있으면 min(남은 수량, 요청 수량)을 차감하고 차감한 수량 반환 */
+    private static final RedisScript<Long> TAKE_SCRIPT = new DefaultRedisScript<>("""
+            local left = tonumber(redis.call('GET', KEYS[1]))
+            if not left then
+                return -1
+            end
+            local taken = math.min(left, tonumber(ARGV[1]))
+            if taken > 0 then
+                redis.call('DECRBY', KEYS[1], taken)
+            end
+            return taken
+            """, Long.class);
+
+    /** 샤드가 있으면 수량을 더하고 1, 없으면 0 */
+    private static final RedisScript<Long> GIVE_BACK_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 1 then
+                redis.call('INCRBY', KEYS[1], ARGV[1])
+                return 1
+            end
+            return 0
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    @Override
+    public void initialize(UUID variantId, int[] shardQuantities) {
+        for (int shard = 0; shard < shardQuantities.length; shard++) {
+            redisTemplate.opsForValue().set(stockKey(variantId, shard), Integer.toString(shardQuantities[shard]));
+        }
+    }
+
+    @Override
+    public TakeResult take(UUID variantId, int shardCount, int quantity) {
+        int start = ThreadLocalRandom.current().nextInt(shardCount);
+        int[] takenByShard = new int[shardCount];
+        int taken = 0;
+        boolean missing = false;
+
+        for (int i = 0; i < shardCount && taken < quantity; i++) {
+            int shard = (start + i) % shardCount;
+            long result = execute(TAKE_SCRIPT, stockKey(variantId, shard), quantity - taken);
+            if (result < 0) {
+                missing = true;
+                break;
+            }
+            takenByShard[shard] = (int) result;
+            taken += (int) result;
+        }
+
+        if (taken < quantity) {
+            returnShards(variantId, takenByShard);
+            return missing ? TakeResult.NOT_ACTIVE : TakeResult.INSUFFICIENT;
+        }
+
+        // 호출 트랜잭션이 롤백되면 (예: 다른 줄의 DB 재고 부족) 차감한 수량을 되돌림
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        returnShards(variantId, takenByShard);
+                    }
+                }
+            });
+        }
+        return TakeResult.TAKEN;
+    }
+
+    @Override
+    public void giveBack(UUID variantId, int shardCount, int quantity) {
+        // 롤백된 해제가 카운터에 반영되지 않도록 커밋 이후에 반환
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    returnToRandomShard(variantId, shardCount, quantity);
+                }
+            });
+        } else {
+            returnToRandomShard(variantId, shardCount, quantity);
+        }
+    }
+
+    @Override
+    public int remaining(UUID variantId, int shardCount) {
+        List<String> values = redisTemplate.opsForValue().multiGet(stockKeys(variantId, shardCount));
+        if (values == null) {
+            return 0;
+        }
+        return values.stream()
+                .filter(Objects::nonNull)
+                .mapToInt(Integer::parseInt)
+                .sum();
+    }
+
+    @Override
+    public int drain(UUID variantId, int shardCount) {
+        int drained = 0;
+        for (String key : stockKeys(variantId, shardCount)) {
+            String value = redisTemplate.opsForValue().getAndDelete(key);
+            if (value != null) {
+                drained += Integer.parseInt(value);
+            }
+        }
+        return drained;
+    }
+
+    @Override
+    public void addReturned(UUID variantId, int quantity) {
+        if (quantity > 0) {
+            redisTemplate.opsForValue().increment(RETURNED_KEY_PREFIX + variantId, quantity);
+        }
+    }
+
+    @Override
+    public int drainReturned(UUID variantId) {
+        String value = redisTemplate.opsForValue().getAndDelete(RETURNED_KEY_PREFIX + variantId);
+        return value != null ? Integer.parseInt(value) : 0;
+    }
+
+    private void returnToRandomShard(UUID variantId, int shardCount, int quantity) {
+        if (shardCount > 0) {
+            int shard = ThreadLocalRandom.current().nextInt(shardCount);
+            if (execute(GIVE_BACK_SCRIPT, stockKey(variantId, shard), quantity) > 0) {
+                return;
+            }
+        }
+        addReturned(variantId, quantity);
+    }
+
+    private void returnShards(UUID variantId, int[] takenByShard) {
+        for (int shard = 0; shard < takenByShard.length; shard++) {
+            if (takenByShard[shard] > 0
+                    && execute(GIVE_BACK_SCRIPT, stockKey(variantId, shard), takenByShard[shard]) == 0) {
+                addReturned(variantId, takenByShard[shard]);
+            }
+        }
+    }
+
+    private long execute(RedisScript<Long> script, String key, int quantity) {
+        Long result = redisTemplate.execute(script, List.of(key), Integer.toString(quantity));
+        return result != null ? result : 0;
+    }
+
+    private static List<String> stockKeys(UUID variantId, int shardCount) {
+        return IntStream.range(0, shardCount)
+                .mapToObj(shard -> stockKey(variantId, shard))
+                .toList();
+    }
+
+    private static String stockKey(UUID variantId, int shard) {
+        return STOCK_KEY_PREFIX + variantId + ":" + shard;
+    }
+}
@@ -0,0 +1,202 @@
+package jjh.delivery.adapter.out.search;
+
+import co.elastic.clients.elasticsearch._types.SortOrder;
+import co.elastic.clients.elasticsearch._types.aggregations.Aggregate;
+import co.elastic.clients.elasticsearch._types.aggregations.Aggregation;
+import co.elastic.clients.elasticsearch._types.aggregations.CalendarInterval;
+import co.elastic.clients.elasticsearch._types.aggregations.FieldDateMath;
+import co.elastic.clients.elasticsearch._types.aggregations.StringTermsBucket;
+import co.elastic.clients.elasticsearch._types.query_dsl.Query;
+import co.elastic.clients.util.NamedValue;
+import jjh.delivery.adapter.out.search.document.OrderDocument;
+import jjh.delivery.application.port.in.GetOrderAnalyticsUseCase.AnalyticsInterval;
+import jjh.delivery.application.port.in.GetOrderAnalyticsUseCase.OrderAnalyticsQuery;
+import jjh.delivery.application.port.out.OrderAnalyticsPort;
+import jjh.delivery.domain.order.OrderStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.elasticsearch.client.elc.ElasticsearchAggregation;
+import org.springframework.data.elasticsearch.client.elc.ElasticsearchAggregations;
+import org.springframework.data.elasticsearch.client.elc.NativeQuery;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.SearchHits;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Order Analytics Elasticsearch Adapter - Driven Adapter (Outbound)
+ * 주문 인덱스 aggregation으로 대시보드 집계 구현 (size=0, 문서 없이 집계 결과만 반환)
+ *
+ * createdAt은 오프셋 없이 저장되어 UTC로 해석되므로 버킷 키도 UTC로 변환해야 저장된 로컬 시각과 일치합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class OrderAnalyticsElasticsearchAdapter implements OrderAnalyticsPort {
+
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("uuuu-MM-dd'T'HH:mm:ss");
+
+    private static final String PERIODS = "periods";
+    private static final String STATUSES = "statuses";
+    private static final String SELLERS = "sellers";
+    private static final String REVENUE = "revenue";
+    private static final String AVERAGE = "average";
+    private static final String PERCENTILES = "percentiles";
+
+    private static final double[] PERCENTS = {50.0, 90.0, 95.0, 99.0};
+
+    private final ElasticsearchOperations elasticsearchOperations;
+
+    @Override
+    public OrderAnalytics aggregate(OrderAnalyticsQuery query) {
+        NativeQuery searchQuery = NativeQuery.builder()
+                .withQuery(toQuery(query))
+                .withMaxResults(0)
+                .withTrackTotalHits(true)
+                .withAggregation(REVENUE, revenueSum())
+                .withAggregation(AVERAGE, Aggregation.of(a -> a.avg(avg -> avg.field("totalAmount"))))
+                .withAggregation(PERCENTILES, Aggregation.of(a -> a.percentiles(p -> p
+                        .field("totalAmount")
+                        .percents(PERCENTS[0], PERCENTS[1], PERCENTS[2], PERCENTS[3])
+                        .keyed(false))))
+                .withAggregation(PERIODS, Aggregation.of(a -> a
+                        .dateHistogram(h -> h
+                                .field("createdAt")
+                                .calendarInterval(toCalendarInterval(query.interval()))
+                                .minDocCount(0)
+                                .extendedBounds(b -> b
+                                        .min(FieldDateMath.of(m -> m.expr(query.from().format(DATE_FORMAT))))
+                                        .max(FieldDateMath.of(m -> m.expr(query.to().minusSeconds(1).format(DATE_FORMAT))))))
+                        .aggregations(REVENUE, revenueSum())))
+                .withAggregation(STATUSES, Aggregation.of(a -> a
+                        .terms(t -> t.field("status").size(OrderStatus.values().length))
+                        .aggregations(REVENUE, revenueSum())))
+                .withAggregation(SELLERS, Aggregation.of(a -> a
+                        .terms(t -> t
+                                .field("sellerId")
+                                .size(query.topSellers())
+                                .order(NamedValue.of(REVENUE, SortOrder.Desc)))
+                        .aggregations(REVENUE, revenueSum())))
+                .build();
+
+        SearchHits<OrderDocument> searchHits = elasticsearchOperations.search(searchQuery, OrderDocument.class);
+        if (searchHits.getTotalHits() == 0 || searchHits.getAggregations() == null) {
+            return OrderAnalytics.empty();
+        }
+
+        Map<String, Aggregate> aggregates = new HashMap<>();
+        ((ElasticsearchAggregations) searchHits.getAggregations()).aggregationsAsMap()
+                .forEach((name, aggregation) -> aggregates.put(name, toAggregate(aggregation)));
+
+        return new OrderAnalytics(
+                searchHits.getTotalHits(),
+                toAmount(aggregates.get(REVENUE).sum().value()),
+                toAmount(aggregates.get(AVERAGE).avg().value()),
+                toPercentiles(aggregates.get(PERCENTILES)),
+                toPeriods(aggregates.get(PERIODS)),
+                toStatuses(aggregates.get(STATUSES)),
+                toSellers(aggregates.get(SELLERS))
+        );
+    }
+
+    private Query toQuery(OrderAnalyticsQuery query) {
+        List<Query> filters = new ArrayList<>();
+        filters.add(Query.of(q -> q.range(r -> r.date(d -> d
+                .field("createdAt")
+                .gte(query.from().format(DATE_FORMAT))
+                .lt(query.to().format(DATE_FORMAT))))));
+
+        if (query.sellerId() != null) {
+            filters.add(Query.of(q -> q.term(t -> t.field("sellerId").value(query.sellerId().toString()))));
+        }
+
+        // 점수 계산이 필요 없으므로 filter context 사용 (쿼리 캐시 대상)
+        return Query.of(q -> q.bool(b -> b.filter(filters)));
+    }
+
+    private Aggregation revenueSum() {
+        return Aggregation.of(a -> a.sum(s -> s.field("totalAmount")));
+    }
+
+    private CalendarInterval toCalendarInterval(AnalyticsInterval interval) {
+        return switch (interval) {
+            case HOUR -> CalendarInterval.Hour;
+            case DAY -> CalendarInterval.Day;
+            case WEEK -> CalendarInterval.Week;
+            case MONTH -> CalendarInterval.Month;
+        };
+    }
+
+    private Aggregate toAggregate(ElasticsearchAggregation aggregation) {
+        return aggregation.aggregation().getAggregate();
+    }
+
+    private List<PeriodBucket> toPeriods(Aggregate aggregate) {
+        return aggregate.dateHistogram().buckets().array().stream()
+                .map(bucket -> new PeriodBucket(
+                        LocalDateTime.ofInstant(Instant.ofEpochMilli(bucket.key()), ZoneOffset.UTC),
+                        bucket.docCount(),
+                        toAmount(bucket.aggregations().get(REVENUE).sum().value())
+                ))
+                .toList();
+    }
+
+    private List<StatusBucket> toStatuses(Aggregate aggregate) {
+        return aggregate.sterms().buckets().array().stream()
+                .map(bucket -> new StatusBucket(
+                        OrderStatus.valueOf(bucket.key().stringValue()),
+                        bucket.docCount(),
+                        bucketRevenue(bucket)
+                ))
+                .toList();
+    }
+
+    private List<SellerBucket> toSellers(Aggregate aggregate) {
+        return aggregate.sterms().buckets().array().stream()
+                .map(bucket -> new SellerBucket(
+                        UUID.fromString(bucket.key().stringValue()),
+                        bucket.docCount(),
+                        bucketRevenue(bucket)
+                ))
+                .toList();
+    }
+
+    private AmountPercentiles toPercentiles(Aggregate aggregate) {
+        Map<Double, BigDecimal> values = aggregate.tdigestPercentiles().values().array().stream()
+                .collect(Collectors.toMap(
+                        item -> Double.valueOf(String.valueOf(item.key())),
+                        item -> toAmount(item.value())
+                ));
+
+        return new AmountPercentiles(
+                values.get(PERCENTS[0]),
+                values.get(PERCENTS[1]),
+                values.get(PERCENTS[2]),
+                values.get(PERCENTS[3])
+        );
+    }
+
+    private BigDecimal bucketRevenue(StringTermsBucket bucket) {
+        return toAmount(bucket.aggregations().get(REVENUE).sum().value());
+    }
+
+    /**
+     * totalAmount는 double로 색인되므로 통화 단위(소수 둘째 자리)로 반올림
+     */
+    private BigDecimal toAmount(Double value) {
+        if (value == null || value.isNaN() || value.isInfinite()) {
+            return BigDecimal.ZERO;
+        }
+        return BigDecimal.valueOf(value).setScale(2, RoundingMode.HALF_UP);
+    }
+}
@@ -6,25 +6,34 @@ import co.elastic.clients.elasticsearch._types.query_dsl.Query;
 import jjh.delivery.adapter.in.web.dto.CursorPageResponse;
 import jjh.delivery.adapter.in.web.dto.CursorValue;
 import jjh.delivery.adapter.out.search.document.OrderDocument;
-import jjh.delivery.adapter.out.search.repository.OrderElasticsearchRepository;
+import jjh.delivery.adapter.out.search.document.OrderDocument.OrderItemDocument;
 import jjh.delivery.application.port.in.SearchOrderUseCase.SearchOrderQuery;
-import jjh.delivery.application.port.out.LoadOrderPort;
+import jjh.delivery.application.port.out.OrderQueryPort.OrderSummary;
 import jjh.delivery.application.port.out.OrderSearchPort;
-import jjh.delivery.domain.order.Order;
+import jjh.delivery.application.port.out.OrderSearchPort.OrderSearchItem;
+import jjh.delivery.application.port.out.OrderSearchPort.OrderSearchResult;
+import jjh.delivery.domain.order.OrderStatus;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.elasticsearch.UncategorizedElasticsearchException;
 import org.springframework.data.elasticsearch.client.elc.NativeQuery;
 import org.springframework.data.elasticsearch.client.elc.NativeQueryBuilder;
 import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
 import org.springframework.data.elasticsearch.core.SearchHit;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.elasticsearch.core.SearchHits;
+import org.springframework.data.elasticsearch.core.query.FetchSourceFilterBuilder;
+import org.springframework.data.elasticsearch.core.query.Query.PointInTime;
 import org.springframework.stereotype.Component;
+import tools.jackson.databind.json.JsonMapper;
 
+import java.time.Duration;
 import java.time.ZoneId;
 import java.util.ArrayList;
+import java.util.Base64;
 import java.util.List;
 import java.util.UUID;
 
@@ -38,33 +47,165 @@ public class OrderElasticsearchAdapter implements OrderSearchPort {
 
     private static final Logger log = LoggerFactory.getLogger(OrderElasticsearchAdapter.class);
 
-    private final OrderElasticsearchRepository repository;
+    /**
+     * 목록 화면(OrderSummary)에 필요한 필드만 _source에서 로드
+     */
+    private static final String[] SUMMARY_FIELDS = {
+            "id", "orderNumber", "customerId", "sellerId", "status", "totalAmount", "createdAt", "items.quantity"
+    };
+
+    /**
+     * 검색 결과(OrderSearchResult)에 필요한 필드 (searchableText 제외)
+     */
+    private static final String[] RESULT_FIELDS = {
+            "id", "orderNumber", "customerId", "sellerId", "status", "totalAmount", "shippingAddress",
+            "createdAt", "updatedAt", "items.quantity"
+    };
+
+    private static final String[] RESULT_FIELDS_WITH_ITEMS = {
+            "id", "orderNumber", "customerId", "sellerId", "status", "totalAmount", "shippingAddress",
+            "createdAt", "updatedAt", "items"
+    };
+
+    /**
+     * 페이지 없이 조회할 수 있는 최대 문서 수 (index.max_result_window 기본값)
+     */
+    private static final int MAX_RESULT_WINDOW = 10_000;
+
     private final ElasticsearchOperations elasticsearchOperations;
-    private final LoadOrderPort loadOrderPort;
+    private final JsonMapper jsonMapper;
+
+    @Value("${search.pit.keep-alive:2m}")
+    private Duration pitKeepAlive;
 
     @Override
-    public void index(Order order) {
-        try {
-            OrderDocument document = OrderDocument.from(order);
-            repository.save(document);
-            log.debug("Indexed order: {}", order.getId());
-        } catch (Exception e) {
-            log.error("Failed to index order: {}", order.getId(), e);
+    public CursorPageResponse<OrderSummary> search(SearchOrderQuery query) {
+        // Cursor 기반 쿼리 빌드
+        // Note: @Id 필드는 _id로 매핑되어 일반 필드로 정렬 불가, orderNumber 사용
+        NativeQueryBuilder queryBuilder = NativeQuery.builder()
+                .withQuery(toQuery(query))
+                .withSort(Sort.by(Sort.Direction.DESC, "createdAt"))
+                .withSort(Sort.by(Sort.Direction.DESC, "orderNumber"))
+                .withSourceFilter(new FetchSourceFilterBuilder().withIncludes(SUMMARY_FIELDS).build())
+                .withMaxResults(query.size() + 1);  // hasNext 판단을 위해 +1
+
+        // 커서 디코딩 및 search_after 설정
+        CursorValue cursorValue = CursorValue.decode(query.cursor());
+        if (cursorValue != null) {
+            queryBuilder.withSearchAfter(List.of(
+                    cursorValue.createdAt().toEpochMilli(),
+                    cursorValue.orderNumber()
+            ));
         }
+
+        NativeQuery searchQuery = queryBuilder.build();
+
+        SearchHits<OrderDocument> searchHits = elasticsearchOperations.search(
+                searchQuery,
+                OrderDocument.class
+        );
+
+        List<OrderSummary> summaries = searchHits.getSearchHits().stream()
+                .map(SearchHit::getContent)
+                .map(this::toSummary)
+                .toList();
+
+        return CursorPageResponse.of(
+                summaries,
+                query.size(),
+                summary -> summary.createdAt().atZone(ZoneId.systemDefault()).toInstant(),
+                OrderSummary::orderNumber
+        );
     }
 
     @Override
-    public void delete(UUID orderId) {
+    public CursorPageResponse<OrderSummary> browse(SearchOrderQuery query) {
+        PitCursor cursor = PitCursor.decode(query.cursor(), jsonMapper);
+        String pitId = cursor != null
+                ? cursor.pitId()
+                : elasticsearchOperations.openPointInTime(
+                        elasticsearchOperations.getIndexCoordinatesFor(OrderDocument.class), pitKeepAlive);
+
+        // PIT 검색은 인덱스를 지정하지 않으며, 정렬에 _shard_doc tie-breaker가 자동으로 추가됨
+        NativeQueryBuilder queryBuilder = NativeQuery.builder()
+                .withQuery(toQuery(query))
+                .withSort(Sort.by(Sort.Direction.DESC, "createdAt"))
+                .withSort(Sort.by(Sort.Direction.DESC, "orderNumber"))
+                .withSourceFilter(new FetchSourceFilterBuilder().withIncludes(SUMMARY_FIELDS).build())
+                .withPointInTime(new PointInTime(pitId, pitKeepAlive))
+                .withTrackTotalHits(false)
+                .withMaxResults(query.size() + 1);  // hasNext 판단을 위해 +1
+
+        if (cursor != null) {
+            queryBuilder.withSearchAfter(cursor.searchAfter());
+        }
+
+        SearchHits<OrderDocument> searchHits;
         try {
-            repository.deleteById(orderId.toString());
-            log.debug("Deleted order from index: {}", orderId);
-        } catch (Exception e) {
-            log.error("Failed to delete order from index: {}", orderId, e);
+            searchHits = elasticsearchOperations.search(queryBuilder.build(), OrderDocument.class);
+        } catch (UncategorizedElasticsearchException e) {
+            if (cursor != null && Integer.valueOf(404).equals(e.getStatusCode())) {
+                throw new IllegalArgumentException("Search cursor has expired. Start again from the first page.", e);
+            }
+            throw e;
         }
+
+        // 요청마다 PIT id가 갱신될 수 있으므로 응답의 id를 다음 커서에 사용
+        String nextPitId = searchHits.getPointInTimeId() != null ? searchHits.getPointInTimeId() : pitId;
+
+        List<SearchHit<OrderDocument>> hits = searchHits.getSearchHits();
+        boolean hasNext = hits.size() > query.size();
+        List<SearchHit<OrderDocument>> page = hasNext ? hits.subList(0, query.size()) : hits;
+
+        String nextCursor = null;
+        if (hasNext) {
+            nextCursor = new PitCursor(nextPitId, page.get(page.size() - 1).getSortValues()).encode(jsonMapper);
+        } else {
+            closePointInTime(nextPitId);
+        }
+
+        List<OrderSummary> content = page.stream()
+                .map(SearchHit::getContent)
+                .map(this::toSummary)
+                .toList();
+
+        return new CursorPageResponse<>(content, query.size(), hasNext, nextCursor);
     }
 
     @Override
-    public CursorPageResponse<Order> search(SearchOrderQuery query) {
+    public List<OrderSearchResult> findByCustomerId(UUID customerId, boolean includeItems) {
+        return findResults("customerId", customerId.toString(), includeItems);
+    }
+
+    @Override
+    public List<OrderSearchResult> findBySellerId(UUID sellerId, boolean includeItems) {
+        return findResults("sellerId", sellerId.toString(), includeItems);
+    }
+
+    /**
+     * 소유자 기준 주문을 최신순으로 조회하여 hit을 바로 Read Model로 변환 (Order 재구성 없음)
+     * 파생 쿼리와 동일하게 max_result_window까지만 조회합니다.
+     */
+    private List<OrderSearchResult> findResults(String ownerField, String ownerId, boolean includeItems) {
+        NativeQuery searchQuery = NativeQuery.builder()
+                .withQuery(Query.of(q -> q.bool(b -> b.filter(f -> f.term(t -> t.field(ownerField).value(ownerId))))))
+                .withSort(Sort.by(Sort.Direction.DESC, "createdAt"))
+                .withSourceFilter(new FetchSourceFilterBuilder()
+                        .withIncludes(includeItems ? RESULT_FIELDS_WITH_ITEMS : RESULT_FIELDS)
+                        .build())
+                .withMaxResults(MAX_RESULT_WINDOW)
+                .build();
+
+        return elasticsearchOperations.search(searchQuery, OrderDocument.class).getSearchHits().stream()
+                .map(SearchHit::getContent)
+                .map(document -> toResult(document, includeItems))
+                .toList();
+    }
+
+    /**
+     * 검색 조건을 bool 쿼리로 변환
+     */
+    private Query toQuery(SearchOrderQuery query) {
         List<Query> mustQueries = new ArrayList<>();
 
         if (query.customerId() != null) {
@@ -95,71 +236,91 @@ public class OrderElasticsearchAdapter implements OrderSearchPort {
         if (!mustQueries.isEmpty()) {
             boolQueryBuilder.must(mustQueries);
         }
+        return Query.of(q -> q.bool(boolQueryBuilder.build()));
+    }
 
-        // Cursor 기반 쿼리 빌드
-        // Note: @Id 필드는 _id로 매핑되어 일반 필드로 정렬 불가, orderNumber 사용
-        NativeQueryBuilder queryBuilder = NativeQuery.builder()
-                .withQuery(Query.of(q -> q.bool(boolQueryBuilder.build())))
-                .withSort(Sort.by(Sort.Direction.DESC, "createdAt"))
-                .withSort(Sort.by(Sort.Direction.DESC, "orderNumber"))
-                .withMaxResults(query.size() + 1);  // hasNext 판단을 위해 +1
-
-        // 커서 디코딩 및 search_after 설정
-        CursorValue cursorValue = CursorValue.decode(query.cursor());
-        if (cursorValue != null) {
-            queryBuilder.withSearchAfter(List.of(
-                    cursorValue.createdAt().toEpochMilli(),
-                    cursorValue.orderNumber()
-            ));
-        }
-
-        NativeQuery searchQuery = queryBuilder.build();
-
-        SearchHits<OrderDocument> searchHits = elasticsearchOperations.search(
-                searchQuery,
-                OrderDocument.class
+    /**
+     * 요약 필드만 담긴 문서를 목록용 요약으로 변환 (아이템은 수량 필드만 로드하여 개수로 사용)
+     */
+    private OrderSummary toSummary(OrderDocument document) {
+        return new OrderSummary(
+                UUID.fromString(document.getId()),
+                document.getOrderNumber(),
+                UUID.fromString(document.getCustomerId()),
+                UUID.fromString(document.getSellerId()),
+                OrderStatus.valueOf(document.getStatus()),
+                document.getTotalAmount(),
+                document.getItems() != null ? document.getItems().size() : 0,
+                document.getCreatedAt(),
+                null  // 배송 완료 시각은 인덱스에 저장하지 않음
         );
+    }
 
-        List<Order> orders = searchHits.getSearchHits().stream()
-                .map(SearchHit::getContent)
-                .map(OrderDocument::toDomain)
-                .toList();
+    /**
+     * 문서를 검색 결과 Read Model로 변환 (아이템 미요청 시 수량 필드만 로드되어 개수로만 사용)
+     */
+    private OrderSearchResult toResult(OrderDocument document, boolean includeItems) {
+        List<OrderItemDocument> items = document.getItems() != null ? document.getItems() : List.of();
 
-        return CursorPageResponse.of(
-                orders,
-                query.size(),
-                order -> order.getCreatedAt().atZone(ZoneId.systemDefault()).toInstant(),
-                Order::getOrderNumber
+        return new OrderSearchResult(
+                UUID.fromString(document.getId()),
+                document.getOrderNumber(),
+                UUID.fromString(document.getCustomerId()),
+                UUID.fromString(document.getSellerId()),
+                OrderStatus.valueOf(document.getStatus()),
+                document.getTotalAmount(),
+                document.getShippingAddress(),
+                items.size(),
+                includeItems ? items.stream().map(this::toResultItem).toList() : List.of(),
+                document.getCreatedAt(),
+                document.getUpdatedAt()
         );
     }
 
-    @Override
-    public List<Order> findByCustomerId(UUID customerId) {
-        return repository.findByCustomerId(customerId.toString()).stream()
-                .map(OrderDocument::toDomain)
-                .toList();
+    private OrderSearchItem toResultItem(OrderItemDocument item) {
+        return new OrderSearchItem(
+                UUID.fromString(item.productId()),
+                item.productName(),
+                item.variantId() != null ? UUID.fromString(item.variantId()) : null,
+                item.variantName(),
+                item.sku(),
+                item.optionValues(),
+                item.quantity(),
+                item.unitPrice()
+        );
     }
 
-    @Override
-    public List<Order> findBySellerId(UUID sellerId) {
-        return repository.findBySellerId(sellerId.toString()).stream()
-                .map(OrderDocument::toDomain)
-                .toList();
+    private void closePointInTime(String pitId) {
+        try {
+            elasticsearchOperations.closePointInTime(pitId);
+        } catch (Exception e) {
+            // keep-alive가 지나면 자동으로 해제되므로 실패해도 무시
+            log.debug("Failed to close point in time", e);
+        }
     }
 
-    @Override
-    public void reindexAll() {
-        log.info("Starting full reindex of orders...");
-
-        // 기존 인덱스 삭제
-        repository.deleteAll();
-
-        // JPA에서 모든 주문 조회 후 재인덱싱
-        // 실제 구현에서는 배치 처리 필요
-        List<Order> allOrders = new ArrayList<>();
+    /**
+     * PIT 커서: point-in-time id + 마지막 hit의 sort 값 (_shard_doc 포함)
+     * JSON 직렬화 후 URL-safe Base64로 인코딩하여 sort 값의 타입(숫자/문자열)을 보존합니다.
+     */
+    record PitCursor(
+            String pitId,
+            List<Object> searchAfter
+    ) {
+        String encode(JsonMapper jsonMapper) {
+            return Base64.getUrlEncoder().withoutPadding()
+                    .encodeToString(jsonMapper.writeValueAsBytes(this));
+        }
 
-        // LoadOrderPort를 통해 모든 주문 조회 (페이징 처리 권장)
-        // 여기서는 예시로 간단히 구현
-        log.info("Reindex completed");
+        static PitCursor decode(String cursor, JsonMapper jsonMapper) {
+            if (cursor == null || cursor.isBlank()) {
+                return null;
+            }
+            try {
+                return jsonMapper.readValue(Base64.getUrlDecoder().decode(cursor), PitCursor.class);
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("Invalid search cursor", e);
+            }
+        }
     }
 }
@@ -0,0 +1,279 @@
+package jjh.delivery.adapter.out.search;
+
+import jakarta.annotation.PreDestroy;
+import jjh.delivery.adapter.out.search.document.OrderDocument;
+import jjh.delivery.adapter.out.search.repository.OrderElasticsearchRepository;
+import jjh.delivery.application.port.out.LoadOrderPort;
+import jjh.delivery.application.port.out.OrderIndexPendingPort;
+import jjh.delivery.application.port.out.OrderIndexRetryPort;
+import jjh.delivery.application.port.out.OrderIndexingPort;
+import jjh.delivery.domain.order.Order;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.elasticsearch.BulkFailureException;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.query.IndexQuery;
+import org.springframework.data.elasticsearch.core.query.IndexQueryBuilder;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Order Indexing Pipeline - Driven Adapter (Outbound)
+ * 주문 검색 인덱스를 요청 스레드 밖에서 bulk로 갱신
+ *
+ * 1) 요청된 주문 ID는 변경 트랜잭션 안에서 order_index_retries에 유예 시각만큼 늦춘 재시도로 기록하고,
+ *    커밋 이후 대기 집합에 등록 (같은 주문은 하나로 합쳐짐)
+ * 2) 대기 건수가 batch-size에 도달하거나 flush-interval이 지나면 전용 스레드가 flush
+ * 3) flush 시점에 DB에서 최신 주문을 일괄 조회하여 하나의 bulk 요청으로 인덱싱하고, 성공한 주문의 대기 기록을 제거
+ * 4) 실패한 주문은 같은 행에 실패를 기록하고 지수 백오프로 재시도
+ *
+ * 대기 기록이 주문 변경과 함께 커밋되므로, flush 전에 프로세스가 강제 종료되어도
+ * 유예 시간(pending-grace-seconds)이 지나면 재시도 잡이 인덱싱합니다.
+ * (트랜잭션 밖의 요청은 재인덱싱/재시도 경로이므로 기록하지 않음)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OrderIndexingPipeline implements OrderIndexingPort {
+
+    private static final LocalDateTime NOT_REGISTERED = LocalDateTime.MIN;
+
+    private final ElasticsearchOperations elasticsearchOperations;
+    private final OrderElasticsearchRepository repository;
+    private final LoadOrderPort loadOrderPort;
+    private final OrderIndexRetryPort orderIndexRetryPort;
+    private final OrderIndexPendingPort orderIndexPendingPort;
+
+    /** 대기 주문 ID → 가장 늦은 대기 기록 시각 (기록하지 않은 요청은 NOT_REGISTERED) */
+    private final Map<UUID, LocalDateTime> pending = new ConcurrentHashMap<>();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final ExecutorService flushExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "order-indexing");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @Value("${search.indexing.batch-size:500}")
+    private int batchSize;
+
+    @Value("${search.indexing.retry.batch-size:200}")
+    private int retryBatchSize;
+
+    @Override
+    public void requestIndexing(Collection<UUID> orderIds) {
+        if (orderIds.isEmpty()) {
+            return;
+        }
+        List<UUID> ids = List.copyOf(orderIds);
+
+        // 롤백된 변경이 인덱싱되지 않도록 커밋 이후에 등록 (대기 기록은 변경과 함께 커밋)
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            LocalDateTime registeredAt = LocalDateTime.now();
+            orderIndexPendingPort.registerPending(ids, registeredAt);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueue(ids, registeredAt);
+                }
+            });
+        } else {
+            enqueue(ids, NOT_REGISTERED);
+        }
+    }
+
+    /**
+     * 주기적 flush (batch-size에 도달하지 않은 대기 요청 처리)
+     */
+    @Scheduled(fixedDelayString = "${search.indexing.flush-interval:500}")
+    public void scheduledFlush() {
+        if (!pending.isEmpty()) {
+            triggerFlush();
+        }
+    }
+
+    /**
+     * 재시도 시각이 된 실패 주문 재인덱싱
+     */
+    @Scheduled(fixedDelayString = "${search.indexing.retry.fixed-delay:10000}")
+    public void retryFailed() {
+        try {
+            List<UUID> due = orderIndexRetryPort.findDueRetries(retryBatchSize);
+            if (due.isEmpty()) {
+                return;
+            }
+
+            Map<UUID, String> failures = indexBatch(due);
+            List<UUID> succeeded = due.stream()
+                    .filter(id -> !failures.containsKey(id))
+                    .toList();
+
+            orderIndexRetryPort.removeRetries(succeeded);
+            orderIndexRetryPort.scheduleRetries(failures);
+            log.info("Retried order indexing. succeeded={}, failed={}", succeeded.size(), failures.size());
+        } catch (Exception e) {
+            log.error("Failed to retry order indexing", e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flushExecutor.shutdown();
+        try {
+            flushExecutor.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flush();
+    }
+
+    private void enqueue(List<UUID> ids, LocalDateTime registeredAt) {
+        ids.forEach(id -> pending.merge(id, registeredAt, (previous, current) ->
+                current.isAfter(previous) ? current : previous));
+        if (pending.size() >= batchSize) {
+            triggerFlush();
+        }
+    }
+
+    private void triggerFlush() {
+        try {
+            flushExecutor.execute(this::flush);
+        } catch (RejectedExecutionException e) {
+            // 종료 중 - shutdown()의 마지막 flush가 처리
+            log.debug("Order indexing executor is shut down, pending={}", pending.size());
+        }
+    }
+
+    /**
+     * 대기 집합을 batch-size 단위로 비울 때까지 bulk 인덱싱
+     * 동시에 하나의 flush만 실행 (이미 실행 중이면 해당 flush가 새 요청까지 처리)
+     */
+    void flush() {
+        if (!flushLock.tryLock()) {
+            return;
+        }
+        try {
+            Map<UUID, LocalDateTime> batch;
+            while (!(batch = drain()).isEmpty()) {
+                Map<UUID, String> failures = indexBatch(List.copyOf(batch.keySet()));
+                if (!failures.isEmpty()) {
+                    saveFailures(failures);
+                }
+                removePending(batch, failures.keySet());
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * 대기 집합에서 최대 batch-size개를 꺼냄 (remove로 꺼내므로 그 사이 합쳐진 기록 시각도 함께 가져옴)
+     */
+    private Map<UUID, LocalDateTime> drain() {
+        Map<UUID, LocalDateTime> batch = new LinkedHashMap<>();
+        Iterator<UUID> iterator = pending.keySet().iterator();
+        while (batch.size() < batchSize && iterator.hasNext()) {
+            UUID orderId = iterator.next();
+            LocalDateTime registeredAt = pending.remove(orderId);
+            if (registeredAt != null) {
+                batch.put(orderId, registeredAt);
+            }
+        }
+        return batch;
+    }
+
+    /**
+     * 인덱싱에 성공한 주문의 대기 기록 제거 (실패하면 유예 시간 뒤 재시도 잡이 한 번 더 인덱싱)
+     */
+    private void removePending(Map<UUID, LocalDateTime> batch, Set<UUID> failed) {
+        Map<UUID, LocalDateTime> indexed = new HashMap<>();
+        batch.forEach((orderId, registeredAt) -> {
+            if (!NOT_REGISTERED.equals(registeredAt) && !failed.contains(orderId)) {
+                indexed.put(orderId, registeredAt);
+            }
+        });
+        if (indexed.isEmpty()) {
+            return;
+        }
+        try {
+            orderIndexPendingPort.removeIndexed(indexed);
+        } catch (Exception e) {
+            log.warn("Failed to remove pending order index records. count={}", indexed.size(), e);
+        }
+    }
+
+    /**
+     * 주문 일괄 조회 후 bulk 인덱싱 (DB에 없는 주문은 인덱스에서 삭제)
+     *
+     * @return 실패한 주문 ID → 실패 사유
+     */
+    private Map<UUID, String> indexBatch(List<UUID> orderIds) {
+        Map<UUID, String> failures = new HashMap<>();
+        try {
+            Map<UUID, Order> orders = loadOrderPort.findAllById(orderIds).stream()
+                    .collect(Collectors.toMap(Order::getId, Function.identity()));
+
+            List<IndexQuery> queries = orders.values().stream()
+                    .map(order -> new IndexQueryBuilder()
+                            .withId(order.getId().toString())
+                            .withObject(OrderDocument.from(order))
+                            .build())
+                    .toList();
+
+            if (!queries.isEmpty()) {
+                try {
+                    elasticsearchOperations.bulkIndex(queries, OrderDocument.class);
+                } catch (BulkFailureException e) {
+                    // 문서 단위 실패만 재시도 대상, 나머지는 반영 완료
+                    e.getFailedDocuments().forEach((id, reason) ->
+                            failures.put(UUID.fromString(id), String.valueOf(reason)));
+                }
+            }
+
+            List<String> missing = orderIds.stream()
+                    .filter(id -> !orders.containsKey(id))
+                    .map(UUID::toString)
+                    .toList();
+            if (!missing.isEmpty()) {
+                repository.deleteAllById(missing);
+            }
+
+            log.debug("Bulk indexed orders. indexed={}, deleted={}, failed={}",
+                    queries.size(), missing.size(), failures.size());
+        } catch (Exception e) {
+            log.error("Failed to bulk index {} orders", orderIds.size(), e);
+            String reason = e.getMessage();
+            orderIds.forEach(id -> failures.put(id, reason));
+        }
+        return failures;
+    }
+
+    private void saveFailures(Map<UUID, String> failures) {
+        try {
+            orderIndexRetryPort.scheduleRetries(failures);
+            log.warn("Scheduled order indexing retries. count={}", failures.size());
+        } catch (Exception e) {
+            log.error("Failed to schedule order indexing retries: orderIds={}", failures.keySet(), e);
+        }
+    }
+}
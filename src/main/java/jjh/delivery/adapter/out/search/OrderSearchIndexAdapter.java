@@ -0,0 +1,146 @@
+package jjh.delivery.adapter.out.search;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import jjh.delivery.adapter.out.search.document.OrderDocument;
+import jjh.delivery.application.port.out.OrderSearchIndexPort;
+import jjh.delivery.domain.order.Order;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.IndexOperations;
+import org.springframework.data.elasticsearch.core.document.Document;
+import org.springframework.data.elasticsearch.core.index.AliasAction;
+import org.springframework.data.elasticsearch.core.index.AliasActionParameters;
+import org.springframework.data.elasticsearch.core.index.AliasActions;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.query.IndexQuery;
+import org.springframework.data.elasticsearch.core.query.IndexQueryBuilder;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Order Search Index Adapter - Driven Adapter (Outbound)
+ * 버전별 주문 인덱스(orders_v{yyyyMMddHHmmss}) 생성과 orders alias 전환 구현
+ *
+ * 기존 환경처럼 orders가 alias가 아닌 실제 인덱스라면 alias 전환과 같은 요청에서 해당 인덱스를 삭제합니다.
+ * (같은 이름의 인덱스와 alias는 공존할 수 없음)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OrderSearchIndexAdapter implements OrderSearchIndexPort {
+
+    private static final DateTimeFormatter VERSION_FORMAT = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+
+    private final ElasticsearchOperations elasticsearchOperations;
+    private final ElasticsearchClient elasticsearchClient;
+
+    @Value("${search.reindex.replicas:1}")
+    private int replicas;
+
+    @Value("${search.reindex.refresh-interval:1s}")
+    private String refreshInterval;
+
+    @Override
+    public String createVersionedIndex() {
+        String indexName = aliasName() + "_v" + LocalDateTime.now().format(VERSION_FORMAT);
+
+        Document mapping = elasticsearchOperations.indexOps(OrderDocument.class).createMapping();
+        elasticsearchOperations.indexOps(IndexCoordinates.of(indexName)).create(
+                Map.of(
+                        "index.refresh_interval", "-1",
+                        "index.number_of_replicas", 0
+                ),
+                mapping
+        );
+
+        log.info("Created versioned order index: {}", indexName);
+        return indexName;
+    }
+
+    @Override
+    public boolean exists(String indexName) {
+        return elasticsearchOperations.indexOps(IndexCoordinates.of(indexName)).exists();
+    }
+
+    @Override
+    public void bulkIndex(String indexName, List<Order> orders) {
+        if (orders.isEmpty()) {
+            return;
+        }
+        List<IndexQuery> queries = orders.stream()
+                .map(order -> new IndexQueryBuilder()
+                        .withId(order.getId().toString())
+                        .withObject(OrderDocument.from(order))
+                        .build())
+                .toList();
+        elasticsearchOperations.bulkIndex(queries, IndexCoordinates.of(indexName));
+    }
+
+    @Override
+    public void finishBulkLoad(String indexName) {
+        try {
+            elasticsearchClient.indices().putSettings(request -> request
+                    .index(indexName)
+                    .settings(settings -> settings
+                            .refreshInterval(time -> time.time(refreshInterval))
+                            .numberOfReplicas(String.valueOf(replicas))));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to restore settings of index: " + indexName, e);
+        }
+        elasticsearchOperations.indexOps(IndexCoordinates.of(indexName)).refresh();
+    }
+
+    @Override
+    public List<String> switchAlias(String indexName) {
+        String alias = aliasName();
+        IndexOperations aliasOps = elasticsearchOperations.indexOps(IndexCoordinates.of(alias));
+        List<String> previous = findAliasTargets(aliasOps, alias);
+
+        List<AliasAction> actions = new ArrayList<>();
+        actions.add(new AliasAction.Add(AliasActionParameters.builder()
+                .withIndices(indexName)
+                .withAliases(alias)
+                .build()));
+
+        if (previous.isEmpty() && aliasOps.exists()) {
+            // alias 도입 이전의 실제 인덱스
+            actions.add(new AliasAction.RemoveIndex(AliasActionParameters.builder()
+                    .withIndices(alias)
+                    .build()));
+            previous = List.of(alias);
+        } else {
+            previous.stream()
+                    .filter(index -> !index.equals(indexName))
+                    .forEach(index -> actions.add(new AliasAction.Remove(AliasActionParameters.builder()
+                            .withIndices(index)
+                            .withAliases(alias)
+                            .build())));
+        }
+
+        aliasOps.alias(new AliasActions(actions.toArray(AliasAction[]::new)));
+        log.info("Switched alias {} to {} (previous: {})", alias, indexName, previous);
+        return previous;
+    }
+
+    private List<String> findAliasTargets(IndexOperations aliasOps, String alias) {
+        try {
+            return List.copyOf(aliasOps.getAliases(alias).keySet());
+        } catch (Exception e) {
+            // alias가 없으면 404
+            return List.of();
+        }
+    }
+
+    private String aliasName() {
+        return elasticsearchOperations.getIndexCoordinatesFor(OrderDocument.class).getIndexName();
+    }
+}
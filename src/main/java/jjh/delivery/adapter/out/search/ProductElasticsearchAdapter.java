@@ -0,0 +1,288 @@
+package jjh.delivery.adapter.out.search;
+
+import co.elastic.clients.elasticsearch._types.FieldValue;
+import co.elastic.clients.elasticsearch._types.aggregations.Aggregate;
+import co.elastic.clients.elasticsearch._types.aggregations.Aggregation;
+import co.elastic.clients.elasticsearch._types.aggregations.AggregationRange;
+import co.elastic.clients.elasticsearch._types.query_dsl.Query;
+import jjh.delivery.adapter.in.web.dto.CursorPageResponse;
+import jjh.delivery.adapter.out.search.document.ProductDocument;
+import jjh.delivery.application.port.out.LoadProductPort.SearchProductQuery;
+import jjh.delivery.application.port.out.ProductSearchPort;
+import jjh.delivery.domain.product.ProductStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.elasticsearch.client.elc.ElasticsearchAggregations;
+import org.springframework.data.elasticsearch.client.elc.NativeQuery;
+import org.springframework.data.elasticsearch.client.elc.NativeQueryBuilder;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.elasticsearch.core.SearchHits;
+import org.springframework.data.elasticsearch.core.query.FetchSourceFilterBuilder;
+import org.springframework.stereotype.Component;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Product Elasticsearch Adapter - Driven Adapter (Outbound)
+ * 상품 카탈로그 검색 + 패싯 집계 (한 번의 검색 요청)
+ *
+ * 카테고리/가격/평점 조건은 post_filter로 적용하고, 각 패싯은 자신을 제외한 조건으로 filter aggregation을 구성합니다.
+ * 따라서 카테고리를 선택해도 카테고리 패싯에는 다른 카테고리의 건수가 그대로 표시됩니다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "search.product", name = "engine", havingValue = "elasticsearch", matchIfMissing = true)
+@RequiredArgsConstructor
+public class ProductElasticsearchAdapter implements ProductSearchPort {
+
+    private static final String CATEGORY_FACET = "categories";
+    private static final String PRICE_FACET = "prices";
+    private static final String RATING_FACET = "ratings";
+    private static final String FACET_VALUES = "values";
+
+    private static final double[] RATING_THRESHOLDS = {4.0, 3.0, 2.0, 1.0};
+
+    private final ElasticsearchOperations elasticsearchOperations;
+    private final JsonMapper jsonMapper;
+
+    @Value("${search.product.facets.category-size:20}")
+    private int categoryFacetSize;
+
+    @Value("${search.product.facets.price-boundaries:10000,30000,50000,100000}")
+    private List<BigDecimal> priceBoundaries;
+
+    @Override
+    public ProductSearchResult search(SearchProductQuery query) {
+        Query categoryFilter = categoryFilter(query);
+        Query priceFilter = priceFilter(query);
+        Query ratingFilter = ratingFilter(query);
+
+        boolean hasKeyword = query.keyword() != null && !query.keyword().isBlank();
+
+        // 관련도 검색이면 점수 우선, 같은 점수/키워드 없음은 최신순 (productId는 tie-breaker)
+        NativeQueryBuilder queryBuilder = NativeQuery.builder()
+                .withQuery(toQuery(query, hasKeyword))
+                .withFilter(allOf(categoryFilter, priceFilter, ratingFilter))
+                .withSourceFilter(new FetchSourceFilterBuilder().withExcludes("description").build())
+                .withTrackTotalHits(false)
+                .withMaxResults(query.size() + 1);  // hasNext 판단을 위해 +1
+
+        if (hasKeyword) {
+            queryBuilder.withSort(Sort.by(Sort.Direction.DESC, "_score"));
+        }
+        queryBuilder
+                .withSort(Sort.by(Sort.Direction.DESC, "createdAt"))
+                .withSort(Sort.by(Sort.Direction.DESC, "productId"));
+
+        SearchAfterCursor cursor = SearchAfterCursor.decode(query.cursor(), jsonMapper);
+        if (cursor != null) {
+            queryBuilder.withSearchAfter(cursor.searchAfter());
+        } else {
+            // 패싯은 첫 페이지에서만 집계 (다음 페이지는 같은 조건이므로 생략)
+            queryBuilder
+                    .withAggregation(CATEGORY_FACET, facet(allOf(priceFilter, ratingFilter), Aggregation.of(a -> a
+                            .terms(t -> t.field("categoryIds").size(categoryFacetSize)))))
+                    .withAggregation(PRICE_FACET, facet(allOf(categoryFilter, ratingFilter), Aggregation.of(a -> a
+                            .range(r -> r.field("basePrice").ranges(priceRanges())))))
+                    .withAggregation(RATING_FACET, facet(allOf(categoryFilter, priceFilter), Aggregation.of(a -> a
+                            .range(r -> r.field("ratingAvg").ranges(ratingRanges())))));
+        }
+
+        SearchHits<ProductDocument> searchHits = elasticsearchOperations.search(queryBuilder.build(), ProductDocument.class);
+
+        List<SearchHit<ProductDocument>> hits = searchHits.getSearchHits();
+        boolean hasNext = hits.size() > query.size();
+        List<SearchHit<ProductDocument>> page = hasNext ? hits.subList(0, query.size()) : hits;
+
+        String nextCursor = hasNext
+                ? new SearchAfterCursor(page.get(page.size() - 1).getSortValues()).encode(jsonMapper)
+                : null;
+
+        List<ProductSearchHit> content = page.stream()
+                .map(SearchHit::getContent)
+                .map(this::toHit)
+                .toList();
+
+        ProductFacets facets = cursor == null && searchHits.getAggregations() != null
+                ? toFacets((ElasticsearchAggregations) searchHits.getAggregations())
+                : ProductFacets.empty();
+
+        return new ProductSearchResult(new CursorPageResponse<>(content, query.size(), hasNext, nextCursor), facets);
+    }
+
+    /**
+     * 검색어/판매자/상태 조건 (패싯 건수에도 적용되는 기본 조건)
+     */
+    private Query toQuery(SearchProductQuery query, boolean hasKeyword) {
+        List<Query> filters = new ArrayList<>();
+
+        if (query.statuses() != null && !query.statuses().isEmpty()) {
+            List<FieldValue> statuses = query.statuses().stream()
+                    .map(status -> FieldValue.of(status.name()))
+                    .toList();
+            filters.add(Query.of(q -> q.terms(t -> t.field("status").terms(v -> v.value(statuses)))));
+        }
+
+        if (query.sellerId() != null) {
+            filters.add(Query.of(q -> q.term(t -> t.field("sellerId").value(query.sellerId().toString()))));
+        }
+
+        return Query.of(q -> q.bool(b -> {
+            b.filter(filters);
+            if (hasKeyword) {
+                b.must(m -> m.multiMatch(mm -> mm
+                        .query(query.keyword())
+                        .fields("name^3", "description")));
+            }
+            return b;
+        }));
+    }
+
+    /**
+     * 선택한 카테고리 또는 그 하위 카테고리 (문서에 조상 카테고리까지 색인되어 있어 term 하나로 조회)
+     */
+    private Query categoryFilter(SearchProductQuery query) {
+        if (query.categoryId() == null) {
+            return null;
+        }
+        return Query.of(q -> q.term(t -> t.field("categoryPathIds").value(query.categoryId().toString())));
+    }
+
+    private Query priceFilter(SearchProductQuery query) {
+        if (query.minPrice() == null && query.maxPrice() == null) {
+            return null;
+        }
+        return Query.of(q -> q.range(r -> r.number(n -> {
+            n.field("basePrice");
+            if (query.minPrice() != null) {
+                n.gte(query.minPrice().doubleValue());
+            }
+            if (query.maxPrice() != null) {
+                n.lte(query.maxPrice().doubleValue());
+            }
+            return n;
+        })));
+    }
+
+    private Query ratingFilter(SearchProductQuery query) {
+        if (query.minRating() == null) {
+            return null;
+        }
+        return Query.of(q -> q.range(r -> r.number(n -> n.field("ratingAvg").gte(query.minRating()))));
+    }
+
+    /**
+     * null이 아닌 조건을 모두 만족하는 filter (조건이 없으면 match_all)
+     */
+    private Query allOf(Query... conditions) {
+        List<Query> filters = new ArrayList<>();
+        for (Query condition : conditions) {
+            if (condition != null) {
+                filters.add(condition);
+            }
+        }
+        if (filters.isEmpty()) {
+            return Query.of(q -> q.matchAll(m -> m));
+        }
+        return Query.of(q -> q.bool(b -> b.filter(filters)));
+    }
+
+    private Aggregation facet(Query filter, Aggregation values) {
+        return Aggregation.of(a -> a
+                .filter(filter)
+                .aggregations(FACET_VALUES, values));
+    }
+
+    private List<AggregationRange> priceRanges() {
+        List<AggregationRange> ranges = new ArrayList<>();
+        Double from = null;
+        for (BigDecimal boundary : priceBoundaries) {
+            Double lower = from;
+            ranges.add(AggregationRange.of(r -> r.from(lower).to(boundary.doubleValue())));
+            from = boundary.doubleValue();
+        }
+        Double last = from;
+        ranges.add(AggregationRange.of(r -> r.from(last)));
+        return ranges;
+    }
+
+    private List<AggregationRange> ratingRanges() {
+        List<AggregationRange> ranges = new ArrayList<>();
+        for (double threshold : RATING_THRESHOLDS) {
+            ranges.add(AggregationRange.of(r -> r.from(threshold)));
+        }
+        return ranges;
+    }
+
+    private ProductFacets toFacets(ElasticsearchAggregations aggregations) {
+        List<FacetCount> categories = facetValues(aggregations, CATEGORY_FACET).sterms().buckets().array().stream()
+                .map(bucket -> new FacetCount(bucket.key().stringValue(), bucket.docCount()))
+                .toList();
+
+        return new ProductFacets(
+                categories,
+                toRangeFacet(facetValues(aggregations, PRICE_FACET)),
+                toRangeFacet(facetValues(aggregations, RATING_FACET))
+        );
+    }
+
+    private Aggregate facetValues(ElasticsearchAggregations aggregations, String facetName) {
+        return aggregations.get(facetName).aggregation().getAggregate()
+                .filter().aggregations().get(FACET_VALUES);
+    }
+
+    private List<RangeFacetCount> toRangeFacet(Aggregate aggregate) {
+        return aggregate.range().buckets().array().stream()
+                .map(bucket -> new RangeFacetCount(
+                        bucket.from() != null ? BigDecimal.valueOf(bucket.from()) : null,
+                        bucket.to() != null ? BigDecimal.valueOf(bucket.to()) : null,
+                        bucket.docCount()
+                ))
+                .toList();
+    }
+
+    private ProductSearchHit toHit(ProductDocument document) {
+        return new ProductSearchHit(
+                UUID.fromString(document.getId()),
+                UUID.fromString(document.getSellerId()),
+                document.getName(),
+                document.getBasePrice(),
+                ProductStatus.valueOf(document.getStatus()),
+                document.getThumbnailUrl(),
+                document.getRatingAvg(),
+                document.getReviewCount(),
+                document.getCreatedAt()
+        );
+    }
+
+    /**
+     * 검색 커서: 마지막 hit의 sort 값 (_score, createdAt, productId)
+     * JSON 직렬화 후 URL-safe Base64로 인코딩하여 sort 값의 타입(숫자/문자열)을 보존합니다.
+     */
+    record SearchAfterCursor(
+            List<Object> searchAfter
+    ) {
+        String encode(JsonMapper jsonMapper) {
+            return Base64.getUrlEncoder().withoutPadding()
+                    .encodeToString(jsonMapper.writeValueAsBytes(this));
+        }
+
+        static SearchAfterCursor decode(String cursor, JsonMapper jsonMapper) {
+            if (cursor == null || cursor.isBlank()) {
+                return null;
+            }
+            try {
+                return jsonMapper.readValue(Base64.getUrlDecoder().decode(cursor), SearchAfterCursor.class);
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("Invalid search cursor", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,266 @@
+package jjh.delivery.adapter.out.search;
+
+import co.elastic.clients.elasticsearch._types.aggregations.Aggregation;
+import co.elastic.clients.elasticsearch._types.query_dsl.Query;
+import jakarta.annotation.PreDestroy;
+import jjh.delivery.adapter.out.search.document.ProductDocument;
+import jjh.delivery.adapter.out.search.repository.ProductElasticsearchRepository;
+import jjh.delivery.application.port.out.LoadCategoryPort;
+import jjh.delivery.application.port.out.LoadProductPort;
+import jjh.delivery.application.port.out.LoadReviewStatsPort;
+import jjh.delivery.application.port.out.LoadReviewStatsPort.RatingSummary;
+import jjh.delivery.application.port.out.ProductIndexingPort;
+import jjh.delivery.domain.category.Category;
+import jjh.delivery.domain.product.Product;
+import jjh.delivery.domain.product.ProductStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.elasticsearch.BulkFailureException;
+import org.springframework.data.elasticsearch.client.elc.ElasticsearchAggregations;
+import org.springframework.data.elasticsearch.client.elc.NativeQuery;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.SearchHits;
+import org.springframework.data.elasticsearch.core.query.IndexQuery;
+import org.springframework.data.elasticsearch.core.query.IndexQueryBuilder;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Product Indexing Pipeline - Driven Adapter (Outbound)
+ * 상품 검색 인덱스를 요청 스레드 밖에서 bulk로 갱신 (OrderIndexingPipeline과 같은 구조)
+ *
+ * 1) 요청된 상품 ID는 트랜잭션 커밋 이후 대기 집합에 등록 (같은 상품은 하나로 합쳐짐)
+ * 2) 대기 건수가 batch-size에 도달하거나 flush-interval이 지나면 전용 스레드가 flush
+ * 3) flush 시점에 상품과 평점 요약을 일괄 조회하여 하나의 bulk 요청으로 인덱싱
+ *
+ * 별도 재시도 큐는 두지 않습니다. 요청 전체가 실패하면 대기 집합에 되돌려 다음 flush에서 재시도하고,
+ * 문서 단위 실패는 로그만 남깁니다. (다음 상품 변경 시 ProductIndexSyncService가 다시 반영)
+ */
+@Component
+@ConditionalOnProperty(prefix = "search.product", name = "engine", havingValue = "elasticsearch", matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+public class ProductIndexingPipeline implements ProductIndexingPort {
+
+    private static final String LATEST_UPDATED_AT = "latestUpdatedAt";
+
+    private final ElasticsearchOperations elasticsearchOperations;
+    private final ProductElasticsearchRepository repository;
+    private final LoadProductPort loadProductPort;
+    private final LoadReviewStatsPort loadReviewStatsPort;
+    private final LoadCategoryPort loadCategoryPort;
+
+    private final Set<UUID> pending = ConcurrentHashMap.newKeySet();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final ExecutorService flushExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "product-indexing");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @Value("${search.product.indexing.batch-size:500}")
+    private int batchSize;
+
+    @Override
+    public void requestIndexing(Collection<UUID> productIds) {
+        if (productIds.isEmpty()) {
+            return;
+        }
+        List<UUID> ids = List.copyOf(productIds);
+
+        // 롤백된 변경이 인덱싱되지 않도록 커밋 이후에 등록
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueue(ids);
+                }
+            });
+        } else {
+            enqueue(ids);
+        }
+    }
+
+    @Override
+    public Optional<LocalDateTime> findLatestIndexedUpdatedAt() {
+        NativeQuery query = NativeQuery.builder()
+                .withQuery(Query.of(q -> q.matchAll(m -> m)))
+                .withMaxResults(0)
+                .withTrackTotalHits(true)
+                .withAggregation(LATEST_UPDATED_AT, Aggregation.of(a -> a.max(m -> m.field("updatedAt"))))
+                .build();
+
+        SearchHits<ProductDocument> searchHits = elasticsearchOperations.search(query, ProductDocument.class);
+        if (searchHits.getTotalHits() == 0 || searchHits.getAggregations() == null) {
+            return Optional.empty();
+        }
+
+        double epochMillis = ((ElasticsearchAggregations) searchHits.getAggregations())
+                .get(LATEST_UPDATED_AT).aggregation().getAggregate().max().value();
+        // 오프셋 없이 저장된 시각은 UTC로 해석되므로 UTC로 되돌려야 저장된 로컬 시각과 일치
+        return Optional.of(LocalDateTime.ofInstant(Instant.ofEpochMilli((long) epochMillis), ZoneOffset.UTC));
+    }
+
+    /**
+     * 주기적 flush (batch-size에 도달하지 않은 대기 요청 처리)
+     */
+    @Scheduled(fixedDelayString = "${search.product.indexing.flush-interval:1000}")
+    public void scheduledFlush() {
+        if (!pending.isEmpty()) {
+            triggerFlush();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flushExecutor.shutdown();
+        try {
+            flushExecutor.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flush();
+    }
+
+    private void enqueue(List<UUID> ids) {
+        pending.addAll(ids);
+        if (pending.size() >= batchSize) {
+            triggerFlush();
+        }
+    }
+
+    private void triggerFlush() {
+        try {
+            flushExecutor.execute(this::flush);
+        } catch (RejectedExecutionException e) {
+            // 종료 중 - shutdown()의 마지막 flush가 처리
+            log.debug("Product indexing executor is shut down, pending={}", pending.size());
+        }
+    }
+
+    /**
+     * 대기 집합을 batch-size 단위로 비울 때까지 bulk 인덱싱
+     * 동시에 하나의 flush만 실행 (이미 실행 중이면 해당 flush가 새 요청까지 처리)
+     */
+    void flush() {
+        if (!flushLock.tryLock()) {
+            return;
+        }
+        try {
+            List<UUID> batch;
+            while (!(batch = drain()).isEmpty()) {
+                if (!indexBatch(batch)) {
+                    // Elasticsearch 장애 등 - 다음 주기에 다시 시도
+                    pending.addAll(batch);
+                    break;
+                }
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private List<UUID> drain() {
+        List<UUID> batch = new ArrayList<>(Math.min(batchSize, pending.size()));
+        Iterator<UUID> iterator = pending.iterator();
+        while (batch.size() < batchSize && iterator.hasNext()) {
+            batch.add(iterator.next());
+            iterator.remove();
+        }
+        return batch;
+    }
+
+    /**
+     * 상품/평점 일괄 조회 후 bulk 인덱싱 (DB에 없거나 삭제된 상품은 인덱스에서 제거)
+     *
+     * @return 요청 단위 실패 여부 (문서 단위 실패는 성공으로 간주)
+     */
+    private boolean indexBatch(List<UUID> productIds) {
+        try {
+            Map<UUID, Product> products = loadProductPort.findAllById(productIds).stream()
+                    .filter(product -> product.getStatus() != ProductStatus.DELETED)
+                    .collect(Collectors.toMap(Product::getId, Function.identity()));
+            Map<UUID, RatingSummary> ratings = loadReviewStatsPort.getRatingSummariesByProductIds(products.keySet());
+            Map<UUID, List<UUID>> categoryPaths = loadCategoryPaths(products.values());
+
+            List<IndexQuery> queries = products.values().stream()
+                    .map(product -> new IndexQueryBuilder()
+                            .withId(product.getId().toString())
+                            .withObject(ProductDocument.from(product,
+                                    ratings.getOrDefault(product.getId(), RatingSummary.empty()),
+                                    categoryPathIds(product, categoryPaths)))
+                            .build())
+                    .toList();
+
+            if (!queries.isEmpty()) {
+                try {
+                    elasticsearchOperations.bulkIndex(queries, ProductDocument.class);
+                } catch (BulkFailureException e) {
+                    log.error("Failed to index some products: {}", e.getFailedDocuments());
+                }
+            }
+
+            List<String> removed = productIds.stream()
+                    .filter(id -> !products.containsKey(id))
+                    .map(UUID::toString)
+                    .toList();
+            if (!removed.isEmpty()) {
+                repository.deleteAllById(removed);
+            }
+
+            log.debug("Bulk indexed products. indexed={}, removed={}", queries.size(), removed.size());
+            return true;
+        } catch (Exception e) {
+            log.error("Failed to bulk index {} products", productIds.size(), e);
+            return false;
+        }
+    }
+
+    /**
+     * 배치 상품들의 카테고리 경로를 한 번에 조회 (카테고리 ID → 루트부터의 ID 목록)
+     */
+    private Map<UUID, List<UUID>> loadCategoryPaths(Collection<Product> products) {
+        Set<UUID> categoryIds = products.stream()
+                .flatMap(product -> product.getCategoryIds().stream())
+                .collect(Collectors.toSet());
+        return loadCategoryPort.findAllById(categoryIds).stream()
+                .collect(Collectors.toMap(Category::getId, Category::getPathIds));
+    }
+
+    /**
+     * 상품 카테고리 + 조상 카테고리 (경로가 없는 카테고리는 자기 자신만)
+     */
+    private Collection<UUID> categoryPathIds(Product product, Map<UUID, List<UUID>> categoryPaths) {
+        Set<UUID> pathIds = new LinkedHashSet<>();
+        for (UUID categoryId : product.getCategoryIds()) {
+            pathIds.addAll(categoryPaths.getOrDefault(categoryId, List.of()));
+            pathIds.add(categoryId);
+        }
+        return pathIds;
+    }
+}
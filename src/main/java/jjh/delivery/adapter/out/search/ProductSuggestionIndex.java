@@ -0,0 +1,372 @@
+package jjh.delivery.adapter.out.search;
+
+import jjh.delivery.application.port.in.AutocompleteProductUseCase.ProductSuggestion;
+
+import java.nio.CharBuffer;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Product Suggestion Index
+ * 상품명 자동완성용 메모리 인덱스 (front coding 정렬 키 배열 + 인기도 구간 최대값 트리 + 변경분 오버레이)
+ *
+ * - base: 전체 재구축 시 만들어지는 불변 구조입니다. 정규화된 키를 정렬해 두면 같은 접두어의 키는 연속 구간이 되고,
+ *   구간 최대값 트리(segment tree)로 구간 내 인기도 상위 K개를 O(K log N)에 찾습니다.
+ *   키는 BLOCK_SIZE개씩 블록으로 나누어 블록 첫 키만 전체를 저장하고, 나머지는 앞 키와 공유하는 접두어 길이 + 나머지 문자로
+ *   하나의 char 배열에 저장합니다. (front coding) 접두어 탐색은 블록 첫 키로 이진 탐색한 뒤 블록 하나만 순서대로 복원합니다.
+ *   키마다 String 객체를 두지 않고 공통 접두어를 한 번만 저장하므로 문자 단위 트라이나 키 배열보다 메모리를 적게 씁니다.
+ * - delta: 재구축 이후 변경된 상품입니다. 키 정렬 맵에 따로 보관하고 base의 해당 상품 항목은 건너뜁니다.
+ *   다음 재구축 때 base로 합쳐집니다.
+ *
+ * 키는 상품명 전체와 두 번째 단어부터 시작하는 접미어(최대 maxWordKeys개)이며, maxKeyLength까지만 저장합니다.
+ * base는 불변이고 delta는 동시성 컬렉션이므로 조회는 락 없이 수행합니다. (갱신은 단일 스레드)
+ */
+final class ProductSuggestionIndex {
+
+    private static final char UPPER_BOUND = Character.MAX_VALUE;
+    private static final int BLOCK_SIZE = 16;
+    private static final int MAX_SHARED = 0xFF;
+
+    private final int maxKeyLength;
+    private final int maxWordKeys;
+
+    // base (불변)
+    private final char[] keyChars;
+    private final int[] keyOffsets;
+    private final byte[] sharedLengths;
+    private final int[] keySlots;
+    private final UUID[] productIds;
+    private final String[] names;
+    private final long[] popularity;
+    private final int[] maxTree;
+
+    // delta (재구축 이후 변경분, 삭제는 keys가 빈 항목으로 표시)
+    private final ConcurrentSkipListMap<String, Map<UUID, Entry>> deltaKeys = new ConcurrentSkipListMap<>();
+    private final Map<UUID, Entry> deltaProducts = new ConcurrentHashMap<>();
+
+    private ProductSuggestionIndex(Builder builder, char[] keyChars, int[] keyOffsets, byte[] sharedLengths,
+                                   int[] keySlots) {
+        this.maxKeyLength = builder.maxKeyLength;
+        this.maxWordKeys = builder.maxWordKeys;
+        this.keyChars = keyChars;
+        this.keyOffsets = keyOffsets;
+        this.sharedLengths = sharedLengths;
+        this.keySlots = keySlots;
+        this.productIds = builder.productIds.toArray(UUID[]::new);
+        this.names = builder.names.toArray(String[]::new);
+        this.popularity = builder.popularity.stream().mapToLong(Long::longValue).toArray();
+        this.maxTree = buildMaxTree();
+    }
+
+    static Builder builder(int maxKeyLength, int maxWordKeys) {
+        return new Builder(maxKeyLength, maxWordKeys);
+    }
+
+    int keyCount() {
+        return keySlots.length;
+    }
+
+    int productCount() {
+        return productIds.length;
+    }
+
+    /**
+     * 접두어로 시작하는 키를 가진 상품 상위 limit개 (인기도 내림차순, 같으면 상품명 순)
+     */
+    List<ProductSuggestion> suggest(String prefix, int limit) {
+        String normalized = truncate(normalize(prefix));
+        if (normalized.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        String upper = normalized + UPPER_BOUND;
+
+        List<Entry> candidates = new ArrayList<>();
+        Set<UUID> seen = new HashSet<>();
+
+        // base: 구간 최대값을 꺼낸 뒤 남은 좌/우 구간을 다시 후보로 넣는 best-first 탐색
+        int from = lowerBound(normalized);
+        int to = lowerBound(upper);
+        PriorityQueue<int[]> ranges = new PriorityQueue<>(
+                Comparator.comparingLong((int[] range) -> keyPopularity(range[2])).reversed());
+        offerRange(ranges, from, to);
+        while (!ranges.isEmpty() && candidates.size() < limit) {
+            int[] range = ranges.poll();
+            int position = range[2];
+            int slot = keySlots[position];
+            UUID productId = productIds[slot];
+            if (!deltaProducts.containsKey(productId) && seen.add(productId)) {
+                candidates.add(new Entry(productId, names[slot], popularity[slot], List.of()));
+            }
+            offerRange(ranges, range[0], position);
+            offerRange(ranges, position + 1, range[1]);
+        }
+
+        // delta: 변경된 상품은 수가 적으므로 구간 전체를 확인
+        for (Map<UUID, Entry> entries : deltaKeys.subMap(normalized, true, upper, false).values()) {
+            for (Entry entry : entries.values()) {
+                if (seen.add(entry.productId())) {
+                    candidates.add(entry);
+                }
+            }
+        }
+
+        return candidates.stream()
+                .sorted(Comparator.comparingLong(Entry::popularity).reversed().thenComparing(Entry::name))
+                .limit(limit)
+                .map(entry -> new ProductSuggestion(entry.productId(), entry.name()))
+                .toList();
+    }
+
+    /**
+     * 변경된 상품 반영 (이름/인기도 변경 또는 신규)
+     */
+    void upsert(UUID productId, String name, long productPopularity) {
+        Entry entry = new Entry(productId, name, productPopularity, keysOf(name, maxKeyLength, maxWordKeys));
+        Entry previous = deltaProducts.put(productId, entry);
+        removeDeltaKeys(previous);
+        for (String key : entry.keys()) {
+            deltaKeys.computeIfAbsent(key, k -> new ConcurrentHashMap<>()).put(productId, entry);
+        }
+    }
+
+    /**
+     * 판매 중지/삭제된 상품 제거
+     */
+    void remove(UUID productId) {
+        Entry previous = deltaProducts.put(productId, new Entry(productId, null, 0L, List.of()));
+        removeDeltaKeys(previous);
+    }
+
+    private void removeDeltaKeys(Entry previous) {
+        if (previous == null) {
+            return;
+        }
+        for (String key : previous.keys()) {
+            deltaKeys.computeIfPresent(key, (k, entries) -> {
+                entries.remove(previous.productId());
+                return entries.isEmpty() ? null : entries;
+            });
+        }
+    }
+
+    private void offerRange(PriorityQueue<int[]> ranges, int from, int to) {
+        int position = argMax(from, to);
+        if (position >= 0) {
+            ranges.offer(new int[]{from, to, position});
+        }
+    }
+
+    /**
+     * key 이상인 첫 키 위치 (블록 첫 키로 이진 탐색 후 해당 블록만 복원)
+     */
+    private int lowerBound(String key) {
+        int blockCount = (keySlots.length + BLOCK_SIZE - 1) / BLOCK_SIZE;
+        int low = 0;
+        int high = blockCount;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (CharSequence.compare(blockHead(mid), key) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        if (low == 0) {
+            return 0;
+        }
+
+        // 첫 키가 key보다 작은 마지막 블록 안에서 순서대로 비교
+        int from = (low - 1) * BLOCK_SIZE;
+        int to = Math.min(from + BLOCK_SIZE, keySlots.length);
+        StringBuilder current = new StringBuilder(maxKeyLength);
+        for (int position = from; position < to; position++) {
+            current.setLength(Byte.toUnsignedInt(sharedLengths[position]));
+            current.append(keyChars, keyOffsets[position], keyOffsets[position + 1] - keyOffsets[position]);
+            if (CharSequence.compare(current, key) >= 0) {
+                return position;
+            }
+        }
+        return to;
+    }
+
+    private CharSequence blockHead(int block) {
+        int position = block * BLOCK_SIZE;
+        return CharBuffer.wrap(keyChars, keyOffsets[position], keyOffsets[position + 1] - keyOffsets[position]);
+    }
+
+    /**
+     * 리프가 키 위치인 반복형 segment tree (크기 2N, 리프는 N..2N-1)
+     */
+    private int[] buildMaxTree() {
+        int n = keySlots.length;
+        int[] tree = new int[2 * n];
+        for (int i = 0; i < n; i++) {
+            tree[n + i] = i;
+        }
+        for (int i = n - 1; i > 0; i--) {
+            tree[i] = better(tree[2 * i], tree[2 * i + 1]);
+        }
+        return tree;
+    }
+
+    /**
+     * [from, to) 구간에서 인기도가 가장 높은 키 위치 (빈 구간이면 -1)
+     */
+    private int argMax(int from, int to) {
+        int best = -1;
+        int n = keySlots.length;
+        for (int left = from + n, right = to + n; left < right; left >>= 1, right >>= 1) {
+            if ((left & 1) == 1) {
+                best = better(best, maxTree[left++]);
+            }
+            if ((right & 1) == 1) {
+                best = better(best, maxTree[--right]);
+            }
+        }
+        return best;
+    }
+
+    private int better(int a, int b) {
+        if (a < 0) {
+            return b;
+        }
+        if (b < 0) {
+            return a;
+        }
+        return keyPopularity(a) >= keyPopularity(b) ? a : b;
+    }
+
+    private long keyPopularity(int position) {
+        return popularity[keySlots[position]];
+    }
+
+    private String truncate(String key) {
+        return key.length() > maxKeyLength ? key.substring(0, maxKeyLength) : key;
+    }
+
+    /**
+     * 전각/반각, 대소문자, 연속 공백 차이를 없앤 비교용 문자열
+     */
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return Normalizer.normalize(text, Normalizer.Form.NFKC)
+                .toLowerCase(Locale.ROOT)
+                .trim()
+                .replaceAll("\\s+", " ");
+    }
+
+    static List<String> keysOf(String name, int maxKeyLength, int maxWordKeys) {
+        String normalized = normalize(name);
+        if (normalized.isEmpty()) {
+            return List.of();
+        }
+
+        Set<String> keys = new LinkedHashSet<>();
+        keys.add(truncateKey(normalized, maxKeyLength));
+
+        int wordKeys = 0;
+        int space = normalized.indexOf(' ');
+        while (space >= 0 && wordKeys < maxWordKeys) {
+            keys.add(truncateKey(normalized.substring(space + 1), maxKeyLength));
+            wordKeys++;
+            space = normalized.indexOf(' ', space + 1);
+        }
+        return List.copyOf(keys);
+    }
+
+    private static String truncateKey(String key, int maxKeyLength) {
+        return key.length() > maxKeyLength ? key.substring(0, maxKeyLength) : key;
+    }
+
+    private record Entry(
+            UUID productId,
+            String name,
+            long popularity,
+            List<String> keys
+    ) {}
+
+    /**
+     * 전체 재구축용 Builder (상품을 모두 추가한 뒤 키를 한 번 정렬)
+     */
+    static final class Builder {
+
+        private final int maxKeyLength;
+        private final int maxWordKeys;
+        private final List<UUID> productIds = new ArrayList<>();
+        private final List<String> names = new ArrayList<>();
+        private final List<Long> popularity = new ArrayList<>();
+        private final List<KeyRef> keyRefs = new ArrayList<>();
+
+        private Builder(int maxKeyLength, int maxWordKeys) {
+            this.maxKeyLength = maxKeyLength;
+            this.maxWordKeys = maxWordKeys;
+        }
+
+        Builder add(UUID productId, String name, long productPopularity) {
+            List<String> keys = keysOf(name, maxKeyLength, maxWordKeys);
+            if (keys.isEmpty()) {
+                return this;
+            }
+            int slot = productIds.size();
+            productIds.add(productId);
+            names.add(name);
+            popularity.add(productPopularity);
+            for (String key : keys) {
+                keyRefs.add(new KeyRef(key, slot));
+            }
+            return this;
+        }
+
+        /**
+         * 키를 정렬한 뒤 블록 단위로 front coding (블록 첫 키는 공유 길이 0)
+         */
+        ProductSuggestionIndex build() {
+            keyRefs.sort(Comparator.comparing(KeyRef::key));
+            int count = keyRefs.size();
+            int[] keySlots = new int[count];
+            int[] keyOffsets = new int[count + 1];
+            byte[] sharedLengths = new byte[count];
+            StringBuilder chars = new StringBuilder();
+
+            String previous = "";
+            for (int i = 0; i < count; i++) {
+                String key = keyRefs.get(i).key();
+                int shared = i % BLOCK_SIZE == 0 ? 0 : sharedPrefixLength(previous, key);
+                keySlots[i] = keyRefs.get(i).slot();
+                sharedLengths[i] = (byte) shared;
+                keyOffsets[i] = chars.length();
+                chars.append(key, shared, key.length());
+                previous = key;
+            }
+            keyOffsets[count] = chars.length();
+
+            char[] keyChars = new char[chars.length()];
+            chars.getChars(0, chars.length(), keyChars, 0);
+            return new ProductSuggestionIndex(this, keyChars, keyOffsets, sharedLengths, keySlots);
+        }
+
+        private static int sharedPrefixLength(String previous, String key) {
+            int max = Math.min(Math.min(previous.length(), key.length()), MAX_SHARED);
+            int length = 0;
+            while (length < max && previous.charAt(length) == key.charAt(length)) {
+                length++;
+            }
+            return length;
+        }
+
+        private record KeyRef(String key, int slot) {}
+    }
+}
@@ -0,0 +1,75 @@
+package jjh.delivery.adapter.out.search;
+
+import jjh.delivery.application.port.in.AutocompleteProductUseCase.ProductSuggestion;
+import jjh.delivery.application.port.out.ProductSuggestionIndexPort;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Product Suggestion Index Adapter - Driven Adapter (Outbound)
+ * 상품명 자동완성 인덱스를 애플리케이션 메모리(ProductSuggestionIndex)에 유지
+ *
+ * 재구축된 인덱스는 volatile 참조 교체로 게시하므로 조회 스레드는 락 없이 최신 인덱스를 읽습니다.
+ */
+@Component
+public class ProductSuggestionIndexAdapter implements ProductSuggestionIndexPort {
+
+    private volatile ProductSuggestionIndex index;
+
+    @Value("${search.product.autocomplete.max-key-length:30}")
+    private int maxKeyLength;
+
+    @Value("${search.product.autocomplete.max-word-keys:3}")
+    private int maxWordKeys;
+
+    @Override
+    public boolean isLoaded() {
+        return index != null;
+    }
+
+    @Override
+    public List<ProductSuggestion> suggest(String prefix, int limit) {
+        ProductSuggestionIndex current = index;
+        if (current == null) {
+            return List.of();
+        }
+        return current.suggest(prefix, limit);
+    }
+
+    @Override
+    public IndexBuild startBuild() {
+        ProductSuggestionIndex.Builder builder = ProductSuggestionIndex.builder(maxKeyLength, maxWordKeys);
+        return new IndexBuild() {
+            @Override
+            public void add(UUID productId, String name, long popularity) {
+                builder.add(productId, name, popularity);
+            }
+
+            @Override
+            public IndexSize publish() {
+                ProductSuggestionIndex rebuilt = builder.build();
+                index = rebuilt;
+                return new IndexSize(rebuilt.productCount(), rebuilt.keyCount());
+            }
+        };
+    }
+
+    @Override
+    public void upsert(UUID productId, String name, long popularity) {
+        ProductSuggestionIndex current = index;
+        if (current != null) {
+            current.upsert(productId, name, popularity);
+        }
+    }
+
+    @Override
+    public void remove(UUID productId) {
+        ProductSuggestionIndex current = index;
+        if (current != null) {
+            current.remove(productId);
+        }
+    }
+}
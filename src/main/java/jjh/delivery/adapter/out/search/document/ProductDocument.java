@@ -0,0 +1,157 @@
+package jjh.delivery.adapter.out.search.document;
+
+import jjh.delivery.application.port.out.LoadReviewStatsPort.RatingSummary;
+import jjh.delivery.domain.product.Product;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.elasticsearch.annotations.DateFormat;
+import org.springframework.data.elasticsearch.annotations.Document;
+import org.springframework.data.elasticsearch.annotations.Field;
+import org.springframework.data.elasticsearch.annotations.FieldType;
+import org.springframework.data.elasticsearch.annotations.InnerField;
+import org.springframework.data.elasticsearch.annotations.MultiField;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Product Elasticsearch Document (카탈로그 검색용)
+ *
+ * Note: UUID 필드는 OrderDocument와 같은 이유로 String(keyword)으로 저장합니다.
+ * 평점/리뷰 수는 리뷰 변경 시 상품 단위로 다시 인덱싱하여 갱신합니다.
+ */
+@Document(indexName = "products", createIndex = true)
+public class ProductDocument {
+
+    @Id
+    private String id;
+
+    /**
+     * 정렬 tie-breaker용 (@Id는 _id로 매핑되어 일반 필드로 정렬 불가)
+     */
+    @Field(type = FieldType.Keyword)
+    private String productId;
+
+    @Field(type = FieldType.Keyword)
+    private String sellerId;
+
+    @MultiField(
+            mainField = @Field(type = FieldType.Text, analyzer = "standard"),
+            otherFields = @InnerField(suffix = "keyword", type = FieldType.Keyword, ignoreAbove = 256)
+    )
+    private String name;
+
+    @Field(type = FieldType.Text, analyzer = "standard")
+    private String description;
+
+    @Field(type = FieldType.Keyword)
+    private List<String> categoryIds;
+
+    /**
+     * 상품 카테고리와 그 조상 카테고리 전체 (하위 트리 필터용, categories.path 기준)
+     */
+    @Field(type = FieldType.Keyword)
+    private List<String> categoryPathIds;
+
+    @Field(type = FieldType.Double)
+    private BigDecimal basePrice;
+
+    @Field(type = FieldType.Keyword)
+    private String status;
+
+    @Field(type = FieldType.Keyword, index = false)
+    private String thumbnailUrl;
+
+    @Field(type = FieldType.Float)
+    private double ratingAvg;
+
+    @Field(type = FieldType.Long)
+    private long reviewCount;
+
+    @Field(type = FieldType.Date, format = DateFormat.date_hour_minute_second, pattern = "uuuu-MM-dd'T'HH:mm:ss||uuuu-MM-dd||epoch_millis")
+    private LocalDateTime createdAt;
+
+    @Field(type = FieldType.Date, format = DateFormat.date_hour_minute_second, pattern = "uuuu-MM-dd'T'HH:mm:ss||uuuu-MM-dd||epoch_millis")
+    private LocalDateTime updatedAt;
+
+    public ProductDocument() {
+    }
+
+    public static ProductDocument from(Product product, RatingSummary rating, Collection<UUID> categoryPathIds) {
+        ProductDocument doc = new ProductDocument();
+        doc.id = product.getId().toString();
+        doc.productId = doc.id;
+        doc.sellerId = product.getSellerId().toString();
+        doc.name = product.getName();
+        doc.description = product.getDescription();
+        doc.categoryIds = product.getCategoryIds().stream()
+                .map(Object::toString)
+                .toList();
+        doc.categoryPathIds = categoryPathIds.stream()
+                .map(Object::toString)
+                .toList();
+        doc.basePrice = product.getBasePrice();
+        doc.status = product.getStatus().name();
+        doc.thumbnailUrl = product.getImageUrls().isEmpty() ? null : product.getImageUrls().get(0);
+        doc.ratingAvg = rating.averageRating();
+        doc.reviewCount = rating.reviewCount();
+        doc.createdAt = product.getCreatedAt();
+        doc.updatedAt = product.getUpdatedAt();
+        return doc;
+    }
+
+    // Getters
+    public String getId() {
+        return id;
+    }
+
+    public String getSellerId() {
+        return sellerId;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public List<String> getCategoryIds() {
+        return categoryIds;
+    }
+
+    public List<String> getCategoryPathIds() {
+        return categoryPathIds;
+    }
+
+    public BigDecimal getBasePrice() {
+        return basePrice;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public String getThumbnailUrl() {
+        return thumbnailUrl;
+    }
+
+    public double getRatingAvg() {
+        return ratingAvg;
+    }
+
+    public long getReviewCount() {
+        return reviewCount;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+}
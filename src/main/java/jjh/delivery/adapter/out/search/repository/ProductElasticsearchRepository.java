@@ -0,0 +1,11 @@
+package jjh.delivery.adapter.out.search.repository;
+
+import jjh.delivery.adapter.out.search.document.ProductDocument;
+import org.springframework.data.elasticsearch.repository.ElasticsearchRepository;
+
+/**
+ * Product Elasticsearch Repository
+ * 검색은 ProductElasticsearchAdapter의 NativeQuery로 처리하고, 저장소는 문서 삭제에만 사용합니다.
+ */
+public interface ProductElasticsearchRepository extends ElasticsearchRepository<ProductDocument, String> {
+}
@@ -0,0 +1,22 @@
+package jjh.delivery.application.port.in;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Autocomplete Product Use Case - Driving Port (Inbound)
+ * 상품명 자동완성 (애플리케이션 메모리 인덱스, DB/검색 클러스터 미조회)
+ */
+public interface AutocompleteProductUseCase {
+
+    /**
+     * 접두어로 시작하는 상품명 (또는 상품명 중간 단어) 상위 limit개, 인기순
+     * 인덱스가 아직 적재되지 않았으면 빈 목록을 반환합니다.
+     */
+    List<ProductSuggestion> suggest(String prefix, int limit);
+
+    record ProductSuggestion(
+            UUID productId,
+            String name
+    ) {}
+}
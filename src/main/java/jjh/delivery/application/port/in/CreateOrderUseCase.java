@@ -15,8 +15,34 @@ public interface CreateOrderUseCase {
 
     int MAX_ORDER_ITEMS = 50;
 
+    int MAX_BULK_ORDERS = 500;
+
     Order createOrder(CreateOrderCommand command);
 
+    /**
+     * 여러 주문 일괄 생성 (단일 트랜잭션, 배치 INSERT)
+     */
+    List<Order> createOrders(BulkCreateOrderCommand command);
+
+    /**
+     * Bulk Create Order Command
+     * 마켓플레이스 연동, B2B 재주문 등 대량 주문 생성용
+     */
+    record BulkCreateOrderCommand(
+            List<CreateOrderCommand> orders
+    ) {
+        public BulkCreateOrderCommand {
+            if (orders == null || orders.isEmpty()) {
+                throw new IllegalArgumentException("일괄 생성할 주문이 최소 1개 이상이어야 합니다");
+            }
+            if (orders.size() > MAX_BULK_ORDERS) {
+                throw new IllegalArgumentException(
+                        "한 번에 " + MAX_BULK_ORDERS + "개 이상의 주문을 생성할 수 없습니다");
+            }
+            orders = List.copyOf(orders);
+        }
+    }
+
     /**
      * Create Order Command
      * 비즈니스 규칙 (Business Validation) 담당
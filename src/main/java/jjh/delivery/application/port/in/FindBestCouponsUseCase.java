@@ -0,0 +1,38 @@
+package jjh.delivery.application.port.in;
+
+import jjh.delivery.domain.promotion.CouponScope;
+import jjh.delivery.domain.promotion.DiscountType;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Find Best Coupons Use Case - Driving Port (Inbound)
+ * 장바구니에 적용 가능한 쿠폰을 할인 금액 순으로 조회 (결제 화면용)
+ */
+public interface FindBestCouponsUseCase {
+
+    /**
+     * 고객 장바구니에 적용 가능한 쿠폰 (할인 금액 내림차순, 이미 사용한 쿠폰 제외)
+     */
+    List<ApplicableCoupon> findBestCoupons(UUID customerId, int limit);
+
+    /**
+     * @param eligibleAmount 쿠폰 적용 범위에 해당하는 장바구니 상품 금액 합계
+     * @param discountAmount 예상 할인 금액 (적용 범위 금액을 넘지 않음)
+     */
+    record ApplicableCoupon(
+            UUID couponId,
+            String code,
+            String name,
+            DiscountType discountType,
+            BigDecimal discountValue,
+            CouponScope scope,
+            UUID scopeTargetId,
+            BigDecimal eligibleAmount,
+            BigDecimal discountAmount,
+            LocalDateTime validUntil
+    ) {}
+}
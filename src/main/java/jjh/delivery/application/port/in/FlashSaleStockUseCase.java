@@ -0,0 +1,29 @@
+package jjh.delivery.application.port.in;
+
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Flash Sale Stock Use Case - Driving Port (Inbound)
+ * 진행 중인 플래시 세일 변형의 재고 차감/반환 (재고 선점에서 사용)
+ */
+public interface FlashSaleStockUseCase {
+
+    /**
+     * 이 인스턴스가 알고 있는 진행 중 캠페인의 변형 ID
+     */
+    Set<UUID> activeVariantIds();
+
+    /**
+     * 플래시 세일 카운터에서 재고 차감
+     *
+     * @return 카운터에서 차감했으면 true, 진행 중인 캠페인이 아니면 false (DB 재고에서 차감해야 함)
+     * @throws jjh.delivery.domain.product.exception.InsufficientStockException 카운터 재고가 부족한 경우
+     */
+    boolean take(UUID productId, UUID variantId, int quantity);
+
+    /**
+     * 카운터에서 차감했던 재고 반환 (캠페인이 이미 종료되었으면 DB 재고로 정산)
+     */
+    void giveBack(UUID variantId, int quantity);
+}
@@ -0,0 +1,30 @@
+package jjh.delivery.application.port.in;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Frequently Bought Together Use Case - Driving Port (Inbound)
+ * 함께 구매한 상품 집계 및 조회
+ */
+public interface FrequentlyBoughtTogetherUseCase {
+
+    /**
+     * 주문 1건의 상품 조합을 집계에 반영 (메모리 누적 후 주기적으로 저장)
+     */
+    void recordOrder(List<UUID> productIds);
+
+    /**
+     * 해당 상품과 함께 가장 많이 구매된 판매 중 상품 상위 limit개 (저장된 집계 기준)
+     */
+    List<RelatedProduct> getFrequentlyBoughtTogether(UUID productId, int limit);
+
+    record RelatedProduct(
+            UUID productId,
+            String name,
+            BigDecimal basePrice,
+            String thumbnailUrl,
+            long purchaseCount
+    ) {}
+}
@@ -0,0 +1,50 @@
+package jjh.delivery.application.port.in;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Get Category Tree Use Case - Driving Port (Inbound)
+ * 활성 카테고리 트리 조회 (애플리케이션 메모리 스냅샷, 요청마다 캐시/DB 미조회)
+ *
+ * 반환되는 노드와 목록은 불변이며 스냅샷 간에 공유됩니다.
+ */
+public interface GetCategoryTreeUseCase {
+
+    /**
+     * 최상위 카테고리 목록 (각 노드에 하위 트리 포함, displayOrder 순)
+     */
+    List<CategoryNode> getTree();
+
+    /**
+     * ID로 카테고리 조회 (비활성이거나 조상이 비활성이면 empty)
+     */
+    Optional<CategoryNode> getCategory(UUID categoryId);
+
+    /**
+     * 자식 카테고리 목록 (displayOrder 순)
+     */
+    List<CategoryNode> getChildren(UUID parentId);
+
+    /**
+     * 특정 깊이의 카테고리 목록 (루트 = 1)
+     */
+    List<CategoryNode> getByDepth(int depth);
+
+    record CategoryNode(
+            UUID id,
+            UUID parentId,
+            String name,
+            String description,
+            String imageUrl,
+            int displayOrder,
+            int depth,
+            String path,
+            List<CategoryNode> children
+    ) {
+        public CategoryNode {
+            children = List.copyOf(children);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package jjh.delivery.application.port.in;
+
+import jjh.delivery.application.port.out.OrderAnalyticsPort.OrderAnalytics;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Get Order Analytics Use Case - Driving Port (Inbound)
+ * 대시보드용 주문 분석 (기간별 추이, 상태/판매자별 집계, 주문 금액 분포)
+ */
+public interface GetOrderAnalyticsUseCase {
+
+    OrderAnalytics getOrderAnalytics(OrderAnalyticsQuery query);
+
+    /**
+     * 주문 분석 조건
+     *
+     * @param sellerId   판매자 범위 (null이면 전체)
+     * @param from       집계 시작 시각 (포함)
+     * @param to         집계 종료 시각 (미포함)
+     * @param interval   기간별 추이의 버킷 단위
+     * @param topSellers 매출 상위 판매자 수
+     */
+    record OrderAnalyticsQuery(
+            UUID sellerId,
+            LocalDateTime from,
+            LocalDateTime to,
+            AnalyticsInterval interval,
+            int topSellers
+    ) {
+        public OrderAnalyticsQuery {
+            if (from == null || to == null) {
+                throw new IllegalArgumentException("from and to are required");
+            }
+            if (!from.isBefore(to)) {
+                throw new IllegalArgumentException("from must be before to");
+            }
+            if (interval == null) interval = AnalyticsInterval.DAY;
+            if (topSellers <= 0) topSellers = 10;
+            if (topSellers > 100) topSellers = 100;
+        }
+
+        /**
+         * 기간별 추이의 예상 버킷 수
+         */
+        public long estimatedBuckets() {
+            return Duration.between(from, to).dividedBy(interval.getApproximateLength()) + 1;
+        }
+    }
+
+    enum AnalyticsInterval {
+        HOUR(Duration.ofHours(1)),
+        DAY(Duration.ofDays(1)),
+        WEEK(Duration.ofDays(7)),
+        MONTH(Duration.ofDays(30));
+
+        private final Duration approximateLength;
+
+        AnalyticsInterval(Duration approximateLength) {
+            this.approximateLength = approximateLength;
+        }
+
+        public Duration getApproximateLength() {
+            return approximateLength;
+        }
+    }
+}
@@ -48,14 +48,16 @@ public interface ManageCouponUseCase {
     // ==================== 쿠폰 사용 ====================
 
     /**
-     * 쿠폰 사용 (주문 시)
+     * 고객의 쿠폰 사용 (고객당 1회, 선착순 수량 초과 없이 원장 기록과 수량 증가를 한 트랜잭션으로 처리)
+     * 주문 생성 트랜잭션 안에서 호출되어 주문과 원장 기록이 함께 커밋/롤백됩니다.
      */
-    Coupon useCoupon(UUID couponId);
+    CouponRedemption redeemCoupon(RedeemCouponCommand command);
 
     /**
-     * 쿠폰 사용 취소 (환불 시)
+     * 주문의 쿠폰 사용 취소 (주문 취소/결제 실패 시 원장 취소 + 수량 반환, 이후 다시 사용 가능)
+     * 사용한 쿠폰이 없는 주문이면 아무것도 하지 않습니다.
      */
-    Coupon cancelCouponUsage(UUID couponId);
+    void cancelCouponRedemption(UUID orderId);
 
     /**
      * 할인 금액 계산
@@ -143,8 +145,33 @@ public interface ManageCouponUseCase {
         }
     }
 
+    record RedeemCouponCommand(
+            UUID couponId,
+            UUID customerId,
+            UUID orderId
+    ) {
+        public RedeemCouponCommand {
+            if (couponId == null) {
+                throw new IllegalArgumentException("Coupon ID is required");
+            }
+            if (customerId == null) {
+                throw new IllegalArgumentException("Customer ID is required");
+            }
+            if (orderId == null) {
+                throw new IllegalArgumentException("Order ID is required");
+            }
+        }
+    }
+
     // ==================== Result ====================
 
+    record CouponRedemption(
+            UUID couponId,
+            UUID customerId,
+            UUID orderId,
+            LocalDateTime redeemedAt
+    ) {}
+
     record CouponValidationResult(
             boolean valid,
             UUID couponId,
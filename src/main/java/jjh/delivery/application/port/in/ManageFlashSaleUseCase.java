@@ -0,0 +1,54 @@
+package jjh.delivery.application.port.in;
+
+import jjh.delivery.domain.inventory.FlashSaleStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Manage Flash Sale Use Case - Driving Port (Inbound)
+ * 플래시 세일 캠페인 등록/조기 종료/조회 (관리자용)
+ */
+public interface ManageFlashSaleUseCase {
+
+    /**
+     * 캠페인 등록 (시작 시각에 변형 재고 전량이 분할 카운터로 이관됨)
+     */
+    FlashSaleInfo scheduleFlashSale(ScheduleFlashSaleCommand command);
+
+    /**
+     * 캠페인 즉시 종료 (남은 수량은 변형 재고로 반환)
+     */
+    FlashSaleInfo endFlashSale(UUID variantId);
+
+    /**
+     * 캠페인 조회 (진행 중이면 카운터의 현재 남은 수량 포함)
+     */
+    FlashSaleInfo getFlashSale(UUID variantId);
+
+    List<FlashSaleInfo> getFlashSales(FlashSaleStatus status);
+
+    /**
+     * @param shardCount 카운터 분할 수 (null이면 기본값)
+     */
+    record ScheduleFlashSaleCommand(
+            UUID variantId,
+            LocalDateTime startsAt,
+            LocalDateTime endsAt,
+            Integer shardCount
+    ) {}
+
+    record FlashSaleInfo(
+            UUID variantId,
+            UUID productId,
+            FlashSaleStatus status,
+            int shardCount,
+            int allocatedQuantity,
+            int remainingQuantity,
+            LocalDateTime startsAt,
+            LocalDateTime endsAt,
+            LocalDateTime activatedAt,
+            LocalDateTime endedAt
+    ) {}
+}
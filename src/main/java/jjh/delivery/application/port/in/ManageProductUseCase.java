@@ -0,0 +1,59 @@
+package jjh.delivery.application.port.in;
+
+import jjh.delivery.domain.product.Product;
+import jjh.delivery.domain.product.ProductStatus;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Manage Product Use Case - Driving Port (Inbound)
+ * 상품 등록/가격/재고/상태 변경 유스케이스
+ *
+ * 변경은 상품 저장과 같은 트랜잭션에서 상품 이벤트(product.* 토픽)로 발행됩니다.
+ */
+public interface ManageProductUseCase {
+
+    /**
+     * 상품 등록 (DRAFT 상태)
+     */
+    Product registerProduct(RegisterProductCommand command);
+
+    /**
+     * 기본 가격 변경
+     */
+    Product changePrice(UUID productId, BigDecimal basePrice);
+
+    /**
+     * 재고 증감 (variantId가 없으면 단일 상품 재고)
+     *
+     * @param quantityDelta 양수면 입고, 음수면 차감
+     */
+    Product adjustStock(UUID productId, UUID variantId, int quantityDelta);
+
+    /**
+     * 판매 상태 변경 (ACTIVE, INACTIVE, DELETED)
+     */
+    Product changeStatus(UUID productId, ProductStatus status);
+
+    // ==================== Commands ====================
+
+    record RegisterProductCommand(
+            UUID sellerId,
+            String name,
+            String description,
+            BigDecimal basePrice,
+            List<UUID> categoryIds,
+            List<String> imageUrls
+    ) {
+        public RegisterProductCommand {
+            if (sellerId == null) {
+                throw new IllegalArgumentException("Seller ID is required");
+            }
+            if (name == null || name.isBlank()) {
+                throw new IllegalArgumentException("Product name is required");
+            }
+        }
+    }
+}
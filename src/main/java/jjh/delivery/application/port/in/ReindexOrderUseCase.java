@@ -0,0 +1,44 @@
+package jjh.delivery.application.port.in;
+
+import java.time.LocalDateTime;
+
+/**
+ * Reindex Order Use Case - Driving Port (Inbound)
+ * 주문 검색 인덱스 전체 재구축 유스케이스
+ */
+public interface ReindexOrderUseCase {
+
+    /**
+     * 전체 재인덱싱 시작 (비동기)
+     * 완료되지 않은 이전 작업이 있으면 마지막 체크포인트부터 재개하고, 이미 실행 중이면 현재 진행 상황만 반환합니다.
+     */
+    ReindexProgress startReindex();
+
+    /**
+     * 가장 최근 재인덱싱 작업의 진행 상황
+     */
+    ReindexProgress getReindexProgress();
+
+    /**
+     * 재인덱싱 진행 상황
+     *
+     * @param status        IDLE(작업 없음) | RUNNING | FAILED | COMPLETED
+     * @param totalCount    작업 시작 시점의 주문 수 (추정치)
+     * @param docsPerSecond 현재 실행의 처리량 (실행 중이 아니면 작업 전체 평균)
+     */
+    record ReindexProgress(
+            String indexName,
+            String status,
+            int totalSlices,
+            int completedSlices,
+            long indexedCount,
+            long totalCount,
+            double docsPerSecond,
+            LocalDateTime startedAt,
+            LocalDateTime finishedAt
+    ) {
+        public static ReindexProgress idle() {
+            return new ReindexProgress(null, "IDLE", 0, 0, 0, 0, 0, null, null);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package jjh.delivery.application.port.in;
+
+import jjh.delivery.domain.order.Order;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Reserve Inventory Use Case - Driving Port (Inbound)
+ * 주문 재고 선점 유스케이스 (주문 생성 → 결제 확정 / 취소·결제 실패·만료 시 해제)
+ */
+public interface ReserveInventoryUseCase {
+
+    /**
+     * 주문들의 모든 상품 재고를 선점 (하나라도 부족하면 전체 실패)
+     */
+    void reserve(List<Order> orders);
+
+    /**
+     * 결제 완료된 주문의 선점 확정 (만료/해제된 줄은 다시 선점하여 확정)
+     */
+    void confirm(Order order);
+
+    /**
+     * 주문의 선점 해제 (재고 복원, 이미 해제된 경우 무시)
+     */
+    void release(UUID orderId);
+}
@@ -4,6 +4,8 @@ import jjh.delivery.domain.order.Order;
 import jjh.delivery.domain.order.OrderStatus;
 
 import jjh.delivery.adapter.in.web.dto.CursorPageResponse;
+import jjh.delivery.application.port.out.OrderQueryPort.OrderSummary;
+import jjh.delivery.application.port.out.OrderSearchPort.OrderSearchResult;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -16,14 +18,48 @@ import java.util.UUID;
 public interface SearchOrderUseCase {
 
     /**
-     * 커서 기반 주문 검색
+     * 커서 기반 주문 검색 (요약 목록)
      * @return 커서 페이지 응답 (hasNext, nextCursor 포함)
      */
-    CursorPageResponse<Order> searchOrders(SearchOrderQuery query);
+    CursorPageResponse<OrderSummary> searchOrders(SearchOrderQuery query);
 
-    List<Order> findByCustomerId(UUID customerId);
+    /**
+     * 스냅샷 일관성을 보장하는 커서 기반 주문 탐색 (관리자용, 요약 목록)
+     * @return 커서 페이지 응답 (nextCursor에 point-in-time 포함)
+     */
+    CursorPageResponse<OrderSummary> browseOrders(SearchOrderQuery query);
+
+    /**
+     * 고객별 주문 검색 (검색 인덱스 Read Model)
+     * @param includeItems false면 아이템 미포함 (목록 화면용)
+     */
+    List<OrderSearchResult> findByCustomerId(UUID customerId, boolean includeItems);
 
-    List<Order> findBySellerId(UUID sellerId);
+    /**
+     * 판매자별 주문 검색 (검색 인덱스 Read Model)
+     * @param includeItems false면 아이템 미포함 (목록 화면용)
+     */
+    List<OrderSearchResult> findBySellerId(UUID sellerId, boolean includeItems);
+
+    /**
+     * 고객별 커서 기반 주문 조회 (아이템 포함, keyset 쿼리)
+     */
+    CursorPageResponse<Order> findByCustomerId(UUID customerId, String cursor, int size);
+
+    /**
+     * 판매자별 커서 기반 주문 조회 (아이템 포함, keyset 쿼리)
+     */
+    CursorPageResponse<Order> findBySellerId(UUID sellerId, String cursor, int size);
+
+    /**
+     * 고객별 커서 기반 주문 요약 조회 (아이템 미포함)
+     */
+    CursorPageResponse<OrderSummary> findSummariesByCustomerId(UUID customerId, String cursor, int size);
+
+    /**
+     * 판매자별 커서 기반 주문 요약 조회 (아이템 미포함)
+     */
+    CursorPageResponse<OrderSummary> findSummariesBySellerId(UUID sellerId, String cursor, int size);
 
     /**
      * 커서 기반 검색 쿼리
@@ -0,0 +1,16 @@
+package jjh.delivery.application.port.in;
+
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * Sync Product Index Use Case - Driving Port (Inbound)
+ * 상품 변경 이벤트를 받아 검색 인덱스를 즉시 갱신
+ */
+public interface SyncProductIndexUseCase {
+
+    /**
+     * 변경된 상품 재인덱싱 요청 (비동기, 최신 상태를 다시 읽어 반영하므로 중복/순서 무관)
+     */
+    void syncProducts(Collection<UUID> productIds);
+}
@@ -0,0 +1,35 @@
+package jjh.delivery.application.port.out;
+
+import jjh.delivery.domain.order.OrderStatus;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Archive Order Port - Driven Port (Outbound)
+ * 월 단위 파티션 관리 및 완료 주문 아카이브 이관 포트
+ */
+public interface ArchiveOrderPort {
+
+    /**
+     * 지정 월의 hot/archive 파티션 생성 (이미 있으면 무시)
+     */
+    void createMonthlyPartitions(YearMonth month);
+
+    /**
+     * createdBefore 이전에 생성된 주문 중 지정 상태인 주문을 아카이브로 이관
+     * 주문과 아이템을 하나의 트랜잭션에서 이동합니다.
+     *
+     * @return 이관된 주문 수 (batchSize보다 작으면 더 이상 대상 없음)
+     */
+    int archiveOrders(LocalDateTime createdBefore, Set<OrderStatus> statuses, int batchSize);
+
+    /**
+     * before 이전 월의 hot 파티션 중 비어 있는 파티션을 detach 후 삭제
+     *
+     * @return 삭제된 파티션 이름
+     */
+    List<String> dropEmptyPartitionsBefore(YearMonth before);
+}
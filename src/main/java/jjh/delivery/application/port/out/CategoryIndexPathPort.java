@@ -0,0 +1,21 @@
+package jjh.delivery.application.port.out;
+
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Category Index Path Port - Driven Port (Outbound)
+ * 상품 검색 인덱스에 반영된 카테고리 경로 저장 포트 (카테고리 이동 감지용)
+ */
+public interface CategoryIndexPathPort {
+
+    /**
+     * 카테고리 ID별 인덱스에 반영된 경로
+     */
+    Map<UUID, String> loadIndexedPaths();
+
+    /**
+     * 재인덱싱을 요청한 카테고리 경로 저장 (기존 행은 덮어씀)
+     */
+    void saveIndexedPaths(Map<UUID, String> paths);
+}
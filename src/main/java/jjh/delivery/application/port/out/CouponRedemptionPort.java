@@ -0,0 +1,49 @@
+package jjh.delivery.application.port.out;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Coupon Redemption Port - Driven Port (Outbound)
+ * 쿠폰 사용 수량 원자적 증감 + 고객별 사용 원장
+ *
+ * 쿠폰 애그리거트를 읽고 저장하지 않고 조건부 UPDATE 한 번으로 수량을 바꾸므로,
+ * 선착순 쿠폰에 요청이 몰려도 갱신 유실/초과 발급 없이 쿠폰 행 잠금은 커밋까지만 유지됩니다.
+ */
+public interface CouponRedemptionPort {
+
+    /**
+     * 사용 가능한 쿠폰(활성, 유효 기간 내, 수량 남음)이면 사용 수량 1 증가
+     *
+     * @return 증가 여부 (쿠폰이 없거나 사용할 수 없으면 false)
+     */
+    boolean incrementUsage(UUID couponId, LocalDateTime now);
+
+    /**
+     * 사용 수량 1 감소
+     *
+     * @return 감소 여부 (쿠폰이 없거나 사용 수량이 0이면 false)
+     */
+    boolean decrementUsage(UUID couponId, LocalDateTime now);
+
+    /**
+     * 고객의 쿠폰 사용 기록 (취소된 기록은 다시 사용으로 전환)
+     *
+     * @return 기록 여부 (이미 사용한 경우 false, 동시 요청은 먼저 커밋된 한 건만 성공)
+     */
+    boolean recordRedemption(UUID couponId, UUID customerId, UUID orderId, LocalDateTime now);
+
+    /**
+     * 주문의 쿠폰 사용 기록 취소
+     *
+     * @return 취소된 기록의 쿠폰 ID (사용 기록이 없거나 이미 취소된 경우 빈 목록)
+     */
+    List<UUID> cancelRedemption(UUID orderId, LocalDateTime now);
+
+    /**
+     * 고객이 사용 중인(취소되지 않은) 쿠폰 ID
+     */
+    Set<UUID> findRedeemedCouponIds(UUID customerId);
+}
@@ -0,0 +1,62 @@
+package jjh.delivery.application.port.out;
+
+import java.util.UUID;
+
+/**
+ * Flash Sale Counter Port - Driven Port (Outbound)
+ * 진행 중인 플래시 세일 재고를 N개의 독립 카운터(샤드)로 나눠 차감/반환
+ *
+ * 샤드마다 음수가 되지 않도록 원자적으로 차감하므로 샤드 합계 이상으로 팔리지 않으며,
+ * 요청마다 임의의 샤드부터 시도하여 차감이 한 카운터에 몰리지 않습니다.
+ */
+public interface FlashSaleCounterPort {
+
+    /**
+     * 샤드별 수량으로 카운터 생성 (캠페인 활성화 시)
+     */
+    void initialize(UUID variantId, int[] shardQuantities);
+
+    /**
+     * 수량 차감 (여러 샤드에 걸쳐 차감할 수 있으며, 부족하면 차감한 수량을 되돌림)
+     * 트랜잭션 안에서 호출되면 롤백 시 차감한 수량을 자동으로 되돌립니다.
+     */
+    TakeResult take(UUID variantId, int shardCount, int quantity);
+
+    /**
+     * 수량 반환 (트랜잭션 안에서 호출되면 커밋 후 반환)
+     * 카운터가 이미 회수되었으면 종료 후 반환분으로 적립되어 DB 재고로 정산됩니다.
+     */
+    void giveBack(UUID variantId, int shardCount, int quantity);
+
+    /**
+     * 샤드 합계 (카운터가 없으면 0)
+     */
+    int remaining(UUID variantId, int shardCount);
+
+    /**
+     * 모든 샤드를 삭제하고 남아 있던 합계 반환 (캠페인 종료 시)
+     */
+    int drain(UUID variantId, int shardCount);
+
+    /**
+     * 종료 후 반환분 적립
+     */
+    void addReturned(UUID variantId, int quantity);
+
+    /**
+     * 종료 후 반환분을 삭제하고 합계 반환
+     */
+    int drainReturned(UUID variantId);
+
+    enum TakeResult {
+
+        /** 차감 성공 */
+        TAKEN,
+
+        /** 샤드 합계가 수량보다 적음 (아무것도 차감하지 않음) */
+        INSUFFICIENT,
+
+        /** 카운터가 없음 (활성화 전이거나 이미 종료됨) */
+        NOT_ACTIVE
+    }
+}
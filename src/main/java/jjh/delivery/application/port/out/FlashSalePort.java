@@ -0,0 +1,68 @@
+package jjh.delivery.application.port.out;
+
+import jjh.delivery.domain.inventory.FlashSaleStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.UUID;
+import java.util.function.IntConsumer;
+
+/**
+ * Flash Sale Port - Driven Port (Outbound)
+ * 플래시 세일 캠페인 저장 및 DB 재고 이관/반환
+ *
+ * 진행 중인 캠페인의 재고는 변형의 stock_quantity에서 전량 빠져 분할 카운터(FlashSaleCounterPort)로 옮겨지므로
+ * 한 단위의 재고는 항상 DB 또는 카운터 중 한 곳에만 존재합니다.
+ */
+public interface FlashSalePort {
+
+    /**
+     * 캠페인 등록 (종료된 캠페인이 있으면 덮어씀)
+     *
+     * @return 등록 여부 (변형이 없거나 같은 변형의 시작 전/진행 중 캠페인이 있으면 false)
+     */
+    boolean schedule(UUID variantId, int shardCount, LocalDateTime startsAt, LocalDateTime endsAt);
+
+    Optional<FlashSale> findByVariantId(UUID variantId);
+
+    List<FlashSale> findByStatus(FlashSaleStatus status);
+
+    /**
+     * since 이후 종료된 캠페인 (종료 후 늦게 반환된 수량 정산용)
+     */
+    List<FlashSale> findEndedSince(LocalDateTime since);
+
+    /**
+     * SCHEDULED 캠페인을 ACTIVE로 전환하고 변형 재고 전량을 캠페인으로 이관 (DB 재고는 0)
+     *
+     * @param onAllocated 이관 수량으로 같은 트랜잭션 안에서 호출 (예외를 던지면 전환/이관 모두 롤백)
+     * @return 이관한 수량 (이미 다른 인스턴스가 전환했거나 변형이 없으면 empty)
+     */
+    OptionalInt activate(UUID variantId, LocalDateTime now, IntConsumer onAllocated);
+
+    /**
+     * 남은 수량을 변형 재고로 반환하고 ENDED로 전환
+     * (카운터를 나눠 회수한 여러 호출이 겹쳐도 반환 수량은 누적됨)
+     */
+    void end(UUID variantId, int remainingQuantity, LocalDateTime now);
+
+    /**
+     * 진행 중 캠페인의 남은 수량 기록 (조회용)
+     */
+    void updateRemaining(UUID variantId, int remainingQuantity);
+
+    record FlashSale(
+            UUID variantId,
+            UUID productId,
+            int shardCount,
+            FlashSaleStatus status,
+            int allocatedQuantity,
+            int remainingQuantity,
+            LocalDateTime startsAt,
+            LocalDateTime endsAt,
+            LocalDateTime activatedAt,
+            LocalDateTime endedAt
+    ) {}
+}
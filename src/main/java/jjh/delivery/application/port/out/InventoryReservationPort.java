@@ -0,0 +1,81 @@
+package jjh.delivery.application.port.out;
+
+import jjh.delivery.domain.inventory.ReservationStatus;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Inventory Reservation Port - Driven Port (Outbound)
+ * 재고 선점/확정/해제
+ *
+ * 재고 차감은 상품 애그리거트를 읽지 않고 조건부 UPDATE(재고 >= 수량)로 원자적으로 수행하므로
+ * 같은 SKU에 동시 주문이 몰려도 낙관적 락 충돌/재시도가 없습니다.
+ */
+public interface InventoryReservationPort {
+
+    /**
+     * 재고 차감 + 선점 기록 (모든 줄을 한 번의 배치로 처리)
+     *
+     * @param flashSaleVariantIds 재고를 플래시 세일 카운터에서 이미 차감한 변형 (DB 차감 없이 선점만 기록)
+     * @throws jjh.delivery.domain.product.exception.InsufficientStockException 한 줄이라도 재고가 부족한 경우
+     *         (호출 트랜잭션이 롤백되어 먼저 차감된 줄도 복원됨)
+     */
+    void reserve(List<StockReservation> reservations, ReservationStatus status, LocalDateTime expiresAt,
+                 Set<UUID> flashSaleVariantIds);
+
+    /**
+     * 주문의 RESERVED 선점을 CONFIRMED로 전환
+     *
+     * @return 확정된 선점 목록
+     */
+    List<StockReservation> confirm(UUID orderId);
+
+    /**
+     * 주문의 해제되지 않은 선점을 해제하고 재고 복원
+     *
+     * @param flashSaleVariantIds 플래시 세일 중인 변형 (DB 재고를 복원하지 않으며 호출 측이 카운터에 되돌림)
+     * @return 해제된 선점 목록
+     */
+    List<StockReservation> release(UUID orderId, Set<UUID> flashSaleVariantIds);
+
+    /**
+     * 만료된 RESERVED 선점을 최대 limit개 해제하고 재고 복원 (다른 인스턴스가 처리 중인 행은 건너뜀)
+     *
+     * @param flashSaleVariantIds 플래시 세일 중인 변형 (DB 재고를 복원하지 않으며 호출 측이 카운터에 되돌림)
+     * @return 해제된 선점 목록
+     */
+    List<StockReservation> releaseExpired(LocalDateTime now, int limit, Set<UUID> flashSaleVariantIds);
+
+    /**
+     * DB 재고에 수량을 더함 (플래시 세일 종료 후 늦게 반환된 수량 정산)
+     */
+    void restock(List<StockReservation> reservations);
+
+    /**
+     * 관리자 재고 조정 (상품 저장은 재고 열을 덮어쓰지 않으므로 이 경로로만 증감)
+     *
+     * @param variantId 없으면 단일 상품 재고
+     * @return 조정 여부 (차감할 재고가 부족하거나 상품/변형이 없으면 false)
+     */
+    boolean adjustStock(UUID productId, UUID variantId, int quantityDelta);
+
+    /**
+     * 상품별 현재 총 재고 (변형 상품은 활성 변형 재고 합계, 재고 변경 이벤트용)
+     */
+    Map<UUID, Integer> findTotalStockQuantities(Collection<UUID> productIds);
+
+    /**
+     * 주문 상품 한 줄의 선점 수량 (variantId가 없으면 단일 상품 재고)
+     */
+    record StockReservation(
+            UUID orderId,
+            UUID productId,
+            UUID variantId,
+            int quantity
+    ) {}
+}
@@ -0,0 +1,33 @@
+package jjh.delivery.application.port.out;
+
+import jjh.delivery.domain.order.Order;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Load Archived Order Port - Driven Port (Outbound)
+ * 아카이브 파티션(orders_archive, order_items_archive)으로 이관된 주문 조회 포트
+ * LoadOrderPort 구현체가 hot 테이블에서 찾지 못한 주문을 조회할 때 사용합니다.
+ * 아카이브가 비활성화되어 있으면 항상 빈 결과를 반환합니다.
+ */
+public interface LoadArchivedOrderPort {
+
+    Optional<Order> findArchivedById(UUID orderId);
+
+    List<Order> findArchivedAllById(Collection<UUID> orderIds);
+
+    List<Order> findArchivedByCustomerId(UUID customerId);
+
+    List<Order> findArchivedBySellerId(UUID sellerId);
+
+    boolean existsArchivedById(UUID orderId);
+
+    /**
+     * 생성 시각을 아는 경우: 아카이브 경계 이후에 생성된 주문은 조회 없이 false
+     */
+    boolean existsArchivedById(UUID orderId, LocalDateTime createdAt);
+}
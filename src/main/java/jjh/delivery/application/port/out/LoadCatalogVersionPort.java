@@ -0,0 +1,18 @@
+package jjh.delivery.application.port.out;
+
+/**
+ * Catalog Version 조회 Port - Driven Port (Outbound)
+ * 마스터 데이터 변경 시 증가하는 버전 (메모리 스냅샷 갱신 판단용)
+ */
+public interface LoadCatalogVersionPort {
+
+    /**
+     * 카테고리 변경 버전 (categories 변경 시마다 증가)
+     */
+    long loadCategoryVersion();
+
+    /**
+     * 쿠폰 변경 버전 (쿠폰 생성/수정/삭제/활성 상태 변경 시마다 증가, 사용 수량 변경은 제외)
+     */
+    long loadCouponVersion();
+}
@@ -2,6 +2,7 @@ package jjh.delivery.application.port.out;
 
 import jjh.delivery.domain.category.Category;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -17,17 +18,12 @@ public interface LoadCategoryPort {
     Optional<Category> findById(UUID categoryId);
 
     /**
-     * 모든 활성 카테고리 조회 (트리 구조)
+     * ID 목록으로 카테고리 일괄 조회 (활성 여부 무관, 자식 미포함)
      */
-    List<Category> findAllActiveAsTree();
+    List<Category> findAllById(Collection<UUID> categoryIds);
 
     /**
-     * 부모 카테고리의 자식 카테고리 조회
+     * 모든 활성 카테고리 조회 (평면 목록, depth/displayOrder 순, 캐시 미사용)
      */
-    List<Category> findByParentId(UUID parentId);
-
-    /**
-     * 최상위 카테고리 조회
-     */
-    List<Category> findRootCategories();
+    List<Category> findAllActive();
 }
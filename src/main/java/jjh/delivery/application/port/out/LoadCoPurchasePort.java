@@ -0,0 +1,24 @@
+package jjh.delivery.application.port.out;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Co-Purchase 조회 Port - Driven Port (Outbound)
+ */
+public interface LoadCoPurchasePort {
+
+    /**
+     * 함께 구매 횟수 내림차순 상위 limit개 (판매 중인 상품만)
+     */
+    List<CoPurchasedProduct> findTopRelated(UUID productId, int limit);
+
+    record CoPurchasedProduct(
+            UUID productId,
+            String name,
+            BigDecimal basePrice,
+            String thumbnailUrl,
+            long purchaseCount
+    ) {}
+}
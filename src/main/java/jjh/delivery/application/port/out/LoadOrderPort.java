@@ -3,6 +3,7 @@ package jjh.delivery.application.port.out;
 import jjh.delivery.domain.order.Order;
 import jjh.delivery.domain.order.OrderStatus;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -15,6 +16,11 @@ public interface LoadOrderPort {
 
     Optional<Order> findById(UUID orderId);
 
+    /**
+     * 여러 주문 일괄 조회 (존재하지 않는 ID는 결과에서 제외, 순서 보장 없음)
+     */
+    List<Order> findAllById(Collection<UUID> orderIds);
+
     List<Order> findByCustomerId(UUID customerId);
 
     List<Order> findBySellerId(UUID sellerId);
@@ -5,6 +5,8 @@ import jjh.delivery.domain.product.Product;
 import jjh.delivery.domain.product.ProductStatus;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -20,11 +22,22 @@ public interface LoadProductPort {
      */
     Optional<Product> findById(UUID productId);
 
+    /**
+     * ID 목록으로 상품 일괄 조회 (없는 ID는 결과에서 제외)
+     */
+    List<Product> findAllById(Collection<UUID> productIds);
+
     /**
      * 상품 목록 검색 (커서 기반 페이지네이션)
+     * 옵션/카테고리/이미지는 컬렉션별 IN 쿼리로 일괄 조회합니다.
      */
     CursorPageResponse<Product> searchProducts(SearchProductQuery query);
 
+    /**
+     * 상품 목록 검색 - 목록 화면용 요약 (옵션/카테고리 미조회, 대표 이미지만 일괄 조회)
+     */
+    CursorPageResponse<ProductSummary> searchProductSummaries(SearchProductQuery query);
+
     /**
      * 판매자별 상품 목록 조회 (커서 기반 페이지네이션)
      */
@@ -35,8 +48,30 @@ public interface LoadProductPort {
      */
     boolean existsById(UUID productId);
 
+    /**
+     * 카테고리 목록 중 하나라도 속한 상품 ID (상태 무관)
+     */
+    List<UUID> findIdsByCategoryIds(Collection<UUID> categoryIds);
+
+    /**
+     * 상품 목록 요약 (Read Model)
+     *
+     * @param thumbnailUrl 대표 이미지 (첫 번째 이미지, 없으면 null)
+     */
+    record ProductSummary(
+            UUID id,
+            UUID sellerId,
+            String name,
+            BigDecimal basePrice,
+            ProductStatus status,
+            String thumbnailUrl,
+            LocalDateTime createdAt
+    ) {}
+
     /**
      * 상품 검색 쿼리 (커서 기반)
+     * @param categoryId 카테고리 (하위 카테고리의 상품 포함)
+     * @param minRating 최소 평균 평점 (검색 인덱스 조회에만 적용)
      * @param cursor 이전 페이지의 마지막 커서 값 (첫 페이지는 null)
      * @param size 조회할 아이템 수
      */
@@ -46,6 +81,7 @@ public interface LoadProductPort {
             String keyword,
             BigDecimal minPrice,
             BigDecimal maxPrice,
+            Double minRating,
             List<ProductStatus> statuses,
             String cursor,
             int size
@@ -53,6 +89,9 @@ public interface LoadProductPort {
         public SearchProductQuery {
             if (size <= 0) size = 20;
             if (size > 100) size = 100;
+            if (minRating != null && (minRating < 0 || minRating > 5)) {
+                throw new IllegalArgumentException("minRating must be between 0 and 5");
+            }
         }
 
         public static Builder builder() {
@@ -65,6 +104,7 @@ public interface LoadProductPort {
             private String keyword;
             private BigDecimal minPrice;
             private BigDecimal maxPrice;
+            private Double minRating;
             private List<ProductStatus> statuses = List.of(ProductStatus.ACTIVE);
             private String cursor;
             private int size = 20;
@@ -94,6 +134,11 @@ public interface LoadProductPort {
                 return this;
             }
 
+            public Builder minRating(Double minRating) {
+                this.minRating = minRating;
+                return this;
+            }
+
             public Builder statuses(List<ProductStatus> statuses) {
                 this.statuses = statuses;
                 return this;
@@ -110,7 +155,9 @@ public interface LoadProductPort {
             }
 
             public SearchProductQuery build() {
-                return new SearchProductQuery(categoryId, sellerId, keyword, minPrice, maxPrice, statuses, cursor, size);
+                return new SearchProductQuery(
+                        categoryId, sellerId, keyword, minPrice, maxPrice, minRating, statuses, cursor, size
+                );
             }
         }
     }
@@ -0,0 +1,36 @@
+package jjh.delivery.application.port.out;
+
+import jjh.delivery.domain.product.ProductStatus;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Load Product Suggestion Port - Driven Port (Outbound)
+ * 자동완성 인덱스 적재용 상품명 + 인기도 조회
+ *
+ * 인기도는 popularitySince 이후 주문된 수량 합계입니다. (order_items 기준)
+ */
+public interface LoadProductSuggestionPort {
+
+    /**
+     * 판매 가능한 상품을 ID 순으로 afterId 이후 limit개 조회 (전체 재구축용 keyset)
+     *
+     * @param afterId 마지막으로 조회한 상품 ID (null이면 처음부터)
+     */
+    List<ProductSuggestionSource> findSellableAfter(UUID afterId, int limit, LocalDateTime popularitySince);
+
+    /**
+     * 상품 ID 목록 조회 (변경분 반영용, 상태와 무관하게 존재하는 상품 모두 반환)
+     */
+    List<ProductSuggestionSource> findAllById(Collection<UUID> productIds, LocalDateTime popularitySince);
+
+    record ProductSuggestionSource(
+            UUID productId,
+            String name,
+            ProductStatus status,
+            long popularity
+    ) {}
+}
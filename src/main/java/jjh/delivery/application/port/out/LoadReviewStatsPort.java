@@ -1,5 +1,6 @@
 package jjh.delivery.application.port.out;
 
+import java.util.Collection;
 import java.util.Map;
 import java.util.UUID;
 
@@ -19,4 +20,18 @@ public interface LoadReviewStatsPort {
      * 상품별 평점 분포 조회
      */
     Map<Integer, Long> getRatingDistributionByProductId(UUID productId);
+
+    /**
+     * 여러 상품의 평균 평점/리뷰 수 일괄 조회 (리뷰가 없는 상품은 결과에서 제외)
+     */
+    Map<UUID, RatingSummary> getRatingSummariesByProductIds(Collection<UUID> productIds);
+
+    record RatingSummary(
+            double averageRating,
+            long reviewCount
+    ) {
+        public static RatingSummary empty() {
+            return new RatingSummary(0.0, 0);
+        }
+    }
 }
@@ -0,0 +1,76 @@
+package jjh.delivery.application.port.out;
+
+import jjh.delivery.application.port.in.GetOrderAnalyticsUseCase.OrderAnalyticsQuery;
+import jjh.delivery.domain.order.OrderStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Order Analytics Port - Driven Port (Outbound)
+ * 주문 집계 조회 (검색 인덱스 aggregation, PostgreSQL 부하 없이 대시보드 제공)
+ */
+public interface OrderAnalyticsPort {
+
+    /**
+     * 조건에 해당하는 주문을 한 번의 요청으로 집계
+     */
+    OrderAnalytics aggregate(OrderAnalyticsQuery query);
+
+    /**
+     * 주문 분석 결과
+     *
+     * @param periods    기간별 추이 (주문이 없는 기간도 0으로 포함)
+     * @param statuses   상태별 집계
+     * @param topSellers 매출 상위 판매자
+     */
+    record OrderAnalytics(
+            long totalOrders,
+            BigDecimal totalRevenue,
+            BigDecimal averageOrderAmount,
+            AmountPercentiles amountPercentiles,
+            List<PeriodBucket> periods,
+            List<StatusBucket> statuses,
+            List<SellerBucket> topSellers
+    ) {
+        public static OrderAnalytics empty() {
+            return new OrderAnalytics(
+                    0, BigDecimal.ZERO, BigDecimal.ZERO, AmountPercentiles.empty(), List.of(), List.of(), List.of()
+            );
+        }
+    }
+
+    record PeriodBucket(
+            LocalDateTime periodStart,
+            long orderCount,
+            BigDecimal revenue
+    ) {}
+
+    record StatusBucket(
+            OrderStatus status,
+            long orderCount,
+            BigDecimal revenue
+    ) {}
+
+    record SellerBucket(
+            UUID sellerId,
+            long orderCount,
+            BigDecimal revenue
+    ) {}
+
+    /**
+     * 주문 금액 분포 (근사 백분위수)
+     */
+    record AmountPercentiles(
+            BigDecimal p50,
+            BigDecimal p90,
+            BigDecimal p95,
+            BigDecimal p99
+    ) {
+        public static AmountPercentiles empty() {
+            return new AmountPercentiles(null, null, null, null);
+        }
+    }
+}
@@ -2,6 +2,8 @@ package jjh.delivery.application.port.out;
 
 import jjh.delivery.domain.order.event.OrderEvent;
 
+import java.util.List;
+
 /**
  * Order Event Port - Driven Port (Outbound)
  * 주문 이벤트 발행을 위한 포트 (Kafka 구현)
@@ -11,4 +13,9 @@ public interface OrderEventPort {
     void publish(OrderEvent event);
 
     void publishAsync(OrderEvent event);
+
+    /**
+     * 여러 이벤트를 한 번에 발행 (Outbox 배치 저장)
+     */
+    void publishAll(List<? extends OrderEvent> events);
 }
@@ -0,0 +1,30 @@
+package jjh.delivery.application.port.out;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Order Index Pending Port - Driven Port (Outbound)
+ * 주문 변경 트랜잭션 안에서 인덱싱 요청을 영속 기록 (커밋과 함께 남고 롤백되면 함께 취소)
+ *
+ * 기록은 재시도 큐(order_index_retries)에 유예 시각만큼 늦춘 재시도로 남으므로,
+ * 인스턴스가 flush 전에 종료되어도 재시도 잡이 인덱싱합니다.
+ */
+public interface OrderIndexPendingPort {
+
+    /**
+     * 인덱싱 대기 기록 (이미 있으면 다음 시도 시각만 늦춤)
+     *
+     * @param registeredAt 기록 시각 (다음 시도 시각 = 기록 시각 + 유예 시간)
+     */
+    void registerPending(Collection<UUID> orderIds, LocalDateTime registeredAt);
+
+    /**
+     * 인덱싱된 주문의 대기 기록 제거 (그 이후 다시 기록된 요청은 남김)
+     *
+     * @param registeredAt 주문 ID → 인덱싱한 요청의 기록 시각
+     */
+    void removeIndexed(Map<UUID, LocalDateTime> registeredAt);
+}
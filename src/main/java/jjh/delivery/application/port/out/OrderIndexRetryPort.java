@@ -0,0 +1,27 @@
+package jjh.delivery.application.port.out;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Order Index Retry Port - Driven Port (Outbound)
+ * 검색 인덱싱 실패 주문의 영속 재시도 큐
+ */
+public interface OrderIndexRetryPort {
+
+    /**
+     * 실패 주문 등록 (이미 있으면 시도 횟수 증가 및 다음 시도 시각 연기)
+     *
+     * @param failures 주문 ID → 실패 사유
+     */
+    void scheduleRetries(Map<UUID, String> failures);
+
+    /**
+     * 재시도 시각이 된 주문 ID 조회 (오래된 순)
+     */
+    List<UUID> findDueRetries(int limit);
+
+    void removeRetries(Collection<UUID> orderIds);
+}
@@ -0,0 +1,16 @@
+package jjh.delivery.application.port.out;
+
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * Order Indexing Port - Driven Port (Outbound)
+ * 주문 검색 인덱스 갱신 요청 포트
+ *
+ * 트랜잭션 안에서 호출하면 커밋 이후에 큐에 등록되며, 실제 인덱싱은 비동기 bulk 요청으로 처리됩니다.
+ * 같은 주문의 반복 요청은 하나로 합쳐지고, 인덱싱 시점의 최신 주문 상태가 반영됩니다.
+ */
+public interface OrderIndexingPort {
+
+    void requestIndexing(Collection<UUID> orderIds);
+}
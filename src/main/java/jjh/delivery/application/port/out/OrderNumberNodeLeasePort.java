@@ -0,0 +1,27 @@
+package jjh.delivery.application.port.out;
+
+import java.time.LocalDateTime;
+import java.util.OptionalInt;
+
+/**
+ * Order Number Node Lease Port - Driven Port (Outbound)
+ * 주문번호 노드 ID 점유 포트 (인스턴스 간 노드 ID 중복 방지)
+ */
+public interface OrderNumberNodeLeasePort {
+
+    /**
+     * 비어 있거나 만료된 노드 ID 중 가장 작은 값을 점유
+     *
+     * @return 점유한 노드 ID (남은 노드 ID가 없거나 다른 인스턴스와 경합해 놓친 경우 empty)
+     */
+    OptionalInt acquire(String owner, LocalDateTime now, LocalDateTime expiresAt);
+
+    /**
+     * 점유 중인 노드 ID의 만료 시각 연장
+     *
+     * @return 여전히 owner가 점유 중이면 true (만료되어 다른 인스턴스가 가져간 경우 false)
+     */
+    boolean renew(int nodeId, String owner, LocalDateTime expiresAt);
+
+    void release(int nodeId, String owner);
+}
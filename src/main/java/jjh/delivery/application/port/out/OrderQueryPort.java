@@ -25,6 +25,16 @@ public interface OrderQueryPort {
 
     List<Order> findOrdersForReport(ReportCriteria criteria);
 
+    /**
+     * 고객/판매자별 커서 기반 주문 조회 (아이템 포함)
+     */
+    CursorPageResponse<Order> findOrdersByOwner(OwnerOrderPageQuery query);
+
+    /**
+     * 고객/판매자별 커서 기반 주문 요약 조회 (아이템 미포함)
+     */
+    CursorPageResponse<OrderSummary> findOrderSummariesByOwner(OwnerOrderPageQuery query);
+
     /**
      * 커서 기반 복잡한 쿼리 조건
      * @param cursor 이전 페이지의 마지막 커서 값 (첫 페이지는 null)
@@ -50,6 +60,50 @@ public interface OrderQueryPort {
             boolean includeItems
     ) {}
 
+    /**
+     * 고객 또는 판매자 단위 keyset 페이지 조회 조건
+     * customerId, sellerId 중 정확히 하나만 지정해야 합니다.
+     * @param cursor 이전 페이지의 마지막 커서 값 (첫 페이지는 null)
+     * @param size 조회할 아이템 수 (1 ~ 100, 기본 20)
+     */
+    record OwnerOrderPageQuery(
+            UUID customerId,
+            UUID sellerId,
+            String cursor,
+            int size
+    ) {
+        public OwnerOrderPageQuery {
+            if ((customerId == null) == (sellerId == null)) {
+                throw new IllegalArgumentException("Exactly one of customerId or sellerId is required");
+            }
+            if (size <= 0) size = 20;
+            if (size > 100) size = 100;
+        }
+
+        public static OwnerOrderPageQuery forCustomer(UUID customerId, String cursor, int size) {
+            return new OwnerOrderPageQuery(customerId, null, cursor, size);
+        }
+
+        public static OwnerOrderPageQuery forSeller(UUID sellerId, String cursor, int size) {
+            return new OwnerOrderPageQuery(null, sellerId, cursor, size);
+        }
+    }
+
+    /**
+     * 목록 화면용 주문 요약 Projection (아이템 미포함)
+     */
+    record OrderSummary(
+            UUID id,
+            String orderNumber,
+            UUID customerId,
+            UUID sellerId,
+            OrderStatus status,
+            BigDecimal totalAmount,
+            int itemCount,
+            LocalDateTime createdAt,
+            LocalDateTime deliveredAt
+    ) {}
+
     record OrderStatistics(
             UUID sellerId,
             long totalOrders,
@@ -0,0 +1,82 @@
+package jjh.delivery.application.port.out;
+
+import jjh.delivery.application.port.out.ScanOrderIdPort.OrderStorage;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Order Reindex Checkpoint Port - Driven Port (Outbound)
+ * 전체 재인덱싱 작업/구간별 진행 상황 저장 포트 (중단 후 재개용)
+ */
+public interface OrderReindexCheckpointPort {
+
+    /**
+     * 가장 최근에 시작한 작업 조회
+     */
+    Optional<ReindexJob> findLatestJob();
+
+    void createJob(ReindexJob job, List<ReindexSlice> slices);
+
+    List<ReindexSlice> findSlices(String indexName);
+
+    /**
+     * 구간 진행 상황 저장 (마지막으로 인덱싱한 ID, 누적 건수, 완료 여부)
+     */
+    void saveSliceProgress(String indexName, ReindexSlice slice);
+
+    void updateJobStatus(String indexName, ReindexJobStatus status, LocalDateTime finishedAt);
+
+    enum ReindexJobStatus {
+        RUNNING,
+        FAILED,
+        COMPLETED
+    }
+
+    /**
+     * 재인덱싱 작업
+     *
+     * @param totalCount 작업 생성 시점의 주문 수 (진행률 계산용 추정치)
+     */
+    record ReindexJob(
+            String indexName,
+            ReindexJobStatus status,
+            long totalCount,
+            LocalDateTime startedAt,
+            LocalDateTime finishedAt
+    ) {}
+
+    /**
+     * 재인덱싱 구간: (lowerBound, upperBound] (null은 열린 경계)
+     */
+    record ReindexSlice(
+            OrderStorage storage,
+            int sliceNo,
+            UUID lowerBound,
+            UUID upperBound,
+            UUID lastOrderId,
+            long indexedCount,
+            boolean completed
+    ) {
+        public static ReindexSlice of(OrderStorage storage, int sliceNo, UUID lowerBound, UUID upperBound) {
+            return new ReindexSlice(storage, sliceNo, lowerBound, upperBound, null, 0, false);
+        }
+
+        /**
+         * 다음 스캔 시작 위치 (이 ID 초과부터)
+         */
+        public UUID resumeAfter() {
+            return lastOrderId != null ? lastOrderId : lowerBound;
+        }
+
+        public ReindexSlice advance(UUID lastOrderId, int indexed) {
+            return new ReindexSlice(storage, sliceNo, lowerBound, upperBound, lastOrderId, indexedCount + indexed, false);
+        }
+
+        public ReindexSlice complete() {
+            return new ReindexSlice(storage, sliceNo, lowerBound, upperBound, lastOrderId, indexedCount, true);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package jjh.delivery.application.port.out;
+
+import jjh.delivery.domain.order.Order;
+
+import java.util.List;
+
+/**
+ * Order Search Index Port - Driven Port (Outbound)
+ * 주문 검색 인덱스 관리 포트 (버전별 인덱스 + alias 전환)
+ *
+ * 검색/인덱싱은 항상 alias(orders)를 통해 이루어지고,
+ * 전체 재인덱싱은 새 버전 인덱스를 채운 뒤 alias를 원자적으로 전환합니다.
+ */
+public interface OrderSearchIndexPort {
+
+    /**
+     * 새 버전 인덱스 생성 (대량 적재용: refresh 비활성화, replica 0)
+     *
+     * @return 생성된 인덱스 이름
+     */
+    String createVersionedIndex();
+
+    boolean exists(String indexName);
+
+    /**
+     * 지정한 인덱스에 단일 Bulk 요청으로 인덱싱 (실패 문서가 있으면 예외)
+     */
+    void bulkIndex(String indexName, List<Order> orders);
+
+    /**
+     * 대량 적재 종료: refresh/replica 설정 복원 후 refresh
+     */
+    void finishBulkLoad(String indexName);
+
+    /**
+     * alias를 지정한 인덱스로 원자적으로 전환
+     *
+     * @return 이전에 alias가 가리키던 인덱스 이름
+     */
+    List<String> switchAlias(String indexName);
+}
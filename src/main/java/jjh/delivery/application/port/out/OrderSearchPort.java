@@ -2,9 +2,13 @@ package jjh.delivery.application.port.out;
 
 import jjh.delivery.adapter.in.web.dto.CursorPageResponse;
 import jjh.delivery.application.port.in.SearchOrderUseCase.SearchOrderQuery;
-import jjh.delivery.domain.order.Order;
+import jjh.delivery.application.port.out.OrderQueryPort.OrderSummary;
+import jjh.delivery.domain.order.OrderStatus;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 /**
@@ -13,18 +17,60 @@ import java.util.UUID;
  */
 public interface OrderSearchPort {
 
-    void index(Order order);
+    /**
+     * 커서 기반 주문 검색 (요약 필드만 로드하여 hit을 바로 요약으로 변환)
+     */
+    CursorPageResponse<OrderSummary> search(SearchOrderQuery query);
 
-    void delete(UUID orderId);
+    /**
+     * Point-in-time 기반 커서 검색 (목록 화면용 요약, 깊은 페이지 탐색용)
+     * 첫 페이지에서 연 PIT를 커서에 담아 전달하므로 탐색 도중 인덱싱된 주문에 의해 페이지가 밀리지 않습니다.
+     */
+    CursorPageResponse<OrderSummary> browse(SearchOrderQuery query);
 
     /**
-     * 커서 기반 주문 검색
+     * 고객별 주문 검색 결과 (최신순)
+     *
+     * @param includeItems false면 아이템을 로드하지 않음 (아이템 수만 채움)
      */
-    CursorPageResponse<Order> search(SearchOrderQuery query);
+    List<OrderSearchResult> findByCustomerId(UUID customerId, boolean includeItems);
 
-    List<Order> findByCustomerId(UUID customerId);
+    /**
+     * 판매자별 주문 검색 결과 (최신순)
+     *
+     * @param includeItems false면 아이템을 로드하지 않음 (아이템 수만 채움)
+     */
+    List<OrderSearchResult> findBySellerId(UUID sellerId, boolean includeItems);
 
-    List<Order> findBySellerId(UUID sellerId);
+    /**
+     * 검색 인덱스 기반 주문 조회 결과 (Read Model)
+     * 인덱스 문서에서 바로 생성되며 Order 애그리거트를 재구성하지 않습니다.
+     *
+     * @param shippingAddress 전체 주소 문자열 (수령인 정보는 인덱스에 저장하지 않음)
+     * @param items           아이템 목록 (includeItems=false면 빈 목록)
+     */
+    record OrderSearchResult(
+            UUID id,
+            String orderNumber,
+            UUID customerId,
+            UUID sellerId,
+            OrderStatus status,
+            BigDecimal totalAmount,
+            String shippingAddress,
+            int itemCount,
+            List<OrderSearchItem> items,
+            LocalDateTime createdAt,
+            LocalDateTime updatedAt
+    ) {}
 
-    void reindexAll();
+    record OrderSearchItem(
+            UUID productId,
+            String productName,
+            UUID variantId,
+            String variantName,
+            String sku,
+            Map<String, String> optionValues,
+            int quantity,
+            BigDecimal unitPrice
+    ) {}
 }
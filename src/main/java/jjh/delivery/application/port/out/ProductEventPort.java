@@ -0,0 +1,19 @@
+package jjh.delivery.application.port.out;
+
+import jjh.delivery.domain.product.event.ProductEvent;
+
+import java.util.List;
+
+/**
+ * Product Event Port - Driven Port (Outbound)
+ * 상품 변경 이벤트 발행을 위한 포트 (Outbox 구현)
+ */
+public interface ProductEventPort {
+
+    void publish(ProductEvent event);
+
+    /**
+     * 여러 이벤트를 한 번에 발행 (Outbox 배치 저장)
+     */
+    void publishAll(List<? extends ProductEvent> events);
+}
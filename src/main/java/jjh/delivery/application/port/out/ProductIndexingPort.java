@@ -0,0 +1,23 @@
+package jjh.delivery.application.port.out;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Product Indexing Port - Driven Port (Outbound)
+ * 상품 검색 인덱스 비동기 갱신 요청
+ *
+ * 호출 트랜잭션이 커밋된 뒤 최신 상품 정보(평점 포함)를 다시 읽어 bulk로 인덱싱합니다.
+ * 삭제되었거나 DELETED 상태인 상품은 인덱스에서 제거됩니다.
+ */
+public interface ProductIndexingPort {
+
+    void requestIndexing(Collection<UUID> productIds);
+
+    /**
+     * 인덱스에 반영된 가장 최근 상품 변경 시각 (변경분 동기화 시작점)
+     */
+    Optional<LocalDateTime> findLatestIndexedUpdatedAt();
+}
@@ -0,0 +1,77 @@
+package jjh.delivery.application.port.out;
+
+import jjh.delivery.adapter.in.web.dto.CursorPageResponse;
+import jjh.delivery.application.port.out.LoadProductPort.SearchProductQuery;
+import jjh.delivery.domain.product.ProductStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Product Search Port - Driven Port (Outbound)
+ * 상품 카탈로그 검색
+ *
+ * search.product.engine 설정으로 구현을 선택합니다.
+ * - elasticsearch (기본): 상품 인덱스 검색 + 패싯
+ * - postgres: 검색 클러스터 없이 products의 tsvector/trigram 인덱스로 검색 (패싯 미제공)
+ */
+public interface ProductSearchPort {
+
+    /**
+     * 키워드/필터 검색 + 패싯 집계 (커서 기반)
+     * 패싯은 자기 자신의 필터를 제외한 나머지 조건으로 집계되므로 다른 값을 선택했을 때의 건수를 보여줍니다.
+     */
+    ProductSearchResult search(SearchProductQuery query);
+
+    record ProductSearchResult(
+            CursorPageResponse<ProductSearchHit> page,
+            ProductFacets facets
+    ) {}
+
+    /**
+     * 검색 결과 상품 (인덱스 문서에서 바로 생성)
+     */
+    record ProductSearchHit(
+            UUID id,
+            UUID sellerId,
+            String name,
+            BigDecimal basePrice,
+            ProductStatus status,
+            String thumbnailUrl,
+            double ratingAvg,
+            long reviewCount,
+            LocalDateTime createdAt
+    ) {}
+
+    /**
+     * @param categories   카테고리별 상품 수 (많은 순)
+     * @param priceRanges  가격 구간별 상품 수
+     * @param ratings      최소 평점별 상품 수 (from 이상)
+     */
+    record ProductFacets(
+            List<FacetCount> categories,
+            List<RangeFacetCount> priceRanges,
+            List<RangeFacetCount> ratings
+    ) {
+        public static ProductFacets empty() {
+            return new ProductFacets(List.of(), List.of(), List.of());
+        }
+    }
+
+    record FacetCount(
+            String value,
+            long count
+    ) {}
+
+    /**
+     * @param from 하한 (포함, null이면 하한 없음)
+     * @param to   상한 (미포함, null이면 상한 없음)
+     */
+    record RangeFacetCount(
+            BigDecimal from,
+            BigDecimal to,
+            long count
+    ) {}
+}
@@ -0,0 +1,55 @@
+package jjh.delivery.application.port.out;
+
+import jjh.delivery.application.port.in.AutocompleteProductUseCase.ProductSuggestion;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Product Suggestion Index Port - Driven Port (Outbound)
+ * 상품명 자동완성 인덱스 조회/갱신
+ *
+ * 전체 재구축은 새 인덱스를 만든 뒤 한 번에 교체하고, 그 사이 변경분은 upsert/remove로 반영합니다.
+ */
+public interface ProductSuggestionIndexPort {
+
+    /**
+     * 인덱스 적재 여부 (최초 재구축 전에는 false)
+     */
+    boolean isLoaded();
+
+    /**
+     * 접두어로 시작하는 상품 상위 limit개 (인기도 내림차순, 적재 전이면 빈 목록)
+     */
+    List<ProductSuggestion> suggest(String prefix, int limit);
+
+    /**
+     * 전체 재구축 시작 (publish 전까지 기존 인덱스로 조회)
+     */
+    IndexBuild startBuild();
+
+    /**
+     * 변경된 상품 반영 (이름/인기도 변경 또는 신규)
+     */
+    void upsert(UUID productId, String name, long popularity);
+
+    /**
+     * 판매 중지/삭제된 상품 제거
+     */
+    void remove(UUID productId);
+
+    interface IndexBuild {
+
+        void add(UUID productId, String name, long popularity);
+
+        /**
+         * 새 인덱스로 교체
+         */
+        IndexSize publish();
+    }
+
+    record IndexSize(
+            int productCount,
+            int keyCount
+    ) {}
+}
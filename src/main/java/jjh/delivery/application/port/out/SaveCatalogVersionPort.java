@@ -0,0 +1,13 @@
+package jjh.delivery.application.port.out;
+
+/**
+ * Catalog Version 갱신 Port - Driven Port (Outbound)
+ * 애플리케이션이 직접 관리하는 마스터 데이터의 변경 버전 증가 (다른 인스턴스의 메모리 스냅샷 갱신 신호)
+ */
+public interface SaveCatalogVersionPort {
+
+    /**
+     * 쿠폰 변경 버전 1 증가 (변경과 같은 트랜잭션에서 호출, 롤백되면 증가도 취소됨)
+     */
+    void incrementCouponVersion();
+}
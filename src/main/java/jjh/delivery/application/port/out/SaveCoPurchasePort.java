@@ -0,0 +1,22 @@
+package jjh.delivery.application.port.out;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Co-Purchase 저장 Port - Driven Port (Outbound)
+ */
+public interface SaveCoPurchasePort {
+
+    /**
+     * 함께 구매 횟수 증분 누적 후, 기준 상품마다 상위 keepPerProduct개만 남기고 정리
+     * 증분 누적이므로 여러 인스턴스가 각자 집계한 값을 저장해도 합산됩니다.
+     */
+    void addCounts(List<CoPurchaseCount> counts, int keepPerProduct);
+
+    record CoPurchaseCount(
+            UUID productId,
+            UUID relatedProductId,
+            long count
+    ) {}
+}
@@ -2,6 +2,7 @@ package jjh.delivery.application.port.out;
 
 import jjh.delivery.domain.order.Order;
 
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -12,5 +13,10 @@ public interface SaveOrderPort {
 
     Order save(Order order);
 
+    /**
+     * 신규 주문 일괄 저장 (기존 주문 조회 없이 배치 INSERT)
+     */
+    List<Order> saveAll(List<Order> orders);
+
     void delete(UUID orderId);
 }
@@ -2,6 +2,8 @@ package jjh.delivery.application.port.out;
 
 import jjh.delivery.domain.outbox.OutboxEvent;
 
+import java.util.List;
+
 /**
  * Save Outbox Event Port - Driven Port (Outbound)
  * Outbox 이벤트 저장을 위한 포트
@@ -13,6 +15,11 @@ public interface SaveOutboxEventPort {
      */
     OutboxEvent save(OutboxEvent event);
 
+    /**
+     * 신규 Outbox 이벤트 일괄 저장 (JDBC 배치 INSERT)
+     */
+    void saveAll(List<OutboxEvent> events);
+
     /**
      * Outbox 이벤트 삭제
      */
@@ -0,0 +1,12 @@
+package jjh.delivery.application.port.out;
+
+import jjh.delivery.domain.product.Product;
+
+/**
+ * Save Product Port - Driven Port (Outbound)
+ * 상품 저장 포트
+ */
+public interface SaveProductPort {
+
+    Product save(Product product);
+}
@@ -0,0 +1,24 @@
+package jjh.delivery.application.port.out;
+
+import jjh.delivery.domain.order.Order;
+import jjh.delivery.domain.order.OrderStatus;
+
+import java.util.List;
+
+/**
+ * Save Seller Daily Stats Port - Driven Port (Outbound)
+ * 판매자 일간 통계 롤업(seller_daily_stats) 증분 갱신 포트
+ * 주문 저장과 같은 트랜잭션에서 호출해야 롤업과 원본 주문이 어긋나지 않습니다.
+ */
+public interface SaveSellerDailyStatsPort {
+
+    /**
+     * 신규 주문 반영 (주문 수, 매출 증가)
+     */
+    void applyOrdersCreated(List<Order> orders);
+
+    /**
+     * 상태 변경 반영 (완료/취소 건수 증감)
+     */
+    void applyStatusChange(Order order, OrderStatus previousStatus);
+}
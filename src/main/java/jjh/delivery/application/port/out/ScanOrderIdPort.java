@@ -0,0 +1,45 @@
+package jjh.delivery.application.port.out;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Scan Order Id Port - Driven Port (Outbound)
+ * 전체 재인덱싱을 위한 주문 ID keyset 스캔 포트
+ *
+ * ID 범위 비교와 정렬은 DB의 uuid 정렬 기준을 따릅니다. (Java UUID.compareTo와 다름)
+ * 아카이브가 비활성화되어 있으면 ARCHIVE 저장소는 항상 빈 결과를 반환합니다.
+ */
+public interface ScanOrderIdPort {
+
+    /**
+     * 주문 ID를 slices개의 구간으로 나누는 경계값 조회
+     *
+     * @return 각 구간의 마지막 ID (오름차순, 주문이 slices개보다 적으면 더 짧음)
+     */
+    List<UUID> findSliceBoundaries(OrderStorage storage, int slices);
+
+    /**
+     * (after, upTo] 구간의 주문 ID를 오름차순으로 조회
+     *
+     * @param after 이 ID 초과 (null이면 처음부터)
+     * @param upTo  이 ID 이하 (null이면 끝까지)
+     */
+    List<UUID> findIdsInRange(OrderStorage storage, UUID after, UUID upTo, int limit);
+
+    long countOrders(OrderStorage storage);
+
+    /**
+     * 해당 시각 이후 생성/변경된 주문 ID 조회 (hot 테이블)
+     */
+    List<UUID> findIdsUpdatedSince(LocalDateTime since);
+
+    /**
+     * 주문 저장소 (hot 테이블 / 아카이브 테이블)
+     */
+    enum OrderStorage {
+        HOT,
+        ARCHIVE
+    }
+}
@@ -0,0 +1,26 @@
+package jjh.delivery.application.port.out;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Scan Product Change Port - Driven Port (Outbound)
+ * 상품 변경분 스캔 (products.updated_at 기준 keyset)
+ */
+public interface ScanProductChangePort {
+
+    /**
+     * (updatedAt, id) 순으로 after 이후 변경된 상품 조회
+     *
+     * @param afterUpdatedAt 마지막으로 처리한 변경 시각 (null이면 처음부터)
+     * @param afterId        같은 시각 내 마지막으로 처리한 상품 ID
+     * @param until          이 시각 이전 변경분만 조회 (커밋 지연 대비)
+     */
+    List<ProductChange> findChangedAfter(LocalDateTime afterUpdatedAt, UUID afterId, LocalDateTime until, int limit);
+
+    record ProductChange(
+            UUID productId,
+            LocalDateTime updatedAt
+    ) {}
+}
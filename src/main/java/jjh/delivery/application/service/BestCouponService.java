@@ -0,0 +1,216 @@
+package jjh.delivery.application.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import jjh.delivery.application.port.in.FindBestCouponsUseCase;
+import jjh.delivery.application.port.in.GetCategoryTreeUseCase;
+import jjh.delivery.application.port.in.GetCategoryTreeUseCase.CategoryNode;
+import jjh.delivery.application.port.out.CouponRedemptionPort;
+import jjh.delivery.application.port.out.LoadCartPort;
+import jjh.delivery.application.port.out.LoadCatalogVersionPort;
+import jjh.delivery.application.port.out.LoadCouponPort;
+import jjh.delivery.application.port.out.LoadProductPort;
+import jjh.delivery.domain.cart.Cart;
+import jjh.delivery.domain.cart.CartItem;
+import jjh.delivery.domain.product.Product;
+import jjh.delivery.domain.promotion.Coupon;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+/**
+ * Best Coupon Service
+ * 사용 가능한 쿠폰을 프로세스 메모리의 적용 범위 인덱스(CouponRuleIndex)로 두고, 장바구니 한 번 순회로 쿠폰별 할인 금액을 계산
+ *
+ * refresh-interval마다 쿠폰 변경 버전(catalog_versions)만 확인해 관리자 변경 시에만 다시 읽습니다.
+ * 사용 수량은 사용할 때마다 버전을 올리지 않으므로, 소진 여부는 max-age마다 다시 읽어 반영합니다.
+ * 결과는 결제 화면 안내용이며, 실제 사용 가능 여부는 사용 처리(redeemCoupon)의 조건부 UPDATE가 최종 판단합니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BestCouponService implements FindBestCouponsUseCase {
+
+    private static final Comparator<ApplicableCoupon> BEST_FIRST = Comparator
+            .comparing(ApplicableCoupon::discountAmount, Comparator.reverseOrder())
+            .thenComparing(ApplicableCoupon::validUntil, Comparator.nullsLast(Comparator.naturalOrder()));
+
+    private final LoadCouponPort loadCouponPort;
+    private final LoadCatalogVersionPort loadCatalogVersionPort;
+    private final LoadCartPort loadCartPort;
+    private final LoadProductPort loadProductPort;
+    private final GetCategoryTreeUseCase getCategoryTreeUseCase;
+    private final CouponRedemptionPort couponRedemptionPort;
+
+    private final ReentrantLock reloadLock = new ReentrantLock();
+    private volatile CouponRuleIndex index;
+
+    @Value("${promotion.coupon.index.max-age:60000}")
+    private long maxAgeMillis;
+
+    @Value("${promotion.coupon.index.max-size:20}")
+    private int maxSize;
+
+    @Override
+    public List<ApplicableCoupon> findBestCoupons(UUID customerId, int limit) {
+        Optional<Cart> cart = loadCartPort.findByCustomerId(customerId);
+        if (cart.isEmpty() || cart.get().isEmpty()) {
+            return List.of();
+        }
+
+        CouponRuleIndex current = index();
+        if (current.size() == 0) {
+            return List.of();
+        }
+
+        List<CartItem> items = cart.get().getItems();
+        Map<UUID, Set<UUID>> categoriesByProduct = current.hasCategoryRules()
+                ? loadCategoryIds(items)
+                : Map.of();
+
+        // 쿠폰별 적용 범위 금액 합계 (한 줄에 같은 쿠폰이 여러 키로 걸려도 한 번만 합산)
+        Map<Coupon, BigDecimal> eligibleAmounts = new LinkedHashMap<>();
+        for (CartItem item : items) {
+            Set<UUID> categoryIds = categoriesByProduct.getOrDefault(item.productId(), Set.of());
+            for (Coupon coupon : current.candidates(item.productId(), item.sellerId(), categoryIds)) {
+                eligibleAmounts.merge(coupon, item.getSubtotal(), BigDecimal::add);
+            }
+        }
+        if (eligibleAmounts.isEmpty()) {
+            return List.of();
+        }
+
+        Set<UUID> redeemed = couponRedemptionPort.findRedeemedCouponIds(customerId);
+        List<ApplicableCoupon> applicable = new ArrayList<>();
+        eligibleAmounts.forEach((coupon, amount) -> {
+            if (redeemed.contains(coupon.getId())) {
+                return;
+            }
+            BigDecimal discount = coupon.calculateDiscount(amount).min(amount);
+            if (discount.signum() > 0) {
+                applicable.add(toApplicableCoupon(coupon, amount, discount));
+            }
+        });
+
+        return applicable.stream()
+                .sorted(BEST_FIRST)
+                .limit(Math.clamp(limit, 1, maxSize))
+                .toList();
+    }
+
+    /**
+     * 변경 버전이 바뀌었거나 max-age가 지난 경우 재적재 (기동 직후 최초 적재 포함)
+     * 실패하면 기존 인덱스를 유지하고 다음 주기에 다시 시도합니다.
+     */
+    @Scheduled(fixedDelayString = "${promotion.coupon.index.refresh-interval:5000}")
+    public void refreshIfChanged() {
+        try {
+            long version = loadCatalogVersionPort.loadCouponVersion();
+            CouponRuleIndex current = index;
+            if (current == null || current.version() != version || isExpired(current)) {
+                reload(version);
+            }
+        } catch (Exception e) {
+            log.error("Failed to refresh coupon rule index", e);
+        }
+    }
+
+    /**
+     * 최초 적재 전 요청은 적재를 기다림 (이후에는 volatile 읽기 1회)
+     */
+    private CouponRuleIndex index() {
+        CouponRuleIndex current = index;
+        if (current != null) {
+            return current;
+        }
+        reloadLock.lock();
+        try {
+            if (index == null) {
+                reload(loadCatalogVersionPort.loadCouponVersion());
+            }
+            return index;
+        } finally {
+            reloadLock.unlock();
+        }
+    }
+
+    private void reload(long version) {
+        reloadLock.lock();
+        try {
+            CouponRuleIndex current = index;
+            if (current != null && current.version() == version && !isExpired(current)) {
+                return;
+            }
+            CouponRuleIndex loaded = CouponRuleIndex.of(version, LocalDateTime.now(), loadCouponPort.findUsableCoupons());
+            index = loaded;
+            log.debug("Loaded coupon rule index. version={}, coupons={}", version, loaded.size());
+        } finally {
+            reloadLock.unlock();
+        }
+    }
+
+    private boolean isExpired(CouponRuleIndex current) {
+        return current.loadedAt().plus(Duration.ofMillis(maxAgeMillis)).isBefore(LocalDateTime.now());
+    }
+
+    /**
+     * 장바구니 상품의 카테고리와 상위 카테고리 (카테고리 쿠폰은 하위 카테고리 상품에도 적용)
+     */
+    private Map<UUID, Set<UUID>> loadCategoryIds(List<CartItem> items) {
+        Set<UUID> productIds = items.stream()
+                .map(CartItem::productId)
+                .collect(Collectors.toSet());
+        Map<UUID, Set<UUID>> ancestorsByCategory = new HashMap<>();
+
+        return loadProductPort.findAllById(productIds).stream()
+                .collect(Collectors.toMap(Product::getId, product -> {
+                    Set<UUID> categoryIds = new LinkedHashSet<>();
+                    for (UUID categoryId : product.getCategoryIds()) {
+                        categoryIds.addAll(ancestorsByCategory.computeIfAbsent(categoryId, this::withAncestors));
+                    }
+                    return categoryIds;
+                }, (first, second) -> first));
+    }
+
+    private Set<UUID> withAncestors(UUID categoryId) {
+        Set<UUID> categoryIds = new LinkedHashSet<>();
+        categoryIds.add(categoryId);
+        Optional<CategoryNode> node = getCategoryTreeUseCase.getCategory(categoryId);
+        while (node.isPresent() && node.get().parentId() != null && categoryIds.add(node.get().parentId())) {
+            node = getCategoryTreeUseCase.getCategory(node.get().parentId());
+        }
+        return categoryIds;
+    }
+
+    private ApplicableCoupon toApplicableCoupon(Coupon coupon, BigDecimal eligibleAmount, BigDecimal discountAmount) {
+        return new ApplicableCoupon(
+                coupon.getId(),
+                coupon.getCode(),
+                coupon.getName(),
+                coupon.getDiscountType(),
+                coupon.getDiscountValue(),
+                coupon.getScope(),
+                coupon.getScopeTargetId(),
+                eligibleAmount,
+                discountAmount,
+                coupon.getValidUntil()
+        );
+    }
+}
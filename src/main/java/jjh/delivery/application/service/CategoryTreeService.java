@@ -0,0 +1,159 @@
+package jjh.delivery.application.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import jjh.delivery.application.port.in.GetCategoryTreeUseCase;
+import jjh.delivery.application.port.out.CategoryIndexPathPort;
+import jjh.delivery.application.port.out.LoadCatalogVersionPort;
+import jjh.delivery.application.port.out.LoadCategoryPort;
+import jjh.delivery.application.port.out.LoadProductPort;
+import jjh.delivery.application.port.out.ProductIndexingPort;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+/**
+ * Category Tree Service
+ * 카테고리 트리를 프로세스 메모리의 불변 스냅샷(CategoryTreeSnapshot)으로 제공
+ *
+ * 카테고리는 수가 적고 모든 카탈로그 요청에서 읽히므로, 요청마다 캐시(Redis) 왕복과 역직렬화를 하지 않습니다.
+ * refresh-interval마다 카테고리 변경 버전(catalog_versions, PK 단건 조회)만 확인하고,
+ * 버전이 바뀐 경우에만 전체를 다시 읽어 새 스냅샷으로 원자적으로 교체합니다.
+ * 버전을 먼저 읽고 적재하므로 적재 중 변경은 다음 주기에 다시 반영됩니다.
+ * 버전은 db/category_version.sql 트리거가 올리므로, 스크립트가 적용되지 않은 환경(버전 0 고정)에서도 max-age마다 다시 읽어 반영합니다.
+ *
+ * 카테고리가 이동되면 상품 검색 문서의 조상 카테고리가 바뀌므로, 경로가 바뀐 카테고리의 상품을 재인덱싱 요청합니다.
+ * 이동 여부는 메모리의 이전 스냅샷이 아니라 인덱스에 반영된 경로(category_index_paths)와 비교하므로,
+ * 실행 중인 인스턴스가 없을 때 이동되었더라도 기동 후 첫 적재에서 재인덱싱됩니다.
+ * 처음 보는 카테고리는 기준 경로만 기록합니다. (여러 인스턴스가 요청해도 재인덱싱은 최신 상품 정보를 다시 읽으므로 결과가 같음)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CategoryTreeService implements GetCategoryTreeUseCase {
+
+    private final LoadCategoryPort loadCategoryPort;
+    private final LoadCatalogVersionPort loadCatalogVersionPort;
+    private final LoadProductPort loadProductPort;
+    private final ProductIndexingPort productIndexingPort;
+    private final CategoryIndexPathPort categoryIndexPathPort;
+
+    private final ReentrantLock reloadLock = new ReentrantLock();
+    private volatile CategoryTreeSnapshot snapshot;
+
+    @Value("${catalog.category.max-age:300000}")
+    private long maxAgeMillis;
+
+    @Override
+    public List<CategoryNode> getTree() {
+        return snapshot().roots();
+    }
+
+    @Override
+    public Optional<CategoryNode> getCategory(UUID categoryId) {
+        return Optional.ofNullable(snapshot().get(categoryId));
+    }
+
+    @Override
+    public List<CategoryNode> getChildren(UUID parentId) {
+        return snapshot().childrenOf(parentId);
+    }
+
+    @Override
+    public List<CategoryNode> getByDepth(int depth) {
+        return snapshot().atDepth(depth);
+    }
+
+    /**
+     * 변경 버전이 바뀌었거나 max-age가 지난 경우 재적재 (기동 직후 최초 적재 포함)
+     * 실패하면 기존 스냅샷을 유지하고 다음 주기에 다시 시도합니다.
+     */
+    @Scheduled(fixedDelayString = "${catalog.category.refresh-interval:5000}")
+    public void refreshIfChanged() {
+        try {
+            long version = loadCatalogVersionPort.loadCategoryVersion();
+            CategoryTreeSnapshot current = snapshot;
+            if (current == null || current.version() != version || isExpired(current)) {
+                reload(version);
+            }
+        } catch (Exception e) {
+            log.error("Failed to refresh category tree snapshot", e);
+        }
+    }
+
+    /**
+     * 최초 적재 전 요청은 적재를 기다림 (이후에는 volatile 읽기 1회)
+     */
+    private CategoryTreeSnapshot snapshot() {
+        CategoryTreeSnapshot current = snapshot;
+        if (current != null) {
+            return current;
+        }
+        reloadLock.lock();
+        try {
+            if (snapshot == null) {
+                reload(loadCatalogVersionPort.loadCategoryVersion());
+            }
+            return snapshot;
+        } finally {
+            reloadLock.unlock();
+        }
+    }
+
+    private void reload(long version) {
+        reloadLock.lock();
+        try {
+            CategoryTreeSnapshot current = snapshot;
+            if (current != null && current.version() == version && !isExpired(current)) {
+                return;
+            }
+            CategoryTreeSnapshot loaded = CategoryTreeSnapshot.of(version, LocalDateTime.now(), loadCategoryPort.findAllActive());
+            snapshot = loaded;
+            log.info("Loaded category tree snapshot. version={}, categories={}", version, loaded.size());
+
+            reindexMovedCategories(loaded);
+        } finally {
+            reloadLock.unlock();
+        }
+    }
+
+    private boolean isExpired(CategoryTreeSnapshot current) {
+        return current.loadedAt().plus(Duration.ofMillis(maxAgeMillis)).isBefore(LocalDateTime.now());
+    }
+
+    /**
+     * 이동된 카테고리(하위 트리 포함)에 속한 상품 재인덱싱 요청 후 경로 기록 (실패해도 스냅샷 교체는 유지)
+     * 요청이 실패하면 경로를 기록하지 않으므로 다음 적재에서 다시 요청합니다.
+     */
+    private void reindexMovedCategories(CategoryTreeSnapshot loaded) {
+        try {
+            Map<UUID, String> indexedPaths = categoryIndexPathPort.loadIndexedPaths();
+            Map<UUID, String> changed = loaded.pathsChangedFrom(indexedPaths);
+            if (changed.isEmpty()) {
+                return;
+            }
+            Set<UUID> moved = changed.keySet().stream()
+                    .filter(indexedPaths::containsKey)
+                    .collect(Collectors.toSet());
+            if (!moved.isEmpty()) {
+                List<UUID> productIds = loadProductPort.findIdsByCategoryIds(moved);
+                productIndexingPort.requestIndexing(productIds);
+                log.info("Requested reindexing of {} products in {} moved categories", productIds.size(), moved.size());
+            }
+            categoryIndexPathPort.saveIndexedPaths(changed);
+        } catch (Exception e) {
+            log.error("Failed to request reindexing for moved categories", e);
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package jjh.delivery.application.service;
+
+import jjh.delivery.application.port.in.GetCategoryTreeUseCase.CategoryNode;
+import jjh.delivery.domain.category.Category;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Category Tree Snapshot
+ * 활성 카테고리 전체를 불변 노드 트리로 만든 스냅샷 (ID/깊이별 조회 O(1))
+ *
+ * 루트부터 displayOrder 순으로 내려가며 노드를 만들므로 조상이 비활성(목록에 없음)인 카테고리는 포함되지 않습니다.
+ * 생성 후에는 변경되지 않으므로 여러 요청 스레드가 락 없이 공유합니다. 갱신은 새 스냅샷으로 교체합니다.
+ */
+final class CategoryTreeSnapshot {
+
+    private static final Comparator<Category> DISPLAY_ORDER =
+            Comparator.comparingInt(Category::getDisplayOrder).thenComparing(Category::getName);
+
+    private final long version;
+    private final LocalDateTime loadedAt;
+    private final List<CategoryNode> roots;
+    private final Map<UUID, CategoryNode> byId;
+    private final Map<Integer, List<CategoryNode>> byDepth;
+
+    private CategoryTreeSnapshot(long version, LocalDateTime loadedAt, List<CategoryNode> roots,
+                                 Map<UUID, CategoryNode> byId, Map<Integer, List<CategoryNode>> byDepth) {
+        this.version = version;
+        this.loadedAt = loadedAt;
+        this.roots = List.copyOf(roots);
+        this.byId = Map.copyOf(byId);
+        this.byDepth = Map.copyOf(byDepth);
+    }
+
+    static CategoryTreeSnapshot of(long version, LocalDateTime loadedAt, List<Category> categories) {
+        List<Category> rootCategories = new ArrayList<>();
+        Map<UUID, List<Category>> childrenOf = new HashMap<>();
+        for (Category category : categories) {
+            if (category.getParentId() == null) {
+                rootCategories.add(category);
+            } else {
+                childrenOf.computeIfAbsent(category.getParentId(), id -> new ArrayList<>()).add(category);
+            }
+        }
+
+        Map<UUID, CategoryNode> byId = new HashMap<>();
+        Map<Integer, List<CategoryNode>> byDepth = new HashMap<>();
+        List<CategoryNode> roots = rootCategories.stream()
+                .sorted(DISPLAY_ORDER)
+                .map(root -> toNode(root, 1, childrenOf, byId, byDepth))
+                .toList();
+
+        Map<Integer, List<CategoryNode>> immutableByDepth = new HashMap<>();
+        byDepth.forEach((depth, nodes) -> immutableByDepth.put(depth, List.copyOf(nodes)));
+        return new CategoryTreeSnapshot(version, loadedAt, roots, byId, immutableByDepth);
+    }
+
+    /**
+     * 하위 노드를 먼저 만든 뒤 부모 노드 생성 (깊이는 실제 트리 위치 기준)
+     */
+    private static CategoryNode toNode(Category category, int depth, Map<UUID, List<Category>> childrenOf,
+                                       Map<UUID, CategoryNode> byId, Map<Integer, List<CategoryNode>> byDepth) {
+        List<CategoryNode> levelNodes = byDepth.computeIfAbsent(depth, d -> new ArrayList<>());
+        int position = levelNodes.size();
+        levelNodes.add(null);  // 같은 깊이 목록에서 부모 순서(전위 순회)를 유지하기 위한 자리
+
+        List<CategoryNode> children = childrenOf.getOrDefault(category.getId(), List.of()).stream()
+                .sorted(DISPLAY_ORDER)
+                .map(child -> toNode(child, depth + 1, childrenOf, byId, byDepth))
+                .toList();
+
+        CategoryNode node = new CategoryNode(
+                category.getId(),
+                category.getParentId(),
+                category.getName(),
+                category.getDescription(),
+                category.getImageUrl(),
+                category.getDisplayOrder(),
+                depth,
+                category.getPath(),
+                children
+        );
+        levelNodes.set(position, node);
+        byId.put(node.id(), node);
+        return node;
+    }
+
+    long version() {
+        return version;
+    }
+
+    LocalDateTime loadedAt() {
+        return loadedAt;
+    }
+
+    int size() {
+        return byId.size();
+    }
+
+    List<CategoryNode> roots() {
+        return roots;
+    }
+
+    CategoryNode get(UUID categoryId) {
+        return byId.get(categoryId);
+    }
+
+    List<CategoryNode> childrenOf(UUID parentId) {
+        CategoryNode parent = byId.get(parentId);
+        return parent != null ? parent.children() : List.of();
+    }
+
+    List<CategoryNode> atDepth(int depth) {
+        return byDepth.getOrDefault(depth, List.of());
+    }
+
+    /**
+     * 인덱스에 반영된 경로와 다른 카테고리의 현재 경로 (경로가 없는 카테고리 제외)
+     * 부모가 바뀌면 하위 카테고리 경로도 함께 바뀌므로 이동된 하위 트리 전체가 포함됩니다.
+     */
+    Map<UUID, String> pathsChangedFrom(Map<UUID, String> indexedPaths) {
+        return byId.values().stream()
+                .filter(node -> node.path() != null && !Objects.equals(indexedPaths.get(node.id()), node.path()))
+                .collect(Collectors.toMap(CategoryNode::id, CategoryNode::path));
+    }
+}
@@ -0,0 +1,200 @@
+package jjh.delivery.application.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import jakarta.annotation.PreDestroy;
+import jjh.delivery.application.port.in.FrequentlyBoughtTogetherUseCase;
+import jjh.delivery.application.port.out.LoadCoPurchasePort;
+import jjh.delivery.application.port.out.SaveCoPurchasePort;
+import jjh.delivery.application.port.out.SaveCoPurchasePort.CoPurchaseCount;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Co-Purchase Service
+ * 주문 생성 이벤트로 "함께 구매한 상품"을 증분 집계하고, 저장된 집계로 상품별 추천을 제공
+ *
+ * 1) 주문마다 상품 쌍(최대 max-items-per-order개 상품의 순서쌍)을 메모리 스케치(CoPurchaseSketches)에 누적
+ * 2) persist-interval마다 (또는 기준 상품 수가 max-products에 도달하면 즉시) 스케치를 새 것으로 교체하고
+ *    이전 스케치의 하한 횟수를 DB에 증분 upsert (전용 스레드, 기준 상품마다 상위 stored-size개만 유지)
+ * 3) 조회는 저장된 집계만 사용하므로 모든 인스턴스가 같은 결과를 반환합니다.
+ *
+ * 스케치는 저장 주기마다 비워지므로 메모리는 한 주기 동안의 활동량(최대 max-products x sketch-size)으로 제한됩니다.
+ * 한도 도달 후 교체 전까지 들어온 새 기준 상품의 쌍은 버려지며, 버린 수는 저장 시 경고 로그로 남깁니다.
+ * 저장은 persistLock으로 직렬화되므로 종료 시 저장(@PreDestroy)은 진행 중인 주기 저장이 끝난 뒤 실행됩니다.
+ * 저장 전 인스턴스가 종료되면 해당 주기의 집계는 유실됩니다. (근사 추천이므로 허용)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CoPurchaseService implements FrequentlyBoughtTogetherUseCase {
+
+    private final SaveCoPurchasePort saveCoPurchasePort;
+    private final LoadCoPurchasePort loadCoPurchasePort;
+
+    private final Object windowLock = new Object();
+    private final Object persistLock = new Object();
+    private final AtomicBoolean persisting = new AtomicBoolean(false);
+    private final ExecutorService persistExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "co-purchase-persist");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private CoPurchaseSketches window;
+
+    @Value("${recommendation.co-purchase.sketch-size:16}")
+    private int sketchSize;
+
+    @Value("${recommendation.co-purchase.max-products:100000}")
+    private int maxProducts;
+
+    @Value("${recommendation.co-purchase.max-items-per-order:20}")
+    private int maxItemsPerOrder;
+
+    @Value("${recommendation.co-purchase.stored-size:50}")
+    private int storedSize;
+
+    @Value("${recommendation.co-purchase.persist-batch-size:5000}")
+    private int persistBatchSize;
+
+    @Value("${recommendation.co-purchase.max-size:20}")
+    private int maxSize;
+
+    @Override
+    public void recordOrder(List<UUID> productIds) {
+        List<UUID> distinct = productIds.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .limit(maxItemsPerOrder)
+                .toList();
+        if (distinct.size() < 2) {
+            return;
+        }
+
+        boolean full;
+        synchronized (windowLock) {
+            if (window == null) {
+                window = new CoPurchaseSketches(sketchSize, maxProducts);
+            }
+            for (UUID productId : distinct) {
+                for (UUID relatedProductId : distinct) {
+                    if (!productId.equals(relatedProductId)) {
+                        window.add(productId, relatedProductId, 1);
+                    }
+                }
+            }
+            full = window.isFull();
+        }
+
+        if (full) {
+            schedulePersist();
+        }
+    }
+
+    @Override
+    public List<RelatedProduct> getFrequentlyBoughtTogether(UUID productId, int limit) {
+        return loadCoPurchasePort.findTopRelated(productId, Math.clamp(limit, 1, maxSize)).stream()
+                .map(product -> new RelatedProduct(
+                        product.productId(),
+                        product.name(),
+                        product.basePrice(),
+                        product.thumbnailUrl(),
+                        product.purchaseCount()
+                ))
+                .toList();
+    }
+
+    /**
+     * 저장 예약 (이미 저장 중이면 건너뜀)
+     */
+    @Scheduled(fixedDelayString = "${recommendation.co-purchase.persist-interval:60000}")
+    public void schedulePersist() {
+        if (persisting.compareAndSet(false, true)) {
+            persistExecutor.execute(() -> {
+                try {
+                    persist();
+                } finally {
+                    persisting.set(false);
+                }
+            });
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        persistExecutor.shutdown();
+        persist();
+    }
+
+    /**
+     * 현재 스케치를 떼어 내 저장 (요청 스레드는 새 스케치에 계속 누적)
+     * 저장에 실패한 증분은 한도 내에서 다음 주기 스케치에 되돌립니다.
+     */
+    void persist() {
+        synchronized (persistLock) {
+            persistWindow();
+        }
+    }
+
+    private void persistWindow() {
+        CoPurchaseSketches persisted;
+        synchronized (windowLock) {
+            persisted = window;
+            window = null;
+        }
+        if (persisted == null || persisted.isEmpty()) {
+            return;
+        }
+        if (persisted.droppedPairs() > 0) {
+            log.warn("Dropped co-purchase pairs after reaching max-products. products={}, dropped={}",
+                    persisted.productCount(), persisted.droppedPairs());
+        }
+
+        List<CoPurchaseCount> counts = persisted.toCounts();
+        List<CoPurchaseCount> failed = new ArrayList<>();
+        for (int from = 0; from < counts.size(); from += persistBatchSize) {
+            List<CoPurchaseCount> batch = counts.subList(from, Math.min(from + persistBatchSize, counts.size()));
+            try {
+                saveCoPurchasePort.addCounts(batch, storedSize);
+            } catch (Exception e) {
+                log.error("Failed to persist co-purchase counts. size={}", batch.size(), e);
+                failed.addAll(batch);
+            }
+        }
+
+        if (!failed.isEmpty()) {
+            restore(failed);
+        }
+        log.debug("Persisted co-purchase counts. products={}, pairs={}, failed={}",
+                persisted.productCount(), counts.size(), failed.size());
+    }
+
+    private void restore(List<CoPurchaseCount> counts) {
+        int dropped = 0;
+        synchronized (windowLock) {
+            if (window == null) {
+                window = new CoPurchaseSketches(sketchSize, maxProducts);
+            }
+            for (CoPurchaseCount count : counts) {
+                if (!window.add(count.productId(), count.relatedProductId(), count.count())) {
+                    dropped++;
+                }
+            }
+        }
+        if (dropped > 0) {
+            log.warn("Dropped failed co-purchase counts while restoring. restored={}, dropped={}",
+                    counts.size() - dropped, dropped);
+        }
+    }
+}
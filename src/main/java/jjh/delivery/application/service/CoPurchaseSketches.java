@@ -0,0 +1,205 @@
+package jjh.delivery.application.service;
+
+import jjh.delivery.application.port.out.SaveCoPurchasePort.CoPurchaseCount;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Co-Purchase Sketches
+ * 기준 상품별 함께 구매된 상품 상위 후보를 Space-Saving 스케치로 근사 집계 (저장 주기 1회분)
+ *
+ * - 기준 상품: UUID 상위/하위 64비트를 키로 하는 open addressing 테이블 (박싱/엔트리 객체 없음)
+ * - 스케치: 관련 상품 키/횟수/오차를 원시 배열에 보관하며, 가득 차면 최소 횟수 항목을 대체합니다.
+ *   대체된 항목은 이전 최소값만큼 과대 추정될 수 있으므로 저장 시에는 하한(횟수 - 오차)만 내보냅니다.
+ * - 메모리: 기준 상품 최대 maxProducts개 x 스케치 최대 sketchSize개로 제한됩니다.
+ *   기준 상품 테이블은 Space-Saving이 아니므로, 한도에 도달한 뒤 들어온 새 기준 상품의 쌍은 버리고 그 수만 셉니다.
+ *   (호출 측이 즉시 저장을 요청해 새 스케치로 교체하며, 이미 있는 기준 상품의 후보는 계속 집계됩니다)
+ *
+ * 동기화는 호출 측(CoPurchaseService)에서 담당합니다.
+ */
+final class CoPurchaseSketches {
+
+    private static final int INITIAL_TABLE_SIZE = 1024;
+    private static final int INITIAL_SKETCH_SIZE = 4;
+
+    private final int sketchSize;
+    private final int maxProducts;
+
+    private long[] productMsb;
+    private long[] productLsb;
+    private Sketch[] sketches;
+    private int productCount;
+    private long droppedPairs;
+
+    CoPurchaseSketches(int sketchSize, int maxProducts) {
+        this.sketchSize = sketchSize;
+        this.maxProducts = maxProducts;
+        allocate(INITIAL_TABLE_SIZE);
+    }
+
+    int productCount() {
+        return productCount;
+    }
+
+    boolean isEmpty() {
+        return productCount == 0;
+    }
+
+    boolean isFull() {
+        return productCount >= maxProducts;
+    }
+
+    /**
+     * 한도 도달로 버린 쌍 수
+     */
+    long droppedPairs() {
+        return droppedPairs;
+    }
+
+    /**
+     * 기준 상품 productId와 함께 relatedProductId가 weight회 구매됨
+     *
+     * @return 반영 여부 (새 기준 상품인데 한도에 도달했으면 버리고 false)
+     */
+    boolean add(UUID productId, UUID relatedProductId, long weight) {
+        int slot = find(productId.getMostSignificantBits(), productId.getLeastSignificantBits());
+        Sketch sketch = sketches[slot];
+        if (sketch == null) {
+            if (isFull()) {
+                droppedPairs++;
+                return false;
+            }
+            sketch = new Sketch(Math.min(INITIAL_SKETCH_SIZE, sketchSize));
+            productMsb[slot] = productId.getMostSignificantBits();
+            productLsb[slot] = productId.getLeastSignificantBits();
+            sketches[slot] = sketch;
+            if (++productCount * 2 > sketches.length) {
+                allocate(sketches.length * 2);
+            }
+        }
+        sketch.add(relatedProductId.getMostSignificantBits(), relatedProductId.getLeastSignificantBits(),
+                weight, sketchSize);
+        return true;
+    }
+
+    /**
+     * 저장용 하한 횟수 목록 (하한이 0인 후보는 제외)
+     */
+    List<CoPurchaseCount> toCounts() {
+        List<CoPurchaseCount> counts = new ArrayList<>();
+        for (int slot = 0; slot < sketches.length; slot++) {
+            Sketch sketch = sketches[slot];
+            if (sketch == null) {
+                continue;
+            }
+            UUID productId = new UUID(productMsb[slot], productLsb[slot]);
+            for (int i = 0; i < sketch.size; i++) {
+                long guaranteed = sketch.counts[i] - sketch.errors[i];
+                if (guaranteed > 0) {
+                    counts.add(new CoPurchaseCount(productId, new UUID(sketch.msb[i], sketch.lsb[i]), guaranteed));
+                }
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * 키가 있으면 해당 슬롯, 없으면 삽입할 빈 슬롯 (linear probing)
+     */
+    private int find(long msb, long lsb) {
+        int mask = sketches.length - 1;
+        int slot = mix(msb, lsb) & mask;
+        while (sketches[slot] != null && (productMsb[slot] != msb || productLsb[slot] != lsb)) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void allocate(int size) {
+        long[] oldMsb = productMsb;
+        long[] oldLsb = productLsb;
+        Sketch[] oldSketches = sketches;
+
+        productMsb = new long[size];
+        productLsb = new long[size];
+        sketches = new Sketch[size];
+        if (oldSketches == null) {
+            return;
+        }
+        for (int slot = 0; slot < oldSketches.length; slot++) {
+            if (oldSketches[slot] != null) {
+                int target = find(oldMsb[slot], oldLsb[slot]);
+                productMsb[target] = oldMsb[slot];
+                productLsb[target] = oldLsb[slot];
+                sketches[target] = oldSketches[slot];
+            }
+        }
+    }
+
+    private static int mix(long msb, long lsb) {
+        long hash = (msb ^ lsb) * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32));
+    }
+
+    /**
+     * Space-Saving 스케치 (항목 수가 작아 선형 탐색)
+     */
+    private static final class Sketch {
+
+        private long[] msb;
+        private long[] lsb;
+        private long[] counts;
+        private long[] errors;
+        private int size;
+
+        private Sketch(int capacity) {
+            msb = new long[capacity];
+            lsb = new long[capacity];
+            counts = new long[capacity];
+            errors = new long[capacity];
+        }
+
+        private void add(long keyMsb, long keyLsb, long weight, int maxSize) {
+            for (int i = 0; i < size; i++) {
+                if (msb[i] == keyMsb && lsb[i] == keyLsb) {
+                    counts[i] += weight;
+                    return;
+                }
+            }
+
+            if (size < maxSize) {
+                if (size == msb.length) {
+                    grow(Math.min(msb.length * 2, maxSize));
+                }
+                msb[size] = keyMsb;
+                lsb[size] = keyLsb;
+                counts[size] = weight;
+                errors[size] = 0;
+                size++;
+                return;
+            }
+
+            // 최소 횟수 항목을 대체하고 그 횟수를 오차로 이어받음
+            int min = 0;
+            for (int i = 1; i < size; i++) {
+                if (counts[i] < counts[min]) {
+                    min = i;
+                }
+            }
+            msb[min] = keyMsb;
+            lsb[min] = keyLsb;
+            errors[min] = counts[min];
+            counts[min] += weight;
+        }
+
+        private void grow(int capacity) {
+            msb = Arrays.copyOf(msb, capacity);
+            lsb = Arrays.copyOf(lsb, capacity);
+            counts = Arrays.copyOf(counts, capacity);
+            errors = Arrays.copyOf(errors, capacity);
+        }
+    }
+}
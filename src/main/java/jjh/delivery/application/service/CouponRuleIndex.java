@@ -0,0 +1,112 @@
+package jjh.delivery.application.service;
+
+import jjh.delivery.domain.promotion.Coupon;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Coupon Rule Index
+ * 사용 가능한 쿠폰을 적용 범위(CouponScope, scopeTargetId)별로 나눈 불변 스냅샷
+ *
+ * 장바구니 상품 한 줄의 후보 쿠폰은 전체 상품 쿠폰 + 상품/판매자/카테고리 키로 찾은 쿠폰이므로
+ * 쿠폰 수와 무관하게 줄마다 해시 조회 몇 번으로 끝납니다.
+ * 생성 후에는 변경되지 않으므로 여러 요청 스레드가 락 없이 공유합니다. 갱신은 새 스냅샷으로 교체합니다.
+ */
+final class CouponRuleIndex {
+
+    private final long version;
+    private final LocalDateTime loadedAt;
+    private final List<Coupon> allProducts;
+    private final Map<UUID, List<Coupon>> byProduct;
+    private final Map<UUID, List<Coupon>> bySeller;
+    private final Map<UUID, List<Coupon>> byCategory;
+    private final int size;
+
+    private CouponRuleIndex(long version, LocalDateTime loadedAt, List<Coupon> allProducts,
+                            Map<UUID, List<Coupon>> byProduct, Map<UUID, List<Coupon>> bySeller,
+                            Map<UUID, List<Coupon>> byCategory, int size) {
+        this.version = version;
+        this.loadedAt = loadedAt;
+        this.allProducts = List.copyOf(allProducts);
+        this.byProduct = immutable(byProduct);
+        this.bySeller = immutable(bySeller);
+        this.byCategory = immutable(byCategory);
+        this.size = size;
+    }
+
+    /**
+     * 적용 대상이 지정되지 않은 범위 쿠폰(scopeTargetId 없음)은 어떤 상품에도 적용되지 않으므로 제외
+     */
+    static CouponRuleIndex of(long version, LocalDateTime loadedAt, List<Coupon> coupons) {
+        List<Coupon> allProducts = new ArrayList<>();
+        Map<UUID, List<Coupon>> byProduct = new HashMap<>();
+        Map<UUID, List<Coupon>> bySeller = new HashMap<>();
+        Map<UUID, List<Coupon>> byCategory = new HashMap<>();
+        int size = 0;
+
+        for (Coupon coupon : coupons) {
+            Map<UUID, List<Coupon>> target = switch (coupon.getScope()) {
+                case ALL_PRODUCTS -> null;
+                case PRODUCT -> byProduct;
+                case SELLER -> bySeller;
+                case CATEGORY -> byCategory;
+            };
+            if (target == null) {
+                allProducts.add(coupon);
+            } else if (coupon.getScopeTargetId() != null) {
+                target.computeIfAbsent(coupon.getScopeTargetId(), id -> new ArrayList<>()).add(coupon);
+            } else {
+                continue;
+            }
+            size++;
+        }
+        return new CouponRuleIndex(version, loadedAt, allProducts, byProduct, bySeller, byCategory, size);
+    }
+
+    long version() {
+        return version;
+    }
+
+    LocalDateTime loadedAt() {
+        return loadedAt;
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean hasCategoryRules() {
+        return !byCategory.isEmpty();
+    }
+
+    /**
+     * 상품 한 줄에 적용될 수 있는 쿠폰 (같은 쿠폰은 여러 키로 찾아져도 한 번만)
+     *
+     * @param categoryIds 상품 카테고리와 그 상위 카테고리
+     */
+    Set<Coupon> candidates(UUID productId, UUID sellerId, Collection<UUID> categoryIds) {
+        Set<Coupon> candidates = new LinkedHashSet<>(allProducts);
+        candidates.addAll(byProduct.getOrDefault(productId, List.of()));
+        if (sellerId != null) {
+            candidates.addAll(bySeller.getOrDefault(sellerId, List.of()));
+        }
+        for (UUID categoryId : categoryIds) {
+            candidates.addAll(byCategory.getOrDefault(categoryId, List.of()));
+        }
+        return candidates;
+    }
+
+    private static Map<UUID, List<Coupon>> immutable(Map<UUID, List<Coupon>> coupons) {
+        Map<UUID, List<Coupon>> copy = new HashMap<>();
+        coupons.forEach((key, value) -> copy.put(key, List.copyOf(value)));
+        return Map.copyOf(copy);
+    }
+}
@@ -4,13 +4,16 @@ import lombok.RequiredArgsConstructor;
 
 import jjh.delivery.adapter.in.web.dto.CursorPageResponse;
 import jjh.delivery.application.port.in.ManageCouponUseCase;
+import jjh.delivery.application.port.out.CouponRedemptionPort;
 import jjh.delivery.application.port.out.LoadCouponPort;
+import jjh.delivery.application.port.out.SaveCatalogVersionPort;
 import jjh.delivery.application.port.out.SaveCouponPort;
 import jjh.delivery.domain.promotion.Coupon;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Optional;
@@ -20,6 +23,9 @@ import java.util.function.Supplier;
 /**
  * Coupon Service - Application Service
  * 쿠폰 관리 서비스
+ *
+ * 사용/사용 취소는 쿠폰을 읽어 저장하지 않고 CouponRedemptionPort의 조건부 UPDATE로 수량만 바꾸므로
+ * 선착순 쿠폰에 동시 요청이 몰려도 갱신 유실이나 발급 수량 초과가 없습니다.
  */
 @Service
 @Transactional
@@ -28,6 +34,8 @@ public class CouponService implements ManageCouponUseCase {
 
     private final LoadCouponPort loadCouponPort;
     private final SaveCouponPort saveCouponPort;
+    private final CouponRedemptionPort couponRedemptionPort;
+    private final SaveCatalogVersionPort saveCatalogVersionPort;
 
     // ==================== 쿠폰 생성/수정/삭제 ====================
 
@@ -54,7 +62,7 @@ public class CouponService implements ManageCouponUseCase {
                 .isActive(true)
                 .build();
 
-        return saveCouponPort.save(coupon);
+        return saveAndPublishChange(coupon);
     }
 
     @Override
@@ -80,7 +88,16 @@ public class CouponService implements ManageCouponUseCase {
                 .createdAt(existingCoupon.getCreatedAt())
                 .build();
 
-        return saveCouponPort.save(updatedCoupon);
+        return saveAndPublishChange(updatedCoupon);
+    }
+
+    /**
+     * 쿠폰 저장 + 쿠폰 변경 버전 증가 (각 인스턴스의 쿠폰 인덱스가 버전 변경을 보고 재적재)
+     */
+    private Coupon saveAndPublishChange(Coupon coupon) {
+        Coupon saved = saveCouponPort.save(coupon);
+        saveCatalogVersionPort.incrementCouponVersion();
+        return saved;
     }
 
     /**
@@ -94,6 +111,7 @@ public class CouponService implements ManageCouponUseCase {
     public void deleteCoupon(UUID couponId) {
         getCoupon(couponId); // 존재 확인
         saveCouponPort.delete(couponId);
+        saveCatalogVersionPort.incrementCouponVersion();
     }
 
     // ==================== 쿠폰 상태 관리 ====================
@@ -102,30 +120,46 @@ public class CouponService implements ManageCouponUseCase {
     public Coupon activateCoupon(UUID couponId) {
         Coupon coupon = getCoupon(couponId);
         coupon.activate();
-        return saveCouponPort.save(coupon);
+        return saveAndPublishChange(coupon);
     }
 
     @Override
     public Coupon deactivateCoupon(UUID couponId) {
         Coupon coupon = getCoupon(couponId);
         coupon.deactivate();
-        return saveCouponPort.save(coupon);
+        return saveAndPublishChange(coupon);
     }
 
     // ==================== 쿠폰 사용 ====================
 
+    /**
+     * 원장 기록(고객 단위 잠금)을 먼저 하고 수량 증가(쿠폰 행 잠금)를 마지막에 수행해
+     * 경합이 가장 심한 쿠폰 행의 잠금 보유 시간을 커밋까지의 짧은 구간으로 줄임
+     * 수량 증가에 실패하면 예외로 롤백되어 원장 기록도 남지 않습니다.
+     */
     @Override
-    public Coupon useCoupon(UUID couponId) {
-        Coupon coupon = getCoupon(couponId);
-        coupon.use();
-        return saveCouponPort.save(coupon);
+    public CouponRedemption redeemCoupon(RedeemCouponCommand command) {
+        LocalDateTime now = LocalDateTime.now();
+        if (!couponRedemptionPort.recordRedemption(command.couponId(), command.customerId(), command.orderId(), now)) {
+            throw new IllegalStateException("Coupon already redeemed by customer: " + command.customerId());
+        }
+        if (!couponRedemptionPort.incrementUsage(command.couponId(), now)) {
+            getCoupon(command.couponId()); // 존재 확인
+            throw new IllegalStateException("Coupon is not usable");
+        }
+        return new CouponRedemption(command.couponId(), command.customerId(), command.orderId(), now);
     }
 
+    /**
+     * 주문 취소/결제 실패 트랜잭션 안에서 호출되므로 취소할 기록이 없어도 예외 없이 끝냄
+     * (예외를 잡더라도 바깥 트랜잭션이 rollback-only로 표시되기 때문)
+     */
     @Override
-    public Coupon cancelCouponUsage(UUID couponId) {
-        Coupon coupon = getCoupon(couponId);
-        coupon.cancelUse();
-        return saveCouponPort.save(coupon);
+    public void cancelCouponRedemption(UUID orderId) {
+        LocalDateTime now = LocalDateTime.now();
+        for (UUID couponId : couponRedemptionPort.cancelRedemption(orderId, now)) {
+            couponRedemptionPort.decrementUsage(couponId, now);
+        }
     }
 
     @Override
@@ -0,0 +1,285 @@
+package jjh.delivery.application.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import jjh.delivery.application.port.in.FlashSaleStockUseCase;
+import jjh.delivery.application.port.in.ManageFlashSaleUseCase;
+import jjh.delivery.application.port.out.FlashSaleCounterPort;
+import jjh.delivery.application.port.out.FlashSalePort;
+import jjh.delivery.application.port.out.FlashSalePort.FlashSale;
+import jjh.delivery.application.port.out.InventoryReservationPort;
+import jjh.delivery.application.port.out.InventoryReservationPort.StockReservation;
+import jjh.delivery.domain.inventory.FlashSaleStatus;
+import jjh.delivery.domain.product.exception.InsufficientStockException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Flash Sale Service
+ * 수요가 재고를 크게 넘는 캠페인 변형의 재고를 분할 카운터로 옮겨, 한 product_variants 행에 차감이 몰리지 않도록 함
+ *
+ * 1) 시작 시각: 변형 재고 전량을 DB에서 빼 shard-count개 카운터에 고르게 나눔 (한 트랜잭션)
+ * 2) 진행 중: 재고 선점은 카운터에서 차감하고 선점 기록만 DB에 남기며, 해제된 수량은 카운터로 반환
+ * 3) 종료 시각: 카운터를 회수해 남은 수량을 DB 재고로 반환, 종료 후 늦게 반환된 수량도 주기적으로 정산
+ *
+ * 진행 중인 캠페인 목록은 refresh-interval마다 다시 읽으므로, 다른 인스턴스가 전환한 캠페인은 그 주기만큼 늦게 반영됩니다.
+ * (그 사이 차감은 카운터가 없으면 DB 재고로 처리되고, 재고는 항상 DB 또는 카운터 중 한 곳에만 있어 초과 판매는 없음)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class FlashSaleService implements ManageFlashSaleUseCase, FlashSaleStockUseCase {
+
+    private final FlashSalePort flashSalePort;
+    private final FlashSaleCounterPort flashSaleCounterPort;
+    private final InventoryReservationPort inventoryReservationPort;
+
+    private final Map<UUID, SoldOut> soldOut = new ConcurrentHashMap<>();
+    private volatile Map<UUID, FlashSale> activeSales = Map.of();
+
+    @Value("${order.flash-sale.default-shard-count:16}")
+    private int defaultShardCount;
+
+    @Value("${order.flash-sale.max-shard-count:256}")
+    private int maxShardCount;
+
+    @Value("${order.flash-sale.sold-out-cache-millis:200}")
+    private long soldOutCacheMillis;
+
+    @Value("${order.flash-sale.returned-retention-hours:24}")
+    private long returnedRetentionHours;
+
+    // ==================== 캠페인 관리 ====================
+
+    @Override
+    public FlashSaleInfo scheduleFlashSale(ScheduleFlashSaleCommand command) {
+        if (command.startsAt() == null || command.endsAt() == null || !command.endsAt().isAfter(command.startsAt())) {
+            throw new IllegalArgumentException("Flash sale must end after it starts");
+        }
+        if (!command.endsAt().isAfter(LocalDateTime.now())) {
+            throw new IllegalArgumentException("Flash sale end time has already passed");
+        }
+        int shardCount = command.shardCount() != null ? command.shardCount() : defaultShardCount;
+        if (shardCount < 1 || shardCount > maxShardCount) {
+            throw new IllegalArgumentException("Shard count must be between 1 and " + maxShardCount);
+        }
+
+        flashSalePort.findByVariantId(command.variantId())
+                .filter(sale -> sale.status() != FlashSaleStatus.ENDED)
+                .ifPresent(sale -> {
+                    throw new IllegalStateException(
+                            "Flash sale already " + sale.status() + " for variant: " + command.variantId());
+                });
+        if (!flashSalePort.schedule(command.variantId(), shardCount, command.startsAt(), command.endsAt())) {
+            throw new IllegalArgumentException("Product variant not found: " + command.variantId());
+        }
+
+        log.info("Flash sale scheduled. variantId={}, startsAt={}, endsAt={}, shards={}",
+                command.variantId(), command.startsAt(), command.endsAt(), shardCount);
+        return getFlashSale(command.variantId());
+    }
+
+    @Override
+    public FlashSaleInfo endFlashSale(UUID variantId) {
+        FlashSale sale = loadFlashSale(variantId);
+        LocalDateTime now = LocalDateTime.now();
+        switch (sale.status()) {
+            case SCHEDULED -> flashSalePort.end(variantId, 0, now);
+            case ACTIVE -> end(sale, now);
+            case ENDED -> throw new IllegalStateException("Flash sale already ended for variant: " + variantId);
+        }
+        refreshActiveSales();
+        return getFlashSale(variantId);
+    }
+
+    @Override
+    public FlashSaleInfo getFlashSale(UUID variantId) {
+        FlashSale sale = loadFlashSale(variantId);
+        int remaining = sale.status() == FlashSaleStatus.ACTIVE
+                ? flashSaleCounterPort.remaining(variantId, sale.shardCount())
+                : sale.remainingQuantity();
+        return toInfo(sale, remaining);
+    }
+
+    @Override
+    public List<FlashSaleInfo> getFlashSales(FlashSaleStatus status) {
+        return flashSalePort.findByStatus(status).stream()
+                .map(sale -> toInfo(sale, sale.remainingQuantity()))
+                .toList();
+    }
+
+    // ==================== 재고 차감/반환 ====================
+
+    @Override
+    public Set<UUID> activeVariantIds() {
+        return activeSales.keySet();
+    }
+
+    @Override
+    public boolean take(UUID productId, UUID variantId, int quantity) {
+        FlashSale sale = activeSales.get(variantId);
+        if (sale == null) {
+            return false;
+        }
+
+        // 매진 직후 몰리는 요청은 카운터 전체를 훑지 않고 바로 거절
+        SoldOut recent = soldOut.get(variantId);
+        if (recent != null && quantity >= recent.quantity() && System.currentTimeMillis() < recent.until()) {
+            throw new InsufficientStockException(productId, variantId);
+        }
+
+        return switch (flashSaleCounterPort.take(variantId, sale.shardCount(), quantity)) {
+            case TAKEN -> true;
+            case NOT_ACTIVE -> false;
+            case INSUFFICIENT -> {
+                soldOut.put(variantId, new SoldOut(quantity, System.currentTimeMillis() + soldOutCacheMillis));
+                throw new InsufficientStockException(productId, variantId);
+            }
+        };
+    }
+
+    @Override
+    public void giveBack(UUID variantId, int quantity) {
+        FlashSale sale = activeSales.get(variantId);
+        flashSaleCounterPort.giveBack(variantId, sale != null ? sale.shardCount() : 0, quantity);
+        soldOut.remove(variantId);
+    }
+
+    // ==================== 스케줄 ====================
+
+    /**
+     * 진행 중인 캠페인 목록 갱신
+     */
+    @Scheduled(fixedDelayString = "${order.flash-sale.refresh-interval:1000}")
+    public void refreshActiveSales() {
+        try {
+            activeSales = flashSalePort.findByStatus(FlashSaleStatus.ACTIVE).stream()
+                    .collect(Collectors.toUnmodifiableMap(FlashSale::variantId, Function.identity()));
+            soldOut.keySet().retainAll(activeSales.keySet());
+        } catch (Exception e) {
+            log.warn("Failed to refresh active flash sales", e);
+        }
+    }
+
+    /**
+     * 캠페인 시작/종료 처리, 남은 수량 기록, 종료 후 반환분 정산
+     * (전환은 조건부 UPDATE, 회수는 카운터 단위 GETDEL이므로 여러 인스턴스가 동시에 실행해도 재고가 중복 반영되지 않음)
+     */
+    @Scheduled(fixedDelayString = "${order.flash-sale.reconcile-interval:10000}")
+    public void reconcile() {
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            for (FlashSale sale : flashSalePort.findByStatus(FlashSaleStatus.SCHEDULED)) {
+                if (!sale.endsAt().isAfter(now)) {
+                    flashSalePort.end(sale.variantId(), 0, now);
+                } else if (!sale.startsAt().isAfter(now)) {
+                    activate(sale, now);
+                }
+            }
+
+            for (FlashSale sale : flashSalePort.findByStatus(FlashSaleStatus.ACTIVE)) {
+                if (!sale.endsAt().isAfter(now)) {
+                    end(sale, now);
+                } else {
+                    flashSalePort.updateRemaining(sale.variantId(),
+                            flashSaleCounterPort.remaining(sale.variantId(), sale.shardCount()));
+                }
+            }
+
+            for (FlashSale sale : flashSalePort.findEndedSince(now.minusHours(returnedRetentionHours))) {
+                settleReturned(sale);
+            }
+        } catch (Exception e) {
+            log.error("Failed to reconcile flash sales", e);
+        }
+        refreshActiveSales();
+    }
+
+    private void activate(FlashSale sale, LocalDateTime now) {
+        try {
+            flashSalePort.activate(sale.variantId(), now,
+                            allocated -> flashSaleCounterPort.initialize(
+                                    sale.variantId(), split(allocated, sale.shardCount())))
+                    .ifPresent(allocated -> log.info("Flash sale started. variantId={}, allocated={}, shards={}",
+                            sale.variantId(), allocated, sale.shardCount()));
+        } catch (Exception e) {
+            log.error("Failed to start flash sale, stock stays in DB. variantId={}", sale.variantId(), e);
+        }
+    }
+
+    private void end(FlashSale sale, LocalDateTime now) {
+        int remaining = flashSaleCounterPort.drain(sale.variantId(), sale.shardCount());
+        try {
+            flashSalePort.end(sale.variantId(), remaining, now);
+            log.info("Flash sale ended. variantId={}, allocated={}, returned={}",
+                    sale.variantId(), sale.allocatedQuantity(), remaining);
+        } catch (Exception e) {
+            // 회수한 수량은 반환분으로 적립해 두고 다음 주기에 종료/정산
+            flashSaleCounterPort.addReturned(sale.variantId(), remaining);
+            throw e;
+        }
+    }
+
+    private void settleReturned(FlashSale sale) {
+        int returned = flashSaleCounterPort.drainReturned(sale.variantId());
+        if (returned == 0) {
+            return;
+        }
+        try {
+            inventoryReservationPort.restock(List.of(
+                    new StockReservation(null, sale.productId(), sale.variantId(), returned)));
+            log.info("Settled stock returned after flash sale ended. variantId={}, quantity={}",
+                    sale.variantId(), returned);
+        } catch (Exception e) {
+            flashSaleCounterPort.addReturned(sale.variantId(), returned);
+            throw e;
+        }
+    }
+
+    /**
+     * 수량을 샤드 수만큼 고르게 나눔 (나머지는 앞 샤드부터 1씩)
+     */
+    static int[] split(int quantity, int shardCount) {
+        int[] quantities = new int[shardCount];
+        for (int shard = 0; shard < shardCount; shard++) {
+            quantities[shard] = quantity / shardCount + (shard < quantity % shardCount ? 1 : 0);
+        }
+        return quantities;
+    }
+
+    private FlashSale loadFlashSale(UUID variantId) {
+        return flashSalePort.findByVariantId(variantId)
+                .orElseThrow(() -> new IllegalArgumentException("Flash sale not found for variant: " + variantId));
+    }
+
+    private FlashSaleInfo toInfo(FlashSale sale, int remainingQuantity) {
+        return new FlashSaleInfo(
+                sale.variantId(),
+                sale.productId(),
+                sale.status(),
+                sale.shardCount(),
+                sale.allocatedQuantity(),
+                remainingQuantity,
+                sale.startsAt(),
+                sale.endsAt(),
+                sale.activatedAt(),
+                sale.endedAt()
+        );
+    }
+
+    /**
+     * 최근 quantity개 이상 요청이 카운터 부족으로 실패함 (until까지 유효)
+     */
+    private record SoldOut(int quantity, long until) {}
+}
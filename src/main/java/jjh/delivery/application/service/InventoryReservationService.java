@@ -0,0 +1,226 @@
+package jjh.delivery.application.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import jjh.delivery.application.port.in.FlashSaleStockUseCase;
+import jjh.delivery.application.port.in.ReserveInventoryUseCase;
+import jjh.delivery.application.port.out.InventoryReservationPort;
+import jjh.delivery.application.port.out.InventoryReservationPort.StockReservation;
+import jjh.delivery.application.port.out.ProductEventPort;
+import jjh.delivery.domain.inventory.ReservationStatus;
+import jjh.delivery.domain.order.Order;
+import jjh.delivery.domain.order.OrderItem;
+import jjh.delivery.domain.product.event.ProductStockChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Inventory Reservation Service
+ * 주문 생성 시 재고를 선점하고, 결제 완료 시 확정 / 결제 실패·주문 취소·만료 시 해제하여 재고를 복원
+ *
+ * - 선점은 주문 생성과 같은 트랜잭션에서 수행되므로 재고가 부족하면 주문도 생성되지 않습니다.
+ * - 선점은 reservation-ttl-seconds 동안만 유효하고, 만료된 선점은 스케줄러가 해제합니다.
+ *   만료 후 결제되면 확정 시점에 남은 재고로 다시 선점합니다. (재고가 없으면 결제 처리 실패)
+ * - 플래시 세일 중인 변형은 DB 대신 분할 카운터(FlashSaleStockUseCase)에서 차감하고, 해제 시 카운터로 반환합니다.
+ * - DB 재고가 바뀐 상품은 재고 변경 이벤트(product.stock-changed)를 발행합니다.
+ *   선점/확정/해제는 같은 트랜잭션에서, 만료 해제는 배치 해제 직후 별도 트랜잭션에서 발행합니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class InventoryReservationService implements ReserveInventoryUseCase {
+
+    private final InventoryReservationPort inventoryReservationPort;
+    private final FlashSaleStockUseCase flashSaleStockUseCase;
+    private final ProductEventPort productEventPort;
+
+    @Value("${order.inventory.reservation-ttl-seconds:900}")
+    private long reservationTtlSeconds;
+
+    @Value("${order.inventory.expiry-batch-size:500}")
+    private int expiryBatchSize;
+
+    @Override
+    @Transactional
+    public void reserve(List<Order> orders) {
+        List<StockReservation> reservations = orders.stream()
+                .flatMap(order -> toReservations(order).stream())
+                .toList();
+        Set<UUID> counterVariantIds = takeFlashSaleStock(reservations);
+        inventoryReservationPort.reserve(reservations, ReservationStatus.RESERVED,
+                LocalDateTime.now().plusSeconds(reservationTtlSeconds), counterVariantIds);
+        publishStockChanged(reservations, counterVariantIds, -1);
+    }
+
+    @Override
+    @Transactional
+    public void confirm(Order order) {
+        List<StockReservation> confirmed = inventoryReservationPort.confirm(order.getId());
+        List<StockReservation> missing = subtract(toReservations(order), confirmed);
+        if (!missing.isEmpty()) {
+            log.info("Re-reserving expired or released stock on payment. orderId={}, lines={}",
+                    order.getId(), missing.size());
+            Set<UUID> counterVariantIds = takeFlashSaleStock(missing);
+            inventoryReservationPort.reserve(missing, ReservationStatus.CONFIRMED,
+                    LocalDateTime.now().plusSeconds(reservationTtlSeconds), counterVariantIds);
+            publishStockChanged(missing, counterVariantIds, -1);
+        }
+    }
+
+    @Override
+    @Transactional
+    public void release(UUID orderId) {
+        Set<UUID> flashSaleVariantIds = flashSaleStockUseCase.activeVariantIds();
+        List<StockReservation> released = inventoryReservationPort.release(orderId, flashSaleVariantIds);
+        giveBackFlashSaleStock(released, flashSaleVariantIds);
+        publishStockChanged(released, flashSaleVariantIds, 1);
+        if (!released.isEmpty()) {
+            log.debug("Released inventory reservations. orderId={}, lines={}", orderId, released.size());
+        }
+    }
+
+    /**
+     * 만료된 선점 해제 (배치마다 별도 트랜잭션, 여러 인스턴스가 동시에 실행해도 같은 행을 중복 처리하지 않음)
+     */
+    @Scheduled(fixedDelayString = "${order.inventory.expiry-interval:30000}")
+    public void releaseExpired() {
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            int total = 0;
+            int released;
+            do {
+                Set<UUID> flashSaleVariantIds = flashSaleStockUseCase.activeVariantIds();
+                List<StockReservation> batch =
+                        inventoryReservationPort.releaseExpired(now, expiryBatchSize, flashSaleVariantIds);
+                giveBackFlashSaleStock(batch, flashSaleVariantIds);
+                publishStockChanged(batch, flashSaleVariantIds, 1);
+                released = batch.size();
+                total += released;
+            } while (released == expiryBatchSize);
+
+            if (total > 0) {
+                log.info("Released {} expired inventory reservations", total);
+            }
+        } catch (Exception e) {
+            log.error("Failed to release expired inventory reservations", e);
+        }
+    }
+
+    /**
+     * 플래시 세일 중인 변형의 수량을 카운터에서 차감 (같은 변형은 합쳐서 한 번)
+     * 카운터가 부족하면 예외로 호출 트랜잭션이 롤백되고, 먼저 차감한 카운터도 되돌려집니다.
+     *
+     * @return 카운터에서 차감한 변형 ID (DB 재고 차감에서 제외)
+     */
+    private Set<UUID> takeFlashSaleStock(List<StockReservation> reservations) {
+        Set<UUID> activeVariantIds = flashSaleStockUseCase.activeVariantIds();
+        if (activeVariantIds.isEmpty()) {
+            return Set.of();
+        }
+
+        Map<Sku, Integer> quantities = new LinkedHashMap<>();
+        for (StockReservation reservation : reservations) {
+            if (reservation.variantId() != null && activeVariantIds.contains(reservation.variantId())) {
+                quantities.merge(Sku.of(reservation), reservation.quantity(), Integer::sum);
+            }
+        }
+        Set<UUID> taken = new HashSet<>();
+        quantities.forEach((sku, quantity) -> {
+            if (flashSaleStockUseCase.take(sku.productId(), sku.variantId(), quantity)) {
+                taken.add(sku.variantId());
+            }
+        });
+        return taken;
+    }
+
+    /**
+     * 해제된 선점 중 DB 재고를 복원하지 않은 플래시 세일 줄을 카운터로 반환
+     */
+    private void giveBackFlashSaleStock(List<StockReservation> released, Set<UUID> flashSaleVariantIds) {
+        for (StockReservation reservation : released) {
+            if (reservation.variantId() != null && flashSaleVariantIds.contains(reservation.variantId())) {
+                flashSaleStockUseCase.giveBack(reservation.variantId(), reservation.quantity());
+            }
+        }
+    }
+
+    /**
+     * DB 재고가 바뀐 상품의 재고 변경 이벤트 발행 (카운터가 관리하는 플래시 세일 줄 제외)
+     * 변경 후 총 재고를 읽어 변경 전 재고는 증감 수량으로 역산합니다.
+     *
+     * @param sign 차감이면 -1, 복원이면 1
+     */
+    private void publishStockChanged(List<StockReservation> rows, Set<UUID> counterVariantIds, int sign) {
+        Map<UUID, Integer> deltas = new LinkedHashMap<>();
+        for (StockReservation row : rows) {
+            if (row.variantId() == null || !counterVariantIds.contains(row.variantId())) {
+                deltas.merge(row.productId(), sign * row.quantity(), Integer::sum);
+            }
+        }
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        Map<UUID, Integer> quantities = inventoryReservationPort.findTotalStockQuantities(deltas.keySet());
+        LocalDateTime now = LocalDateTime.now();
+        productEventPort.publishAll(deltas.entrySet().stream()
+                .filter(entry -> quantities.containsKey(entry.getKey()))
+                .map(entry -> {
+                    int newQuantity = quantities.get(entry.getKey());
+                    return new ProductStockChangedEvent(
+                            entry.getKey(), newQuantity - entry.getValue(), newQuantity, now);
+                })
+                .toList());
+    }
+
+    /**
+     * 주문 상품을 SKU(상품, 변형)별 선점 수량으로 변환
+     */
+    private List<StockReservation> toReservations(Order order) {
+        Map<Sku, Integer> quantities = new LinkedHashMap<>();
+        for (OrderItem item : order.getItems()) {
+            quantities.merge(new Sku(item.productId(), item.variantId()), item.quantity(), Integer::sum);
+        }
+        return quantities.entrySet().stream()
+                .map(entry -> new StockReservation(
+                        order.getId(), entry.getKey().productId(), entry.getKey().variantId(), entry.getValue()))
+                .toList();
+    }
+
+    /**
+     * 필요한 수량에서 이미 확정된 수량을 뺀 나머지
+     */
+    private List<StockReservation> subtract(List<StockReservation> required, List<StockReservation> confirmed) {
+        Map<Sku, Integer> confirmedQuantities = new HashMap<>();
+        for (StockReservation reservation : confirmed) {
+            confirmedQuantities.merge(Sku.of(reservation), reservation.quantity(), Integer::sum);
+        }
+        return required.stream()
+                .map(reservation -> new StockReservation(
+                        reservation.orderId(),
+                        reservation.productId(),
+                        reservation.variantId(),
+                        reservation.quantity() - confirmedQuantities.getOrDefault(Sku.of(reservation), 0)))
+                .filter(reservation -> reservation.quantity() > 0)
+                .toList();
+    }
+
+    private record Sku(UUID productId, UUID variantId) {
+
+        static Sku of(StockReservation reservation) {
+            return new Sku(reservation.productId(), reservation.variantId());
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package jjh.delivery.application.service;
+
+import lombok.RequiredArgsConstructor;
+
+import jjh.delivery.application.port.in.GetOrderAnalyticsUseCase;
+import jjh.delivery.application.port.out.OrderAnalyticsPort;
+import jjh.delivery.application.port.out.OrderAnalyticsPort.OrderAnalytics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * Order Analytics Service
+ * 대시보드 집계를 검색 인덱스 aggregation으로 처리 (PostgreSQL 통계 쿼리 대체)
+ */
+@Service
+@RequiredArgsConstructor
+public class OrderAnalyticsService implements GetOrderAnalyticsUseCase {
+
+    private final OrderAnalyticsPort orderAnalyticsPort;
+
+    @Value("${search.analytics.max-buckets:1000}")
+    private long maxBuckets;
+
+    @Override
+    public OrderAnalytics getOrderAnalytics(OrderAnalyticsQuery query) {
+        if (query.estimatedBuckets() > maxBuckets) {
+            throw new IllegalArgumentException(
+                    "Too many " + query.interval() + " buckets for the requested period (max " + maxBuckets + ")");
+        }
+        return orderAnalyticsPort.aggregate(query);
+    }
+}
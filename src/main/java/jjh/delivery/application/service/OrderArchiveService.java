@@ -0,0 +1,79 @@
+package jjh.delivery.application.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import jjh.delivery.application.port.out.ArchiveOrderPort;
+import jjh.delivery.domain.order.OrderStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Order Archive Service
+ * 완료된 오래된 주문을 아카이브 파티션으로 이관하여 hot 테이블/인덱스 크기를 일정하게 유지
+ *
+ * 1) 앞으로 사용할 월 파티션 미리 생성
+ * 2) after-days 이전에 생성된 완료 주문을 배치 단위로 이관 (배치마다 독립 트랜잭션)
+ * 3) 경계 이전 월의 비어 있는 hot 파티션 삭제
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class OrderArchiveService {
+
+    private final ArchiveOrderPort archiveOrderPort;
+
+    @Value("${order.archive.enabled:false}")
+    private boolean enabled;
+
+    @Value("${order.archive.after-days:180}")
+    private int afterDays;
+
+    @Value("${order.archive.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${order.archive.months-ahead:2}")
+    private int monthsAhead;
+
+    @Value("${order.archive.statuses:DELIVERED,CANCELLED}")
+    private Set<OrderStatus> statuses;
+
+    /**
+     * 파티션 관리 및 아카이브 이관
+     * 매일 새벽 3시 30분 실행
+     */
+    @Scheduled(cron = "${order.archive.cron:0 30 3 * * ?}")
+    public void archive() {
+        if (!enabled) {
+            return;
+        }
+
+        LocalDateTime createdBefore = LocalDateTime.now().minusDays(afterDays);
+        log.info("Starting order archive. createdBefore={}, statuses={}", createdBefore, statuses);
+
+        try {
+            YearMonth current = YearMonth.now();
+            for (int i = 0; i <= monthsAhead; i++) {
+                archiveOrderPort.createMonthlyPartitions(current.plusMonths(i));
+            }
+
+            long archived = 0;
+            int moved;
+            do {
+                moved = archiveOrderPort.archiveOrders(createdBefore, statuses, batchSize);
+                archived += moved;
+            } while (moved == batchSize);
+
+            List<String> dropped = archiveOrderPort.dropEmptyPartitionsBefore(YearMonth.from(createdBefore));
+            log.info("Order archive completed. archived={}, droppedPartitions={}", archived, dropped);
+        } catch (Exception e) {
+            log.error("Order archive failed", e);
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package jjh.delivery.application.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import jjh.delivery.application.port.out.OrderNumberNodeLeasePort;
+import jjh.delivery.domain.order.OrderNumberGenerator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.OptionalInt;
+import java.util.UUID;
+
+/**
+ * Order Number Node Service
+ * 주문번호 생성기(OrderNumberGenerator)의 노드 ID를 인스턴스마다 고유하게 설정
+ *
+ * domain.order-number.node-id가 설정되어 있으면 그 값을 그대로 사용합니다. (운영자가 고유성 보장)
+ * 설정되지 않았으면 기본값 0으로 시작하지 않고 DB 리스(order_number_node_leases)로 빈 노드 ID를 점유하며,
+ * 남은 노드 ID가 없으면 기동에 실패합니다. (노드 ID가 겹치면 같은 ms의 주문번호가 중복됨)
+ * 점유한 노드 ID는 renew-interval마다 만료 시각을 연장하고, 놓친 경우 새 노드 ID를 다시 점유합니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class OrderNumberNodeService {
+
+    private static final int MAX_ACQUIRE_ATTEMPTS = 3;
+    private static final int MAX_OWNER_LENGTH = 100;
+
+    private final OrderNumberNodeLeasePort orderNumberNodeLeasePort;
+
+    private final String owner = owner();
+
+    @Value("${domain.order-number.node-id:}")
+    private Integer configuredNodeId;
+
+    @Value("${domain.order-number.lease-ttl:60s}")
+    private Duration leaseTtl;
+
+    private volatile Integer leasedNodeId;
+
+    /**
+     * 애플리케이션 요청을 받기 전에 노드 ID 설정 (점유 실패 시 기동 실패)
+     */
+    @PostConstruct
+    public void configure() {
+        if (configuredNodeId != null) {
+            OrderNumberGenerator.configure(configuredNodeId);
+            log.info("Using configured order number node id {}", configuredNodeId);
+            return;
+        }
+        int nodeId = acquire();
+        leasedNodeId = nodeId;
+        OrderNumberGenerator.configure(nodeId);
+        log.info("Leased order number node id {} (owner={})", nodeId, owner);
+    }
+
+    /**
+     * 리스 만료 전 연장 (놓쳤다면 다른 인스턴스와 겹치지 않도록 새 노드 ID로 교체)
+     */
+    @Scheduled(fixedDelayString = "${domain.order-number.lease-renew-interval:20000}")
+    public void renewLease() {
+        Integer nodeId = leasedNodeId;
+        if (nodeId == null) {
+            return;
+        }
+        try {
+            if (orderNumberNodeLeasePort.renew(nodeId, owner, LocalDateTime.now().plus(leaseTtl))) {
+                return;
+            }
+            log.warn("Lost order number node id lease {}. Acquiring a new one", nodeId);
+            int acquired = acquire();
+            leasedNodeId = acquired;
+            OrderNumberGenerator.configure(acquired);
+            log.info("Leased order number node id {} (owner={})", acquired, owner);
+        } catch (Exception e) {
+            log.error("Failed to renew order number node id lease {}", nodeId, e);
+        }
+    }
+
+    @PreDestroy
+    public void release() {
+        Integer nodeId = leasedNodeId;
+        if (nodeId == null) {
+            return;
+        }
+        try {
+            orderNumberNodeLeasePort.release(nodeId, owner);
+        } catch (Exception e) {
+            log.warn("Failed to release order number node id lease {}", nodeId, e);
+        }
+    }
+
+    /**
+     * 같은 노드 ID를 동시에 고른 인스턴스에 밀리면 다음 빈 노드 ID로 재시도
+     */
+    private int acquire() {
+        for (int attempt = 0; attempt < MAX_ACQUIRE_ATTEMPTS; attempt++) {
+            LocalDateTime now = LocalDateTime.now();
+            OptionalInt nodeId = orderNumberNodeLeasePort.acquire(owner, now, now.plus(leaseTtl));
+            if (nodeId.isPresent()) {
+                return nodeId.getAsInt();
+            }
+        }
+        throw new IllegalStateException("No free order number node id (0-" + OrderNumberGenerator.MAX_NODE_ID
+                + "). Set domain.order-number.node-id explicitly");
+    }
+
+    private static String owner() {
+        String owner = UUID.randomUUID() + "@" + ManagementFactory.getRuntimeMXBean().getName();
+        return owner.length() > MAX_OWNER_LENGTH ? owner.substring(0, MAX_OWNER_LENGTH) : owner;
+    }
+}
@@ -0,0 +1,237 @@
+package jjh.delivery.application.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import jjh.delivery.application.port.in.ReindexOrderUseCase;
+import jjh.delivery.application.port.out.LoadOrderPort;
+import jjh.delivery.application.port.out.OrderIndexingPort;
+import jjh.delivery.application.port.out.OrderReindexCheckpointPort;
+import jjh.delivery.application.port.out.OrderReindexCheckpointPort.ReindexJob;
+import jjh.delivery.application.port.out.OrderReindexCheckpointPort.ReindexJobStatus;
+import jjh.delivery.application.port.out.OrderReindexCheckpointPort.ReindexSlice;
+import jjh.delivery.application.port.out.OrderSearchIndexPort;
+import jjh.delivery.application.port.out.ScanOrderIdPort;
+import jjh.delivery.application.port.out.ScanOrderIdPort.OrderStorage;
+import jjh.delivery.domain.order.Order;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Order Reindex Service
+ * PostgreSQL의 주문 전체를 새 버전 인덱스로 재구축한 뒤 orders alias를 원자적으로 전환
+ *
+ * 1) 새 인덱스 생성 (refresh 비활성화, replica 0) 및 주문 ID를 slices개 구간으로 분할
+ * 2) 구간별 워커가 ID keyset 스캔 → 주문 일괄 조회 → Bulk 인덱싱, 배치마다 체크포인트 저장
+ * 3) 모든 구간 완료 후 refresh/replica 복원 → alias 전환
+ * 4) 작업 시작 이후 변경된 주문은 이전 인덱스에만 반영되었으므로 인덱싱 파이프라인으로 다시 반영
+ *
+ * 실패하거나 인스턴스가 중단된 작업은 다시 시작하면 구간별 마지막 체크포인트부터 재개합니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class OrderReindexService implements ReindexOrderUseCase {
+
+    private final ScanOrderIdPort scanOrderIdPort;
+    private final LoadOrderPort loadOrderPort;
+    private final OrderSearchIndexPort orderSearchIndexPort;
+    private final OrderReindexCheckpointPort orderReindexCheckpointPort;
+    private final OrderIndexingPort orderIndexingPort;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private final AtomicLong indexedInRun = new AtomicLong();
+    private volatile LocalDateTime runStartedAt;
+
+    @Value("${search.reindex.slices:8}")
+    private int sliceCount;
+
+    @Value("${search.reindex.parallelism:4}")
+    private int parallelism;
+
+    @Value("${search.reindex.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${search.reindex.progress-log-interval:50000}")
+    private long progressLogInterval;
+
+    @Override
+    public ReindexProgress startReindex() {
+        if (!running.compareAndSet(false, true)) {
+            return getReindexProgress();
+        }
+
+        ReindexJob job;
+        try {
+            job = orderReindexCheckpointPort.findLatestJob()
+                    .filter(latest -> latest.status() != ReindexJobStatus.COMPLETED)
+                    .filter(latest -> orderSearchIndexPort.exists(latest.indexName()))
+                    .orElseGet(this::createJob);
+            orderReindexCheckpointPort.updateJobStatus(job.indexName(), ReindexJobStatus.RUNNING, null);
+        } catch (RuntimeException e) {
+            running.set(false);
+            throw e;
+        }
+
+        indexedInRun.set(0);
+        runStartedAt = LocalDateTime.now();
+
+        ReindexJob target = job;
+        Thread.ofPlatform()
+                .name("order-reindex")
+                .start(() -> run(target));
+
+        return getReindexProgress();
+    }
+
+    @Override
+    public ReindexProgress getReindexProgress() {
+        return orderReindexCheckpointPort.findLatestJob()
+                .map(this::toProgress)
+                .orElseGet(ReindexProgress::idle);
+    }
+
+    private ReindexJob createJob() {
+        String indexName = orderSearchIndexPort.createVersionedIndex();
+
+        List<ReindexSlice> slices = new ArrayList<>();
+        long totalCount = 0;
+        for (OrderStorage storage : OrderStorage.values()) {
+            slices.addAll(toSlices(storage, scanOrderIdPort.findSliceBoundaries(storage, sliceCount)));
+            totalCount += scanOrderIdPort.countOrders(storage);
+        }
+
+        ReindexJob job = new ReindexJob(indexName, ReindexJobStatus.RUNNING, totalCount, LocalDateTime.now(), null);
+        orderReindexCheckpointPort.createJob(job, slices);
+        log.info("Created order reindex job. index={}, slices={}, totalCount={}", indexName, slices.size(), totalCount);
+        return job;
+    }
+
+    /**
+     * 경계값(구간별 마지막 ID)을 (lower, upper] 구간으로 변환
+     * 마지막 구간은 상한을 두지 않아 분할 이후 생성된 주문까지 포함합니다.
+     */
+    private List<ReindexSlice> toSlices(OrderStorage storage, List<UUID> boundaries) {
+        List<ReindexSlice> slices = new ArrayList<>();
+        for (int i = 0; i < boundaries.size(); i++) {
+            UUID lower = i == 0 ? null : boundaries.get(i - 1);
+            UUID upper = i == boundaries.size() - 1 ? null : boundaries.get(i);
+            slices.add(ReindexSlice.of(storage, i, lower, upper));
+        }
+        return slices;
+    }
+
+    private void run(ReindexJob job) {
+        String indexName = job.indexName();
+        ExecutorService workers = Executors.newFixedThreadPool(parallelism, runnable ->
+                Thread.ofPlatform().name("order-reindex-worker-", 0).unstarted(runnable));
+        try {
+            List<ReindexSlice> pending = orderReindexCheckpointPort.findSlices(indexName).stream()
+                    .filter(slice -> !slice.completed())
+                    .toList();
+            log.info("Starting order reindex. index={}, pendingSlices={}, parallelism={}",
+                    indexName, pending.size(), parallelism);
+
+            CompletableFuture.allOf(pending.stream()
+                    .map(slice -> CompletableFuture.runAsync(() -> reindexSlice(indexName, slice), workers))
+                    .toArray(CompletableFuture[]::new)
+            ).join();
+
+            orderSearchIndexPort.finishBulkLoad(indexName);
+            List<String> previous = orderSearchIndexPort.switchAlias(indexName);
+            orderReindexCheckpointPort.updateJobStatus(indexName, ReindexJobStatus.COMPLETED, LocalDateTime.now());
+
+            // 작업 중 변경된 주문은 이전 인덱스(alias)에만 기록되었으므로 새 인덱스에 다시 반영
+            List<UUID> changed = scanOrderIdPort.findIdsUpdatedSince(job.startedAt());
+            orderIndexingPort.requestIndexing(changed);
+
+            log.info("Order reindex completed. index={}, indexed={}, rate={}/s, previous={}, catchUp={}",
+                    indexName, indexedInRun.get(), String.format("%.1f", runThroughput()), previous, changed.size());
+        } catch (Exception e) {
+            log.error("Order reindex failed. index={} (restart to resume from checkpoints)", indexName, e);
+            try {
+                orderReindexCheckpointPort.updateJobStatus(indexName, ReindexJobStatus.FAILED, LocalDateTime.now());
+            } catch (Exception statusError) {
+                log.error("Failed to mark reindex job as failed. index={}", indexName, statusError);
+            }
+        } finally {
+            workers.shutdownNow();
+            running.set(false);
+        }
+    }
+
+    /**
+     * 구간 하나를 ID 오름차순으로 끝까지 인덱싱 (배치마다 체크포인트 저장)
+     */
+    private void reindexSlice(String indexName, ReindexSlice slice) {
+        ReindexSlice current = slice;
+        List<UUID> ids;
+        while (!(ids = scanOrderIdPort.findIdsInRange(
+                current.storage(), current.resumeAfter(), current.upperBound(), batchSize)).isEmpty()) {
+
+            List<Order> orders = loadOrderPort.findAllById(ids);
+            orderSearchIndexPort.bulkIndex(indexName, orders);
+
+            current = current.advance(ids.get(ids.size() - 1), orders.size());
+            orderReindexCheckpointPort.saveSliceProgress(indexName, current);
+            logProgress(indexedInRun.addAndGet(orders.size()), orders.size());
+        }
+
+        orderReindexCheckpointPort.saveSliceProgress(indexName, current.complete());
+        log.debug("Order reindex slice completed. index={}, storage={}, slice={}, indexed={}",
+                indexName, current.storage(), current.sliceNo(), current.indexedCount());
+    }
+
+    private void logProgress(long indexed, int added) {
+        if (indexed / progressLogInterval != (indexed - added) / progressLogInterval) {
+            log.info("Order reindex progress. indexed={}, rate={}/s", indexed, String.format("%.1f", runThroughput()));
+        }
+    }
+
+    private double runThroughput() {
+        LocalDateTime startedAt = runStartedAt;
+        if (startedAt == null) {
+            return 0;
+        }
+        long millis = Math.max(1, Duration.between(startedAt, LocalDateTime.now()).toMillis());
+        return indexedInRun.get() * 1000.0 / millis;
+    }
+
+    private ReindexProgress toProgress(ReindexJob job) {
+        List<ReindexSlice> slices = orderReindexCheckpointPort.findSlices(job.indexName());
+        long indexed = slices.stream().mapToLong(ReindexSlice::indexedCount).sum();
+        int completed = (int) slices.stream().filter(ReindexSlice::completed).count();
+
+        double docsPerSecond;
+        if (running.get()) {
+            docsPerSecond = runThroughput();
+        } else {
+            LocalDateTime end = job.finishedAt() != null ? job.finishedAt() : LocalDateTime.now();
+            long millis = Math.max(1, Duration.between(job.startedAt(), end).toMillis());
+            docsPerSecond = indexed * 1000.0 / millis;
+        }
+
+        return new ReindexProgress(
+                job.indexName(),
+                job.status().name(),
+                slices.size(),
+                completed,
+                indexed,
+                job.totalCount(),
+                docsPerSecond,
+                job.startedAt(),
+                job.finishedAt()
+        );
+    }
+}
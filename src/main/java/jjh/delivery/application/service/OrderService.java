@@ -5,12 +5,21 @@ import lombok.RequiredArgsConstructor;
 import jjh.delivery.adapter.in.web.dto.CursorPageResponse;
 import jjh.delivery.application.port.in.CreateOrderUseCase;
 import jjh.delivery.application.port.in.GetOrderUseCase;
+import jjh.delivery.application.port.in.ManageCouponUseCase;
+import jjh.delivery.application.port.in.ManageCouponUseCase.RedeemCouponCommand;
+import jjh.delivery.application.port.in.ReserveInventoryUseCase;
 import jjh.delivery.application.port.in.SearchOrderUseCase;
 import jjh.delivery.application.port.in.UpdateOrderStatusUseCase;
 import jjh.delivery.application.port.out.LoadOrderPort;
 import jjh.delivery.application.port.out.OrderEventPort;
+import jjh.delivery.application.port.out.OrderIndexingPort;
+import jjh.delivery.application.port.out.OrderQueryPort;
+import jjh.delivery.application.port.out.OrderQueryPort.OrderSummary;
+import jjh.delivery.application.port.out.OrderQueryPort.OwnerOrderPageQuery;
 import jjh.delivery.application.port.out.OrderSearchPort;
+import jjh.delivery.application.port.out.OrderSearchPort.OrderSearchResult;
 import jjh.delivery.application.port.out.SaveOrderPort;
+import jjh.delivery.application.port.out.SaveSellerDailyStatsPort;
 import jjh.delivery.domain.order.Order;
 import jjh.delivery.domain.order.OrderItem;
 import jjh.delivery.domain.order.OrderStatus;
@@ -38,33 +47,89 @@ public class OrderService implements CreateOrderUseCase, GetOrderUseCase,
     private final SaveOrderPort saveOrderPort;
     private final OrderEventPort orderEventPort;
     private final OrderSearchPort orderSearchPort;
+    private final OrderIndexingPort orderIndexingPort;
+    private final OrderQueryPort orderQueryPort;
+    private final SaveSellerDailyStatsPort saveSellerDailyStatsPort;
+    private final ReserveInventoryUseCase reserveInventoryUseCase;
+    private final ManageCouponUseCase manageCouponUseCase;
 
     // ==================== CreateOrderUseCase ====================
 
     @Override
     @Transactional
     public Order createOrder(CreateOrderCommand command) {
-        Order order = Order.builder()
-                .customerId(UUID.fromString(command.customerId()))
-                .sellerId(UUID.fromString(command.sellerId()))
-                .items(toOrderItems(command.items()))
-                .shippingAddress(command.shippingAddress())
-                .orderMemo(command.orderMemo())
-                .shippingMemo(command.shippingMemo())
-                .couponId(command.couponId() != null ? UUID.fromString(command.couponId()) : null)
-                .build();
+        Order order = toOrder(command);
+
+        // 재고 선점 (부족하면 InsufficientStockException으로 주문 생성 전체 롤백)
+        reserveInventoryUseCase.reserve(List.of(order));
 
         Order savedOrder = saveOrderPort.save(order);
 
-        // Elasticsearch 인덱싱
-        orderSearchPort.index(savedOrder);
+        // 판매자 일간 통계 롤업 (같은 트랜잭션)
+        saveSellerDailyStatsPort.applyOrdersCreated(List.of(savedOrder));
+
+        // Elasticsearch 인덱싱 (커밋 이후 비동기 bulk 처리)
+        orderIndexingPort.requestIndexing(List.of(savedOrder.getId()));
 
         // 이벤트 발행
         orderEventPort.publishAsync(OrderCreatedEvent.from(savedOrder));
 
+        redeemCoupons(List.of(savedOrder));
+
         return savedOrder;
     }
 
+    @Override
+    @Transactional
+    public List<Order> createOrders(BulkCreateOrderCommand command) {
+        List<Order> orders = command.orders().stream()
+                .map(this::toOrder)
+                .toList();
+
+        // 모든 주문의 재고를 한 번의 배치로 선점
+        reserveInventoryUseCase.reserve(orders);
+
+        // orders/order_items/outbox INSERT는 JDBC 배치, ES 인덱싱은 커밋 이후 비동기 bulk 처리
+        List<Order> savedOrders = saveOrderPort.saveAll(orders);
+
+        saveSellerDailyStatsPort.applyOrdersCreated(savedOrders);
+
+        orderIndexingPort.requestIndexing(savedOrders.stream().map(Order::getId).toList());
+
+        orderEventPort.publishAll(savedOrders.stream()
+                .map(OrderCreatedEvent::from)
+                .toList());
+
+        redeemCoupons(savedOrders);
+
+        return savedOrders;
+    }
+
+    /**
+     * 주문에 지정된 쿠폰 사용 (주문과 같은 트랜잭션, 이미 사용했거나 소진되면 주문 생성 전체 롤백)
+     * 경합이 가장 심한 쿠폰 행 잠금을 커밋 직전까지 미루기 위해 마지막에 처리합니다.
+     */
+    private void redeemCoupons(List<Order> orders) {
+        for (Order order : orders) {
+            if (order.getCouponId() != null) {
+                manageCouponUseCase.redeemCoupon(
+                        new RedeemCouponCommand(order.getCouponId(), order.getCustomerId(), order.getId()));
+            }
+        }
+    }
+
+    private Order toOrder(CreateOrderCommand command) {
+        return Order.builder()
+                .customerId(UUID.fromString(command.customerId()))
+                .sellerId(UUID.fromString(command.sellerId()))
+                .items(toOrderItems(command.items()))
+                .shippingAddress(command.shippingAddress())
+                .orderMemo(command.orderMemo())
+                .shippingMemo(command.shippingMemo())
+                .couponId(command.couponId() != null ? UUID.fromString(command.couponId()) : null)
+                .build();
+    }
+
     private List<OrderItem> toOrderItems(List<OrderItemCommand> commands) {
         return commands.stream()
                 .map(cmd -> {
@@ -114,6 +179,7 @@ public class OrderService implements CreateOrderUseCase, GetOrderUseCase,
         OrderStatus previousStatus = order.getStatus();
 
         order.pay();
+        reserveInventoryUseCase.confirm(order);
 
         return saveAndPublishStatusChange(order, previousStatus);
     }
@@ -158,6 +224,8 @@ public class OrderService implements CreateOrderUseCase, GetOrderUseCase,
         OrderStatus previousStatus = order.getStatus();
 
         order.cancel();
+        reserveInventoryUseCase.release(orderId);
+        manageCouponUseCase.cancelCouponRedemption(orderId);
 
         return saveAndPublishStatusChange(order, previousStatus);
     }
@@ -190,7 +258,8 @@ public class OrderService implements CreateOrderUseCase, GetOrderUseCase,
 
     private Order saveAndPublishStatusChange(Order order, OrderStatus previousStatus) {
         Order savedOrder = saveOrderPort.save(order);
-        orderSearchPort.index(savedOrder);
+        saveSellerDailyStatsPort.applyStatusChange(savedOrder, previousStatus);
+        orderIndexingPort.requestIndexing(List.of(savedOrder.getId()));
         orderEventPort.publishAsync(OrderStatusChangedEvent.of(savedOrder, previousStatus));
         return savedOrder;
     }
@@ -198,17 +267,42 @@ public class OrderService implements CreateOrderUseCase, GetOrderUseCase,
     // ==================== SearchOrderUseCase ====================
 
     @Override
-    public CursorPageResponse<Order> searchOrders(SearchOrderQuery query) {
+    public CursorPageResponse<OrderSummary> searchOrders(SearchOrderQuery query) {
         return orderSearchPort.search(query);
     }
 
     @Override
-    public List<Order> findByCustomerId(UUID customerId) {
-        return orderSearchPort.findByCustomerId(customerId);
+    public CursorPageResponse<OrderSummary> browseOrders(SearchOrderQuery query) {
+        return orderSearchPort.browse(query);
+    }
+
+    @Override
+    public List<OrderSearchResult> findByCustomerId(UUID customerId, boolean includeItems) {
+        return orderSearchPort.findByCustomerId(customerId, includeItems);
+    }
+
+    @Override
+    public List<OrderSearchResult> findBySellerId(UUID sellerId, boolean includeItems) {
+        return orderSearchPort.findBySellerId(sellerId, includeItems);
+    }
+
+    @Override
+    public CursorPageResponse<Order> findByCustomerId(UUID customerId, String cursor, int size) {
+        return orderQueryPort.findOrdersByOwner(OwnerOrderPageQuery.forCustomer(customerId, cursor, size));
+    }
+
+    @Override
+    public CursorPageResponse<Order> findBySellerId(UUID sellerId, String cursor, int size) {
+        return orderQueryPort.findOrdersByOwner(OwnerOrderPageQuery.forSeller(sellerId, cursor, size));
+    }
+
+    @Override
+    public CursorPageResponse<OrderSummary> findSummariesByCustomerId(UUID customerId, String cursor, int size) {
+        return orderQueryPort.findOrderSummariesByOwner(OwnerOrderPageQuery.forCustomer(customerId, cursor, size));
     }
 
     @Override
-    public List<Order> findBySellerId(UUID sellerId) {
-        return orderSearchPort.findBySellerId(sellerId);
+    public CursorPageResponse<OrderSummary> findSummariesBySellerId(UUID sellerId, String cursor, int size) {
+        return orderQueryPort.findOrderSummariesByOwner(OwnerOrderPageQuery.forSeller(sellerId, cursor, size));
     }
 }
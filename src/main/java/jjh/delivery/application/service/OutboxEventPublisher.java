@@ -107,6 +107,10 @@ public class OutboxEventPublisher {
         return switch (event.getEventType()) {
             case "OrderCreated" -> "order.created";
             case "OrderStatusChanged" -> "order.status-changed";
+            case "ProductCreated" -> "product.created";
+            case "ProductPriceChanged" -> "product.price-changed";
+            case "ProductStockChanged" -> "product.stock-changed";
+            case "ProductStatusChanged" -> "product.status-changed";
             default -> throw new IllegalArgumentException(
                     "Unknown event type: " + event.getEventType());
         };
@@ -4,7 +4,9 @@ import lombok.RequiredArgsConstructor;
 
 import java.util.UUID;
 
+import jjh.delivery.application.port.in.ManageCouponUseCase;
 import jjh.delivery.application.port.in.ProcessPaymentUseCase;
+import jjh.delivery.application.port.in.ReserveInventoryUseCase;
 import jjh.delivery.application.port.out.LoadPaymentPort;
 import jjh.delivery.application.port.out.SavePaymentPort;
 import jjh.delivery.domain.payment.Payment;
@@ -22,6 +24,8 @@ public class PaymentService implements ProcessPaymentUseCase {
 
     private final LoadPaymentPort loadPaymentPort;
     private final SavePaymentPort savePaymentPort;
+    private final ReserveInventoryUseCase reserveInventoryUseCase;
+    private final ManageCouponUseCase manageCouponUseCase;
 
     @Override
     public Payment requestPayment(RequestPaymentCommand command) {
@@ -59,6 +63,10 @@ public class PaymentService implements ProcessPaymentUseCase {
 
         payment.fail(reason);
 
+        // 결제 실패 시 선점 재고 해제와 쿠폰 사용 취소 (재결제하면 주문 결제 처리 시점에 다시 선점)
+        reserveInventoryUseCase.release(payment.getOrderId());
+        manageCouponUseCase.cancelCouponRedemption(payment.getOrderId());
+
         return savePaymentPort.save(payment);
     }
 
@@ -0,0 +1,183 @@
+package jjh.delivery.application.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import jakarta.annotation.PreDestroy;
+import jjh.delivery.application.port.in.AutocompleteProductUseCase;
+import jjh.delivery.application.port.out.LoadProductSuggestionPort;
+import jjh.delivery.application.port.out.LoadProductSuggestionPort.ProductSuggestionSource;
+import jjh.delivery.application.port.out.ProductSuggestionIndexPort;
+import jjh.delivery.application.port.out.ProductSuggestionIndexPort.IndexBuild;
+import jjh.delivery.application.port.out.ProductSuggestionIndexPort.IndexSize;
+import jjh.delivery.application.port.out.ScanProductChangePort;
+import jjh.delivery.application.port.out.ScanProductChangePort.ProductChange;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Product Autocomplete Service
+ * 상품명 자동완성을 애플리케이션 메모리 인덱스(ProductSuggestionIndexPort)로 처리 (키 입력마다 DB 조회 없음)
+ *
+ * 1) rebuild-interval마다 판매 가능한 상품 전체와 최근 주문 수량(인기도)으로 새 인덱스를 만들어 교체
+ *    (전용 스레드에서 실행하여 다른 스케줄 작업을 막지 않음)
+ * 2) refresh-interval마다 products.updated_at 변경분을 인덱스의 delta에 반영
+ *    재구축 중의 변경분은 새 인덱스에 없을 수 있으므로 교체 후 재구축 시작 시각부터 다시 반영합니다.
+ *
+ * 인기도는 재구축 시점 기준이며, 변경된 상품만 반영 시점의 인기도로 갱신됩니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ProductAutocompleteService implements AutocompleteProductUseCase {
+
+    private static final UUID MIN_ID = new UUID(0L, 0L);
+
+    private final LoadProductSuggestionPort loadProductSuggestionPort;
+    private final ScanProductChangePort scanProductChangePort;
+    private final ProductSuggestionIndexPort productSuggestionIndexPort;
+
+    private final ReentrantLock updateLock = new ReentrantLock();
+    private final AtomicBoolean rebuilding = new AtomicBoolean(false);
+    private final ExecutorService rebuildExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "product-autocomplete");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private LocalDateTime lastUpdatedAt;
+    private UUID lastId;
+
+    @Value("${search.product.autocomplete.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${search.product.autocomplete.popularity-days:90}")
+    private int popularityDays;
+
+    @Value("${search.product.autocomplete.max-size:20}")
+    private int maxSize;
+
+    @Value("${search.product.sync.commit-lag-seconds:5}")
+    private long commitLagSeconds;
+
+    @Override
+    public List<ProductSuggestion> suggest(String prefix, int limit) {
+        if (prefix == null || prefix.isBlank()) {
+            return List.of();
+        }
+        return productSuggestionIndexPort.suggest(prefix, Math.clamp(limit, 1, maxSize));
+    }
+
+    /**
+     * 전체 재구축 예약 (기동 직후 최초 적재 포함, 이미 실행 중이면 건너뜀)
+     */
+    @Scheduled(fixedDelayString = "${search.product.autocomplete.rebuild-interval:3600000}")
+    public void scheduleRebuild() {
+        if (rebuilding.compareAndSet(false, true)) {
+            rebuildExecutor.execute(() -> {
+                try {
+                    rebuild();
+                } finally {
+                    rebuilding.set(false);
+                }
+            });
+        }
+    }
+
+    /**
+     * 변경분 반영 (재구축 중이거나 아직 적재 전이면 다음 주기로 미룸)
+     */
+    @Scheduled(fixedDelayString = "${search.product.autocomplete.refresh-interval:10000}")
+    public void applyChanges() {
+        if (!productSuggestionIndexPort.isLoaded() || !updateLock.tryLock()) {
+            return;
+        }
+        try {
+            LocalDateTime until = LocalDateTime.now().minusSeconds(commitLagSeconds);
+            List<ProductChange> changes;
+            do {
+                changes = scanProductChangePort.findChangedAfter(lastUpdatedAt, lastId, until, batchSize);
+                if (changes.isEmpty()) {
+                    return;
+                }
+                apply(changes);
+
+                ProductChange last = changes.get(changes.size() - 1);
+                lastUpdatedAt = last.updatedAt();
+                lastId = last.productId();
+            } while (changes.size() == batchSize);
+        } catch (Exception e) {
+            log.error("Failed to apply product changes to autocomplete index after {}", lastUpdatedAt, e);
+        } finally {
+            updateLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rebuildExecutor.shutdownNow();
+    }
+
+    void rebuild() {
+        updateLock.lock();
+        try {
+            long startNanos = System.nanoTime();
+            LocalDateTime startedAt = LocalDateTime.now().minusSeconds(commitLagSeconds);
+            LocalDateTime popularitySince = popularitySince();
+
+            IndexBuild build = productSuggestionIndexPort.startBuild();
+            UUID afterId = null;
+            List<ProductSuggestionSource> batch;
+            do {
+                batch = loadProductSuggestionPort.findSellableAfter(afterId, batchSize, popularitySince);
+                batch.forEach(source -> build.add(source.productId(), source.name(), source.popularity()));
+                if (!batch.isEmpty()) {
+                    afterId = batch.get(batch.size() - 1).productId();
+                }
+            } while (batch.size() == batchSize);
+
+            IndexSize size = build.publish();
+            lastUpdatedAt = startedAt;
+            lastId = MIN_ID;
+
+            log.info("Rebuilt product autocomplete index. products={}, keys={}, elapsed={}ms",
+                    size.productCount(), size.keyCount(), (System.nanoTime() - startNanos) / 1_000_000);
+        } catch (Exception e) {
+            log.error("Failed to rebuild product autocomplete index", e);
+        } finally {
+            updateLock.unlock();
+        }
+    }
+
+    private void apply(List<ProductChange> changes) {
+        List<UUID> productIds = changes.stream().map(ProductChange::productId).distinct().toList();
+        Map<UUID, ProductSuggestionSource> sources = loadProductSuggestionPort
+                .findAllById(productIds, popularitySince()).stream()
+                .collect(Collectors.toMap(ProductSuggestionSource::productId, Function.identity()));
+
+        for (UUID productId : productIds) {
+            ProductSuggestionSource source = sources.get(productId);
+            if (source != null && source.status().isSellable()) {
+                productSuggestionIndexPort.upsert(productId, source.name(), source.popularity());
+            } else {
+                productSuggestionIndexPort.remove(productId);
+            }
+        }
+    }
+
+    private LocalDateTime popularitySince() {
+        return LocalDateTime.now().minusDays(popularityDays);
+    }
+}
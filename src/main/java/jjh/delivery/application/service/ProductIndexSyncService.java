@@ -0,0 +1,99 @@
+package jjh.delivery.application.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import jjh.delivery.application.port.in.SyncProductIndexUseCase;
+import jjh.delivery.application.port.out.ProductIndexingPort;
+import jjh.delivery.application.port.out.ScanProductChangePort;
+import jjh.delivery.application.port.out.ScanProductChangePort.ProductChange;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Product Index Sync Service
+ * products.updated_at 변경분을 폴링하여 상품 검색 인덱스에 반영
+ *
+ * 워터마크 (updatedAt, id)는 메모리에만 유지하고, 기동 시에는 인덱스에 반영된 최신 updatedAt부터 재개합니다.
+ * 인덱스가 비어 있으면 처음부터 스캔하므로 최초 적재도 같은 경로로 처리됩니다.
+ * 최근 commit-lag 이내의 변경분은 아직 커밋되지 않은 트랜잭션이 있을 수 있어 다음 주기로 미룹니다.
+ *
+ * 애플리케이션을 통한 변경은 상품 이벤트(product.*)로 즉시 반영되고,
+ * 폴링은 애플리케이션 밖에서 변경된 상품과 유실된 이벤트를 보정합니다.
+ * 검색 인덱스가 있는 경우(search.product.engine=elasticsearch)에만 등록됩니다.
+ */
+@Service
+@ConditionalOnProperty(prefix = "search.product", name = "engine", havingValue = "elasticsearch", matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+public class ProductIndexSyncService implements SyncProductIndexUseCase {
+
+    private static final UUID MIN_ID = new UUID(0L, 0L);
+
+    private final ScanProductChangePort scanProductChangePort;
+    private final ProductIndexingPort productIndexingPort;
+
+    private boolean initialized;
+    private LocalDateTime lastUpdatedAt;
+    private UUID lastId;
+
+    @Value("${search.product.sync.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${search.product.sync.commit-lag-seconds:5}")
+    private long commitLagSeconds;
+
+    @Override
+    public void syncProducts(Collection<UUID> productIds) {
+        productIndexingPort.requestIndexing(productIds);
+    }
+
+    /**
+     * 변경분 동기화 (fixedDelay 스케줄러 스레드에서만 실행되므로 워터마크는 단일 스레드 접근)
+     */
+    @Scheduled(fixedDelayString = "${search.product.sync.fixed-delay:5000}")
+    public void syncChangedProducts() {
+        try {
+            if (!initialized) {
+                initializeWatermark();
+            }
+
+            LocalDateTime until = LocalDateTime.now().minusSeconds(commitLagSeconds);
+            List<ProductChange> changes;
+            do {
+                changes = scanProductChangePort.findChangedAfter(lastUpdatedAt, lastId, until, batchSize);
+                if (changes.isEmpty()) {
+                    return;
+                }
+
+                productIndexingPort.requestIndexing(changes.stream().map(ProductChange::productId).toList());
+
+                ProductChange last = changes.get(changes.size() - 1);
+                lastUpdatedAt = last.updatedAt();
+                lastId = last.productId();
+                log.debug("Requested product indexing for {} changes up to {}", changes.size(), lastUpdatedAt);
+            } while (changes.size() == batchSize);
+        } catch (Exception e) {
+            log.error("Failed to sync changed products after {}", lastUpdatedAt, e);
+        }
+    }
+
+    /**
+     * 인덱스의 updatedAt은 초 단위로 저장되므로 같은 초의 변경분은 다시 인덱싱될 수 있음 (멱등)
+     */
+    private void initializeWatermark() {
+        productIndexingPort.findLatestIndexedUpdatedAt().ifPresent(latest -> {
+            lastUpdatedAt = latest;
+            lastId = MIN_ID;
+        });
+        initialized = true;
+        log.info("Product index sync starts after {}", lastUpdatedAt != null ? lastUpdatedAt : "the beginning");
+    }
+}
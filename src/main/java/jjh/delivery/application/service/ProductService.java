@@ -0,0 +1,136 @@
+package jjh.delivery.application.service;
+
+import lombok.RequiredArgsConstructor;
+
+import jjh.delivery.application.port.in.ManageProductUseCase;
+import jjh.delivery.application.port.out.InventoryReservationPort;
+import jjh.delivery.application.port.out.LoadProductPort;
+import jjh.delivery.application.port.out.ProductEventPort;
+import jjh.delivery.application.port.out.SaveProductPort;
+import jjh.delivery.domain.product.Product;
+import jjh.delivery.domain.product.ProductStatus;
+import jjh.delivery.domain.product.ProductVariant;
+import jjh.delivery.domain.product.event.ProductCreatedEvent;
+import jjh.delivery.domain.product.event.ProductEvent;
+import jjh.delivery.domain.product.event.ProductPriceChangedEvent;
+import jjh.delivery.domain.product.event.ProductStatusChangedEvent;
+import jjh.delivery.domain.product.event.ProductStockChangedEvent;
+import jjh.delivery.domain.product.exception.ProductNotFoundException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.ToIntFunction;
+
+/**
+ * Product Service - Application Service
+ * 상품 변경 서비스
+ *
+ * 변경 전후의 가격/재고/상태를 비교하여 실제로 바뀐 항목만 이벤트로 발행합니다.
+ * (예: 재고 차감으로 품절 전환되면 재고 변경과 상태 변경 이벤트가 함께 발행)
+ * 재고는 상품 저장이 덮어쓰지 않으므로 주문 선점과 같은 조건부 UPDATE로 증감한 뒤 상품을 읽습니다.
+ */
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class ProductService implements ManageProductUseCase {
+
+    private final LoadProductPort loadProductPort;
+    private final SaveProductPort saveProductPort;
+    private final ProductEventPort productEventPort;
+    private final InventoryReservationPort inventoryReservationPort;
+
+    @Override
+    public Product registerProduct(RegisterProductCommand command) {
+        Product.Builder builder = Product.builder()
+                .sellerId(command.sellerId())
+                .name(command.name())
+                .description(command.description())
+                .basePrice(command.basePrice())
+                .status(ProductStatus.DRAFT);
+
+        Optional.ofNullable(command.categoryIds()).ifPresent(builder::categoryIds);
+        Optional.ofNullable(command.imageUrls()).ifPresent(builder::imageUrls);
+
+        Product savedProduct = saveProductPort.save(builder.build());
+        productEventPort.publish(ProductCreatedEvent.from(savedProduct));
+        return savedProduct;
+    }
+
+    @Override
+    public Product changePrice(UUID productId, BigDecimal basePrice) {
+        if (basePrice == null || basePrice.compareTo(BigDecimal.ZERO) < 0) {
+            throw new IllegalArgumentException("basePrice must be non-negative");
+        }
+        return update(productId, product ->
+                product.updateInfo(product.getName(), product.getDescription(), basePrice));
+    }
+
+    @Override
+    public Product adjustStock(UUID productId, UUID variantId, int quantityDelta) {
+        if (!loadProductPort.existsById(productId)) {
+            throw new ProductNotFoundException(productId.toString());
+        }
+        if (quantityDelta != 0 && !inventoryReservationPort.adjustStock(productId, variantId, quantityDelta)) {
+            throw new IllegalArgumentException("Not enough stock");
+        }
+        // 비활성 변형의 재고는 총 재고에 포함되지 않음
+        return update(productId,
+                product -> variantId == null || product.findVariant(variantId).filter(ProductVariant::isActive).isPresent()
+                        ? quantityDelta : 0,
+                Product::refreshStockStatus);
+    }
+
+    @Override
+    public Product changeStatus(UUID productId, ProductStatus status) {
+        return update(productId, product -> {
+            switch (status) {
+                case ACTIVE -> product.activate();
+                case INACTIVE -> product.deactivate();
+                case DELETED -> product.delete();
+                default -> throw new IllegalArgumentException("Cannot change product status to " + status);
+            }
+        });
+    }
+
+    // ==================== Private Methods ====================
+
+    private Product update(UUID productId, Consumer<Product> change) {
+        return update(productId, product -> 0, change);
+    }
+
+    /**
+     * @param appliedStockDelta 적재 전에 저장소에서 이미 증감된 총 재고 (이전 재고 계산용)
+     */
+    private Product update(UUID productId, ToIntFunction<Product> appliedStockDelta, Consumer<Product> change) {
+        // 캐시된 상품이 아닌 DB의 최신 상태에 변경을 적용 (findById는 캐시 조회)
+        Product product = loadProductPort.findAllById(List.of(productId)).stream()
+                .findFirst()
+                .orElseThrow(() -> new ProductNotFoundException(productId.toString()));
+
+        BigDecimal previousPrice = product.getBasePrice();
+        int previousQuantity = product.getTotalStockQuantity() - appliedStockDelta.applyAsInt(product);
+        ProductStatus previousStatus = product.getStatus();
+
+        change.accept(product);
+        Product savedProduct = saveProductPort.save(product);
+
+        List<ProductEvent> events = new ArrayList<>();
+        if (previousPrice.compareTo(savedProduct.getBasePrice()) != 0) {
+            events.add(ProductPriceChangedEvent.of(savedProduct, previousPrice));
+        }
+        if (previousQuantity != savedProduct.getTotalStockQuantity()) {
+            events.add(ProductStockChangedEvent.of(savedProduct, previousQuantity));
+        }
+        if (previousStatus != savedProduct.getStatus()) {
+            events.add(ProductStatusChangedEvent.of(savedProduct, previousStatus));
+        }
+        productEventPort.publishAll(events);
+        return savedProduct;
+    }
+}
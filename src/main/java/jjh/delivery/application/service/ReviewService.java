@@ -6,7 +6,9 @@ import jjh.delivery.adapter.in.web.dto.CursorPageResponse;
 import jjh.delivery.application.port.in.ManageReviewUseCase;
 import jjh.delivery.application.port.out.LoadReviewPort;
 import jjh.delivery.application.port.out.LoadReviewStatsPort;
+import jjh.delivery.application.port.out.ProductIndexingPort;
 import jjh.delivery.application.port.out.SaveReviewPort;
+import jjh.delivery.domain.common.IdGenerator;
 import jjh.delivery.domain.review.Review;
 import jjh.delivery.domain.review.ReviewImage;
 import jjh.delivery.domain.review.exception.ReviewNotFoundException;
@@ -30,6 +32,7 @@ public class ReviewService implements ManageReviewUseCase {
     private final LoadReviewPort loadReviewPort;
     private final LoadReviewStatsPort loadReviewStatsPort;
     private final SaveReviewPort saveReviewPort;
+    private final ProductIndexingPort productIndexingPort;
 
     @Override
     public Review createReview(CreateReviewCommand command) {
@@ -46,7 +49,7 @@ public class ReviewService implements ManageReviewUseCase {
         // Optional + IntStream으로 이미지 처리 (성능 개선: O(n²) → O(n))
         List<ReviewImage> images = Optional.ofNullable(command.imageUrls())
                 .map(urls -> IntStream.range(0, urls.size())
-                        .mapToObj(i -> ReviewImage.ofNew(UUID.randomUUID(), urls.get(i), i))
+                        .mapToObj(i -> ReviewImage.ofNew(IdGenerator.newId(), urls.get(i), i))
                         .toList())
                 .orElse(List.of());
 
@@ -60,7 +63,10 @@ public class ReviewService implements ManageReviewUseCase {
                 .images(images)
                 .build();
 
-        return saveReviewPort.save(review);
+        Review saved = saveReviewPort.save(review);
+        // 검색 인덱스의 상품 평점/리뷰 수 갱신 (커밋 이후 비동기)
+        productIndexingPort.requestIndexing(List.of(productId));
+        return saved;
     }
 
     @Override
@@ -81,11 +87,13 @@ public class ReviewService implements ManageReviewUseCase {
         // Optional + IntStream으로 이미지 교체 (함수형)
         Optional.ofNullable(command.imageUrls())
                 .map(urls -> IntStream.range(0, urls.size())
-                        .mapToObj(i -> ReviewImage.ofNew(UUID.randomUUID(), urls.get(i), i))
+                        .mapToObj(i -> ReviewImage.ofNew(IdGenerator.newId(), urls.get(i), i))
                         .toList())
                 .ifPresent(review::replaceImages);
 
-        return saveReviewPort.save(review);
+        Review saved = saveReviewPort.save(review);
+        productIndexingPort.requestIndexing(List.of(review.getProductId()));
+        return saved;
     }
 
     @Override
@@ -99,6 +107,7 @@ public class ReviewService implements ManageReviewUseCase {
         }
 
         saveReviewPort.delete(reviewId);
+        productIndexingPort.requestIndexing(List.of(review.getProductId()));
     }
 
     @Override
@@ -0,0 +1,20 @@
+package jjh.delivery.config;
+
+import jjh.delivery.domain.common.IdGenerator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Domain ID Generator Configuration
+ * 도메인 객체 ID 생성 전략 설정 (TIME_ORDERED: UUIDv7, RANDOM: UUIDv4)
+ * 주문번호 생성기 노드 ID는 OrderNumberNodeService가 설정 (명시 값 또는 DB 리스)
+ */
+@Configuration
+public class IdGeneratorConfig {
+
+    public IdGeneratorConfig(
+            @Value("${domain.id.strategy:TIME_ORDERED}") IdGenerator.Strategy strategy
+    ) {
+        IdGenerator.configure(strategy);
+    }
+}
@@ -5,11 +5,14 @@ import org.jooq.impl.DefaultConfiguration;
 import org.jooq.impl.DefaultDSLContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.datasource.TransactionAwareDataSourceProxy;
 
 import javax.sql.DataSource;
 
 /**
  * jOOQ Configuration
+ * TransactionAwareDataSourceProxy로 감싸 Spring 트랜잭션의 커넥션을 공유합니다.
+ * (readOnly 트랜잭션에서는 replica 커넥션, 쓰기 트랜잭션에서는 JPA와 같은 primary 커넥션)
  */
 @Configuration
 public class JooqConfig {
@@ -17,7 +20,7 @@ public class JooqConfig {
     @Bean
     public DefaultDSLContext dslContext(DataSource dataSource) {
         DefaultConfiguration configuration = new DefaultConfiguration();
-        configuration.set(dataSource);
+        configuration.set(new TransactionAwareDataSourceProxy(dataSource));
         configuration.set(SQLDialect.POSTGRES);
         return new DefaultDSLContext(configuration);
     }
@@ -54,6 +54,8 @@ public class SecurityConfig {
                         ).permitAll()
                         // Actuator
                         .requestMatchers("/actuator/**").permitAll()
+                        // Admin endpoints
+                        .requestMatchers("/api/v2/admin/**").hasRole("ADMIN")
                         // Seller admin endpoints
                         .requestMatchers("/api/v2/sellers/me/**").hasRole("SELLER")
                         // All other endpoints require authentication
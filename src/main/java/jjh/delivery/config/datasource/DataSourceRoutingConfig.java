@@ -0,0 +1,97 @@
+package jjh.delivery.config.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Read Replica Routing DataSource Configuration
+ *
+ * datasource.replica.enabled=true 일 때만 활성화되며, 비활성 시 Spring Boot 기본 DataSource를 사용합니다.
+ * JPA(EntityManagerFactory)와 jOOQ(JooqConfig) 모두 @Primary DataSource를 사용하므로
+ * @Transactional(readOnly = true) 구간의 조회는 양쪽 모두 replica로 라우팅됩니다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "datasource.replica", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(ReplicaDataSourceProperties.class)
+public class DataSourceRoutingConfig {
+
+    /**
+     * Primary(쓰기) 커넥션 풀 - spring.datasource.* 설정 사용
+     */
+    @Bean
+    @ConfigurationProperties(prefix = "spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(
+            @Value("${spring.datasource.url}") String url,
+            @Value("${spring.datasource.username}") String username,
+            @Value("${spring.datasource.password}") String password,
+            @Value("${spring.datasource.driver-class-name}") String driverClassName
+    ) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("primary");
+        dataSource.setJdbcUrl(url);
+        dataSource.setUsername(username);
+        dataSource.setPassword(password);
+        dataSource.setDriverClassName(driverClassName);
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicationRoutingDataSource replicationRoutingDataSource(
+            HikariDataSource primaryDataSource,
+            ReplicaDataSourceProperties properties
+    ) {
+        List<ReplicaDataSourceProperties.Node> nodes = properties.nodes();
+        List<DataSource> replicas = IntStream.range(0, nodes.size())
+                .mapToObj(index -> (DataSource) createReplicaDataSource(nodes.get(index), index))
+                .toList();
+        return new ReplicationRoutingDataSource(primaryDataSource, replicas);
+    }
+
+    /**
+     * 애플리케이션이 사용하는 DataSource
+     * 실제 커넥션은 첫 SQL 실행 시점에 획득하므로 트랜잭션의 readOnly 여부로 라우팅할 수 있습니다.
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicationRoutingDataSource replicationRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicationRoutingDataSource);
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(
+            ReplicationRoutingDataSource replicationRoutingDataSource,
+            ReplicaDataSourceProperties properties
+    ) {
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(replicationRoutingDataSource, properties.maxLag());
+        // 첫 측정 전까지는 모든 replica를 제외 상태로 두고 즉시 1회 측정
+        monitor.checkLag();
+        return monitor;
+    }
+
+    @Bean
+    public ReadYourWritesFilter readYourWritesFilter(ReplicaDataSourceProperties properties) {
+        return new ReadYourWritesFilter(properties.stickyWindow());
+    }
+
+    private HikariDataSource createReplicaDataSource(ReplicaDataSourceProperties.Node node, int index) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("replica-" + index);
+        dataSource.setJdbcUrl(node.url());
+        dataSource.setUsername(node.username());
+        dataSource.setPassword(node.password());
+        dataSource.setMaximumPoolSize(node.maximumPoolSize());
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+}
@@ -0,0 +1,51 @@
+package jjh.delivery.config.datasource;
+
+/**
+ * Read-Your-Writes Context
+ * HTTP 요청 단위로 "primary 고정 여부"와 "쓰기 발생 여부"를 보관합니다.
+ * ReadYourWritesFilter가 요청 시작 시 열고 종료 시 닫으며, 요청 밖(스케줄러, Kafka 리스너)에서는 비활성입니다.
+ */
+public final class ReadYourWritesContext {
+
+    private static final ThreadLocal<State> CURRENT = new ThreadLocal<>();
+
+    private ReadYourWritesContext() {
+    }
+
+    static void open(boolean stickToPrimary) {
+        CURRENT.set(new State(stickToPrimary));
+    }
+
+    /**
+     * @return 요청 중 쓰기 트랜잭션이 있었는지
+     */
+    static boolean close() {
+        State state = CURRENT.get();
+        CURRENT.remove();
+        return state != null && state.written;
+    }
+
+    /**
+     * 쓰기 트랜잭션 발생 기록 - 이후 같은 요청의 읽기는 primary 사용
+     */
+    static void markWrite() {
+        State state = CURRENT.get();
+        if (state != null) {
+            state.written = true;
+        }
+    }
+
+    static boolean isStickToPrimary() {
+        State state = CURRENT.get();
+        return state != null && (state.stickToPrimary || state.written);
+    }
+
+    private static final class State {
+        private final boolean stickToPrimary;
+        private boolean written;
+
+        private State(boolean stickToPrimary) {
+            this.stickToPrimary = stickToPrimary;
+        }
+    }
+}
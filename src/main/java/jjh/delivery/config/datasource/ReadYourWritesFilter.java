@@ -0,0 +1,75 @@
+package jjh.delivery.config.datasource;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Read-Your-Writes Filter
+ *
+ * 인증된 사용자가 쓰기를 한 뒤 stickyWindow 동안은 그 사용자의 읽기 전용 트랜잭션도 primary로 보내
+ * 복제 지연 때문에 방금 쓴 데이터가 보이지 않는 문제를 막습니다.
+ * 같은 요청 안에서는 쓰기 이후 모든 읽기가 primary를 사용합니다.
+ *
+ * 마지막 쓰기 시각은 인스턴스 메모리에 보관하므로 고정 시간은 복제 지연 상한(maxLag) 이상으로 설정합니다.
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    private final Duration stickyWindow;
+    private final Map<String, Long> lastWriteAtByUser = new ConcurrentHashMap<>();
+
+    public ReadYourWritesFilter(Duration stickyWindow) {
+        this.stickyWindow = stickyWindow;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+        String userKey = currentUserKey();
+        long now = System.currentTimeMillis();
+        Long lastWriteAt = userKey != null ? lastWriteAtByUser.get(userKey) : null;
+
+        ReadYourWritesContext.open(lastWriteAt != null && now - lastWriteAt < stickyWindow.toMillis());
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            boolean written = ReadYourWritesContext.close();
+            if (written && userKey != null) {
+                lastWriteAtByUser.put(userKey, System.currentTimeMillis());
+            }
+        }
+    }
+
+    /**
+     * 만료된 쓰기 기록 정리
+     */
+    @Scheduled(fixedDelayString = "${datasource.replica.sticky-cleanup-interval:60000}")
+    public void evictExpired() {
+        long threshold = System.currentTimeMillis() - stickyWindow.toMillis();
+        lastWriteAtByUser.values().removeIf(lastWriteAt -> lastWriteAt < threshold);
+    }
+
+    private String currentUserKey() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null
+                || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication.getName();
+    }
+}
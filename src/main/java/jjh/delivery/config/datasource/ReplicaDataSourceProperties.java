@@ -0,0 +1,50 @@
+package jjh.delivery.config.datasource;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Read Replica 설정 프로퍼티
+ *
+ * @param enabled         읽기 전용 트랜잭션의 replica 라우팅 사용 여부
+ * @param nodes           replica 접속 정보 (여러 개면 라운드 로빈)
+ * @param maxLag          허용 복제 지연, 초과한 replica는 제외되고 primary로 fallback
+ * @param stickyWindow    쓰기 후 같은 사용자의 읽기를 primary로 고정하는 시간 (read-your-writes)
+ */
+@ConfigurationProperties(prefix = "datasource.replica")
+public record ReplicaDataSourceProperties(
+        boolean enabled,
+        List<Node> nodes,
+        Duration maxLag,
+        Duration stickyWindow
+) {
+    public ReplicaDataSourceProperties {
+        if (nodes == null) {
+            nodes = List.of();
+        }
+        if (maxLag == null) {
+            maxLag = Duration.ofSeconds(5);
+        }
+        if (stickyWindow == null) {
+            stickyWindow = Duration.ofSeconds(5);
+        }
+    }
+
+    /**
+     * Replica 접속 정보
+     */
+    public record Node(
+            String url,
+            String username,
+            String password,
+            int maximumPoolSize
+    ) {
+        public Node {
+            if (maximumPoolSize <= 0) {
+                maximumPoolSize = 10;
+            }
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package jjh.delivery.config.datasource;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.Duration;
+
+/**
+ * Replica Lag Monitor
+ * 주기적으로 각 replica의 복제 지연을 측정하여 허용 범위를 넘으면 라우팅 대상에서 제외
+ * (replay가 수신 WAL을 모두 따라잡은 상태면 지연 0으로 간주)
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class ReplicaLagMonitor {
+
+    private static final String LAG_QUERY = """
+            SELECT CASE
+                       WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                       ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0)
+                   END
+            """;
+
+    private final ReplicationRoutingDataSource routingDataSource;
+    private final Duration maxLag;
+
+    @Scheduled(fixedDelayString = "${datasource.replica.lag-check-interval:1000}")
+    public void checkLag() {
+        routingDataSource.getReplicas().forEach((key, dataSource) -> {
+            boolean healthy = isWithinMaxLag(key, dataSource);
+            routingDataSource.updateHealth(key, healthy);
+        });
+    }
+
+    private boolean isWithinMaxLag(String key, DataSource dataSource) {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(LAG_QUERY)) {
+            resultSet.next();
+            double lagSeconds = resultSet.getDouble(1);
+            boolean healthy = lagSeconds * 1000 <= maxLag.toMillis();
+            if (!healthy) {
+                log.warn("Replica lag exceeded: replica={}, lag={}s, maxLag={}", key, lagSeconds, maxLag);
+            }
+            return healthy;
+        } catch (Exception e) {
+            log.warn("Replica health check failed: replica={}, error={}", key, e.getMessage());
+            return false;
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package jjh.delivery.config.datasource;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Replication Routing DataSource
+ *
+ * - 읽기/쓰기 트랜잭션, 트랜잭션 밖 접근: primary
+ * - @Transactional(readOnly = true): 복제 지연이 허용 범위인 replica 중 라운드 로빈
+ *   (정상 replica가 없거나 read-your-writes 고정 중이면 primary)
+ *
+ * 라우팅 키는 실제 커넥션 획득 시점에 결정되므로 LazyConnectionDataSourceProxy로 감싸서
+ * 트랜잭션의 readOnly 플래그가 설정된 뒤 커넥션을 얻도록 해야 합니다.
+ */
+public class ReplicationRoutingDataSource extends AbstractRoutingDataSource implements DisposableBean {
+
+    static final String PRIMARY = "primary";
+
+    private final Map<String, DataSource> replicas;
+    private final Set<String> healthyReplicas = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger roundRobin = new AtomicInteger();
+
+    public ReplicationRoutingDataSource(DataSource primary, List<DataSource> replicaDataSources) {
+        this.replicas = new LinkedHashMap<>();
+        for (int i = 0; i < replicaDataSources.size(); i++) {
+            replicas.put("replica-" + i, replicaDataSources.get(i));
+        }
+
+        Map<Object, Object> targets = new HashMap<>(replicas);
+        targets.put(PRIMARY, primary);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (TransactionSynchronizationManager.isActualTransactionActive()) {
+                ReadYourWritesContext.markWrite();
+            }
+            return PRIMARY;
+        }
+        if (ReadYourWritesContext.isStickToPrimary()) {
+            return PRIMARY;
+        }
+        return nextHealthyReplica();
+    }
+
+    private String nextHealthyReplica() {
+        List<String> candidates = replicas.keySet().stream()
+                .filter(healthyReplicas::contains)
+                .toList();
+        if (candidates.isEmpty()) {
+            return PRIMARY;
+        }
+        return candidates.get(Math.floorMod(roundRobin.getAndIncrement(), candidates.size()));
+    }
+
+    Map<String, DataSource> getReplicas() {
+        return replicas;
+    }
+
+    void updateHealth(String replicaKey, boolean healthy) {
+        if (healthy) {
+            healthyReplicas.add(replicaKey);
+        } else {
+            healthyReplicas.remove(replicaKey);
+        }
+    }
+
+    /**
+     * replica 커넥션 풀 종료 (primary는 별도 빈으로 관리)
+     */
+    @Override
+    public void destroy() throws Exception {
+        for (DataSource replica : replicas.values()) {
+            if (replica instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package jjh.delivery.domain.cart;
 
+import jjh.delivery.domain.common.IdGenerator;
+
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -33,7 +35,7 @@ public class Cart {
      */
     public static Cart createEmpty(UUID customerId) {
         return new Cart(
-                UUID.randomUUID(),
+                IdGenerator.newId(),
                 customerId,
                 new ArrayList<>(),
                 LocalDateTime.now()
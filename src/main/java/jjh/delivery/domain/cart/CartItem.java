@@ -1,5 +1,7 @@
 package jjh.delivery.domain.cart;
 
+import jjh.delivery.domain.common.IdGenerator;
+
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.UUID;
@@ -46,7 +48,7 @@ public record CartItem(
             String thumbnailUrl
     ) {
         return new CartItem(
-                UUID.randomUUID(),
+                IdGenerator.newId(),
                 productId,
                 productName,
                 variantId,
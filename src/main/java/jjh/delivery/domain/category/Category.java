@@ -1,7 +1,10 @@
 package jjh.delivery.domain.category;
 
+import jjh.delivery.domain.common.IdGenerator;
+
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
@@ -12,6 +15,8 @@ import java.util.UUID;
  */
 public class Category {
 
+    public static final String PATH_SEPARATOR = "/";
+
     private final UUID id;
     private final UUID parentId;
     private String name;
@@ -19,19 +24,21 @@ public class Category {
     private String imageUrl;
     private int displayOrder;
     private int depth;
+    private final String path;
     private boolean isActive;
     private final List<Category> children;
     private final LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
     private Category(Builder builder) {
-        this.id = builder.id != null ? builder.id : UUID.randomUUID();
+        this.id = builder.id != null ? builder.id : IdGenerator.newId();
         this.parentId = builder.parentId;
         this.name = builder.name;
         this.description = builder.description;
         this.imageUrl = builder.imageUrl;
         this.displayOrder = builder.displayOrder;
         this.depth = builder.depth;
+        this.path = builder.path;
         this.isActive = builder.isActive;
         this.children = new ArrayList<>(builder.children);
         this.createdAt = builder.createdAt != null ? builder.createdAt : LocalDateTime.now();
@@ -105,6 +112,19 @@ public class Category {
         return !children.isEmpty();
     }
 
+    /**
+     * 루트부터 자기 자신까지의 카테고리 ID 목록 (경로가 없으면 빈 목록)
+     */
+    public List<UUID> getPathIds() {
+        if (path == null || path.isEmpty()) {
+            return List.of();
+        }
+        return Arrays.stream(path.split(PATH_SEPARATOR))
+                .filter(segment -> !segment.isEmpty())
+                .map(UUID::fromString)
+                .toList();
+    }
+
     // =====================================================
     // Getters
     // =====================================================
@@ -137,6 +157,13 @@ public class Category {
         return depth;
     }
 
+    /**
+     * 머티리얼라이즈드 경로 '/{rootId}/.../{id}/' (하위 트리 = 이 값으로 시작하는 경로)
+     */
+    public String getPath() {
+        return path;
+    }
+
     public boolean isActive() {
         return isActive;
     }
@@ -165,6 +192,7 @@ public class Category {
         private String imageUrl;
         private int displayOrder;
         private int depth = 1;
+        private String path;
         private boolean isActive = true;
         private List<Category> children = new ArrayList<>();
         private LocalDateTime createdAt;
@@ -204,6 +232,11 @@ public class Category {
             return this;
         }
 
+        public Builder path(String path) {
+            this.path = path;
+            return this;
+        }
+
         public Builder isActive(boolean isActive) {
             this.isActive = isActive;
             return this;
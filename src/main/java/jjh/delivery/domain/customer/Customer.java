@@ -1,5 +1,7 @@
 package jjh.delivery.domain.customer;
 
+import jjh.delivery.domain.common.IdGenerator;
+
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -27,7 +29,7 @@ public class Customer {
     private LocalDateTime lastLoginAt;
 
     private Customer(Builder builder) {
-        this.id = builder.id != null ? builder.id : UUID.randomUUID();
+        this.id = builder.id != null ? builder.id : IdGenerator.newId();
         this.email = builder.email;
         this.name = builder.name;
         this.phoneNumber = builder.phoneNumber;
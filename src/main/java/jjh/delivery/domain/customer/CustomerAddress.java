@@ -1,5 +1,7 @@
 package jjh.delivery.domain.customer;
 
+import jjh.delivery.domain.common.IdGenerator;
+
 import java.time.LocalDateTime;
 import java.util.UUID;
 
@@ -48,7 +50,7 @@ public record CustomerAddress(
             boolean isDefault
     ) {
         return new CustomerAddress(
-                UUID.randomUUID(),
+                IdGenerator.newId(),
                 name,
                 recipientName,
                 phoneNumber,
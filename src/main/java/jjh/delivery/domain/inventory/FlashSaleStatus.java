@@ -0,0 +1,20 @@
+package jjh.delivery.domain.inventory;
+
+/**
+ * Flash Sale Status Enum
+ *
+ * SCHEDULED → ACTIVE (시작 시각, 변형 재고를 카운터로 이관) → ENDED (종료 시각, 남은 수량 반환)
+ *     ↓                                                    ↑
+ *     └────────────────── (시작 전 종료) ──────────────────┘
+ */
+public enum FlashSaleStatus {
+
+    /** 시작 대기 (재고는 아직 DB에서 관리) */
+    SCHEDULED,
+
+    /** 진행 중 (재고를 분할 카운터에서 차감) */
+    ACTIVE,
+
+    /** 종료되어 남은 수량이 DB 재고로 반환됨 */
+    ENDED
+}
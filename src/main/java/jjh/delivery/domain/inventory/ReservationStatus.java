@@ -0,0 +1,20 @@
+package jjh.delivery.domain.inventory;
+
+/**
+ * Inventory Reservation Status Enum
+ *
+ * RESERVED → CONFIRMED (결제 완료)
+ *     ↓          ↓
+ *  RELEASED ← (만료 / 결제 실패 / 주문 취소)
+ */
+public enum ReservationStatus {
+
+    /** 재고 선점 (만료 시각까지 유효) */
+    RESERVED,
+
+    /** 결제 완료로 확정 (만료되지 않음) */
+    CONFIRMED,
+
+    /** 해제되어 재고 복원됨 */
+    RELEASED
+}
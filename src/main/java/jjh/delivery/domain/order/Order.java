@@ -1,13 +1,13 @@
 package jjh.delivery.domain.order;
 
+import jjh.delivery.domain.common.IdGenerator;
+
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
-import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * Order Aggregate Root (v2 - Product Delivery)
@@ -47,8 +47,8 @@ public class Order {
     private LocalDateTime cancelledAt;
 
     private Order(Builder builder) {
-        this.id = builder.id != null ? builder.id : UUID.randomUUID();
-        this.orderNumber = builder.orderNumber != null ? builder.orderNumber : generateOrderNumber();
+        this.id = builder.id != null ? builder.id : IdGenerator.newId();
+        this.orderNumber = builder.orderNumber != null ? builder.orderNumber : OrderNumberGenerator.next();
         this.customerId = builder.customerId;
         this.sellerId = builder.sellerId;
         this.items = new ArrayList<>(builder.items);
@@ -74,12 +74,6 @@ public class Order {
         this.cancelledAt = builder.cancelledAt;
     }
 
-    private static String generateOrderNumber() {
-        String date = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd"));
-        String random = String.format("%06d", ThreadLocalRandom.current().nextInt(1000000));
-        return "ORD-" + date + "-" + random;
-    }
-
     public static Builder builder() {
         return new Builder();
     }
@@ -0,0 +1,85 @@
+package jjh.delivery.domain.order;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Order Number Generator (Snowflake-style)
+ *
+ * 형식: ORD-{yyyyMMdd}-{ms of day 8자리}{node 3자리}{sequence 4자리} (28자, order_number VARCHAR(30))
+ * 예: ORD-20250101-0452967890120007 (12:34:56.789, node 12, sequence 7)
+ *
+ * - 노드 ID(0~999)는 인스턴스마다 다르게 설정하므로 노드 간 충돌이 없습니다. (명시 설정 또는 DB 리스, OrderNumberNodeService)
+ * - 같은 ms 안에서는 sequence(0~4095)가 증가하고, 넘치거나 시계가 역행하면 다음 ms를 빌려 씁니다.
+ *   따라서 노드 내에서 항상 단조 증가하며 DB 조회나 unique 위반 재시도가 필요 없습니다.
+ * - 고정 폭 10진수이므로 같은 노드의 주문번호는 문자열 정렬 순서 = 생성 순서입니다.
+ */
+public final class OrderNumberGenerator {
+
+    public static final int MAX_NODE_ID = 999;
+
+    private static final String PREFIX = "ORD-";
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd");
+    private static final int SEQUENCE_BITS = 12;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    private static final OrderNumberGenerator INSTANCE = new OrderNumberGenerator(ZoneId.systemDefault());
+
+    private final ZoneId zone;
+
+    /** (epoch ms << 12) | sequence */
+    private final AtomicLong lastState = new AtomicLong();
+
+    private volatile int nodeId;
+
+    OrderNumberGenerator(ZoneId zone) {
+        this.zone = zone;
+    }
+
+    /**
+     * 새 주문번호 생성
+     */
+    public static String next() {
+        return INSTANCE.generate();
+    }
+
+    /**
+     * 현재 인스턴스의 노드 ID 설정 (0~999, 인스턴스 간 중복 불가)
+     */
+    public static void configure(int nodeId) {
+        INSTANCE.setNodeId(nodeId);
+    }
+
+    void setNodeId(int nodeId) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("nodeId must be between 0 and " + MAX_NODE_ID + ": " + nodeId);
+        }
+        this.nodeId = nodeId;
+    }
+
+    String generate() {
+        long state = nextState();
+        long epochMillis = state >>> SEQUENCE_BITS;
+        long sequence = state & SEQUENCE_MASK;
+
+        LocalDate date = Instant.ofEpochMilli(epochMillis).atZone(zone).toLocalDate();
+        long millisOfDay = epochMillis - date.atStartOfDay(zone).toInstant().toEpochMilli();
+
+        return PREFIX + date.format(DATE_FORMAT) + "-"
+                + String.format("%08d%03d%04d", millisOfDay, nodeId, sequence);
+    }
+
+    private long nextState() {
+        long now = System.currentTimeMillis() << SEQUENCE_BITS;
+        while (true) {
+            long last = lastState.get();
+            long next = Math.max(now, last + 1);
+            if (lastState.compareAndSet(last, next)) {
+                return next;
+            }
+        }
+    }
+}
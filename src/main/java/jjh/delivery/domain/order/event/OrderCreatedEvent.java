@@ -1,9 +1,11 @@
 package jjh.delivery.domain.order.event;
 
 import jjh.delivery.domain.order.Order;
+import jjh.delivery.domain.order.OrderItem;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -16,6 +18,7 @@ public record OrderCreatedEvent(
         UUID sellerId,
         BigDecimal totalAmount,
         String shippingAddress,
+        List<UUID> productIds,
         LocalDateTime occurredAt
 ) implements OrderEvent {
 
@@ -27,6 +30,10 @@ public record OrderCreatedEvent(
                 order.getSellerId(),
                 order.getTotalAmount(),
                 order.getShippingAddress() != null ? order.getShippingAddress().getFullAddress() : null,
+                order.getItems().stream()
+                        .map(OrderItem::productId)
+                        .distinct()
+                        .toList(),
                 LocalDateTime.now()
         );
     }
@@ -1,5 +1,7 @@
 package jjh.delivery.domain.outbox;
 
+import jjh.delivery.domain.common.IdGenerator;
+
 import java.time.LocalDateTime;
 import java.util.UUID;
 
@@ -23,7 +25,7 @@ public class OutboxEvent {
     private String errorMessage;
 
     private OutboxEvent(Builder builder) {
-        this.id = builder.id != null ? builder.id : UUID.randomUUID();
+        this.id = builder.id != null ? builder.id : IdGenerator.newId();
         this.aggregateType = builder.aggregateType;
         this.aggregateId = builder.aggregateId;
         this.eventType = builder.eventType;
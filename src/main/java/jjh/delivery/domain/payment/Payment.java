@@ -1,5 +1,7 @@
 package jjh.delivery.domain.payment;
 
+import jjh.delivery.domain.common.IdGenerator;
+
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.UUID;
@@ -24,7 +26,7 @@ public class Payment {
     private LocalDateTime paidAt;
 
     private Payment(Builder builder) {
-        this.id = builder.id != null ? builder.id : UUID.randomUUID();
+        this.id = builder.id != null ? builder.id : IdGenerator.newId();
         this.orderId = builder.orderId;
         this.paymentMethodType = builder.paymentMethodType;
         this.paymentGateway = builder.paymentGateway;
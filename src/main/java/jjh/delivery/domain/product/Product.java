@@ -1,5 +1,7 @@
 package jjh.delivery.domain.product;
 
+import jjh.delivery.domain.common.IdGenerator;
+
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.*;
@@ -25,7 +27,7 @@ public class Product {
     private LocalDateTime updatedAt;
 
     private Product(Builder builder) {
-        this.id = builder.id != null ? builder.id : UUID.randomUUID();
+        this.id = builder.id != null ? builder.id : IdGenerator.newId();
         this.sellerId = builder.sellerId;
         this.name = builder.name;
         this.description = builder.description;
@@ -35,9 +37,10 @@ public class Product {
         this.categoryIds = new ArrayList<>(builder.categoryIds);
         this.imageUrls = new ArrayList<>(builder.imageUrls);
         this.specifications = new HashMap<>(builder.specifications);
+        this.totalStockQuantity = builder.totalStockQuantity;
         this.totalStockQuantity = calculateTotalStock();
         this.createdAt = builder.createdAt != null ? builder.createdAt : LocalDateTime.now();
-        this.updatedAt = this.createdAt;
+        this.updatedAt = builder.updatedAt != null ? builder.updatedAt : this.createdAt;
     }
 
     public static Builder builder() {
@@ -145,6 +148,17 @@ public class Product {
         this.updatedAt = LocalDateTime.now();
     }
 
+    /**
+     * 저장소에서 직접 증감된 재고에 맞춰 품절/판매 상태 전환
+     */
+    public void refreshStockStatus() {
+        ProductStatus previousStatus = this.status;
+        updateStockStatus();
+        if (this.status != previousStatus) {
+            this.updatedAt = LocalDateTime.now();
+        }
+    }
+
     /**
      * 카테고리 추가
      */
@@ -333,7 +347,9 @@ public class Product {
         private List<UUID> categoryIds = new ArrayList<>();
         private List<String> imageUrls = new ArrayList<>();
         private Map<String, String> specifications = new HashMap<>();
+        private int totalStockQuantity;
         private LocalDateTime createdAt;
+        private LocalDateTime updatedAt;
 
         public Builder id(UUID id) {
             this.id = id;
@@ -390,11 +406,24 @@ public class Product {
             return this;
         }
 
+        /**
+         * 단일 상품(변형 없음) 재고 (변형 상품은 활성 변형 재고 합계로 계산)
+         */
+        public Builder totalStockQuantity(int totalStockQuantity) {
+            this.totalStockQuantity = totalStockQuantity;
+            return this;
+        }
+
         public Builder createdAt(LocalDateTime createdAt) {
             this.createdAt = createdAt;
             return this;
         }
 
+        public Builder updatedAt(LocalDateTime updatedAt) {
+            this.updatedAt = updatedAt;
+            return this;
+        }
+
         public Product build() {
             validateRequired();
             return new Product(this);
@@ -1,5 +1,7 @@
 package jjh.delivery.domain.product;
 
+import jjh.delivery.domain.common.IdGenerator;
+
 import java.math.BigDecimal;
 import java.util.Map;
 import java.util.UUID;
@@ -42,7 +44,7 @@ public record ProductVariant(
             int stockQuantity
     ) {
         return new ProductVariant(
-                UUID.randomUUID(),
+                IdGenerator.newId(),
                 name,
                 sku,
                 optionValues,
@@ -0,0 +1,37 @@
+package jjh.delivery.domain.product.event;
+
+import jjh.delivery.domain.product.Product;
+import jjh.delivery.domain.product.ProductStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Product Created Domain Event
+ */
+public record ProductCreatedEvent(
+        UUID productId,
+        UUID sellerId,
+        String name,
+        BigDecimal basePrice,
+        int stockQuantity,
+        ProductStatus status,
+        List<UUID> categoryIds,
+        LocalDateTime occurredAt
+) implements ProductEvent {
+
+    public static ProductCreatedEvent from(Product product) {
+        return new ProductCreatedEvent(
+                product.getId(),
+                product.getSellerId(),
+                product.getName(),
+                product.getBasePrice(),
+                product.getTotalStockQuantity(),
+                product.getStatus(),
+                List.copyOf(product.getCategoryIds()),
+                LocalDateTime.now()
+        );
+    }
+}
@@ -0,0 +1,14 @@
+package jjh.delivery.domain.product.event;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Base Product Domain Event
+ */
+public sealed interface ProductEvent permits ProductCreatedEvent, ProductPriceChangedEvent,
+        ProductStockChangedEvent, ProductStatusChangedEvent {
+
+    UUID productId();
+    LocalDateTime occurredAt();
+}
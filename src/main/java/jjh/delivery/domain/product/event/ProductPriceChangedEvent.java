@@ -0,0 +1,27 @@
+package jjh.delivery.domain.product.event;
+
+import jjh.delivery.domain.product.Product;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Product Price Changed Domain Event
+ */
+public record ProductPriceChangedEvent(
+        UUID productId,
+        BigDecimal previousPrice,
+        BigDecimal newPrice,
+        LocalDateTime occurredAt
+) implements ProductEvent {
+
+    public static ProductPriceChangedEvent of(Product product, BigDecimal previousPrice) {
+        return new ProductPriceChangedEvent(
+                product.getId(),
+                previousPrice,
+                product.getBasePrice(),
+                LocalDateTime.now()
+        );
+    }
+}
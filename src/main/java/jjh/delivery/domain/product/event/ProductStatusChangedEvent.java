@@ -0,0 +1,27 @@
+package jjh.delivery.domain.product.event;
+
+import jjh.delivery.domain.product.Product;
+import jjh.delivery.domain.product.ProductStatus;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Product Status Changed Domain Event
+ */
+public record ProductStatusChangedEvent(
+        UUID productId,
+        ProductStatus previousStatus,
+        ProductStatus newStatus,
+        LocalDateTime occurredAt
+) implements ProductEvent {
+
+    public static ProductStatusChangedEvent of(Product product, ProductStatus previousStatus) {
+        return new ProductStatusChangedEvent(
+                product.getId(),
+                previousStatus,
+                product.getStatus(),
+                LocalDateTime.now()
+        );
+    }
+}
@@ -0,0 +1,27 @@
+package jjh.delivery.domain.product.event;
+
+import jjh.delivery.domain.product.Product;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Product Stock Changed Domain Event
+ * 수량은 변형 상품을 합산한 전체 재고 기준
+ */
+public record ProductStockChangedEvent(
+        UUID productId,
+        int previousQuantity,
+        int newQuantity,
+        LocalDateTime occurredAt
+) implements ProductEvent {
+
+    public static ProductStockChangedEvent of(Product product, int previousQuantity) {
+        return new ProductStockChangedEvent(
+                product.getId(),
+                previousQuantity,
+                product.getTotalStockQuantity(),
+                LocalDateTime.now()
+        );
+    }
+}
@@ -0,0 +1,26 @@
+package jjh.delivery.domain.product.exception;
+
+import java.util.UUID;
+
+/**
+ * Exception thrown when stock cannot be reserved
+ */
+public class InsufficientStockException extends RuntimeException {
+
+    private final UUID productId;
+    private final UUID variantId;
+
+    public InsufficientStockException(UUID productId, UUID variantId) {
+        super("Not enough stock: productId=" + productId + (variantId != null ? ", variantId=" + variantId : ""));
+        this.productId = productId;
+        this.variantId = variantId;
+    }
+
+    public UUID getProductId() {
+        return productId;
+    }
+
+    public UUID getVariantId() {
+        return variantId;
+    }
+}
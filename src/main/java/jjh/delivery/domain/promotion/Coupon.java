@@ -1,5 +1,7 @@
 package jjh.delivery.domain.promotion;
 
+import jjh.delivery.domain.common.IdGenerator;
+
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.UUID;
@@ -29,7 +31,7 @@ public class Coupon {
     private LocalDateTime updatedAt;
 
     private Coupon(Builder builder) {
-        this.id = builder.id != null ? builder.id : UUID.randomUUID();
+        this.id = builder.id != null ? builder.id : IdGenerator.newId();
         this.code = builder.code;
         this.name = builder.name;
         this.description = builder.description;
@@ -0,0 +1,15 @@
+package jjh.delivery.domain.promotion;
+
+/**
+ * Coupon Redemption Status Enum
+ *
+ * REDEEMED ⇄ CANCELLED (사용 취소 후 다시 사용 가능)
+ */
+public enum CouponRedemptionStatus {
+
+    /** 사용됨 (쿠폰 사용 수량에 포함) */
+    REDEEMED,
+
+    /** 사용 취소됨 (환불 등) */
+    CANCELLED
+}
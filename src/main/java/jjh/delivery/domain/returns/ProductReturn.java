@@ -1,5 +1,7 @@
 package jjh.delivery.domain.returns;
 
+import jjh.delivery.domain.common.IdGenerator;
+
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -28,7 +30,7 @@ public class ProductReturn {
     private LocalDateTime completedAt;
 
     private ProductReturn(Builder builder) {
-        this.id = builder.id != null ? builder.id : UUID.randomUUID();
+        this.id = builder.id != null ? builder.id : IdGenerator.newId();
         this.orderId = builder.orderId;
         this.customerId = builder.customerId;
         this.returnType = builder.returnType;
@@ -1,5 +1,7 @@
 package jjh.delivery.domain.returns;
 
+import jjh.delivery.domain.common.IdGenerator;
+
 import java.math.BigDecimal;
 import java.util.UUID;
 
@@ -44,7 +46,7 @@ public record ReturnItem(
             BigDecimal refundAmount
     ) {
         return new ReturnItem(
-                UUID.randomUUID(),
+                IdGenerator.newId(),
                 orderItemId,
                 productId,
                 productName,
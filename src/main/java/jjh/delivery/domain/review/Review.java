@@ -1,5 +1,7 @@
 package jjh.delivery.domain.review;
 
+import jjh.delivery.domain.common.IdGenerator;
+
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -26,7 +28,7 @@ public class Review {
     private LocalDateTime updatedAt;
 
     private Review(Builder builder) {
-        this.id = builder.id != null ? builder.id : UUID.randomUUID();
+        this.id = builder.id != null ? builder.id : IdGenerator.newId();
         this.orderId = builder.orderId;
         this.customerId = builder.customerId;
         this.sellerId = builder.sellerId;
@@ -63,7 +65,7 @@ public class Review {
      */
     public void addImage(String imageUrl) {
         int nextOrder = this.images.size();
-        this.images.add(ReviewImage.ofNew(UUID.randomUUID(), imageUrl, nextOrder));
+        this.images.add(ReviewImage.ofNew(IdGenerator.newId(), imageUrl, nextOrder));
         this.updatedAt = LocalDateTime.now();
     }
 
@@ -1,5 +1,7 @@
 package jjh.delivery.domain.review;
 
+import jjh.delivery.domain.common.IdGenerator;
+
 import java.time.LocalDateTime;
 import java.util.UUID;
 
@@ -21,7 +23,7 @@ public record ReviewReply(
 
     public static ReviewReply create(UUID sellerId, String content) {
         LocalDateTime now = LocalDateTime.now();
-        return new ReviewReply(UUID.randomUUID(), sellerId, content, now, now);
+        return new ReviewReply(IdGenerator.newId(), sellerId, content, now, now);
     }
 
     public ReviewReply update(String newContent) {
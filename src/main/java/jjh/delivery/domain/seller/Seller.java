@@ -1,5 +1,7 @@
 package jjh.delivery.domain.seller;
 
+import jjh.delivery.domain.common.IdGenerator;
+
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -27,7 +29,7 @@ public class Seller {
     private LocalDateTime approvedAt;
 
     private Seller(Builder builder) {
-        this.id = builder.id != null ? builder.id : UUID.randomUUID();
+        this.id = builder.id != null ? builder.id : IdGenerator.newId();
         this.businessName = builder.businessName;
         this.businessNumber = builder.businessNumber;
         this.representativeName = builder.representativeName;
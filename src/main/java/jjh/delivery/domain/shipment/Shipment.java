@@ -1,5 +1,7 @@
 package jjh.delivery.domain.shipment;
 
+import jjh.delivery.domain.common.IdGenerator;
+
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -25,7 +27,7 @@ public class Shipment {
     private LocalDateTime deliveredAt;
 
     private Shipment(Builder builder) {
-        this.id = builder.id != null ? builder.id : UUID.randomUUID();
+        this.id = builder.id != null ? builder.id : IdGenerator.newId();
         this.orderId = builder.orderId;
         this.carrier = builder.carrier;
         this.trackingNumber = builder.trackingNumber;
@@ -1,5 +1,7 @@
 package jjh.delivery.domain.shipment;
 
+import jjh.delivery.domain.common.IdGenerator;
+
 import java.time.LocalDateTime;
 import java.util.UUID;
 
@@ -32,7 +34,7 @@ public record TrackingEvent(
      */
     public static TrackingEvent of(ShipmentStatus status, String location, String description) {
         return new TrackingEvent(
-                UUID.randomUUID(),
+                IdGenerator.newId(),
                 status,
                 location,
                 description,
@@ -46,7 +48,7 @@ public record TrackingEvent(
      */
     public static TrackingEvent of(ShipmentStatus status, String location, String description, LocalDateTime occurredAt) {
         return new TrackingEvent(
-                UUID.randomUUID(),
+                IdGenerator.newId(),
                 status,
                 location,
                 description,
@@ -1,5 +1,7 @@
 package jjh.delivery.domain.webhook;
 
+import jjh.delivery.domain.common.IdGenerator;
+
 import java.time.LocalDateTime;
 import java.util.UUID;
 
@@ -23,7 +25,7 @@ public class WebhookDelivery {
     private LocalDateTime deliveredAt;
 
     private WebhookDelivery(Builder builder) {
-        this.id = builder.id != null ? builder.id : UUID.randomUUID();
+        this.id = builder.id != null ? builder.id : IdGenerator.newId();
         this.subscriptionId = builder.subscriptionId;
         this.eventType = builder.eventType;
         this.payload = builder.payload;
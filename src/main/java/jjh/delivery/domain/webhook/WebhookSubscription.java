@@ -1,5 +1,7 @@
 package jjh.delivery.domain.webhook;
 
+import jjh.delivery.domain.common.IdGenerator;
+
 import java.time.LocalDateTime;
 import java.util.*;
 
@@ -22,7 +24,7 @@ public class WebhookSubscription {
     private LocalDateTime updatedAt;
 
     private WebhookSubscription(Builder builder) {
-        this.id = builder.id != null ? builder.id : UUID.randomUUID();
+        this.id = builder.id != null ? builder.id : IdGenerator.newId();
         this.sellerId = builder.sellerId;
         this.name = builder.name;
         this.endpointUrl = builder.endpointUrl;
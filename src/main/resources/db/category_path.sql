@@ -0,0 +1,92 @@
+-- =====================================================
+-- Category Materialized Path (PostgreSQL 11+)
+--
+-- 1회성 마이그레이션 스크립트입니다. (ddl-auto로는 트리거/text_pattern_ops 인덱스를 만들 수 없음)
+--
+-- - path: 루트부터 자기 자신까지의 카테고리 ID 경로 ('/{rootId}/{childId}/{id}/')
+--   하위 트리 조회가 재귀 쿼리 없이 path LIKE '{조상 path}%' 한 번의 인덱스 범위 스캔이 됩니다.
+-- - 카테고리 생성/부모 변경 시 트리거가 path, depth를 계산하고 하위 카테고리 경로를 함께 갱신합니다.
+--   애플리케이션은 path를 읽기만 합니다. (CategoryJpaEntity에서 insertable/updatable = false)
+-- - product_categories(category_id) 인덱스: 하위 트리 카테고리 → 상품 조회용
+--   (PK가 (product_id, category_id)라 category_id 단독 조건에는 사용되지 않음)
+--
+-- 인덱스는 CONCURRENTLY로 생성하므로 트랜잭션 블록 밖에서 실행해야 합니다.
+-- =====================================================
+
+ALTER TABLE categories ADD COLUMN IF NOT EXISTS path VARCHAR(1000);
+
+-- 기존 카테고리 경로/깊이 채우기
+WITH RECURSIVE tree (id, path, depth) AS (
+    SELECT id, '/' || id || '/', 1
+    FROM categories
+    WHERE parent_id IS NULL
+    UNION ALL
+    SELECT c.id, t.path || c.id || '/', t.depth + 1
+    FROM categories c
+    JOIN tree t ON c.parent_id = t.id
+)
+UPDATE categories c
+SET path = tree.path,
+    depth = tree.depth
+FROM tree
+WHERE c.id = tree.id;
+
+-- 루트까지 이어지지 않는 카테고리(부모 누락)가 있으면 실패하므로 먼저 정리 후 재실행
+ALTER TABLE categories ALTER COLUMN path SET NOT NULL;
+
+CREATE OR REPLACE FUNCTION categories_set_path() RETURNS trigger AS $$
+DECLARE
+    parent_path VARCHAR(1000);
+    parent_depth INT;
+BEGIN
+    IF NEW.parent_id IS NULL THEN
+        NEW.path := '/' || NEW.id || '/';
+        NEW.depth := 1;
+        RETURN NEW;
+    END IF;
+
+    SELECT path, depth INTO parent_path, parent_depth FROM categories WHERE id = NEW.parent_id;
+    IF parent_path IS NULL THEN
+        RAISE EXCEPTION 'parent category % not found', NEW.parent_id;
+    END IF;
+    IF parent_path LIKE '%/' || NEW.id || '/%' THEN
+        RAISE EXCEPTION 'category % cannot be moved under its own descendant %', NEW.id, NEW.parent_id;
+    END IF;
+
+    NEW.path := parent_path || NEW.id || '/';
+    NEW.depth := parent_depth + 1;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+-- 부모가 바뀐 카테고리의 하위 트리 경로를 접두어 치환으로 일괄 갱신
+-- (하위 행은 parent_id가 바뀌지 않으므로 categories_set_path 트리거가 다시 실행되지 않음)
+CREATE OR REPLACE FUNCTION categories_move_subtree() RETURNS trigger AS $$
+BEGIN
+    UPDATE categories
+    SET path = NEW.path || substring(path FROM length(OLD.path) + 1),
+        depth = depth + (NEW.depth - OLD.depth)
+    WHERE path LIKE OLD.path || '_%';
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS trg_categories_set_path ON categories;
+CREATE TRIGGER trg_categories_set_path
+    BEFORE INSERT OR UPDATE OF parent_id ON categories
+    FOR EACH ROW EXECUTE FUNCTION categories_set_path();
+
+DROP TRIGGER IF EXISTS trg_categories_move_subtree ON categories;
+CREATE TRIGGER trg_categories_move_subtree
+    AFTER UPDATE OF parent_id ON categories
+    FOR EACH ROW WHEN (OLD.path IS DISTINCT FROM NEW.path)
+    EXECUTE FUNCTION categories_move_subtree();
+
+-- LIKE 접두어 검색은 데이터베이스 collation과 무관하게 text_pattern_ops 인덱스를 사용
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_categories_path
+    ON categories (path text_pattern_ops);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_product_categories_category_id
+    ON product_categories (category_id, product_id);
+
+ANALYZE categories;
@@ -0,0 +1,30 @@
+-- =====================================================
+-- Category Change Version (PostgreSQL)
+--
+-- 1회성 마이그레이션 스크립트입니다. (db/category_path.sql 이후 적용)
+-- catalog_versions 테이블은 CatalogVersionJpaEntity로 항상 생성되며, 이 스크립트는 카테고리 버전 트리거만 추가합니다.
+-- categories 테이블이 바뀔 때마다 catalog_versions의 'categories' 버전을 1 증가시킵니다.
+-- 애플리케이션은 이 값만 주기적으로 조회하고, 값이 바뀐 경우에만 메모리 카테고리 트리를 다시 적재합니다.
+-- (카테고리는 애플리케이션 밖에서 관리되므로 문장 단위 트리거로 모든 변경 경로를 잡습니다)
+-- 적용 전에는 catalog.category.max-age 주기로만 다시 적재되므로 변경 반영이 그만큼 늦어집니다.
+-- =====================================================
+
+CREATE TABLE IF NOT EXISTS catalog_versions (
+    name VARCHAR(50) PRIMARY KEY,
+    version BIGINT NOT NULL
+);
+
+INSERT INTO catalog_versions (name, version) VALUES ('categories', 1)
+ON CONFLICT (name) DO NOTHING;
+
+CREATE OR REPLACE FUNCTION catalog_versions_bump_categories() RETURNS trigger AS $$
+BEGIN
+    UPDATE catalog_versions SET version = version + 1 WHERE name = 'categories';
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS trg_categories_bump_version ON categories;
+CREATE TRIGGER trg_categories_bump_version
+    AFTER INSERT OR UPDATE OR DELETE OR TRUNCATE ON categories
+    FOR EACH STATEMENT EXECUTE FUNCTION catalog_versions_bump_categories();
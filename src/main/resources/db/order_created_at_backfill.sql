@@ -0,0 +1,29 @@
+-- =====================================================
+-- order_items.order_created_at Backfill (PostgreSQL)
+--
+-- order_created_at 컬럼 도입 이전 주문 항목을 orders.created_at으로 채웁니다. 1회 실행.
+-- 컬럼은 ddl-auto가 기존 행이 있는 테이블에도 추가할 수 있도록 NULL 허용으로 생성되며,
+-- 애플리케이션은 새 항목에 항상 값을 기록합니다.
+-- db/partitioning.sql을 적용할 경우 이 스크립트를 먼저 실행합니다. (파티션 키는 NOT NULL)
+-- 잠금 시간을 줄이기 위해 10,000행 단위로 커밋하며 갱신합니다. (트랜잭션 블록 밖에서 실행, PostgreSQL 11+)
+-- =====================================================
+
+ALTER TABLE order_items ADD COLUMN IF NOT EXISTS order_created_at TIMESTAMP;
+
+DO $$
+DECLARE
+    updated INTEGER;
+BEGIN
+    LOOP
+        UPDATE order_items i
+        SET order_created_at = o.created_at
+        FROM orders o
+        WHERE o.id = i.order_id
+          AND i.id IN (SELECT id FROM order_items WHERE order_created_at IS NULL LIMIT 10000);
+        GET DIAGNOSTICS updated = ROW_COUNT;
+        EXIT WHEN updated = 0;
+        COMMIT;
+    END LOOP;
+END $$;
+
+ALTER TABLE order_items ALTER COLUMN order_created_at SET NOT NULL;
@@ -0,0 +1,114 @@
+-- =====================================================
+-- Orders Monthly Partitioning + Archive Tiering (PostgreSQL 14+)
+--
+-- 1회성 마이그레이션 스크립트입니다. (ddl-auto로는 파티션 테이블을 만들 수 없음)
+-- db/order_created_at_backfill.sql 적용 후 실행합니다.
+-- 적용 후 order.archive.enabled=true 로 아카이브 잡과 아카이브 조회를 활성화합니다.
+--
+-- - orders / order_items: created_at / order_created_at 기준 월 RANGE 파티션
+--   파티션 테이블의 PK/UNIQUE는 파티션 키를 포함해야 하므로 (id, created_at) 형태가 됩니다.
+--   id는 UUIDv7, order_number는 노드별 단조 증가 값이라 키 단독 중복은 발생하지 않습니다.
+-- - orders_archive / order_items_archive: 같은 컬럼 구조의 월 파티션 세트
+--   fillfactor 100 (갱신 없음)으로 페이지를 꽉 채우고, 조회용 인덱스만 유지
+--   별도 압축은 적용하지 않습니다. (TOAST 압축은 약 2KB 초과 값에만 적용되어 짧은 VARCHAR 행에는 효과 없음)
+-- - 이후 파티션 생성/빈 파티션 삭제는 OrderArchiveService가 수행합니다.
+-- =====================================================
+
+BEGIN;
+
+-- 파티션 키 컬럼 (엔티티에 추가된 컬럼, ddl-auto 적용 여부와 무관하게 보장)
+ALTER TABLE order_items ADD COLUMN IF NOT EXISTS order_created_at TIMESTAMP;
+
+ALTER TABLE order_items RENAME TO order_items_legacy;
+ALTER TABLE orders RENAME TO orders_legacy;
+
+-- =====================================================
+-- Hot Tables
+-- =====================================================
+CREATE TABLE orders (
+    LIKE orders_legacy INCLUDING DEFAULTS,
+    PRIMARY KEY (id, created_at),
+    UNIQUE (order_number, created_at)
+) PARTITION BY RANGE (created_at);
+
+CREATE TABLE order_items (
+    LIKE order_items_legacy INCLUDING DEFAULTS,
+    PRIMARY KEY (id, order_created_at),
+    FOREIGN KEY (order_id, order_created_at) REFERENCES orders (id, created_at)
+) PARTITION BY RANGE (order_created_at);
+
+CREATE INDEX idx_orders_customer_created_at ON orders (customer_id, created_at, id);
+CREATE INDEX idx_orders_seller_created_at ON orders (seller_id, created_at, id);
+CREATE INDEX idx_orders_status ON orders (status);
+CREATE INDEX idx_orders_created_at ON orders (created_at);
+CREATE INDEX idx_order_items_order_id ON order_items (order_id);
+CREATE INDEX idx_order_items_product_id ON order_items (product_id);
+CREATE INDEX idx_order_items_variant_id ON order_items (variant_id);
+
+-- 범위 밖 데이터 보호용 (정상 운영 시 비어 있어야 함)
+CREATE TABLE orders_default PARTITION OF orders DEFAULT;
+CREATE TABLE order_items_default PARTITION OF order_items DEFAULT;
+
+-- =====================================================
+-- Archive Tables
+-- =====================================================
+CREATE TABLE orders_archive (
+    LIKE orders_legacy INCLUDING DEFAULTS,
+    PRIMARY KEY (id, created_at)
+) PARTITION BY RANGE (created_at);
+
+CREATE TABLE order_items_archive (
+    LIKE order_items_legacy INCLUDING DEFAULTS,
+    PRIMARY KEY (id, order_created_at)
+) PARTITION BY RANGE (order_created_at);
+
+-- 아카이브는 단건/고객/판매자 조회만 지원 (status, created_at 단독 인덱스 없음)
+CREATE INDEX idx_orders_archive_customer_created_at ON orders_archive (customer_id, created_at, id);
+CREATE INDEX idx_orders_archive_seller_created_at ON orders_archive (seller_id, created_at, id);
+CREATE INDEX idx_order_items_archive_order_id ON order_items_archive (order_id);
+
+CREATE TABLE orders_archive_default PARTITION OF orders_archive DEFAULT;
+CREATE TABLE order_items_archive_default PARTITION OF order_items_archive DEFAULT;
+
+-- =====================================================
+-- Monthly Partitions (기존 데이터 범위 ~ 다음 2개월)
+-- =====================================================
+DO $$
+DECLARE
+    month_start DATE := date_trunc('month', COALESCE((SELECT min(created_at) FROM orders_legacy), now()));
+    last_month DATE := date_trunc('month', now()) + INTERVAL '2 months';
+    suffix TEXT;
+BEGIN
+    WHILE month_start <= last_month LOOP
+        suffix := to_char(month_start, 'YYYY_MM');
+        EXECUTE format('CREATE TABLE orders_%s PARTITION OF orders FOR VALUES FROM (%L) TO (%L)',
+                suffix, month_start, month_start + INTERVAL '1 month');
+        EXECUTE format('CREATE TABLE order_items_%s PARTITION OF order_items FOR VALUES FROM (%L) TO (%L)',
+                suffix, month_start, month_start + INTERVAL '1 month');
+        EXECUTE format('CREATE TABLE orders_archive_%s PARTITION OF orders_archive FOR VALUES FROM (%L) TO (%L) WITH (fillfactor = 100)',
+                suffix, month_start, month_start + INTERVAL '1 month');
+        EXECUTE format('CREATE TABLE order_items_archive_%s PARTITION OF order_items_archive FOR VALUES FROM (%L) TO (%L) WITH (fillfactor = 100)',
+                suffix, month_start, month_start + INTERVAL '1 month');
+        month_start := month_start + INTERVAL '1 month';
+    END LOOP;
+END $$;
+
+-- =====================================================
+-- Data Copy
+-- =====================================================
+INSERT INTO orders SELECT * FROM orders_legacy;
+
+INSERT INTO order_items (id, order_id, order_created_at, product_id, product_name, variant_id,
+                         variant_name, sku, option_values, quantity, unit_price)
+SELECT i.id, i.order_id, o.created_at, i.product_id, i.product_name, i.variant_id,
+       i.variant_name, i.sku, i.option_values, i.quantity, i.unit_price
+FROM order_items_legacy i
+JOIN orders_legacy o ON o.id = i.order_id;
+
+DROP TABLE order_items_legacy;
+DROP TABLE orders_legacy;
+
+COMMIT;
+
+ANALYZE orders;
+ANALYZE order_items;
@@ -0,0 +1,30 @@
+-- =====================================================
+-- Product Keyword Search Indexes (PostgreSQL 12+)
+--
+-- 1회성 마이그레이션 스크립트입니다. (ddl-auto로는 생성 컬럼/GIN 인덱스를 만들 수 없음)
+-- 적용 후 search.product.engine=postgres 로 검색 클러스터 없이 상품 키워드 검색을 사용할 수 있습니다.
+--
+-- - search_vector: name(가중치 A) + description(가중치 B) tsvector STORED 생성 컬럼
+--   한글 형태소 사전이 없으므로 'simple' 사전 사용 (ProductFullTextSearchJooqAdapter와 동일해야 함)
+--   엔티티에 매핑하지 않으므로 애플리케이션 쓰기 경로는 변경되지 않습니다.
+-- - name trigram 인덱스: 어절 중간 부분 문자열 ILIKE '%키워드%' 매칭 및 similarity() 정렬
+--
+-- 생성 컬럼 추가는 테이블을 다시 쓰므로 (ACCESS EXCLUSIVE) 트래픽이 적은 시간에 적용하고,
+-- 인덱스는 CONCURRENTLY로 생성하므로 트랜잭션 블록 밖에서 실행해야 합니다.
+-- =====================================================
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+ALTER TABLE products ADD COLUMN IF NOT EXISTS search_vector tsvector
+    GENERATED ALWAYS AS (
+        setweight(to_tsvector('simple', coalesce(name, '')), 'A') ||
+        setweight(to_tsvector('simple', coalesce(description, '')), 'B')
+    ) STORED;
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_products_search_vector
+    ON products USING GIN (search_vector);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_products_name_trgm
+    ON products USING GIN (name gin_trgm_ops);
+
+ANALYZE products;
@@ -72,11 +72,25 @@ CREATE TABLE categories (
     image_url VARCHAR(500),
     display_order INT NOT NULL,
     depth INT NOT NULL,
+    -- 루트부터의 카테고리 ID 경로 '/{rootId}/.../{id}/' (db/category_path.sql 트리거가 관리)
+    path VARCHAR(1000),
     is_active BOOLEAN NOT NULL,
     created_at TIMESTAMP NOT NULL,
     updated_at TIMESTAMP NOT NULL
 );
 
+-- 마스터 데이터 변경 버전 (categories는 db/category_version.sql 트리거, coupons는 애플리케이션이 증가, 메모리 스냅샷 갱신 판단용)
+CREATE TABLE catalog_versions (
+    name VARCHAR(50) PRIMARY KEY,
+    version BIGINT NOT NULL
+);
+
+-- 상품 검색 인덱스에 반영된 카테고리 경로 (이동 감지용, 인스턴스 재시작과 무관하게 비교)
+CREATE TABLE category_index_paths (
+    category_id UUID PRIMARY KEY,
+    path VARCHAR(1000) NOT NULL
+);
+
 -- =====================================================
 -- Product Tables
 -- =====================================================
@@ -111,6 +125,44 @@ CREATE TABLE product_categories (
     PRIMARY KEY (product_id, category_id)
 );
 
+-- 함께 구매한 상품 집계 (기준 상품마다 상위 N개 후보만 유지)
+CREATE TABLE product_co_purchases (
+    product_id UUID NOT NULL,
+    related_product_id UUID NOT NULL,
+    purchase_count BIGINT NOT NULL,
+    updated_at TIMESTAMP NOT NULL,
+    PRIMARY KEY (product_id, related_product_id)
+);
+
+-- 주문 재고 선점 (재고는 product_variants/products에서 조건부 UPDATE로 차감)
+CREATE TABLE inventory_reservations (
+    id UUID PRIMARY KEY,
+    order_id UUID NOT NULL,
+    product_id UUID NOT NULL,
+    variant_id UUID,
+    quantity INT NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    expires_at TIMESTAMP NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP NOT NULL
+);
+
+-- 플래시 세일 재고 (진행 중에는 변형 재고 전량을 Redis 분할 카운터로 이관하고 종료 시 남은 수량을 반환)
+CREATE TABLE flash_sale_stocks (
+    variant_id UUID PRIMARY KEY,
+    product_id UUID NOT NULL,
+    shard_count INT NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    allocated_quantity INT NOT NULL,
+    remaining_quantity INT NOT NULL,
+    starts_at TIMESTAMP NOT NULL,
+    ends_at TIMESTAMP NOT NULL,
+    activated_at TIMESTAMP,
+    ended_at TIMESTAMP,
+    created_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP NOT NULL
+);
+
 CREATE TABLE product_images (
     product_id UUID NOT NULL REFERENCES products(id),
     image_url VARCHAR(500),
@@ -120,6 +172,8 @@ CREATE TABLE product_images (
 
 -- =====================================================
 -- Order Tables
+-- 운영 DB는 월 단위 RANGE 파티션 + 아카이브 테이블 구조 (db/partitioning.sql)
+-- orders_archive / order_items_archive는 같은 컬럼 구조이므로 코드 생성 대상에서 제외
 -- =====================================================
 CREATE TABLE orders (
     id UUID PRIMARY KEY,
@@ -153,6 +207,7 @@ CREATE TABLE orders (
 CREATE TABLE order_items (
     id UUID PRIMARY KEY,
     order_id UUID NOT NULL REFERENCES orders(id),
+    order_created_at TIMESTAMP NOT NULL,
     product_id UUID NOT NULL,
     product_name VARCHAR(200) NOT NULL,
     variant_id UUID,
@@ -163,6 +218,24 @@ CREATE TABLE order_items (
     unit_price DECIMAL(10, 2) NOT NULL
 );
 
+-- 주문번호 노드 ID 리스 (node-id 미설정 인스턴스가 0~999 중 하나를 점유, 만료 전 갱신)
+CREATE TABLE order_number_node_leases (
+    node_id INT PRIMARY KEY,
+    owner VARCHAR(100) NOT NULL,
+    expires_at TIMESTAMP NOT NULL
+);
+
+-- 판매자 일간 주문 통계 롤업 (주문 생성일 기준, 주문 저장 트랜잭션에서 증분 갱신)
+CREATE TABLE seller_daily_stats (
+    seller_id UUID NOT NULL,
+    stat_date DATE NOT NULL,
+    total_orders BIGINT NOT NULL,
+    completed_orders BIGINT NOT NULL,
+    cancelled_orders BIGINT NOT NULL,
+    total_revenue DECIMAL(14, 2) NOT NULL,
+    PRIMARY KEY (seller_id, stat_date)
+);
+
 -- =====================================================
 -- Review Tables
 -- =====================================================
@@ -245,6 +318,18 @@ CREATE TABLE coupons (
     version BIGINT
 );
 
+-- 고객별 쿠폰 사용 원장 (쿠폰당 고객 1회, 사용 수량은 coupons.used_quantity 조건부 UPDATE로 증가)
+CREATE TABLE coupon_redemptions (
+    id UUID PRIMARY KEY,
+    coupon_id UUID NOT NULL,
+    customer_id UUID NOT NULL,
+    order_id UUID,
+    status VARCHAR(20) NOT NULL,
+    redeemed_at TIMESTAMP NOT NULL,
+    cancelled_at TIMESTAMP,
+    CONSTRAINT uk_coupon_redemptions_coupon_customer UNIQUE (coupon_id, customer_id)
+);
+
 -- =====================================================
 -- Webhook Tables
 -- =====================================================
@@ -399,6 +484,37 @@ CREATE TABLE processed_events (
     processed_at TIMESTAMP NOT NULL DEFAULT NOW()
 );
 
+-- Search Indexing Retry Queue (Elasticsearch 인덱싱 실패/커밋 후 대기 중인 주문, 주문당 1행)
+CREATE TABLE order_index_retries (
+    order_id UUID PRIMARY KEY,
+    attempts INT NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP NOT NULL,
+    last_error VARCHAR(1000),
+    created_at TIMESTAMP NOT NULL DEFAULT NOW()
+);
+
+-- Search Reindex Checkpoints (주문 인덱스 전체 재구축 작업/구간별 진행 상황)
+CREATE TABLE order_reindex_jobs (
+    index_name VARCHAR(100) PRIMARY KEY,
+    status VARCHAR(20) NOT NULL,
+    total_count BIGINT NOT NULL,
+    started_at TIMESTAMP NOT NULL,
+    finished_at TIMESTAMP
+);
+
+CREATE TABLE order_reindex_slices (
+    index_name VARCHAR(100) NOT NULL REFERENCES order_reindex_jobs(index_name),
+    storage VARCHAR(20) NOT NULL,
+    slice_no INT NOT NULL,
+    lower_bound UUID,
+    upper_bound UUID,
+    last_order_id UUID,
+    indexed_count BIGINT NOT NULL DEFAULT 0,
+    completed BOOLEAN NOT NULL DEFAULT FALSE,
+    updated_at TIMESTAMP NOT NULL,
+    PRIMARY KEY (index_name, storage, slice_no)
+);
+
 -- =====================================================
 -- Indexes
 -- =====================================================
@@ -416,11 +532,17 @@ CREATE INDEX idx_categories_display_order ON categories(display_order);
 CREATE INDEX idx_products_seller_id ON products(seller_id);
 CREATE INDEX idx_products_status ON products(status);
 CREATE INDEX idx_products_name ON products(name);
+CREATE INDEX idx_products_updated_at ON products(updated_at, id);
+CREATE INDEX idx_product_categories_category_id ON product_categories(category_id, product_id);
 CREATE INDEX idx_product_variants_product_id ON product_variants(product_id);
 CREATE INDEX idx_product_variants_sku ON product_variants(sku);
+CREATE INDEX idx_inventory_reservations_order_id ON inventory_reservations(order_id);
+CREATE INDEX idx_inventory_reservations_expires_at ON inventory_reservations(status, expires_at);
+CREATE INDEX idx_flash_sale_stocks_status ON flash_sale_stocks(status);
 
-CREATE INDEX idx_orders_customer_id ON orders(customer_id);
-CREATE INDEX idx_orders_seller_id ON orders(seller_id);
+-- (owner, created_at, id) keyset 페이지네이션용 복합 인덱스
+CREATE INDEX idx_orders_customer_created_at ON orders(customer_id, created_at, id);
+CREATE INDEX idx_orders_seller_created_at ON orders(seller_id, created_at, id);
 CREATE INDEX idx_orders_status ON orders(status);
 CREATE INDEX idx_orders_created_at ON orders(created_at);
 CREATE INDEX idx_order_items_order_id ON order_items(order_id);
@@ -440,6 +562,7 @@ CREATE INDEX idx_cart_items_product_id ON cart_items(product_id);
 
 CREATE INDEX idx_coupons_code ON coupons(code);
 CREATE INDEX idx_coupons_valid_until ON coupons(valid_until);
+CREATE INDEX idx_coupon_redemptions_customer_id ON coupon_redemptions(customer_id);
 
 CREATE INDEX idx_webhook_subscriptions_seller_id ON webhook_subscriptions(seller_id);
 CREATE INDEX idx_webhook_subscriptions_is_active ON webhook_subscriptions(is_active);
@@ -454,3 +577,6 @@ CREATE INDEX idx_outbox_cleanup ON outbox_events(status, processed_at) WHERE sta
 
 -- Consumer Idempotency 인덱스 (오래된 이벤트 정리용)
 CREATE INDEX idx_processed_events_processed_at ON processed_events(processed_at);
+
+-- Search Indexing Retry 인덱스 (재시도 대상 폴링)
+CREATE INDEX idx_order_index_retries_next_attempt_at ON order_index_retries(next_attempt_at);
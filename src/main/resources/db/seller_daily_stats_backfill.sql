@@ -0,0 +1,29 @@
+-- =====================================================
+-- seller_daily_stats Backfill (PostgreSQL)
+--
+-- 롤업 도입 이전 주문을 일자별로 집계하여 채웁니다. 1회 실행.
+-- 실행 중 생성되는 주문의 증분과 겹치지 않도록 오늘 이전 일자만 대상으로 하고,
+-- 기존 행은 원본 집계값으로 덮어씁니다. (오늘은 통계 조회 시 항상 원본 집계)
+-- =====================================================
+
+INSERT INTO seller_daily_stats
+    (seller_id, stat_date, total_orders, completed_orders, cancelled_orders, total_revenue)
+SELECT seller_id,
+       created_at::date,
+       count(*),
+       count(*) FILTER (WHERE status = 'DELIVERED'),
+       count(*) FILTER (WHERE status = 'CANCELLED'),
+       sum(total_amount)
+FROM (
+    SELECT seller_id, created_at, status, total_amount FROM orders
+    -- 아카이브 사용 시(db/partitioning.sql 적용 후) 아래 주석 해제
+    -- UNION ALL
+    -- SELECT seller_id, created_at, status, total_amount FROM orders_archive
+) o
+WHERE created_at < current_date
+GROUP BY seller_id, created_at::date
+ON CONFLICT (seller_id, stat_date) DO UPDATE SET
+    total_orders = EXCLUDED.total_orders,
+    completed_orders = EXCLUDED.completed_orders,
+    cancelled_orders = EXCLUDED.cancelled_orders,
+    total_revenue = EXCLUDED.total_revenue;
@@ -0,0 +1,75 @@
+package jjh.delivery.adapter.in.messaging;
+
+import jjh.delivery.application.port.in.FrequentlyBoughtTogetherUseCase;
+import jjh.delivery.domain.order.event.OrderCreatedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.support.Acknowledgment;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * OrderCreatedCoPurchaseListener Unit Tests
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OrderCreatedCoPurchaseListener 테스트")
+class OrderCreatedCoPurchaseListenerTest {
+
+    private static final UUID PHONE_ID = UUID.fromString("00000000-0000-0000-0000-000000000001");
+    private static final UUID CASE_ID = UUID.fromString("00000000-0000-0000-0000-000000000002");
+
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+
+    @Mock
+    private FrequentlyBoughtTogetherUseCase frequentlyBoughtTogetherUseCase;
+
+    @Mock
+    private Acknowledgment acknowledgment;
+
+    private OrderCreatedCoPurchaseListener listener;
+
+    @BeforeEach
+    void setUp() {
+        listener = new OrderCreatedCoPurchaseListener(frequentlyBoughtTogetherUseCase, jsonMapper);
+    }
+
+    @Test
+    @DisplayName("아웃박스에 저장되는 OrderCreatedEvent 페이로드의 상품 목록을 집계")
+    void recordSerializedOrderCreatedEvent() {
+        OrderCreatedEvent event = new OrderCreatedEvent(
+                UUID.randomUUID(),
+                "ORD-20261019-0001",
+                UUID.randomUUID(),
+                UUID.randomUUID(),
+                new BigDecimal("35000"),
+                "서울시 강남구 테헤란로 1",
+                List.of(PHONE_ID, CASE_ID),
+                LocalDateTime.now()
+        );
+
+        listener.handleOrderCreated(jsonMapper.writeValueAsString(event), acknowledgment);
+
+        verify(frequentlyBoughtTogetherUseCase).recordOrder(List.of(PHONE_ID, CASE_ID));
+        verify(acknowledgment).acknowledge();
+    }
+
+    @Test
+    @DisplayName("해석할 수 없는 메시지는 건너뛰고 커밋")
+    void skipUnreadablePayload() {
+        listener.handleOrderCreated("not-json", acknowledgment);
+
+        verifyNoInteractions(frequentlyBoughtTogetherUseCase);
+        verify(acknowledgment).acknowledge();
+    }
+}
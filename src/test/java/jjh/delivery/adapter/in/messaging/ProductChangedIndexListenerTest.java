@@ -0,0 +1,78 @@
+package jjh.delivery.adapter.in.messaging;
+
+import jjh.delivery.application.port.in.SyncProductIndexUseCase;
+import jjh.delivery.domain.product.event.ProductPriceChangedEvent;
+import jjh.delivery.domain.product.event.ProductStockChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.support.Acknowledgment;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * ProductChangedIndexListener Unit Tests
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ProductChangedIndexListener 테스트")
+class ProductChangedIndexListenerTest {
+
+    private static final UUID PRODUCT_ID = UUID.fromString("00000000-0000-0000-0000-000000000001");
+
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+
+    @Mock
+    private SyncProductIndexUseCase syncProductIndexUseCase;
+
+    @Mock
+    private Acknowledgment acknowledgment;
+
+    private ProductChangedIndexListener listener;
+
+    @BeforeEach
+    void setUp() {
+        listener = new ProductChangedIndexListener(syncProductIndexUseCase, jsonMapper);
+    }
+
+    @Test
+    @DisplayName("아웃박스에 저장되는 재고 변경 이벤트 페이로드로 상품 재인덱싱")
+    void syncFromStockChangedEvent() {
+        ProductStockChangedEvent event = new ProductStockChangedEvent(PRODUCT_ID, 5, 0, LocalDateTime.now());
+
+        listener.handleProductChanged(jsonMapper.writeValueAsString(event), acknowledgment);
+
+        verify(syncProductIndexUseCase).syncProducts(List.of(PRODUCT_ID));
+        verify(acknowledgment).acknowledge();
+    }
+
+    @Test
+    @DisplayName("아웃박스에 저장되는 가격 변경 이벤트 페이로드로 상품 재인덱싱")
+    void syncFromPriceChangedEvent() {
+        ProductPriceChangedEvent event = new ProductPriceChangedEvent(
+                PRODUCT_ID, new BigDecimal("10000"), new BigDecimal("9000"), LocalDateTime.now());
+
+        listener.handleProductChanged(jsonMapper.writeValueAsString(event), acknowledgment);
+
+        verify(syncProductIndexUseCase).syncProducts(List.of(PRODUCT_ID));
+        verify(acknowledgment).acknowledge();
+    }
+
+    @Test
+    @DisplayName("해석할 수 없는 메시지는 건너뛰고 커밋")
+    void skipUnreadablePayload() {
+        listener.handleProductChanged("not-json", acknowledgment);
+
+        verifyNoInteractions(syncProductIndexUseCase);
+        verify(acknowledgment).acknowledge();
+    }
+}
@@ -10,6 +10,8 @@ import jjh.delivery.application.port.in.CreateOrderUseCase;
 import jjh.delivery.application.port.in.GetOrderUseCase;
 import jjh.delivery.application.port.in.SearchOrderUseCase;
 import jjh.delivery.application.port.in.UpdateOrderStatusUseCase;
+import jjh.delivery.application.port.out.OrderSearchPort.OrderSearchItem;
+import jjh.delivery.application.port.out.OrderSearchPort.OrderSearchResult;
 import jjh.delivery.config.security.JwtTokenProvider;
 import jjh.delivery.domain.order.Order;
 import jjh.delivery.domain.order.OrderItem;
@@ -119,6 +121,25 @@ class OrderControllerTest {
         );
     }
 
+    private OrderSearchResult createSearchResult() {
+        return new OrderSearchResult(
+                ORDER_ID,
+                "ORD-12345678",
+                CUSTOMER_ID,
+                SELLER_ID,
+                OrderStatus.PENDING,
+                new BigDecimal("23000"),
+                "서울시 강남구 상세주소",
+                1,
+                List.of(new OrderSearchItem(
+                        PRODUCT_ID, "테스트 상품", null, null, "SKU-001",
+                        Map.of(), 2, new BigDecimal("10000")
+                )),
+                LocalDateTime.now(),
+                LocalDateTime.now()
+        );
+    }
+
     private CreateOrderRequest createValidOrderRequest() {
         return new CreateOrderRequest(
                 CUSTOMER_ID.toString(),
@@ -377,11 +398,9 @@ class OrderControllerTest {
         @DisplayName("GET /customer/{customerId} - 고객별 주문 조회")
         void getOrdersByCustomerSuccess() throws Exception {
             // given
-            List<Order> orders = List.of(createOrder());
-            List<OrderResponse> responses = List.of(createOrderResponse());
+            List<OrderSearchResult> results = List.of(createSearchResult());
 
-            given(searchOrderUseCase.findByCustomerId(CUSTOMER_ID)).willReturn(orders);
-            given(mapper.toResponseList(orders)).willReturn(responses);
+            given(searchOrderUseCase.findByCustomerId(CUSTOMER_ID, true)).willReturn(results);
 
             // when & then
             mockMvc.perform(get(BASE_URL + "/customer/{customerId}", CUSTOMER_ID.toString()))
@@ -394,11 +413,9 @@ class OrderControllerTest {
         @DisplayName("GET /seller/{sellerId} - 판매자별 주문 조회")
         void getOrdersBySellerSuccess() throws Exception {
             // given
-            List<Order> orders = List.of(createOrder());
-            List<OrderResponse> responses = List.of(createOrderResponse());
+            List<OrderSearchResult> results = List.of(createSearchResult());
 
-            given(searchOrderUseCase.findBySellerId(SELLER_ID)).willReturn(orders);
-            given(mapper.toResponseList(orders)).willReturn(responses);
+            given(searchOrderUseCase.findBySellerId(SELLER_ID, true)).willReturn(results);
 
             // when & then
             mockMvc.perform(get(BASE_URL + "/seller/{sellerId}", SELLER_ID.toString()))
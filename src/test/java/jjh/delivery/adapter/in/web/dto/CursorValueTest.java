@@ -0,0 +1,51 @@
+package jjh.delivery.adapter.in.web.dto;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.Base64;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * CursorValue Unit Tests
+ */
+@DisplayName("CursorValue 테스트")
+class CursorValueTest {
+
+    private static final UUID ID = UUID.fromString("00000000-0000-0000-0000-000000000001");
+
+    @Test
+    @DisplayName("마이크로초 정밀도의 createdAt을 잘라내지 않고 인코딩/디코딩")
+    void roundTripKeepsMicroseconds() {
+        Instant createdAt = Instant.parse("2025-01-01T00:00:00.123456Z");
+
+        CursorValue decoded = CursorValue.decode(CursorValue.encode(createdAt, ID.toString()));
+
+        assertThat(decoded.createdAt()).isEqualTo(createdAt);
+        assertThat(decoded.id()).isEqualTo(ID);
+    }
+
+    @Test
+    @DisplayName("이전 형식(epoch millis) 커서도 디코딩")
+    void decodesLegacyEpochMillis() {
+        String legacy = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(("1735689600123_" + ID).getBytes());
+
+        CursorValue decoded = CursorValue.decode(legacy);
+
+        assertThat(decoded.createdAt()).isEqualTo(Instant.ofEpochMilli(1735689600123L));
+        assertThat(decoded.id()).isEqualTo(ID);
+    }
+
+    @Test
+    @DisplayName("잘못된 커서는 null")
+    void invalidCursor() {
+        String invalid = Base64.getUrlEncoder().withoutPadding().encodeToString("not-a-time_x".getBytes());
+
+        assertThat(CursorValue.decode(invalid)).isNull();
+        assertThat(CursorValue.decode(null)).isNull();
+    }
+}
@@ -0,0 +1,107 @@
+package jjh.delivery.adapter.in.web.seller;
+
+import jjh.delivery.adapter.in.web.dto.CursorPageResponse;
+import jjh.delivery.adapter.in.web.product.dto.ProductListItemResponse;
+import jjh.delivery.adapter.in.web.product.dto.ProductListResponse;
+import jjh.delivery.application.port.in.ManageSellerUseCase;
+import jjh.delivery.application.port.out.LoadProductPort;
+import jjh.delivery.application.port.out.LoadProductPort.ProductSummary;
+import jjh.delivery.application.port.out.LoadProductPort.SearchProductQuery;
+import jjh.delivery.application.port.out.LoadReviewStatsPort;
+import jjh.delivery.application.port.out.LoadReviewStatsPort.RatingSummary;
+import jjh.delivery.application.port.out.LoadSellerInfoPort;
+import jjh.delivery.domain.product.ProductStatus;
+import jjh.delivery.domain.seller.exception.SellerNotFoundException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * SellerAdminController Unit Tests (판매자 상품 목록 평점 일괄 조회)
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SellerAdminController 테스트")
+class SellerAdminControllerTest {
+
+    private static final UUID SELLER_ID = UUID.fromString("00000000-0000-0000-0000-000000000001");
+    private static final UUID RATED_ID = UUID.fromString("00000000-0000-0000-0000-000000000011");
+    private static final UUID UNRATED_ID = UUID.fromString("00000000-0000-0000-0000-000000000012");
+
+    @Mock
+    private ManageSellerUseCase manageSellerUseCase;
+
+    @Mock
+    private LoadProductPort loadProductPort;
+
+    @Mock
+    private LoadReviewStatsPort loadReviewStatsPort;
+
+    @Mock
+    private LoadSellerInfoPort loadSellerInfoPort;
+
+    @InjectMocks
+    private SellerAdminController sellerAdminController;
+
+    private ProductSummary summary(UUID productId, String name) {
+        return new ProductSummary(productId, SELLER_ID, name, new BigDecimal("15000"), ProductStatus.ACTIVE,
+                "https://img.example.com/" + name + ".jpg", LocalDateTime.now());
+    }
+
+    @Nested
+    @DisplayName("판매자 상품 목록")
+    class GetSellerProducts {
+
+        @Test
+        @DisplayName("페이지 상품의 평점을 한 번에 조회하고, 리뷰 없는 상품은 빈 평점")
+        void batchRatings() {
+            given(loadSellerInfoPort.existsById(SELLER_ID)).willReturn(true);
+            given(loadSellerInfoPort.findBusinessNameById(SELLER_ID)).willReturn(Optional.of("잘나가는 상점"));
+            given(loadProductPort.searchProductSummaries(any(SearchProductQuery.class)))
+                    .willReturn(new CursorPageResponse<>(
+                            List.of(summary(RATED_ID, "rated"), summary(UNRATED_ID, "unrated")), 20, false, null));
+            given(loadReviewStatsPort.getRatingSummariesByProductIds(List.of(RATED_ID, UNRATED_ID)))
+                    .willReturn(Map.of(RATED_ID, new RatingSummary(4.5, 12)));
+
+            ProductListResponse response = sellerAdminController.getSellerProducts(SELLER_ID, null, 20).getBody();
+
+            assertThat(response).isNotNull();
+            assertThat(response.content())
+                    .extracting(ProductListItemResponse::id, ProductListItemResponse::ratingAvg,
+                            ProductListItemResponse::reviewCount, ProductListItemResponse::sellerName)
+                    .containsExactly(
+                            tuple(RATED_ID.toString(), 4.5, 12L, "잘나가는 상점"),
+                            tuple(UNRATED_ID.toString(), 0.0, 0L, "잘나가는 상점"));
+            verify(loadReviewStatsPort, times(1)).getRatingSummariesByProductIds(any());
+        }
+
+        @Test
+        @DisplayName("없는 판매자는 상품을 조회하지 않고 SellerNotFoundException")
+        void sellerNotFound() {
+            given(loadSellerInfoPort.existsById(SELLER_ID)).willReturn(false);
+
+            assertThatThrownBy(() -> sellerAdminController.getSellerProducts(SELLER_ID, null, 20))
+                    .isInstanceOf(SellerNotFoundException.class);
+            verifyNoInteractions(loadProductPort, loadReviewStatsPort);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package jjh.delivery.adapter.out.persistence.jooq;
+
+import org.jooq.DSLContext;
+import org.jooq.SQLDialect;
+import org.jooq.impl.DSL;
+import org.jooq.tools.jdbc.MockConnection;
+import org.jooq.tools.jdbc.MockResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * CatalogVersionJooqAdapter Unit Tests (생성 SQL 검증)
+ * 쿠폰 버전은 카테고리 스크립트가 넣는 행 없이도 증가/조회되어야 합니다.
+ */
+@DisplayName("CatalogVersionJooqAdapter 테스트")
+class CatalogVersionJooqAdapterTest {
+
+    private final List<String> executedSql = new ArrayList<>();
+
+    private CatalogVersionJooqAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        DSLContext results = DSL.using(SQLDialect.POSTGRES);
+        DSLContext dsl = DSL.using(new MockConnection(context -> {
+            executedSql.add(context.sql());
+            return new MockResult[]{new MockResult(1, results.newResult())};
+        }), SQLDialect.POSTGRES);
+        adapter = new CatalogVersionJooqAdapter(dsl);
+    }
+
+    @Test
+    @DisplayName("쿠폰 버전 행이 없으면 upsert로 만들어 증가")
+    void incrementCouponVersionUpserts() {
+        // when
+        adapter.incrementCouponVersion();
+
+        // then
+        assertThat(executedSql).singleElement().satisfies(sql -> assertThat(sql)
+                .startsWith("insert into")
+                .contains("catalog_versions")
+                .contains("on conflict"));
+    }
+
+    @Test
+    @DisplayName("버전 행이 없으면 0")
+    void loadCouponVersionDefaultsToZero() {
+        // when
+        long version = adapter.loadCouponVersion();
+
+        // then
+        assertThat(version).isZero();
+    }
+}
@@ -0,0 +1,172 @@
+package jjh.delivery.adapter.out.persistence.jooq;
+
+import jjh.delivery.application.port.out.InventoryReservationPort.StockReservation;
+import jjh.delivery.domain.inventory.ReservationStatus;
+import jjh.delivery.domain.product.exception.InsufficientStockException;
+import org.jooq.DSLContext;
+import org.jooq.SQLDialect;
+import org.jooq.impl.DSL;
+import org.jooq.tools.jdbc.MockConnection;
+import org.jooq.tools.jdbc.MockResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * InventoryReservationJooqAdapter Unit Tests (생성 SQL 검증)
+ * 재고 증감 배치가 재고 행만 갱신하는지(변형 상품의 products 행은 건드리지 않음), 재고가 바뀐 상품을 캐시에서 제거하는지 확인합니다.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("InventoryReservationJooqAdapter 테스트")
+class InventoryReservationJooqAdapterTest {
+
+    private static final UUID ORDER_ID = UUID.fromString("00000000-0000-0000-0000-000000000001");
+    private static final UUID PRODUCT_ID = UUID.fromString("00000000-0000-0000-0000-000000000003");
+    private static final UUID VARIANT_ID = UUID.fromString("00000000-0000-0000-0000-000000000004");
+    private static final UUID SIMPLE_PRODUCT_ID = UUID.fromString("00000000-0000-0000-0000-000000000005");
+
+    private final List<String> batchSql = new ArrayList<>();
+
+    private final List<String> statementSql = new ArrayList<>();
+
+    /** 배치 문장별 갱신 행 수 (null이면 모두 1) */
+    private int[] updateCounts;
+
+    @Mock
+    private CacheManager cacheManager;
+
+    @Mock
+    private Cache cache;
+
+    private InventoryReservationJooqAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        DSLContext results = DSL.using(SQLDialect.POSTGRES);
+        DSLContext dsl = DSL.using(new MockConnection(context -> {
+            if (context.batch()) {
+                batchSql.addAll(Arrays.asList(context.batchSQL()));
+                MockResult[] counts = new MockResult[context.batchSQL().length];
+                for (int i = 0; i < counts.length; i++) {
+                    counts[i] = new MockResult(updateCounts != null ? updateCounts[i] : 1, null);
+                }
+                return counts;
+            }
+            statementSql.add(context.sql());
+            return new MockResult[]{new MockResult(1, results.newResult())};
+        }), SQLDialect.POSTGRES);
+        adapter = new InventoryReservationJooqAdapter(dsl, cacheManager);
+    }
+
+    private List<StockReservation> reservations() {
+        return List.of(
+                new StockReservation(ORDER_ID, SIMPLE_PRODUCT_ID, null, 5),
+                new StockReservation(ORDER_ID, PRODUCT_ID, VARIANT_ID, 3));
+    }
+
+    private void reserve() {
+        adapter.reserve(reservations(), ReservationStatus.RESERVED, LocalDateTime.now().plusMinutes(15), Set.of());
+    }
+
+    @Nested
+    @DisplayName("재고 차감")
+    class Reserve {
+
+        @Test
+        @DisplayName("변형 상품은 변형 행만 조건부 차감하고 상품 행(버전)은 건드리지 않음")
+        void updateOnlyStockRows() {
+            given(cacheManager.getCache("products")).willReturn(cache);
+
+            reserve();
+
+            assertThat(batchSql).hasSize(2);
+            assertThat(batchSql).allSatisfy(sql -> assertThat(sql).startsWith("update").doesNotContain("\"version\""));
+            assertThat(batchSql.get(0))
+                    .contains("\"product_variants\"", "\"stock_quantity\" >= 3", VARIANT_ID.toString())
+                    .doesNotContain("\"products\"");
+            assertThat(batchSql.get(1))
+                    .contains("\"products\"", "\"total_stock_quantity\" >= 5", SIMPLE_PRODUCT_ID.toString());
+        }
+
+        @Test
+        @DisplayName("재고가 바뀐 상품을 상품 캐시에서 제거")
+        void evictProducts() {
+            given(cacheManager.getCache("products")).willReturn(cache);
+
+            reserve();
+
+            verify(cache).evict(SIMPLE_PRODUCT_ID.toString());
+            verify(cache).evict(PRODUCT_ID.toString());
+        }
+
+        @Test
+        @DisplayName("변형 재고 조건이 맞지 않으면 재고 부족 예외")
+        void insufficientVariantStock() {
+            updateCounts = new int[]{0, 1};
+
+            assertThatThrownBy(() -> reserve())
+                    .isInstanceOfSatisfying(InsufficientStockException.class, e -> {
+                        assertThat(e.getProductId()).isEqualTo(PRODUCT_ID);
+                        assertThat(e.getVariantId()).isEqualTo(VARIANT_ID);
+                    });
+            verifyNoInteractions(cache);
+        }
+    }
+
+    @Nested
+    @DisplayName("재고 복원")
+    class Restock {
+
+        @Test
+        @DisplayName("복원은 조건 없이 재고 행만 증가시키고 캐시에서 제거")
+        void restockStockRows() {
+            given(cacheManager.getCache("products")).willReturn(cache);
+
+            adapter.restock(reservations());
+
+            assertThat(batchSql).hasSize(2);
+            assertThat(batchSql.get(0)).contains("\"product_variants\"").doesNotContain(">=", "\"version\"");
+            assertThat(batchSql.get(1)).contains("\"products\"").doesNotContain(">=", "\"version\"");
+            verify(cache).evict(PRODUCT_ID.toString());
+            verify(cache).evict(SIMPLE_PRODUCT_ID.toString());
+        }
+    }
+    @Nested
+    @DisplayName("관리자 재고 조정")
+    class AdjustStock {
+
+        @Test
+        @DisplayName("차감은 주문 선점과 같은 조건부 UPDATE로 변형 행만 갱신하고 캐시에서 제거")
+        void decrementVariantConditionally() {
+            given(cacheManager.getCache("products")).willReturn(cache);
+
+            boolean adjusted = adapter.adjustStock(PRODUCT_ID, VARIANT_ID, -2);
+
+            assertThat(adjusted).isTrue();
+            assertThat(statementSql).singleElement().satisfies(sql -> assertThat(sql)
+                    .startsWith("update")
+                    .contains("\"product_variants\"", "\"stock_quantity\" >= 2")
+                    .doesNotContain("\"version\""));
+            verify(cache).evict(PRODUCT_ID.toString());
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package jjh.delivery.adapter.out.persistence.jooq;
+
+import jjh.delivery.application.port.out.LoadProductPort.SearchProductQuery;
+import org.jooq.DSLContext;
+import org.jooq.SQLDialect;
+import org.jooq.impl.DSL;
+import org.jooq.tools.jdbc.MockConnection;
+import org.jooq.tools.jdbc.MockExecuteContext;
+import org.jooq.tools.jdbc.MockResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ProductFullTextSearchJooqAdapter Unit Tests (생성 SQL 검증)
+ * 전문 검색 함수가 PostgreSQL 전용이므로 실행 대신 MockConnection으로 생성된 SQL과 바인딩 값을 확인합니다.
+ */
+@DisplayName("ProductFullTextSearchJooqAdapter 테스트")
+class ProductFullTextSearchJooqAdapterTest {
+
+    private final List<MockExecuteContext> executed = new ArrayList<>();
+
+    private ProductFullTextSearchJooqAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        DSLContext results = DSL.using(SQLDialect.POSTGRES);
+        DSLContext dsl = DSL.using(new MockConnection(context -> {
+            executed.add(context);
+            return new MockResult[]{new MockResult(0, results.newResult())};
+        }), SQLDialect.POSTGRES);
+        adapter = new ProductFullTextSearchJooqAdapter(dsl, JsonMapper.builder().build());
+    }
+
+    private MockExecuteContext lastQuery() {
+        assertThat(executed).hasSize(1);
+        return executed.get(0);
+    }
+
+    @Nested
+    @DisplayName("카테고리 하위 트리 필터")
+    class CategorySubtree {
+
+        @Test
+        @DisplayName("선택한 카테고리 path를 접두어로 하는 카테고리에 속한 상품을 EXISTS 서브쿼리 하나로 조회")
+        void existsByPathPrefix() {
+            UUID categoryId = UUID.randomUUID();
+
+            adapter.search(SearchProductQuery.builder().categoryId(categoryId).size(20).build());
+
+            MockExecuteContext query = lastQuery();
+            assertThat(query.sql())
+                    .containsOnlyOnce("exists (select 1")
+                    .contains("\"c\".\"path\" like")
+                    .contains("\"selected\".\"id\" = ?");
+            assertThat(query.bindings()).contains(categoryId, "%");
+        }
+
+        @Test
+        @DisplayName("카테고리를 지정하지 않으면 서브쿼리 없음")
+        void noCategory() {
+            adapter.search(SearchProductQuery.builder().size(20).build());
+
+            assertThat(lastQuery().sql()).doesNotContain("exists (");
+        }
+    }
+}
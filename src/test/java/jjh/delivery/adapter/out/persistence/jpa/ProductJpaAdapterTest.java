@@ -0,0 +1,282 @@
+package jjh.delivery.adapter.out.persistence.jpa;
+
+import jakarta.persistence.EntityManager;
+import jjh.delivery.adapter.out.persistence.jpa.entity.CategoryJpaEntity;
+import jjh.delivery.adapter.out.persistence.jpa.mapper.ProductPersistenceMapper;
+import jjh.delivery.application.port.out.LoadProductPort.ProductSummary;
+import jjh.delivery.application.port.out.LoadProductPort.SearchProductQuery;
+import jjh.delivery.domain.product.Product;
+import jjh.delivery.domain.product.ProductStatus;
+import jjh.delivery.domain.product.ProductVariant;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.context.annotation.Import;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ProductJpaAdapter 통합 테스트 (H2, PostgreSQL 모드)
+ * 목록 조회가 상품 수와 무관한 고정 개수의 쿼리로 자식 컬렉션을 채우는지,
+ * 카테고리 필터가 materialized path로 하위 트리 상품을 찾는지 확인합니다.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:product-adapter;MODE=PostgreSQL;DB_CLOSE_DELAY=-1;INIT=CREATE DOMAIN IF NOT EXISTS JSONB AS JSON",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({ProductJpaAdapter.class, ProductPersistenceMapper.class})
+@DisplayName("ProductJpaAdapter 테스트")
+class ProductJpaAdapterTest {
+
+    private static final UUID SELLER_ID = UUID.fromString("00000000-0000-0000-0000-000000000001");
+    private static final UUID CATEGORY_A = UUID.fromString("00000000-0000-0000-0000-0000000000a1");
+    private static final UUID CATEGORY_B = UUID.fromString("00000000-0000-0000-0000-0000000000b1");
+
+    @Autowired
+    private ProductJpaAdapter productJpaAdapter;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    }
+
+    private List<UUID> saveProducts(int count) {
+        List<UUID> productIds = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Product product = Product.builder()
+                    .sellerId(SELLER_ID)
+                    .name("상품 " + i)
+                    .basePrice(new BigDecimal("10000"))
+                    .status(ProductStatus.ACTIVE)
+                    .addVariant(new ProductVariant(UUID.randomUUID(), "블랙", "SKU-" + i + "-B",
+                            Map.of("색상", "블랙"), BigDecimal.ZERO, 5, true))
+                    .addVariant(new ProductVariant(UUID.randomUUID(), "화이트", "SKU-" + i + "-W",
+                            Map.of("색상", "화이트"), new BigDecimal("1000"), 3, true))
+                    .categoryIds(List.of(CATEGORY_A, CATEGORY_B))
+                    .imageUrls(List.of(mainImage(i), "https://img.example.com/" + i + "/detail.jpg"))
+                    .build();
+            productIds.add(productJpaAdapter.save(product).getId());
+        }
+        entityManager.flush();
+        entityManager.clear();
+        return productIds;
+    }
+
+    private static String mainImage(int index) {
+        return "https://img.example.com/" + index + "/main.jpg";
+    }
+
+    private long countStatements(Runnable action) {
+        entityManager.clear();
+        statistics.clear();
+        action.run();
+        return statistics.getPrepareStatementCount();
+    }
+
+    @Nested
+    @DisplayName("목록 조회 쿼리 수")
+    class BoundedStatements {
+
+        @Test
+        @DisplayName("상품 ID 목록 조회는 상품 수와 무관하게 본 조회 1회 + 컬렉션별 1회")
+        void findAllByIdFetchesCollectionsOnce() {
+            List<UUID> productIds = saveProducts(5);
+
+            List<Product> products = new ArrayList<>();
+            long single = countStatements(() -> productJpaAdapter.findAllById(productIds.subList(0, 1)));
+            long many = countStatements(() -> products.addAll(productJpaAdapter.findAllById(productIds)));
+
+            assertThat(single).isEqualTo(4);
+            assertThat(many).isEqualTo(single);
+            assertThat(products).hasSize(5).allSatisfy(product -> {
+                assertThat(product.getVariants()).hasSize(2);
+                assertThat(product.getCategoryIds()).containsExactly(CATEGORY_A, CATEGORY_B);
+                assertThat(product.getImageUrls()).hasSize(2);
+            });
+        }
+
+        @Test
+        @DisplayName("요약 목록은 페이지 조회 1회 + 대표 이미지 조회 1회, 상품마다 첫 번째 이미지를 대표 이미지로 사용")
+        void summariesUseFirstImageAsThumbnail() {
+            List<UUID> productIds = saveProducts(3);
+            SearchProductQuery query = SearchProductQuery.builder().sellerId(SELLER_ID).size(20).build();
+
+            List<ProductSummary> summaries = new ArrayList<>();
+            long statements = countStatements(() ->
+                    summaries.addAll(productJpaAdapter.searchProductSummaries(query).content()));
+
+            assertThat(statements).isEqualTo(2);
+            Map<UUID, String> thumbnails = summaries.stream()
+                    .collect(Collectors.toMap(ProductSummary::id, ProductSummary::thumbnailUrl));
+            for (int i = 0; i < productIds.size(); i++) {
+                assertThat(thumbnails).containsEntry(productIds.get(i), mainImage(i));
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("단일 상품 재고")
+    class SingleProductStock {
+
+        private UUID saveSingleProduct(int stock) {
+            Product product = Product.builder()
+                    .sellerId(SELLER_ID)
+                    .name("단일 상품")
+                    .basePrice(new BigDecimal("10000"))
+                    .status(ProductStatus.ACTIVE)
+                    .totalStockQuantity(stock)
+                    .build();
+            UUID productId = productJpaAdapter.save(product).getId();
+            entityManager.flush();
+            entityManager.clear();
+            return productId;
+        }
+
+        private Product load(UUID productId) {
+            entityManager.clear();
+            return productJpaAdapter.findAllById(List.of(productId)).getFirst();
+        }
+
+        @Test
+        @DisplayName("변형 없는 상품의 재고는 등록 시 저장되고, 이후 상품 저장으로는 바뀌지 않음 (조건부 UPDATE로만 증감)")
+        void roundTripStock() {
+            UUID productId = saveSingleProduct(7);
+
+            Product loaded = load(productId);
+            assertThat(loaded.getTotalStockQuantity()).isEqualTo(7);
+            assertThat(loaded.isSellable()).isTrue();
+
+            loaded.increaseStock(null, 3);
+            productJpaAdapter.save(loaded);
+            entityManager.flush();
+
+            assertThat(load(productId).getTotalStockQuantity()).isEqualTo(7);
+        }
+
+        @Test
+        @DisplayName("재고를 바꾸지 않은 저장은 그 사이 DB에서 증감된 재고를 덮어쓰지 않음")
+        void keepStockChangedOutsideDomain() {
+            UUID productId = saveSingleProduct(7);
+            Product loaded = load(productId);
+
+            // 주문 예약이 DB에서 직접 차감한 상황
+            entityManager.createNativeQuery("UPDATE products SET total_stock_quantity = 5 WHERE id = :id")
+                    .setParameter("id", productId)
+                    .executeUpdate();
+            entityManager.clear();
+
+            loaded.updateInfo(loaded.getName(), loaded.getDescription(), new BigDecimal("9000"));
+            productJpaAdapter.save(loaded);
+            entityManager.flush();
+
+            Product reloaded = load(productId);
+            assertThat(reloaded.getBasePrice()).isEqualByComparingTo("9000");
+            assertThat(reloaded.getTotalStockQuantity()).isEqualTo(5);
+        }
+    }
+
+    @Nested
+    @DisplayName("카테고리 하위 트리 필터")
+    class CategorySubtree {
+
+        private final UUID fashionId = UUID.randomUUID();
+        private final UUID shoesId = UUID.randomUUID();
+        private final UUID sneakersId = UUID.randomUUID();
+        private final UUID digitalId = UUID.randomUUID();
+
+        /**
+         * 패션 > 신발 > 스니커즈, 디지털
+         */
+        @BeforeEach
+        void setUpCategories() {
+            saveCategory(fashionId, null, 1, "/" + fashionId + "/");
+            saveCategory(shoesId, fashionId, 2, "/" + fashionId + "/" + shoesId + "/");
+            saveCategory(sneakersId, shoesId, 3, "/" + fashionId + "/" + shoesId + "/" + sneakersId + "/");
+            saveCategory(digitalId, null, 1, "/" + digitalId + "/");
+        }
+
+        private void saveCategory(UUID id, UUID parentId, int depth, String path) {
+            LocalDateTime now = LocalDateTime.now();
+            entityManager.persist(CategoryJpaEntity.builder()
+                    .id(id)
+                    .parentId(parentId)
+                    .name("카테고리 " + depth)
+                    .displayOrder(1)
+                    .depth(depth)
+                    .isActive(true)
+                    .createdAt(now)
+                    .updatedAt(now)
+                    .build());
+            entityManager.flush();
+            // path는 db/category_path.sql 트리거가 관리하는 읽기 전용 컬럼이므로 직접 설정
+            entityManager.createNativeQuery("UPDATE categories SET path = :path WHERE id = :id")
+                    .setParameter("path", path)
+                    .setParameter("id", id)
+                    .executeUpdate();
+        }
+
+        private UUID saveProduct(String name, UUID categoryId) {
+            Product product = Product.builder()
+                    .sellerId(SELLER_ID)
+                    .name(name)
+                    .basePrice(new BigDecimal("10000"))
+                    .status(ProductStatus.ACTIVE)
+                    .categoryIds(List.of(categoryId))
+                    .build();
+            UUID productId = productJpaAdapter.save(product).getId();
+            entityManager.flush();
+            entityManager.clear();
+            return productId;
+        }
+
+        private List<UUID> searchIds(UUID categoryId) {
+            SearchProductQuery query = SearchProductQuery.builder().categoryId(categoryId).size(20).build();
+            return productJpaAdapter.searchProducts(query).content().stream().map(Product::getId).toList();
+        }
+
+        @Test
+        @DisplayName("선택한 카테고리와 그 하위 카테고리에 속한 상품만 조회")
+        void filterBySubtree() {
+            UUID sneakers = saveProduct("러닝화", sneakersId);
+            UUID shoes = saveProduct("구두", shoesId);
+            UUID laptop = saveProduct("노트북", digitalId);
+
+            assertThat(searchIds(fashionId)).containsExactlyInAnyOrder(sneakers, shoes);
+            assertThat(searchIds(shoesId)).containsExactlyInAnyOrder(sneakers, shoes);
+            assertThat(searchIds(sneakersId)).containsExactly(sneakers);
+            assertThat(searchIds(digitalId)).containsExactly(laptop);
+        }
+
+        @Test
+        @DisplayName("이동된 카테고리 목록에 속한 상품 ID (재인덱싱 대상)")
+        void findIdsByCategoryIds() {
+            UUID sneakers = saveProduct("러닝화", sneakersId);
+            UUID shoes = saveProduct("구두", shoesId);
+            saveProduct("노트북", digitalId);
+
+            assertThat(productJpaAdapter.findIdsByCategoryIds(Set.of(shoesId, sneakersId)))
+                    .containsExactlyInAnyOrder(sneakers, shoes);
+        }
+    }
+}
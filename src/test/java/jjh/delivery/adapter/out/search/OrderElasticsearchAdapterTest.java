@@ -0,0 +1,194 @@
+package jjh.delivery.adapter.out.search;
+
+import jjh.delivery.adapter.in.web.dto.CursorPageResponse;
+import jjh.delivery.adapter.out.search.OrderElasticsearchAdapter.PitCursor;
+import jjh.delivery.adapter.out.search.document.OrderDocument;
+import jjh.delivery.application.port.in.SearchOrderUseCase.SearchOrderQuery;
+import jjh.delivery.application.port.out.OrderQueryPort.OrderSummary;
+import jjh.delivery.domain.order.Order;
+import jjh.delivery.domain.order.OrderItem;
+import jjh.delivery.domain.order.ShippingAddress;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.elasticsearch.UncategorizedElasticsearchException;
+import org.springframework.data.elasticsearch.client.elc.NativeQuery;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.elasticsearch.core.SearchHits;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.test.util.ReflectionTestUtils;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * OrderElasticsearchAdapter Unit Tests (point-in-time 기반 관리자 주문 탐색)
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OrderElasticsearchAdapter 테스트")
+class OrderElasticsearchAdapterTest {
+
+    private static final UUID CUSTOMER_ID = UUID.fromString("00000000-0000-0000-0000-000000000001");
+    private static final UUID SELLER_ID = UUID.fromString("00000000-0000-0000-0000-000000000002");
+    private static final UUID PRODUCT_ID = UUID.fromString("00000000-0000-0000-0000-000000000003");
+
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+
+    @Mock
+    private ElasticsearchOperations elasticsearchOperations;
+
+    @Mock
+    private SearchHits<OrderDocument> searchHits;
+
+    private OrderElasticsearchAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        adapter = new OrderElasticsearchAdapter(elasticsearchOperations, jsonMapper);
+        ReflectionTestUtils.setField(adapter, "pitKeepAlive", Duration.ofMinutes(2));
+    }
+
+    private SearchOrderQuery query(String cursor, int size) {
+        return new SearchOrderQuery(null, null, null, null, null, null, cursor, size);
+    }
+
+    @SuppressWarnings("unchecked")
+    private SearchHit<OrderDocument> hit(List<Object> sortValues) {
+        Order order = Order.builder()
+                .customerId(CUSTOMER_ID)
+                .sellerId(SELLER_ID)
+                .shippingAddress(ShippingAddress.of(
+                        "홍길동", "010-1234-5678", "12345",
+                        "서울시 강남구", "상세주소", null
+                ))
+                .addItem(OrderItem.of(PRODUCT_ID, "양말", 1, new BigDecimal("3000")))
+                .build();
+        SearchHit<OrderDocument> hit = mock(SearchHit.class);
+        given(hit.getContent()).willReturn(OrderDocument.from(order));
+        if (sortValues != null) {
+            given(hit.getSortValues()).willReturn(sortValues);
+        }
+        return hit;
+    }
+
+    private void givenHits(int count, List<Object> lastPageSortValues, String responsePitId) {
+        List<SearchHit<OrderDocument>> hits = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            hits.add(hit(i == count - 2 ? lastPageSortValues : null));
+        }
+        given(searchHits.getSearchHits()).willReturn(hits);
+        given(searchHits.getPointInTimeId()).willReturn(responsePitId);
+        given(elasticsearchOperations.search(any(NativeQuery.class), eq(OrderDocument.class))).willReturn(searchHits);
+    }
+
+    @Nested
+    @DisplayName("PIT 커서")
+    class Cursor {
+
+        @Test
+        @DisplayName("인코딩/디코딩 시 PIT id와 sort 값(숫자/문자열)을 그대로 보존")
+        void roundTrip() {
+            PitCursor cursor = new PitCursor("pit-1", List.of(1735689600123L, "ORD-0001", 7));
+
+            PitCursor decoded = PitCursor.decode(cursor.encode(jsonMapper), jsonMapper);
+
+            assertThat(decoded).isEqualTo(cursor);
+        }
+
+        @Test
+        @DisplayName("잘못된 커서는 IllegalArgumentException")
+        void invalidCursor() {
+            assertThatThrownBy(() -> PitCursor.decode("not-a-cursor", jsonMapper))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        @DisplayName("빈 커서는 첫 페이지")
+        void emptyCursor() {
+            assertThat(PitCursor.decode(null, jsonMapper)).isNull();
+            assertThat(PitCursor.decode(" ", jsonMapper)).isNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("탐색")
+    class Browse {
+
+        @Test
+        @DisplayName("첫 페이지는 PIT을 열고, 다음 페이지가 있으면 응답의 PIT id와 마지막 sort 값으로 커서 생성")
+        void firstPageOpensPit() {
+            given(elasticsearchOperations.getIndexCoordinatesFor(OrderDocument.class))
+                    .willReturn(IndexCoordinates.of("orders"));
+            given(elasticsearchOperations.openPointInTime(any(IndexCoordinates.class), any(Duration.class)))
+                    .willReturn("pit-1");
+            givenHits(3, List.of(1735689600123L, "ORD-0002", 11), "pit-2");
+
+            CursorPageResponse<OrderSummary> page = adapter.browse(query(null, 2));
+
+            assertThat(page.content()).hasSize(2);
+            assertThat(page.hasNext()).isTrue();
+            assertThat(PitCursor.decode(page.nextCursor(), jsonMapper))
+                    .isEqualTo(new PitCursor("pit-2", List.of(1735689600123L, "ORD-0002", 11)));
+            verify(elasticsearchOperations, never()).closePointInTime(anyString());
+        }
+
+        @Test
+        @DisplayName("다음 페이지는 커서의 PIT과 search_after로 조회")
+        void nextPageUsesCursor() {
+            PitCursor cursor = new PitCursor("pit-1", List.of(1735689600123L, "ORD-0002", 11));
+            givenHits(3, List.of(1735689600000L, "ORD-0004", 13), null);
+
+            adapter.browse(query(cursor.encode(jsonMapper), 2));
+
+            ArgumentCaptor<NativeQuery> captor = ArgumentCaptor.forClass(NativeQuery.class);
+            verify(elasticsearchOperations).search(captor.capture(), eq(OrderDocument.class));
+            assertThat(captor.getValue().getPointInTime().id()).isEqualTo("pit-1");
+            assertThat(captor.getValue().getSearchAfter()).isEqualTo(cursor.searchAfter());
+            verify(elasticsearchOperations, never()).openPointInTime(any(IndexCoordinates.class), any(Duration.class));
+        }
+
+        @Test
+        @DisplayName("마지막 페이지에서 PIT을 닫고 커서를 반환하지 않음")
+        void lastPageClosesPit() {
+            PitCursor cursor = new PitCursor("pit-1", List.of(1735689600123L, "ORD-0002", 11));
+            givenHits(1, null, "pit-3");
+
+            CursorPageResponse<OrderSummary> page = adapter.browse(query(cursor.encode(jsonMapper), 2));
+
+            assertThat(page.hasNext()).isFalse();
+            assertThat(page.nextCursor()).isNull();
+            verify(elasticsearchOperations).closePointInTime("pit-3");
+        }
+
+        @Test
+        @DisplayName("만료된 PIT 커서는 IllegalArgumentException")
+        void expiredPit() {
+            PitCursor cursor = new PitCursor("pit-1", List.of(1735689600123L, "ORD-0002", 11));
+            given(elasticsearchOperations.search(any(NativeQuery.class), eq(OrderDocument.class)))
+                    .willThrow(new UncategorizedElasticsearchException("not found", 404, null, null));
+
+            assertThatThrownBy(() -> adapter.browse(query(cursor.encode(jsonMapper), 2)))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+}
@@ -0,0 +1,257 @@
+package jjh.delivery.adapter.out.search;
+
+import jjh.delivery.adapter.out.search.document.OrderDocument;
+import jjh.delivery.adapter.out.search.repository.OrderElasticsearchRepository;
+import jjh.delivery.application.port.out.LoadOrderPort;
+import jjh.delivery.application.port.out.OrderIndexPendingPort;
+import jjh.delivery.application.port.out.OrderIndexRetryPort;
+import jjh.delivery.domain.order.Order;
+import jjh.delivery.domain.order.OrderItem;
+import jjh.delivery.domain.order.ShippingAddress;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.elasticsearch.BulkFailureException;
+import org.springframework.data.elasticsearch.BulkFailureException.FailureDetails;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.query.IndexQuery;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * OrderIndexingPipeline Unit Tests
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OrderIndexingPipeline 테스트")
+class OrderIndexingPipelineTest {
+
+    private static final UUID CUSTOMER_ID = UUID.fromString("00000000-0000-0000-0000-000000000001");
+    private static final UUID SELLER_ID = UUID.fromString("00000000-0000-0000-0000-000000000002");
+    private static final UUID PRODUCT_ID = UUID.fromString("00000000-0000-0000-0000-000000000003");
+
+    @Mock
+    private ElasticsearchOperations elasticsearchOperations;
+
+    @Mock
+    private OrderElasticsearchRepository repository;
+
+    @Mock
+    private LoadOrderPort loadOrderPort;
+
+    @Mock
+    private OrderIndexRetryPort orderIndexRetryPort;
+
+    @Mock
+    private OrderIndexPendingPort orderIndexPendingPort;
+
+    @InjectMocks
+    private OrderIndexingPipeline pipeline;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(pipeline, "batchSize", 500);
+        ReflectionTestUtils.setField(pipeline, "retryBatchSize", 200);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private Order createOrder() {
+        return Order.builder()
+                .customerId(CUSTOMER_ID)
+                .sellerId(SELLER_ID)
+                .shippingAddress(ShippingAddress.of(
+                        "홍길동", "010-1234-5678", "12345",
+                        "서울시 강남구", "상세주소", null
+                ))
+                .addItem(OrderItem.of(PRODUCT_ID, "양말", 1, new BigDecimal("3000")))
+                .build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<IndexQuery> indexedQueries() {
+        ArgumentCaptor<List<IndexQuery>> captor = ArgumentCaptor.forClass(List.class);
+        verify(elasticsearchOperations).bulkIndex(captor.capture(), eq(OrderDocument.class));
+        return captor.getValue();
+    }
+
+    @Nested
+    @DisplayName("인덱싱 요청")
+    class RequestIndexing {
+
+        @Test
+        @DisplayName("같은 주문의 반복 요청은 하나로 합쳐 한 번의 bulk로 인덱싱")
+        void coalesceRequests() {
+            Order order = createOrder();
+            given(loadOrderPort.findAllById(List.of(order.getId()))).willReturn(List.of(order));
+
+            pipeline.requestIndexing(List.of(order.getId()));
+            pipeline.requestIndexing(List.of(order.getId()));
+            pipeline.flush();
+
+            assertThat(indexedQueries()).extracting(IndexQuery::getId).containsExactly(order.getId().toString());
+            // 트랜잭션 밖의 요청(재인덱싱/재시도 경로)은 대기 기록을 남기지 않음
+            verifyNoInteractions(orderIndexPendingPort);
+        }
+
+        @Test
+        @DisplayName("트랜잭션 안의 요청은 커밋 이후에 대기 집합에 등록")
+        void enqueueAfterCommit() {
+            Order order = createOrder();
+            given(loadOrderPort.findAllById(List.of(order.getId()))).willReturn(List.of(order));
+            TransactionSynchronizationManager.initSynchronization();
+
+            pipeline.requestIndexing(List.of(order.getId()));
+            pipeline.flush();
+            verify(elasticsearchOperations, never()).bulkIndex(anyList(), eq(OrderDocument.class));
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            pipeline.flush();
+
+            assertThat(indexedQueries()).hasSize(1);
+        }
+
+        @Test
+        @DisplayName("트랜잭션 안의 요청은 커밋 전에 대기 기록을 남기고, 인덱싱 성공 후 같은 기록 시각으로 제거")
+        void registerPendingInTransaction() {
+            Order order = createOrder();
+            given(loadOrderPort.findAllById(List.of(order.getId()))).willReturn(List.of(order));
+            TransactionSynchronizationManager.initSynchronization();
+
+            pipeline.requestIndexing(List.of(order.getId()));
+
+            ArgumentCaptor<LocalDateTime> registeredAt = ArgumentCaptor.forClass(LocalDateTime.class);
+            verify(orderIndexPendingPort).registerPending(eq(List.of(order.getId())), registeredAt.capture());
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            pipeline.flush();
+
+            verify(orderIndexPendingPort).removeIndexed(Map.of(order.getId(), registeredAt.getValue()));
+        }
+
+        @Test
+        @DisplayName("인덱싱에 실패한 주문의 대기 기록은 제거하지 않음 (재시도 큐로 이어짐)")
+        void keepPendingOnFailure() {
+            UUID orderId = UUID.randomUUID();
+            given(loadOrderPort.findAllById(any())).willThrow(new IllegalStateException("db down"));
+            TransactionSynchronizationManager.initSynchronization();
+
+            pipeline.requestIndexing(List.of(orderId));
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            pipeline.flush();
+
+            verify(orderIndexRetryPort).scheduleRetries(Map.of(orderId, "db down"));
+            verify(orderIndexPendingPort, never()).removeIndexed(anyMap());
+        }
+
+        @Test
+        @DisplayName("DB에 없는 주문은 인덱스에서 삭제")
+        void deleteMissingOrders() {
+            UUID deletedId = UUID.randomUUID();
+            given(loadOrderPort.findAllById(List.of(deletedId))).willReturn(List.of());
+
+            pipeline.requestIndexing(List.of(deletedId));
+            pipeline.flush();
+
+            verify(repository).deleteAllById(List.of(deletedId.toString()));
+            verify(elasticsearchOperations, never()).bulkIndex(anyList(), eq(OrderDocument.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("실패 처리")
+    class Failures {
+
+        @Test
+        @DisplayName("bulk 응답에서 실패한 문서만 재시도 큐에 등록")
+        void scheduleOnlyFailedDocuments() {
+            Order indexed = createOrder();
+            Order failed = createOrder();
+            given(loadOrderPort.findAllById(any())).willReturn(List.of(indexed, failed));
+            willThrow(new BulkFailureException("bulk failed",
+                    Map.of(failed.getId().toString(), new FailureDetails(429, "rejected"))))
+                    .given(elasticsearchOperations).bulkIndex(anyList(), eq(OrderDocument.class));
+
+            pipeline.requestIndexing(List.of(indexed.getId(), failed.getId()));
+            pipeline.flush();
+
+            @SuppressWarnings("unchecked")
+            ArgumentCaptor<Map<UUID, String>> captor = ArgumentCaptor.forClass(Map.class);
+            verify(orderIndexRetryPort).scheduleRetries(captor.capture());
+            assertThat(captor.getValue()).containsOnlyKeys(failed.getId());
+        }
+
+        @Test
+        @DisplayName("조회 실패 시 배치 전체를 재시도 큐에 등록")
+        void scheduleWholeBatchOnError() {
+            UUID orderId = UUID.randomUUID();
+            given(loadOrderPort.findAllById(any())).willThrow(new IllegalStateException("db down"));
+
+            pipeline.requestIndexing(List.of(orderId));
+            pipeline.flush();
+
+            verify(orderIndexRetryPort).scheduleRetries(Map.of(orderId, "db down"));
+        }
+
+        @Test
+        @DisplayName("재시도 성공 주문은 큐에서 제거하고 실패 주문은 다시 연기")
+        void retryDue() {
+            Order indexed = createOrder();
+            Order failed = createOrder();
+            given(orderIndexRetryPort.findDueRetries(200)).willReturn(List.of(indexed.getId(), failed.getId()));
+            given(loadOrderPort.findAllById(List.of(indexed.getId(), failed.getId())))
+                    .willReturn(List.of(indexed, failed));
+            willThrow(new BulkFailureException("bulk failed",
+                    Map.of(failed.getId().toString(), new FailureDetails(429, "rejected"))))
+                    .given(elasticsearchOperations).bulkIndex(anyList(), eq(OrderDocument.class));
+
+            pipeline.retryFailed();
+
+            verify(orderIndexRetryPort).removeRetries(List.of(indexed.getId()));
+            @SuppressWarnings("unchecked")
+            ArgumentCaptor<Map<UUID, String>> captor = ArgumentCaptor.forClass(Map.class);
+            verify(orderIndexRetryPort).scheduleRetries(captor.capture());
+            assertThat(captor.getValue()).containsOnlyKeys(failed.getId());
+        }
+
+        @Test
+        @DisplayName("재시도 대상이 없으면 인덱싱하지 않음")
+        void noDueRetries() {
+            given(orderIndexRetryPort.findDueRetries(200)).willReturn(List.of());
+
+            pipeline.retryFailed();
+
+            verify(loadOrderPort, never()).findAllById(any());
+            verify(orderIndexRetryPort, never()).scheduleRetries(anyMap());
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package jjh.delivery.adapter.out.search;
+
+import jjh.delivery.application.port.in.AutocompleteProductUseCase.ProductSuggestion;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ProductSuggestionIndex Unit Tests (front coding 블록 경계 탐색)
+ */
+@DisplayName("ProductSuggestionIndex 테스트")
+class ProductSuggestionIndexTest {
+
+    /**
+     * "item 000" ~ "item 039" (인기도 = 번호) → 키 80개, 여러 블록에 걸친 공통 접두어
+     */
+    private ProductSuggestionIndex buildIndex() {
+        ProductSuggestionIndex.Builder builder = ProductSuggestionIndex.builder(30, 3);
+        for (int i = 0; i < 40; i++) {
+            builder.add(productId(i), name(i), i);
+        }
+        return builder.build();
+    }
+
+    private static UUID productId(int number) {
+        return new UUID(0L, number + 1L);
+    }
+
+    private static String name(int number) {
+        return "item %03d".formatted(number);
+    }
+
+    private static List<String> names(List<ProductSuggestion> suggestions) {
+        return suggestions.stream().map(ProductSuggestion::name).toList();
+    }
+
+    @Nested
+    @DisplayName("접두어 조회")
+    class Suggest {
+
+        @Test
+        @DisplayName("블록 경계에 걸친 접두어 구간을 빠짐없이 찾음")
+        void rangeAcrossBlocks() {
+            ProductSuggestionIndex index = buildIndex();
+
+            assertThat(index.keyCount()).isEqualTo(80);
+            assertThat(names(index.suggest("item 01", 20))).containsExactly(
+                    "item 019", "item 018", "item 017", "item 016", "item 015",
+                    "item 014", "item 013", "item 012", "item 011", "item 010");
+            assertThat(names(index.suggest("item 00", 20))).hasSize(10).startsWith("item 009").endsWith("item 000");
+        }
+
+        @Test
+        @DisplayName("단어 접미어 키는 블록 중간에서 시작해도 일치")
+        void wordKeyInsideBlock() {
+            ProductSuggestionIndex index = buildIndex();
+
+            assertThat(names(index.suggest("027", 10))).containsExactly("item 027");
+            assertThat(names(index.suggest("03", 3))).containsExactly("item 039", "item 038", "item 037");
+        }
+
+        @Test
+        @DisplayName("모든 키보다 앞서거나 뒤에 있는 접두어는 빈 목록")
+        void outOfRange() {
+            ProductSuggestionIndex index = buildIndex();
+
+            assertThat(index.suggest("a", 10)).isEmpty();
+            assertThat(index.suggest("item 04", 10)).isEmpty();
+            assertThat(index.suggest("z", 10)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("빈 인덱스는 빈 목록")
+        void emptyIndex() {
+            ProductSuggestionIndex index = ProductSuggestionIndex.builder(30, 3).build();
+
+            assertThat(index.suggest("item", 10)).isEmpty();
+        }
+    }
+}
@@ -0,0 +1,285 @@
+package jjh.delivery.application.service;
+
+import jjh.delivery.application.port.in.FindBestCouponsUseCase.ApplicableCoupon;
+import jjh.delivery.application.port.in.GetCategoryTreeUseCase;
+import jjh.delivery.application.port.in.GetCategoryTreeUseCase.CategoryNode;
+import jjh.delivery.application.port.out.CouponRedemptionPort;
+import jjh.delivery.application.port.out.LoadCartPort;
+import jjh.delivery.application.port.out.LoadCatalogVersionPort;
+import jjh.delivery.application.port.out.LoadCouponPort;
+import jjh.delivery.application.port.out.LoadProductPort;
+import jjh.delivery.domain.cart.Cart;
+import jjh.delivery.domain.product.Product;
+import jjh.delivery.domain.promotion.Coupon;
+import jjh.delivery.domain.promotion.CouponScope;
+import jjh.delivery.domain.promotion.DiscountType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * BestCouponService Unit Tests
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BestCouponService 테스트")
+class BestCouponServiceTest {
+
+    private static final UUID CUSTOMER_ID = UUID.fromString("00000000-0000-0000-0000-000000000001");
+    private static final UUID SELLER_ID = UUID.fromString("00000000-0000-0000-0000-000000000002");
+    private static final UUID OTHER_SELLER_ID = UUID.fromString("00000000-0000-0000-0000-000000000003");
+    private static final UUID SHOES_PRODUCT_ID = UUID.fromString("00000000-0000-0000-0000-000000000004");
+    private static final UUID SOCKS_PRODUCT_ID = UUID.fromString("00000000-0000-0000-0000-000000000005");
+    private static final UUID FASHION_ID = UUID.fromString("00000000-0000-0000-0000-000000000006");
+    private static final UUID SHOES_ID = UUID.fromString("00000000-0000-0000-0000-000000000007");
+
+    @Mock
+    private LoadCouponPort loadCouponPort;
+
+    @Mock
+    private LoadCatalogVersionPort loadCatalogVersionPort;
+
+    @Mock
+    private LoadCartPort loadCartPort;
+
+    @Mock
+    private LoadProductPort loadProductPort;
+
+    @Mock
+    private GetCategoryTreeUseCase getCategoryTreeUseCase;
+
+    @Mock
+    private CouponRedemptionPort couponRedemptionPort;
+
+    @InjectMocks
+    private BestCouponService bestCouponService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(bestCouponService, "maxAgeMillis", 60_000L);
+        ReflectionTestUtils.setField(bestCouponService, "maxSize", 20);
+    }
+
+    /**
+     * 신발 20,000원(10,000 x 2, SELLER_ID) + 양말 5,000원(OTHER_SELLER_ID)
+     */
+    private void givenCart() {
+        Cart cart = Cart.createEmpty(CUSTOMER_ID);
+        cart.addItem(SHOES_PRODUCT_ID, "운동화", null, null, SELLER_ID, 2, new BigDecimal("10000"), null);
+        cart.addItem(SOCKS_PRODUCT_ID, "양말", null, null, OTHER_SELLER_ID, 1, new BigDecimal("5000"), null);
+        given(loadCartPort.findByCustomerId(CUSTOMER_ID)).willReturn(Optional.of(cart));
+    }
+
+    private void givenCoupons(Coupon... coupons) {
+        given(loadCatalogVersionPort.loadCouponVersion()).willReturn(1L);
+        given(loadCouponPort.findUsableCoupons()).willReturn(List.of(coupons));
+    }
+
+    private Coupon coupon(String code, DiscountType discountType, String discountValue,
+                          CouponScope scope, UUID scopeTargetId) {
+        return couponBuilder(code, discountType, discountValue, scope, scopeTargetId).build();
+    }
+
+    private Coupon.Builder couponBuilder(String code, DiscountType discountType, String discountValue,
+                                         CouponScope scope, UUID scopeTargetId) {
+        return Coupon.builder()
+                .id(UUID.randomUUID())
+                .code(code)
+                .name(code)
+                .discountType(discountType)
+                .discountValue(new BigDecimal(discountValue))
+                .minimumOrderAmount(BigDecimal.ZERO)
+                .scope(scope)
+                .scopeTargetId(scopeTargetId)
+                .validFrom(LocalDateTime.now().minusDays(1))
+                .validUntil(LocalDateTime.now().plusDays(30))
+                .isActive(true);
+    }
+
+    private List<String> codes(List<ApplicableCoupon> coupons) {
+        return coupons.stream().map(ApplicableCoupon::code).toList();
+    }
+
+    @Nested
+    @DisplayName("적용 범위")
+    class Scope {
+
+        @Test
+        @DisplayName("쿠폰별로 적용 범위에 해당하는 상품 금액만 합산해 할인 금액 계산")
+        void eligibleAmountPerScope() {
+            givenCart();
+            givenCoupons(
+                    coupon("SELLER10", DiscountType.PERCENTAGE, "10", CouponScope.SELLER, SELLER_ID),
+                    coupon("SOCKS1000", DiscountType.FIXED_AMOUNT, "1000", CouponScope.PRODUCT, SOCKS_PRODUCT_ID),
+                    coupon("OTHER", DiscountType.FIXED_AMOUNT, "3000", CouponScope.PRODUCT, UUID.randomUUID()));
+
+            List<ApplicableCoupon> result = bestCouponService.findBestCoupons(CUSTOMER_ID, 5);
+
+            assertThat(codes(result)).containsExactly("SELLER10", "SOCKS1000");
+            assertThat(result.get(0).eligibleAmount()).isEqualByComparingTo("20000");
+            assertThat(result.get(0).discountAmount()).isEqualByComparingTo("2000");
+            assertThat(result.get(1).eligibleAmount()).isEqualByComparingTo("5000");
+            verify(loadProductPort, never()).findAllById(anyCollection());
+        }
+
+        @Test
+        @DisplayName("상위 카테고리 쿠폰은 하위 카테고리 상품에도 적용")
+        void categoryIncludesSubcategories() {
+            givenCart();
+            givenCoupons(coupon("FASHION", DiscountType.FIXED_AMOUNT, "2000", CouponScope.CATEGORY, FASHION_ID));
+            Product shoes = Product.builder()
+                    .id(SHOES_PRODUCT_ID)
+                    .sellerId(SELLER_ID)
+                    .name("운동화")
+                    .basePrice(new BigDecimal("10000"))
+                    .categoryIds(List.of(SHOES_ID))
+                    .build();
+            given(loadProductPort.findAllById(anyCollection())).willReturn(List.of(shoes));
+            given(getCategoryTreeUseCase.getCategory(SHOES_ID)).willReturn(Optional.of(
+                    new CategoryNode(SHOES_ID, FASHION_ID, "신발", null, null, 1, 2, "", List.of())));
+            given(getCategoryTreeUseCase.getCategory(FASHION_ID)).willReturn(Optional.of(
+                    new CategoryNode(FASHION_ID, null, "패션", null, null, 1, 1, "", List.of())));
+
+            List<ApplicableCoupon> result = bestCouponService.findBestCoupons(CUSTOMER_ID, 5);
+
+            assertThat(codes(result)).containsExactly("FASHION");
+            assertThat(result.get(0).eligibleAmount()).isEqualByComparingTo("20000");
+        }
+
+        @Test
+        @DisplayName("최소 주문 금액은 적용 범위 금액 기준으로 판단")
+        void minimumOrderAmountOnEligibleAmount() {
+            givenCart();
+            givenCoupons(
+                    couponBuilder("SOCKS", DiscountType.FIXED_AMOUNT, "1000", CouponScope.PRODUCT, SOCKS_PRODUCT_ID)
+                            .minimumOrderAmount(new BigDecimal("10000"))
+                            .build(),
+                    couponBuilder("ALL", DiscountType.FIXED_AMOUNT, "1000", CouponScope.ALL_PRODUCTS, null)
+                            .minimumOrderAmount(new BigDecimal("25000"))
+                            .build());
+
+            assertThat(codes(bestCouponService.findBestCoupons(CUSTOMER_ID, 5))).containsExactly("ALL");
+        }
+    }
+
+    @Nested
+    @DisplayName("할인 금액")
+    class Discount {
+
+        @Test
+        @DisplayName("최대 할인 금액과 적용 범위 금액을 넘지 않음")
+        void capped() {
+            givenCart();
+            givenCoupons(
+                    couponBuilder("HALF", DiscountType.PERCENTAGE, "50", CouponScope.ALL_PRODUCTS, null)
+                            .maximumDiscountAmount(new BigDecimal("3000"))
+                            .build(),
+                    coupon("SOCKS8000", DiscountType.FIXED_AMOUNT, "8000", CouponScope.PRODUCT, SOCKS_PRODUCT_ID));
+
+            List<ApplicableCoupon> result = bestCouponService.findBestCoupons(CUSTOMER_ID, 5);
+
+            assertThat(codes(result)).containsExactly("SOCKS8000", "HALF");
+            assertThat(result.get(0).discountAmount()).isEqualByComparingTo("5000");
+            assertThat(result.get(1).discountAmount()).isEqualByComparingTo("3000");
+        }
+
+        @Test
+        @DisplayName("할인 금액이 같으면 만료가 빠른 쿠폰 먼저, limit만큼 반환")
+        void sortAndLimit() {
+            givenCart();
+            LocalDateTime now = LocalDateTime.now();
+            givenCoupons(
+                    couponBuilder("LATE", DiscountType.FIXED_AMOUNT, "1000", CouponScope.ALL_PRODUCTS, null)
+                            .validUntil(now.plusDays(10))
+                            .build(),
+                    couponBuilder("SOON", DiscountType.FIXED_AMOUNT, "1000", CouponScope.ALL_PRODUCTS, null)
+                            .validUntil(now.plusDays(1))
+                            .build(),
+                    coupon("SMALL", DiscountType.FIXED_AMOUNT, "500", CouponScope.ALL_PRODUCTS, null));
+
+            assertThat(codes(bestCouponService.findBestCoupons(CUSTOMER_ID, 2))).containsExactly("SOON", "LATE");
+        }
+
+        @Test
+        @DisplayName("이미 사용한 쿠폰은 제외")
+        void excludeRedeemed() {
+            givenCart();
+            Coupon redeemed = coupon("USED", DiscountType.FIXED_AMOUNT, "3000", CouponScope.ALL_PRODUCTS, null);
+            givenCoupons(redeemed, coupon("NEW", DiscountType.FIXED_AMOUNT, "1000", CouponScope.ALL_PRODUCTS, null));
+            given(couponRedemptionPort.findRedeemedCouponIds(CUSTOMER_ID)).willReturn(Set.of(redeemed.getId()));
+
+            assertThat(codes(bestCouponService.findBestCoupons(CUSTOMER_ID, 5))).containsExactly("NEW");
+        }
+
+        @Test
+        @DisplayName("장바구니가 비어 있으면 인덱스를 읽지 않음")
+        void emptyCart() {
+            given(loadCartPort.findByCustomerId(CUSTOMER_ID)).willReturn(Optional.of(Cart.createEmpty(CUSTOMER_ID)));
+
+            assertThat(bestCouponService.findBestCoupons(CUSTOMER_ID, 5)).isEmpty();
+            verify(loadCouponPort, never()).findUsableCoupons();
+        }
+    }
+
+    @Nested
+    @DisplayName("인덱스 갱신")
+    class Refresh {
+
+        @Test
+        @DisplayName("버전이 같으면 재적재하지 않고, 바뀌면 재적재")
+        void reloadOnlyOnVersionChange() {
+            given(loadCatalogVersionPort.loadCouponVersion()).willReturn(1L, 1L, 2L);
+            given(loadCouponPort.findUsableCoupons()).willReturn(List.of());
+
+            bestCouponService.refreshIfChanged();
+            bestCouponService.refreshIfChanged();
+            verify(loadCouponPort, times(1)).findUsableCoupons();
+
+            bestCouponService.refreshIfChanged();
+            verify(loadCouponPort, times(2)).findUsableCoupons();
+        }
+
+        @Test
+        @DisplayName("max-age가 지나면 버전이 같아도 재적재")
+        void reloadAfterMaxAge() {
+            ReflectionTestUtils.setField(bestCouponService, "maxAgeMillis", -1L);
+            given(loadCatalogVersionPort.loadCouponVersion()).willReturn(1L);
+            given(loadCouponPort.findUsableCoupons()).willReturn(List.of());
+
+            bestCouponService.refreshIfChanged();
+            bestCouponService.refreshIfChanged();
+
+            verify(loadCouponPort, times(2)).findUsableCoupons();
+        }
+
+        @Test
+        @DisplayName("적재 실패는 예외를 전파하지 않음")
+        void refreshFailureIsSwallowed() {
+            given(loadCatalogVersionPort.loadCouponVersion()).willReturn(1L);
+            given(loadCouponPort.findUsableCoupons()).willThrow(new IllegalStateException("db down"));
+
+            bestCouponService.refreshIfChanged();
+
+            verify(loadCouponPort).findUsableCoupons();
+        }
+    }
+}
@@ -0,0 +1,266 @@
+package jjh.delivery.application.service;
+
+import jjh.delivery.application.port.in.GetCategoryTreeUseCase.CategoryNode;
+import jjh.delivery.application.port.out.CategoryIndexPathPort;
+import jjh.delivery.application.port.out.LoadCatalogVersionPort;
+import jjh.delivery.application.port.out.LoadCategoryPort;
+import jjh.delivery.application.port.out.LoadProductPort;
+import jjh.delivery.application.port.out.ProductIndexingPort;
+import jjh.delivery.domain.category.Category;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * CategoryTreeService Unit Tests
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CategoryTreeService 테스트")
+class CategoryTreeServiceTest {
+
+    private static final UUID FASHION_ID = UUID.fromString("00000000-0000-0000-0000-000000000001");
+    private static final UUID DIGITAL_ID = UUID.fromString("00000000-0000-0000-0000-000000000002");
+    private static final UUID SHOES_ID = UUID.fromString("00000000-0000-0000-0000-000000000003");
+    private static final UUID BAGS_ID = UUID.fromString("00000000-0000-0000-0000-000000000004");
+    private static final UUID SNEAKERS_ID = UUID.fromString("00000000-0000-0000-0000-000000000005");
+
+    @Mock
+    private LoadCategoryPort loadCategoryPort;
+
+    @Mock
+    private LoadCatalogVersionPort loadCatalogVersionPort;
+
+    @Mock
+    private LoadProductPort loadProductPort;
+
+    @Mock
+    private ProductIndexingPort productIndexingPort;
+
+    @Mock
+    private CategoryIndexPathPort categoryIndexPathPort;
+
+    @InjectMocks
+    private CategoryTreeService categoryTreeService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(categoryTreeService, "maxAgeMillis", 60_000L);
+    }
+
+    private Category category(UUID id, UUID parentId, String name, int displayOrder) {
+        return Category.builder()
+                .id(id)
+                .parentId(parentId)
+                .name(name)
+                .displayOrder(displayOrder)
+                .build();
+    }
+
+    private List<Category> categories() {
+        return List.of(
+                category(DIGITAL_ID, null, "디지털", 2),
+                category(FASHION_ID, null, "패션", 1),
+                category(BAGS_ID, FASHION_ID, "가방", 2),
+                category(SHOES_ID, FASHION_ID, "신발", 1),
+                category(SNEAKERS_ID, SHOES_ID, "스니커즈", 1)
+        );
+    }
+
+    private Category category(UUID id, UUID parentId, String name, String path) {
+        return Category.builder()
+                .id(id)
+                .parentId(parentId)
+                .name(name)
+                .displayOrder(1)
+                .path(path)
+                .build();
+    }
+
+    private static String path(UUID... ids) {
+        StringBuilder path = new StringBuilder("/");
+        for (UUID id : ids) {
+            path.append(id).append('/');
+        }
+        return path.toString();
+    }
+
+    private List<UUID> ids(List<CategoryNode> nodes) {
+        return nodes.stream().map(CategoryNode::id).toList();
+    }
+
+    @Nested
+    @DisplayName("트리 조회")
+    class GetTree {
+
+        @Test
+        @DisplayName("displayOrder 순으로 트리를 만들고 ID/부모/깊이로 조회")
+        void lookups() {
+            given(loadCatalogVersionPort.loadCategoryVersion()).willReturn(1L);
+            given(loadCategoryPort.findAllActive()).willReturn(categories());
+
+            assertThat(ids(categoryTreeService.getTree())).containsExactly(FASHION_ID, DIGITAL_ID);
+            assertThat(ids(categoryTreeService.getChildren(FASHION_ID))).containsExactly(SHOES_ID, BAGS_ID);
+            assertThat(ids(categoryTreeService.getByDepth(2))).containsExactly(SHOES_ID, BAGS_ID);
+            assertThat(categoryTreeService.getCategory(SNEAKERS_ID))
+                    .hasValueSatisfying(node -> assertThat(node.depth()).isEqualTo(3));
+        }
+
+        @Test
+        @DisplayName("부모가 비활성(목록에 없음)인 카테고리는 하위 트리째 제외")
+        void excludeOrphanSubtree() {
+            given(loadCatalogVersionPort.loadCategoryVersion()).willReturn(1L);
+            given(loadCategoryPort.findAllActive()).willReturn(List.of(
+                    category(DIGITAL_ID, null, "디지털", 1),
+                    category(SHOES_ID, FASHION_ID, "신발", 1),
+                    category(SNEAKERS_ID, SHOES_ID, "스니커즈", 1)
+            ));
+
+            assertThat(ids(categoryTreeService.getTree())).containsExactly(DIGITAL_ID);
+            assertThat(categoryTreeService.getCategory(SNEAKERS_ID)).isEmpty();
+            assertThat(categoryTreeService.getByDepth(2)).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("스냅샷 갱신")
+    class Refresh {
+
+        @Test
+        @DisplayName("변경 버전이 같으면 다시 적재하지 않음")
+        void skipWhenVersionUnchanged() {
+            given(loadCatalogVersionPort.loadCategoryVersion()).willReturn(1L);
+            given(loadCategoryPort.findAllActive()).willReturn(categories());
+
+            categoryTreeService.refreshIfChanged();
+            categoryTreeService.refreshIfChanged();
+            categoryTreeService.getTree();
+
+            verify(loadCategoryPort, times(1)).findAllActive();
+        }
+
+        @Test
+        @DisplayName("변경 버전이 바뀌면 새 스냅샷으로 교체")
+        void reloadWhenVersionChanged() {
+            given(loadCatalogVersionPort.loadCategoryVersion()).willReturn(1L, 2L);
+            given(loadCategoryPort.findAllActive())
+                    .willReturn(categories())
+                    .willReturn(List.of(category(DIGITAL_ID, null, "디지털", 1)));
+
+            categoryTreeService.refreshIfChanged();
+            assertThat(ids(categoryTreeService.getTree())).containsExactly(FASHION_ID, DIGITAL_ID);
+
+            categoryTreeService.refreshIfChanged();
+            assertThat(ids(categoryTreeService.getTree())).containsExactly(DIGITAL_ID);
+            assertThat(categoryTreeService.getChildren(FASHION_ID)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("max-age가 지나면 버전이 같아도 재적재 (버전 트리거 미적용 환경)")
+        void reloadAfterMaxAge() {
+            ReflectionTestUtils.setField(categoryTreeService, "maxAgeMillis", -1L);
+            given(loadCatalogVersionPort.loadCategoryVersion()).willReturn(0L);
+            given(loadCategoryPort.findAllActive()).willReturn(categories());
+
+            categoryTreeService.refreshIfChanged();
+            categoryTreeService.refreshIfChanged();
+
+            verify(loadCategoryPort, times(2)).findAllActive();
+        }
+
+        @Test
+        @DisplayName("인덱스에 반영된 경로와 다르면 이동된 하위 트리 상품의 재인덱싱 요청 후 경로 기록")
+        void reindexMovedSubtree() {
+            UUID productId = UUID.randomUUID();
+            given(loadCatalogVersionPort.loadCategoryVersion()).willReturn(2L);
+            given(loadCategoryPort.findAllActive()).willReturn(List.of(
+                    category(FASHION_ID, null, "패션", path(FASHION_ID)),
+                    category(DIGITAL_ID, null, "디지털", path(DIGITAL_ID)),
+                    category(SHOES_ID, DIGITAL_ID, "신발", path(DIGITAL_ID, SHOES_ID)),
+                    category(SNEAKERS_ID, SHOES_ID, "스니커즈", path(DIGITAL_ID, SHOES_ID, SNEAKERS_ID))));
+            given(categoryIndexPathPort.loadIndexedPaths()).willReturn(Map.of(
+                    FASHION_ID, path(FASHION_ID),
+                    DIGITAL_ID, path(DIGITAL_ID),
+                    SHOES_ID, path(FASHION_ID, SHOES_ID),
+                    SNEAKERS_ID, path(FASHION_ID, SHOES_ID, SNEAKERS_ID)));
+            given(loadProductPort.findIdsByCategoryIds(Set.of(SHOES_ID, SNEAKERS_ID))).willReturn(List.of(productId));
+
+            // 기동 후 첫 적재 (이전 스냅샷 없음)
+            categoryTreeService.refreshIfChanged();
+
+            verify(productIndexingPort).requestIndexing(List.of(productId));
+            verify(categoryIndexPathPort).saveIndexedPaths(Map.of(
+                    SHOES_ID, path(DIGITAL_ID, SHOES_ID),
+                    SNEAKERS_ID, path(DIGITAL_ID, SHOES_ID, SNEAKERS_ID)));
+            assertThat(ids(categoryTreeService.getChildren(DIGITAL_ID))).containsExactly(SHOES_ID);
+        }
+
+        @Test
+        @DisplayName("처음 보는 카테고리는 재인덱싱 없이 경로만 기록")
+        void recordNewCategoryPaths() {
+            given(loadCatalogVersionPort.loadCategoryVersion()).willReturn(1L);
+            given(loadCategoryPort.findAllActive())
+                    .willReturn(List.of(category(FASHION_ID, null, "패션", path(FASHION_ID))));
+            given(categoryIndexPathPort.loadIndexedPaths()).willReturn(Map.of());
+
+            categoryTreeService.refreshIfChanged();
+
+            verify(categoryIndexPathPort).saveIndexedPaths(Map.of(FASHION_ID, path(FASHION_ID)));
+            verifyNoInteractions(loadProductPort, productIndexingPort);
+        }
+
+        @Test
+        @DisplayName("경로가 바뀐 카테고리가 없으면 재인덱싱 요청하지 않음")
+        void noReindexWithoutMove() {
+            given(loadCatalogVersionPort.loadCategoryVersion()).willReturn(1L, 2L);
+            given(loadCategoryPort.findAllActive())
+                    .willReturn(List.of(category(FASHION_ID, null, "패션", path(FASHION_ID))))
+                    .willReturn(List.of(category(FASHION_ID, null, "패션 잡화", path(FASHION_ID))));
+            given(categoryIndexPathPort.loadIndexedPaths()).willReturn(Map.of(FASHION_ID, path(FASHION_ID)));
+
+            categoryTreeService.refreshIfChanged();
+            categoryTreeService.refreshIfChanged();
+
+            verifyNoInteractions(loadProductPort, productIndexingPort);
+            verify(categoryIndexPathPort, never()).saveIndexedPaths(any());
+        }
+
+        @Test
+        @DisplayName("재인덱싱 요청이 실패하면 경로를 기록하지 않음 (다음 적재에서 재요청)")
+        void keepIndexedPathsOnFailure() {
+            given(loadCatalogVersionPort.loadCategoryVersion()).willReturn(2L);
+            given(loadCategoryPort.findAllActive()).willReturn(List.of(
+                    category(DIGITAL_ID, null, "디지털", path(DIGITAL_ID)),
+                    category(SHOES_ID, DIGITAL_ID, "신발", path(DIGITAL_ID, SHOES_ID))));
+            given(categoryIndexPathPort.loadIndexedPaths()).willReturn(Map.of(
+                    DIGITAL_ID, path(DIGITAL_ID),
+                    SHOES_ID, path(FASHION_ID, SHOES_ID)));
+            willThrow(new IllegalStateException("db down"))
+                    .given(loadProductPort).findIdsByCategoryIds(Set.of(SHOES_ID));
+
+            categoryTreeService.refreshIfChanged();
+
+            verify(categoryIndexPathPort, never()).saveIndexedPaths(any());
+            assertThat(ids(categoryTreeService.getTree())).containsExactly(DIGITAL_ID);
+        }
+    }
+}
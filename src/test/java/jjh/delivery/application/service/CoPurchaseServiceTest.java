@@ -0,0 +1,164 @@
+package jjh.delivery.application.service;
+
+import jjh.delivery.application.port.out.LoadCoPurchasePort;
+import jjh.delivery.application.port.out.SaveCoPurchasePort;
+import jjh.delivery.application.port.out.SaveCoPurchasePort.CoPurchaseCount;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * CoPurchaseService Unit Tests
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CoPurchaseService 테스트")
+class CoPurchaseServiceTest {
+
+    private static final UUID PHONE_ID = UUID.fromString("00000000-0000-0000-0000-000000000001");
+    private static final UUID CASE_ID = UUID.fromString("00000000-0000-0000-0000-000000000002");
+    private static final UUID CHARGER_ID = UUID.fromString("00000000-0000-0000-0000-000000000003");
+    private static final UUID FILM_ID = UUID.fromString("00000000-0000-0000-0000-000000000004");
+
+    @Mock
+    private SaveCoPurchasePort saveCoPurchasePort;
+
+    @Mock
+    private LoadCoPurchasePort loadCoPurchasePort;
+
+    @InjectMocks
+    private CoPurchaseService coPurchaseService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(coPurchaseService, "sketchSize", 16);
+        ReflectionTestUtils.setField(coPurchaseService, "maxProducts", 1000);
+        ReflectionTestUtils.setField(coPurchaseService, "maxItemsPerOrder", 20);
+        ReflectionTestUtils.setField(coPurchaseService, "storedSize", 50);
+        ReflectionTestUtils.setField(coPurchaseService, "persistBatchSize", 1000);
+        ReflectionTestUtils.setField(coPurchaseService, "maxSize", 20);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<CoPurchaseCount> persistedCounts() {
+        ArgumentCaptor<List<CoPurchaseCount>> captor = ArgumentCaptor.forClass(List.class);
+        verify(saveCoPurchasePort).addCounts(captor.capture(), eq(50));
+        return captor.getValue();
+    }
+
+    private long countOf(List<CoPurchaseCount> counts, UUID productId, UUID relatedProductId) {
+        return counts.stream()
+                .filter(count -> count.productId().equals(productId) && count.relatedProductId().equals(relatedProductId))
+                .mapToLong(CoPurchaseCount::count)
+                .sum();
+    }
+
+    @Nested
+    @DisplayName("주문 집계")
+    class RecordOrder {
+
+        @Test
+        @DisplayName("주문 내 상품 쌍을 양방향으로 누적하여 저장")
+        void accumulatePairs() {
+            coPurchaseService.recordOrder(List.of(PHONE_ID, CASE_ID, CHARGER_ID));
+            coPurchaseService.recordOrder(List.of(PHONE_ID, CASE_ID));
+
+            coPurchaseService.persist();
+
+            List<CoPurchaseCount> counts = persistedCounts();
+            assertThat(counts).hasSize(6);
+            assertThat(countOf(counts, PHONE_ID, CASE_ID)).isEqualTo(2);
+            assertThat(countOf(counts, CASE_ID, PHONE_ID)).isEqualTo(2);
+            assertThat(countOf(counts, PHONE_ID, CHARGER_ID)).isEqualTo(1);
+            assertThat(countOf(counts, CHARGER_ID, CASE_ID)).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("상품이 하나뿐인 주문은 집계하지 않음")
+        void ignoreSingleItemOrder() {
+            coPurchaseService.recordOrder(List.of(PHONE_ID, PHONE_ID));
+
+            coPurchaseService.persist();
+
+            verifyNoInteractions(saveCoPurchasePort);
+        }
+
+        @Test
+        @DisplayName("스케치가 가득 차면 최소 후보를 대체하고 과대 추정 없이 하한 횟수만 저장")
+        void persistLowerBoundAfterEviction() {
+            ReflectionTestUtils.setField(coPurchaseService, "sketchSize", 2);
+            coPurchaseService.recordOrder(List.of(PHONE_ID, CASE_ID));
+            coPurchaseService.recordOrder(List.of(PHONE_ID, CASE_ID));
+            coPurchaseService.recordOrder(List.of(PHONE_ID, CHARGER_ID));
+            coPurchaseService.recordOrder(List.of(PHONE_ID, FILM_ID));
+
+            coPurchaseService.persist();
+
+            List<CoPurchaseCount> counts = persistedCounts();
+            assertThat(countOf(counts, PHONE_ID, CASE_ID)).isEqualTo(2);
+            assertThat(countOf(counts, PHONE_ID, CHARGER_ID)).isZero();
+            assertThat(countOf(counts, PHONE_ID, FILM_ID)).isEqualTo(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("저장")
+    class Persist {
+
+        @Test
+        @DisplayName("저장된 주기는 비워지고 다음 주기에는 새 증분만 저장")
+        void resetAfterPersist() {
+            coPurchaseService.recordOrder(List.of(PHONE_ID, CASE_ID));
+            coPurchaseService.persist();
+            coPurchaseService.persist();
+
+            verify(saveCoPurchasePort, times(1)).addCounts(anyList(), anyInt());
+        }
+
+        @Test
+        @DisplayName("저장 실패한 증분은 다음 주기에 다시 저장")
+        void restoreOnFailure() {
+            coPurchaseService.recordOrder(List.of(PHONE_ID, CASE_ID));
+            willThrow(new RuntimeException("db down"))
+                    .willDoNothing()
+                    .given(saveCoPurchasePort).addCounts(anyList(), anyInt());
+
+            coPurchaseService.persist();
+            coPurchaseService.recordOrder(List.of(PHONE_ID, CASE_ID));
+            coPurchaseService.persist();
+
+            @SuppressWarnings("unchecked")
+            ArgumentCaptor<List<CoPurchaseCount>> captor = ArgumentCaptor.forClass(List.class);
+            verify(saveCoPurchasePort, times(2)).addCounts(captor.capture(), eq(50));
+            assertThat(countOf(captor.getAllValues().get(1), PHONE_ID, CASE_ID)).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("종료 시 남은 집계를 저장")
+        void persistOnShutdown() {
+            coPurchaseService.recordOrder(List.of(PHONE_ID, CASE_ID));
+
+            coPurchaseService.shutdown();
+
+            assertThat(countOf(persistedCounts(), PHONE_ID, CASE_ID)).isEqualTo(1);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package jjh.delivery.application.service;
+
+import jjh.delivery.application.port.out.SaveCoPurchasePort.CoPurchaseCount;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * CoPurchaseSketches Unit Tests
+ */
+@DisplayName("CoPurchaseSketches 테스트")
+class CoPurchaseSketchesTest {
+
+    private static final UUID PHONE_ID = UUID.fromString("00000000-0000-0000-0000-000000000001");
+    private static final UUID CASE_ID = UUID.fromString("00000000-0000-0000-0000-000000000002");
+    private static final UUID CHARGER_ID = UUID.fromString("00000000-0000-0000-0000-000000000003");
+
+    @Test
+    @DisplayName("기준 상품 한도에 도달하면 새 기준 상품의 쌍은 버리고 버린 수를 셈")
+    void dropNewProductWhenFull() {
+        CoPurchaseSketches sketches = new CoPurchaseSketches(16, 2);
+
+        assertThat(sketches.add(PHONE_ID, CASE_ID, 1)).isTrue();
+        assertThat(sketches.add(CASE_ID, PHONE_ID, 1)).isTrue();
+        assertThat(sketches.isFull()).isTrue();
+
+        assertThat(sketches.add(CHARGER_ID, PHONE_ID, 1)).isFalse();
+        assertThat(sketches.add(PHONE_ID, CHARGER_ID, 1)).isTrue();
+
+        assertThat(sketches.droppedPairs()).isEqualTo(1);
+        assertThat(sketches.toCounts())
+                .extracting(CoPurchaseCount::productId)
+                .containsOnly(PHONE_ID, CASE_ID);
+    }
+
+    @Test
+    @DisplayName("스케치가 가득 차면 최소 횟수 후보를 대체하고 그 횟수를 오차로 이어받음")
+    void replaceMinimumCandidate() {
+        CoPurchaseSketches sketches = new CoPurchaseSketches(1, 10);
+        sketches.add(PHONE_ID, CASE_ID, 3);
+
+        sketches.add(PHONE_ID, CHARGER_ID, 2);
+
+        assertThat(sketches.toCounts())
+                .containsExactly(new CoPurchaseCount(PHONE_ID, CHARGER_ID, 2));
+    }
+}
@@ -2,9 +2,13 @@ package jjh.delivery.application.service;
 
 import jjh.delivery.adapter.in.web.dto.CursorPageResponse;
 import jjh.delivery.application.port.in.ManageCouponUseCase.CreateCouponCommand;
+import jjh.delivery.application.port.in.ManageCouponUseCase.CouponRedemption;
 import jjh.delivery.application.port.in.ManageCouponUseCase.CouponValidationResult;
+import jjh.delivery.application.port.in.ManageCouponUseCase.RedeemCouponCommand;
 import jjh.delivery.application.port.in.ManageCouponUseCase.UpdateCouponCommand;
+import jjh.delivery.application.port.out.CouponRedemptionPort;
 import jjh.delivery.application.port.out.LoadCouponPort;
+import jjh.delivery.application.port.out.SaveCatalogVersionPort;
 import jjh.delivery.application.port.out.SaveCouponPort;
 import jjh.delivery.domain.promotion.Coupon;
 import jjh.delivery.domain.promotion.CouponScope;
@@ -26,7 +30,9 @@ import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 /**
@@ -42,6 +48,12 @@ class CouponServiceTest {
     @Mock
     private SaveCouponPort saveCouponPort;
 
+    @Mock
+    private CouponRedemptionPort couponRedemptionPort;
+
+    @Mock
+    private SaveCatalogVersionPort saveCatalogVersionPort;
+
     @InjectMocks
     private CouponService couponService;
 
@@ -133,6 +145,7 @@ class CouponServiceTest {
             assertThat(result.getDiscountType()).isEqualTo(DiscountType.FIXED_AMOUNT);
             assertThat(result.getDiscountValue()).isEqualByComparingTo(new BigDecimal("2000"));
             verify(saveCouponPort).save(any(Coupon.class));
+            verify(saveCatalogVersionPort).incrementCouponVersion();
         }
 
         @Test
@@ -290,42 +303,99 @@ class CouponServiceTest {
     class UseCoupon {
 
         @Test
-        @DisplayName("쿠폰 사용 성공")
-        void useCouponSuccess() {
+        @DisplayName("고객 쿠폰 사용 시 원장 기록 후 수량 증가")
+        void redeemCouponSuccess() {
             // given
-            Coupon coupon = createCoupon();
-            int initialUsed = coupon.getUsedQuantity();
+            UUID customerId = UUID.randomUUID();
+            UUID orderId = UUID.randomUUID();
 
-            given(loadCouponPort.findById(COUPON_ID))
-                    .willReturn(Optional.of(coupon));
-            given(saveCouponPort.save(any(Coupon.class)))
-                    .willAnswer(invocation -> invocation.getArgument(0));
+            given(couponRedemptionPort.recordRedemption(eq(COUPON_ID), eq(customerId), eq(orderId), any(LocalDateTime.class)))
+                    .willReturn(true);
+            given(couponRedemptionPort.incrementUsage(eq(COUPON_ID), any(LocalDateTime.class)))
+                    .willReturn(true);
 
             // when
-            Coupon result = couponService.useCoupon(COUPON_ID);
+            CouponRedemption result = couponService.redeemCoupon(new RedeemCouponCommand(COUPON_ID, customerId, orderId));
 
             // then
-            assertThat(result.getUsedQuantity()).isEqualTo(initialUsed + 1);
+            assertThat(result.customerId()).isEqualTo(customerId);
+            assertThat(result.orderId()).isEqualTo(orderId);
         }
 
         @Test
-        @DisplayName("쿠폰 사용 취소 성공")
-        void cancelCouponUsageSuccess() {
+        @DisplayName("이미 사용한 고객은 수량을 증가시키지 않고 예외")
+        void redeemCouponAlreadyRedeemed() {
             // given
-            Coupon coupon = createCoupon();
-            coupon.use(); // 먼저 사용
-            int usedAfterUse = coupon.getUsedQuantity();
+            UUID customerId = UUID.randomUUID();
+            UUID orderId = UUID.randomUUID();
+
+            given(couponRedemptionPort.recordRedemption(eq(COUPON_ID), eq(customerId), eq(orderId), any(LocalDateTime.class)))
+                    .willReturn(false);
 
+            // when & then
+            assertThatThrownBy(() -> couponService.redeemCoupon(new RedeemCouponCommand(COUPON_ID, customerId, orderId)))
+                    .isInstanceOf(IllegalStateException.class);
+            verify(couponRedemptionPort, never()).incrementUsage(any(), any());
+        }
+
+        @Test
+        @DisplayName("수량이 소진되면 예외 (트랜잭션 롤백으로 원장 기록도 취소)")
+        void redeemCouponSoldOut() {
+            // given
+            UUID customerId = UUID.randomUUID();
+            UUID orderId = UUID.randomUUID();
+
+            given(couponRedemptionPort.recordRedemption(eq(COUPON_ID), eq(customerId), eq(orderId), any(LocalDateTime.class)))
+                    .willReturn(true);
+            given(couponRedemptionPort.incrementUsage(eq(COUPON_ID), any(LocalDateTime.class)))
+                    .willReturn(false);
             given(loadCouponPort.findById(COUPON_ID))
-                    .willReturn(Optional.of(coupon));
-            given(saveCouponPort.save(any(Coupon.class)))
-                    .willAnswer(invocation -> invocation.getArgument(0));
+                    .willReturn(Optional.of(createCoupon()));
+
+            // when & then
+            assertThatThrownBy(() -> couponService.redeemCoupon(new RedeemCouponCommand(COUPON_ID, customerId, orderId)))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessage("Coupon is not usable");
+        }
+
+        @Test
+        @DisplayName("주문 없이 쿠폰을 사용하면 예외")
+        void redeemCouponRequiresOrder() {
+            assertThatThrownBy(() -> new RedeemCouponCommand(COUPON_ID, UUID.randomUUID(), null))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("Order ID is required");
+        }
+
+        @Test
+        @DisplayName("주문 쿠폰 사용 취소 시 취소된 쿠폰마다 수량 반환")
+        void cancelCouponRedemptionSuccess() {
+            // given
+            UUID orderId = UUID.randomUUID();
+
+            given(couponRedemptionPort.cancelRedemption(eq(orderId), any(LocalDateTime.class)))
+                    .willReturn(List.of(COUPON_ID));
+
+            // when
+            couponService.cancelCouponRedemption(orderId);
+
+            // then
+            verify(couponRedemptionPort).decrementUsage(eq(COUPON_ID), any(LocalDateTime.class));
+        }
+
+        @Test
+        @DisplayName("쿠폰을 사용하지 않은 주문이면 예외 없이 수량도 그대로")
+        void cancelCouponRedemptionWithoutRedemption() {
+            // given
+            UUID orderId = UUID.randomUUID();
+
+            given(couponRedemptionPort.cancelRedemption(eq(orderId), any(LocalDateTime.class)))
+                    .willReturn(List.of());
 
             // when
-            Coupon result = couponService.cancelCouponUsage(COUPON_ID);
+            couponService.cancelCouponRedemption(orderId);
 
             // then
-            assertThat(result.getUsedQuantity()).isEqualTo(usedAfterUse - 1);
+            verify(couponRedemptionPort, never()).decrementUsage(any(), any());
         }
 
         @Test
@@ -0,0 +1,224 @@
+package jjh.delivery.application.service;
+
+import jjh.delivery.application.port.in.ManageFlashSaleUseCase.ScheduleFlashSaleCommand;
+import jjh.delivery.application.port.out.FlashSaleCounterPort;
+import jjh.delivery.application.port.out.FlashSaleCounterPort.TakeResult;
+import jjh.delivery.application.port.out.FlashSalePort;
+import jjh.delivery.application.port.out.FlashSalePort.FlashSale;
+import jjh.delivery.application.port.out.InventoryReservationPort;
+import jjh.delivery.application.port.out.InventoryReservationPort.StockReservation;
+import jjh.delivery.domain.inventory.FlashSaleStatus;
+import jjh.delivery.domain.product.exception.InsufficientStockException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.UUID;
+import java.util.function.IntConsumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * FlashSaleService Unit Tests
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("FlashSaleService 테스트")
+class FlashSaleServiceTest {
+
+    private static final UUID PRODUCT_ID = UUID.fromString("00000000-0000-0000-0000-000000000001");
+    private static final UUID VARIANT_ID = UUID.fromString("00000000-0000-0000-0000-000000000002");
+
+    @Mock
+    private FlashSalePort flashSalePort;
+
+    @Mock
+    private FlashSaleCounterPort flashSaleCounterPort;
+
+    @Mock
+    private InventoryReservationPort inventoryReservationPort;
+
+    @InjectMocks
+    private FlashSaleService flashSaleService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(flashSaleService, "defaultShardCount", 4);
+        ReflectionTestUtils.setField(flashSaleService, "maxShardCount", 256);
+        ReflectionTestUtils.setField(flashSaleService, "soldOutCacheMillis", 60_000L);
+        ReflectionTestUtils.setField(flashSaleService, "returnedRetentionHours", 24L);
+    }
+
+    private FlashSale flashSale(FlashSaleStatus status, LocalDateTime startsAt, LocalDateTime endsAt) {
+        return new FlashSale(VARIANT_ID, PRODUCT_ID, 4, status, 100, 100, startsAt, endsAt, null, null);
+    }
+
+    private void activate() {
+        LocalDateTime now = LocalDateTime.now();
+        given(flashSalePort.findByStatus(FlashSaleStatus.ACTIVE))
+                .willReturn(List.of(flashSale(FlashSaleStatus.ACTIVE, now.minusMinutes(1), now.plusHours(1))));
+        flashSaleService.refreshActiveSales();
+    }
+
+    @Nested
+    @DisplayName("캠페인 등록")
+    class Schedule {
+
+        @Test
+        @DisplayName("종료 시각이 시작 시각보다 앞서면 예외")
+        void rejectInvalidPeriod() {
+            LocalDateTime now = LocalDateTime.now();
+
+            assertThatThrownBy(() -> flashSaleService.scheduleFlashSale(
+                    new ScheduleFlashSaleCommand(VARIANT_ID, now.plusHours(2), now.plusHours(1), null)))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        @DisplayName("진행 중인 캠페인이 있으면 예외")
+        void rejectWhenActive() {
+            LocalDateTime now = LocalDateTime.now();
+            given(flashSalePort.findByVariantId(VARIANT_ID))
+                    .willReturn(Optional.of(flashSale(FlashSaleStatus.ACTIVE, now, now.plusHours(1))));
+
+            assertThatThrownBy(() -> flashSaleService.scheduleFlashSale(
+                    new ScheduleFlashSaleCommand(VARIANT_ID, now.plusHours(1), now.plusHours(2), null)))
+                    .isInstanceOf(IllegalStateException.class);
+            verify(flashSalePort, never()).schedule(any(), anyInt(), any(), any());
+        }
+    }
+
+    @Nested
+    @DisplayName("재고 차감")
+    class Take {
+
+        @Test
+        @DisplayName("진행 중인 캠페인이 아니면 카운터를 사용하지 않음")
+        void notActive() {
+            assertThat(flashSaleService.take(PRODUCT_ID, VARIANT_ID, 1)).isFalse();
+            verify(flashSaleCounterPort, never()).take(any(), anyInt(), anyInt());
+        }
+
+        @Test
+        @DisplayName("카운터에서 차감 성공")
+        void taken() {
+            activate();
+            given(flashSaleCounterPort.take(VARIANT_ID, 4, 2)).willReturn(TakeResult.TAKEN);
+
+            assertThat(flashSaleService.take(PRODUCT_ID, VARIANT_ID, 2)).isTrue();
+        }
+
+        @Test
+        @DisplayName("카운터 부족 시 예외, 직후 같은 수량 요청은 카운터 조회 없이 거절")
+        void insufficientIsCached() {
+            activate();
+            given(flashSaleCounterPort.take(VARIANT_ID, 4, 1)).willReturn(TakeResult.INSUFFICIENT);
+
+            assertThatThrownBy(() -> flashSaleService.take(PRODUCT_ID, VARIANT_ID, 1))
+                    .isInstanceOf(InsufficientStockException.class);
+            assertThatThrownBy(() -> flashSaleService.take(PRODUCT_ID, VARIANT_ID, 1))
+                    .isInstanceOf(InsufficientStockException.class);
+            verify(flashSaleCounterPort, times(1)).take(VARIANT_ID, 4, 1);
+        }
+
+        @Test
+        @DisplayName("반환되면 매진 표시를 지우고 카운터를 다시 사용")
+        void giveBackClearsSoldOut() {
+            activate();
+            given(flashSaleCounterPort.take(VARIANT_ID, 4, 1))
+                    .willReturn(TakeResult.INSUFFICIENT)
+                    .willReturn(TakeResult.TAKEN);
+
+            assertThatThrownBy(() -> flashSaleService.take(PRODUCT_ID, VARIANT_ID, 1))
+                    .isInstanceOf(InsufficientStockException.class);
+            flashSaleService.giveBack(VARIANT_ID, 1);
+
+            assertThat(flashSaleService.take(PRODUCT_ID, VARIANT_ID, 1)).isTrue();
+            verify(flashSaleCounterPort).giveBack(VARIANT_ID, 4, 1);
+        }
+    }
+
+    @Nested
+    @DisplayName("스케줄")
+    class Reconcile {
+
+        @Test
+        @DisplayName("시작 시각이 지나면 이관 수량을 샤드에 고르게 나눠 카운터 생성")
+        void activateSplitsEvenly() {
+            LocalDateTime now = LocalDateTime.now();
+            given(flashSalePort.findByStatus(FlashSaleStatus.SCHEDULED))
+                    .willReturn(List.of(flashSale(FlashSaleStatus.SCHEDULED, now.minusSeconds(1), now.plusHours(1))));
+            given(flashSalePort.activate(eq(VARIANT_ID), any(LocalDateTime.class), any())).willAnswer(invocation -> {
+                invocation.<IntConsumer>getArgument(2).accept(10);
+                return OptionalInt.of(10);
+            });
+
+            flashSaleService.reconcile();
+
+            ArgumentCaptor<int[]> shards = ArgumentCaptor.forClass(int[].class);
+            verify(flashSaleCounterPort).initialize(eq(VARIANT_ID), shards.capture());
+            assertThat(shards.getValue()).containsExactly(3, 3, 2, 2);
+        }
+
+        @Test
+        @DisplayName("종료 시각이 지나면 카운터를 회수해 DB 재고로 반환")
+        void endReturnsRemaining() {
+            LocalDateTime now = LocalDateTime.now();
+            given(flashSalePort.findByStatus(FlashSaleStatus.ACTIVE))
+                    .willReturn(List.of(flashSale(FlashSaleStatus.ACTIVE, now.minusHours(1), now.minusSeconds(1))));
+            given(flashSaleCounterPort.drain(VARIANT_ID, 4)).willReturn(7);
+
+            flashSaleService.reconcile();
+
+            verify(flashSalePort).end(eq(VARIANT_ID), eq(7), any(LocalDateTime.class));
+        }
+
+        @Test
+        @DisplayName("DB 반환에 실패하면 회수한 수량을 반환분으로 적립")
+        void endFailureKeepsDrainedQuantity() {
+            LocalDateTime now = LocalDateTime.now();
+            given(flashSalePort.findByStatus(FlashSaleStatus.ACTIVE))
+                    .willReturn(List.of(flashSale(FlashSaleStatus.ACTIVE, now.minusHours(1), now.minusSeconds(1))));
+            given(flashSaleCounterPort.drain(VARIANT_ID, 4)).willReturn(7);
+            willThrow(new IllegalStateException("db down"))
+                    .given(flashSalePort).end(eq(VARIANT_ID), eq(7), any(LocalDateTime.class));
+
+            flashSaleService.reconcile();
+
+            verify(flashSaleCounterPort).addReturned(VARIANT_ID, 7);
+        }
+
+        @Test
+        @DisplayName("종료 후 반환분은 DB 재고로 정산")
+        void settleReturned() {
+            LocalDateTime now = LocalDateTime.now();
+            given(flashSalePort.findEndedSince(any(LocalDateTime.class)))
+                    .willReturn(List.of(flashSale(FlashSaleStatus.ENDED, now.minusHours(2), now.minusHours(1))));
+            given(flashSaleCounterPort.drainReturned(VARIANT_ID)).willReturn(2);
+
+            flashSaleService.reconcile();
+
+            verify(inventoryReservationPort).restock(
+                    List.of(new StockReservation(null, PRODUCT_ID, VARIANT_ID, 2)));
+        }
+    }
+}
@@ -0,0 +1,265 @@
+package jjh.delivery.application.service;
+
+import jjh.delivery.application.port.in.FlashSaleStockUseCase;
+import jjh.delivery.application.port.out.InventoryReservationPort;
+import jjh.delivery.application.port.out.InventoryReservationPort.StockReservation;
+import jjh.delivery.application.port.out.ProductEventPort;
+import jjh.delivery.domain.inventory.ReservationStatus;
+import jjh.delivery.domain.order.Order;
+import jjh.delivery.domain.order.OrderItem;
+import jjh.delivery.domain.order.ShippingAddress;
+import jjh.delivery.domain.product.event.ProductStockChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * InventoryReservationService Unit Tests
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("InventoryReservationService 테스트")
+class InventoryReservationServiceTest {
+
+    private static final UUID CUSTOMER_ID = UUID.fromString("00000000-0000-0000-0000-000000000001");
+    private static final UUID SELLER_ID = UUID.fromString("00000000-0000-0000-0000-000000000002");
+    private static final UUID PRODUCT_ID = UUID.fromString("00000000-0000-0000-0000-000000000003");
+    private static final UUID VARIANT_ID = UUID.fromString("00000000-0000-0000-0000-000000000004");
+    private static final UUID SIMPLE_PRODUCT_ID = UUID.fromString("00000000-0000-0000-0000-000000000005");
+
+    @Mock
+    private InventoryReservationPort inventoryReservationPort;
+
+    @Mock
+    private FlashSaleStockUseCase flashSaleStockUseCase;
+
+    @Mock
+    private ProductEventPort productEventPort;
+
+    @InjectMocks
+    private InventoryReservationService inventoryReservationService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(inventoryReservationService, "reservationTtlSeconds", 900L);
+        ReflectionTestUtils.setField(inventoryReservationService, "expiryBatchSize", 2);
+    }
+
+    private Order createOrder() {
+        return Order.builder()
+                .customerId(CUSTOMER_ID)
+                .sellerId(SELLER_ID)
+                .shippingAddress(ShippingAddress.of(
+                        "홍길동", "010-1234-5678", "12345",
+                        "서울시 강남구", "상세주소", null
+                ))
+                .addItem(OrderItem.ofVariant(PRODUCT_ID, "티셔츠", VARIANT_ID, "블랙 / L", "TS-BK-L",
+                        Map.of("color", "black"), 1, new BigDecimal("19000")))
+                .addItem(OrderItem.ofVariant(PRODUCT_ID, "티셔츠", VARIANT_ID, "블랙 / L", "TS-BK-L",
+                        Map.of("color", "black"), 2, new BigDecimal("19000")))
+                .addItem(OrderItem.of(SIMPLE_PRODUCT_ID, "양말", 5, new BigDecimal("3000")))
+                .build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<ProductStockChangedEvent> publishedEvents() {
+        ArgumentCaptor<List<ProductStockChangedEvent>> captor = ArgumentCaptor.forClass(List.class);
+        verify(productEventPort).publishAll(captor.capture());
+        return captor.getValue();
+    }
+
+    @Nested
+    @DisplayName("재고 선점")
+    class Reserve {
+
+        @Test
+        @DisplayName("같은 SKU는 수량을 합쳐 한 번에 선점")
+        void reserveMergesSameSku() {
+            Order order = createOrder();
+
+            inventoryReservationService.reserve(List.of(order));
+
+            verify(inventoryReservationPort).reserve(
+                    eq(List.of(
+                            new StockReservation(order.getId(), PRODUCT_ID, VARIANT_ID, 3),
+                            new StockReservation(order.getId(), SIMPLE_PRODUCT_ID, null, 5))),
+                    eq(ReservationStatus.RESERVED),
+                    any(LocalDateTime.class),
+                    eq(Set.of()));
+        }
+
+        @Test
+        @DisplayName("플래시 세일 중인 변형은 카운터에서 차감하고 DB 차감에서 제외")
+        void reserveFlashSaleVariantFromCounter() {
+            Order order = createOrder();
+            given(flashSaleStockUseCase.activeVariantIds()).willReturn(Set.of(VARIANT_ID));
+            given(flashSaleStockUseCase.take(PRODUCT_ID, VARIANT_ID, 3)).willReturn(true);
+
+            inventoryReservationService.reserve(List.of(order));
+
+            verify(inventoryReservationPort).reserve(
+                    anyList(),
+                    eq(ReservationStatus.RESERVED),
+                    any(LocalDateTime.class),
+                    eq(Set.of(VARIANT_ID)));
+        }
+
+        @Test
+        @DisplayName("DB 재고가 차감된 상품마다 재고 변경 이벤트 발행 (카운터 차감 줄 제외)")
+        void publishStockChangedForDbLines() {
+            Order order = createOrder();
+            given(flashSaleStockUseCase.activeVariantIds()).willReturn(Set.of(VARIANT_ID));
+            given(flashSaleStockUseCase.take(PRODUCT_ID, VARIANT_ID, 3)).willReturn(true);
+            given(inventoryReservationPort.findTotalStockQuantities(Set.of(SIMPLE_PRODUCT_ID)))
+                    .willReturn(Map.of(SIMPLE_PRODUCT_ID, 15));
+
+            inventoryReservationService.reserve(List.of(order));
+
+            assertThat(publishedEvents())
+                    .extracting(ProductStockChangedEvent::productId,
+                            ProductStockChangedEvent::previousQuantity, ProductStockChangedEvent::newQuantity)
+                    .containsExactly(tuple(SIMPLE_PRODUCT_ID, 20, 15));
+        }
+
+        @Test
+        @DisplayName("카운터가 없으면 DB 재고에서 차감")
+        void reserveFallsBackToDbWhenCounterMissing() {
+            Order order = createOrder();
+            given(flashSaleStockUseCase.activeVariantIds()).willReturn(Set.of(VARIANT_ID));
+            given(flashSaleStockUseCase.take(PRODUCT_ID, VARIANT_ID, 3)).willReturn(false);
+
+            inventoryReservationService.reserve(List.of(order));
+
+            verify(inventoryReservationPort).reserve(
+                    anyList(),
+                    eq(ReservationStatus.RESERVED),
+                    any(LocalDateTime.class),
+                    eq(Set.of()));
+        }
+    }
+
+    @Nested
+    @DisplayName("선점 해제")
+    class Release {
+
+        @Test
+        @DisplayName("플래시 세일 줄은 카운터로 반환")
+        void releaseGivesBackFlashSaleLines() {
+            UUID orderId = UUID.randomUUID();
+            given(flashSaleStockUseCase.activeVariantIds()).willReturn(Set.of(VARIANT_ID));
+            given(inventoryReservationPort.release(orderId, Set.of(VARIANT_ID))).willReturn(List.of(
+                    new StockReservation(orderId, PRODUCT_ID, VARIANT_ID, 3),
+                    new StockReservation(orderId, SIMPLE_PRODUCT_ID, null, 5)));
+
+            inventoryReservationService.release(orderId);
+
+            verify(flashSaleStockUseCase).giveBack(VARIANT_ID, 3);
+            verify(flashSaleStockUseCase, times(1)).giveBack(any(), anyInt());
+        }
+
+        @Test
+        @DisplayName("DB 재고가 복원된 상품마다 재고 변경 이벤트 발행")
+        void publishStockChangedOnRelease() {
+            UUID orderId = UUID.randomUUID();
+            given(inventoryReservationPort.release(orderId, Set.of())).willReturn(List.of(
+                    new StockReservation(orderId, PRODUCT_ID, VARIANT_ID, 3),
+                    new StockReservation(orderId, SIMPLE_PRODUCT_ID, null, 5)));
+            given(inventoryReservationPort.findTotalStockQuantities(Set.of(PRODUCT_ID, SIMPLE_PRODUCT_ID)))
+                    .willReturn(Map.of(PRODUCT_ID, 10, SIMPLE_PRODUCT_ID, 5));
+
+            inventoryReservationService.release(orderId);
+
+            assertThat(publishedEvents())
+                    .extracting(ProductStockChangedEvent::productId,
+                            ProductStockChangedEvent::previousQuantity, ProductStockChangedEvent::newQuantity)
+                    .containsExactly(tuple(PRODUCT_ID, 7, 10), tuple(SIMPLE_PRODUCT_ID, 0, 5));
+        }
+    }
+
+    @Nested
+    @DisplayName("선점 확정")
+    class Confirm {
+
+        @Test
+        @DisplayName("모든 줄이 선점되어 있으면 확정만 수행")
+        void confirmReserved() {
+            Order order = createOrder();
+            given(inventoryReservationPort.confirm(order.getId())).willReturn(List.of(
+                    new StockReservation(order.getId(), PRODUCT_ID, VARIANT_ID, 3),
+                    new StockReservation(order.getId(), SIMPLE_PRODUCT_ID, null, 5)));
+
+            inventoryReservationService.confirm(order);
+
+            verify(inventoryReservationPort, never()).reserve(anyList(), any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("만료되어 해제된 줄은 확정 상태로 다시 선점")
+        void confirmReReservesReleased() {
+            Order order = createOrder();
+            given(inventoryReservationPort.confirm(order.getId())).willReturn(List.of(
+                    new StockReservation(order.getId(), PRODUCT_ID, VARIANT_ID, 3)));
+
+            inventoryReservationService.confirm(order);
+
+            verify(inventoryReservationPort).reserve(
+                    eq(List.of(new StockReservation(order.getId(), SIMPLE_PRODUCT_ID, null, 5))),
+                    eq(ReservationStatus.CONFIRMED),
+                    any(LocalDateTime.class),
+                    eq(Set.of()));
+        }
+    }
+
+    @Nested
+    @DisplayName("만료 선점 해제")
+    class ReleaseExpired {
+
+        @Test
+        @DisplayName("배치가 가득 차면 다음 배치를 이어서 해제")
+        void releaseUntilBatchNotFull() {
+            StockReservation line = new StockReservation(UUID.randomUUID(), SIMPLE_PRODUCT_ID, null, 1);
+            given(inventoryReservationPort.releaseExpired(any(LocalDateTime.class), eq(2), anySet()))
+                    .willReturn(List.of(line, line))
+                    .willReturn(List.of(line));
+
+            inventoryReservationService.releaseExpired();
+
+            verify(inventoryReservationPort, times(2)).releaseExpired(any(LocalDateTime.class), eq(2), anySet());
+        }
+
+        @Test
+        @DisplayName("해제 실패는 예외를 전파하지 않음")
+        void releaseFailureIsSwallowed() {
+            given(inventoryReservationPort.releaseExpired(any(LocalDateTime.class), eq(2), anySet()))
+                    .willThrow(new IllegalStateException("db down"));
+
+            assertThatCode(() -> inventoryReservationService.releaseExpired()).doesNotThrowAnyException();
+        }
+    }
+}
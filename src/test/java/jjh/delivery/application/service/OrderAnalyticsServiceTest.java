@@ -0,0 +1,86 @@
+package jjh.delivery.application.service;
+
+import jjh.delivery.application.port.in.GetOrderAnalyticsUseCase.AnalyticsInterval;
+import jjh.delivery.application.port.in.GetOrderAnalyticsUseCase.OrderAnalyticsQuery;
+import jjh.delivery.application.port.out.OrderAnalyticsPort;
+import jjh.delivery.application.port.out.OrderAnalyticsPort.OrderAnalytics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * OrderAnalyticsService Unit Tests
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OrderAnalyticsService 테스트")
+class OrderAnalyticsServiceTest {
+
+    private static final LocalDateTime FROM = LocalDateTime.of(2026, 1, 1, 0, 0);
+
+    @Mock
+    private OrderAnalyticsPort orderAnalyticsPort;
+
+    @InjectMocks
+    private OrderAnalyticsService orderAnalyticsService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(orderAnalyticsService, "maxBuckets", 1000L);
+    }
+
+    @Test
+    @DisplayName("주문 분석 조회 성공")
+    void getOrderAnalyticsSuccess() {
+        OrderAnalyticsQuery query = new OrderAnalyticsQuery(
+                UUID.randomUUID(), FROM, FROM.plusMonths(1), AnalyticsInterval.DAY, 5);
+        OrderAnalytics analytics = OrderAnalytics.empty();
+        given(orderAnalyticsPort.aggregate(query)).willReturn(analytics);
+
+        OrderAnalytics result = orderAnalyticsService.getOrderAnalytics(query);
+
+        assertThat(result).isSameAs(analytics);
+    }
+
+    @Test
+    @DisplayName("기간 대비 버킷 수가 너무 많으면 예외")
+    void tooManyBuckets() {
+        OrderAnalyticsQuery query = new OrderAnalyticsQuery(
+                null, FROM, FROM.plusYears(1), AnalyticsInterval.HOUR, 10);
+
+        assertThatThrownBy(() -> orderAnalyticsService.getOrderAnalytics(query))
+                .isInstanceOf(IllegalArgumentException.class);
+        verify(orderAnalyticsPort, never()).aggregate(any());
+    }
+
+    @Test
+    @DisplayName("시작 시각이 종료 시각 이후면 예외")
+    void invalidPeriod() {
+        assertThatThrownBy(() -> new OrderAnalyticsQuery(null, FROM, FROM, AnalyticsInterval.DAY, 10))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("기본값 적용 - 단위 DAY, 상위 판매자 10명")
+    void defaultValues() {
+        OrderAnalyticsQuery query = new OrderAnalyticsQuery(null, FROM, FROM.plusDays(7), null, 0);
+
+        assertThat(query.interval()).isEqualTo(AnalyticsInterval.DAY);
+        assertThat(query.topSellers()).isEqualTo(10);
+        assertThat(query.estimatedBuckets()).isEqualTo(8);
+    }
+}
@@ -0,0 +1,83 @@
+package jjh.delivery.application.service;
+
+import jjh.delivery.application.port.out.ArchiveOrderPort;
+import jjh.delivery.domain.order.OrderStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Set;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+/**
+ * OrderArchiveService Unit Tests
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OrderArchiveService 테스트")
+class OrderArchiveServiceTest {
+
+    private static final Set<OrderStatus> STATUSES = Set.of(OrderStatus.DELIVERED, OrderStatus.CANCELLED);
+
+    @Mock
+    private ArchiveOrderPort archiveOrderPort;
+
+    @InjectMocks
+    private OrderArchiveService orderArchiveService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(orderArchiveService, "enabled", true);
+        ReflectionTestUtils.setField(orderArchiveService, "afterDays", 180);
+        ReflectionTestUtils.setField(orderArchiveService, "batchSize", 100);
+        ReflectionTestUtils.setField(orderArchiveService, "monthsAhead", 2);
+        ReflectionTestUtils.setField(orderArchiveService, "statuses", STATUSES);
+    }
+
+    @Test
+    @DisplayName("배치가 가득 차면 대상이 없을 때까지 반복 이관")
+    void archiveUntilExhausted() {
+        given(archiveOrderPort.archiveOrders(any(LocalDateTime.class), eq(STATUSES), eq(100)))
+                .willReturn(100, 100, 30);
+        given(archiveOrderPort.dropEmptyPartitionsBefore(any(YearMonth.class))).willReturn(List.of());
+
+        orderArchiveService.archive();
+
+        verify(archiveOrderPort, times(3)).createMonthlyPartitions(any(YearMonth.class));
+        verify(archiveOrderPort, times(3)).archiveOrders(any(LocalDateTime.class), eq(STATUSES), eq(100));
+        verify(archiveOrderPort).dropEmptyPartitionsBefore(YearMonth.from(LocalDateTime.now().minusDays(180)));
+    }
+
+    @Test
+    @DisplayName("비활성화 상태면 아무 작업도 하지 않음")
+    void disabled() {
+        ReflectionTestUtils.setField(orderArchiveService, "enabled", false);
+
+        orderArchiveService.archive();
+
+        verifyNoInteractions(archiveOrderPort);
+    }
+
+    @Test
+    @DisplayName("이관 실패 시 예외를 전파하지 않음")
+    void failureIsLogged() {
+        given(archiveOrderPort.archiveOrders(any(LocalDateTime.class), any(), anyInt()))
+                .willThrow(new IllegalStateException("db down"));
+
+        orderArchiveService.archive();
+
+        verify(archiveOrderPort, never()).dropEmptyPartitionsBefore(any());
+    }
+}
@@ -0,0 +1,133 @@
+package jjh.delivery.application.service;
+
+import jjh.delivery.application.port.out.OrderNumberNodeLeasePort;
+import jjh.delivery.domain.order.OrderNumberGenerator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.OptionalInt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * OrderNumberNodeService Unit Tests
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OrderNumberNodeService 테스트")
+class OrderNumberNodeServiceTest {
+
+    @Mock
+    private OrderNumberNodeLeasePort orderNumberNodeLeasePort;
+
+    @InjectMocks
+    private OrderNumberNodeService orderNumberNodeService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(orderNumberNodeService, "leaseTtl", Duration.ofSeconds(60));
+    }
+
+    /**
+     * ORD-{yyyyMMdd}-{ms of day 8자리}{node 3자리}{sequence 4자리}
+     */
+    private String nodeIdOfNextOrderNumber() {
+        return OrderNumberGenerator.next().substring(21, 24);
+    }
+
+    @Nested
+    @DisplayName("기동 시 노드 ID 설정")
+    class Configure {
+
+        @Test
+        @DisplayName("명시된 노드 ID는 리스 없이 그대로 사용")
+        void useConfiguredNodeId() {
+            ReflectionTestUtils.setField(orderNumberNodeService, "configuredNodeId", 12);
+
+            orderNumberNodeService.configure();
+
+            assertThat(nodeIdOfNextOrderNumber()).isEqualTo("012");
+            verifyNoInteractions(orderNumberNodeLeasePort);
+        }
+
+        @Test
+        @DisplayName("미설정이면 리스로 점유한 노드 ID 사용 (경합에 밀리면 재시도)")
+        void leaseNodeId() {
+            given(orderNumberNodeLeasePort.acquire(anyString(), any(), any()))
+                    .willReturn(OptionalInt.empty(), OptionalInt.of(7));
+
+            orderNumberNodeService.configure();
+
+            assertThat(nodeIdOfNextOrderNumber()).isEqualTo("007");
+            verify(orderNumberNodeLeasePort, times(2)).acquire(anyString(), any(), any());
+        }
+
+        @Test
+        @DisplayName("점유할 노드 ID가 없으면 기동 실패 (기본값 0으로 시작하지 않음)")
+        void failWithoutFreeNodeId() {
+            given(orderNumberNodeLeasePort.acquire(anyString(), any(), any())).willReturn(OptionalInt.empty());
+
+            assertThatThrownBy(() -> orderNumberNodeService.configure())
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("node-id");
+        }
+    }
+
+    @Nested
+    @DisplayName("리스 연장")
+    class Renew {
+
+        @Test
+        @DisplayName("연장에 성공하면 노드 ID 유지")
+        void keepNodeIdOnRenew() {
+            given(orderNumberNodeLeasePort.acquire(anyString(), any(), any())).willReturn(OptionalInt.of(3));
+            given(orderNumberNodeLeasePort.renew(eq(3), anyString(), any())).willReturn(true);
+            orderNumberNodeService.configure();
+
+            orderNumberNodeService.renewLease();
+
+            assertThat(nodeIdOfNextOrderNumber()).isEqualTo("003");
+            verify(orderNumberNodeLeasePort, times(1)).acquire(anyString(), any(), any());
+        }
+
+        @Test
+        @DisplayName("리스를 놓치면 새 노드 ID로 교체")
+        void reacquireWhenLost() {
+            given(orderNumberNodeLeasePort.acquire(anyString(), any(), any()))
+                    .willReturn(OptionalInt.of(3), OptionalInt.of(4));
+            given(orderNumberNodeLeasePort.renew(eq(3), anyString(), any())).willReturn(false);
+            orderNumberNodeService.configure();
+
+            orderNumberNodeService.renewLease();
+
+            assertThat(nodeIdOfNextOrderNumber()).isEqualTo("004");
+        }
+
+        @Test
+        @DisplayName("명시된 노드 ID는 연장/해제하지 않음")
+        void skipConfiguredNodeId() {
+            ReflectionTestUtils.setField(orderNumberNodeService, "configuredNodeId", 12);
+            orderNumberNodeService.configure();
+
+            orderNumberNodeService.renewLease();
+            orderNumberNodeService.release();
+
+            verifyNoInteractions(orderNumberNodeLeasePort);
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package jjh.delivery.application.service;
+
+import jjh.delivery.application.port.out.LoadOrderPort;
+import jjh.delivery.application.port.out.OrderIndexingPort;
+import jjh.delivery.application.port.out.OrderReindexCheckpointPort;
+import jjh.delivery.application.port.out.OrderReindexCheckpointPort.ReindexJob;
+import jjh.delivery.application.port.out.OrderReindexCheckpointPort.ReindexJobStatus;
+import jjh.delivery.application.port.out.OrderReindexCheckpointPort.ReindexSlice;
+import jjh.delivery.application.port.out.OrderSearchIndexPort;
+import jjh.delivery.application.port.out.ScanOrderIdPort;
+import jjh.delivery.application.port.out.ScanOrderIdPort.OrderStorage;
+import jjh.delivery.domain.order.Order;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+/**
+ * OrderReindexService Unit Tests
+ * 재인덱싱은 별도 스레드에서 실행되므로 마지막 단계를 timeout으로 기다린 뒤 검증합니다.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OrderReindexService 테스트")
+class OrderReindexServiceTest {
+
+    private static final String INDEX = "orders_v20260101000000";
+    private static final long WAIT_MILLIS = 3000;
+
+    private static final UUID ID_1 = UUID.fromString("00000000-0000-7000-8000-000000000001");
+    private static final UUID ID_2 = UUID.fromString("00000000-0000-7000-8000-000000000002");
+    private static final UUID ID_3 = UUID.fromString("00000000-0000-7000-8000-000000000003");
+    private static final UUID ID_4 = UUID.fromString("00000000-0000-7000-8000-000000000004");
+
+    @Mock
+    private ScanOrderIdPort scanOrderIdPort;
+
+    @Mock
+    private LoadOrderPort loadOrderPort;
+
+    @Mock
+    private OrderSearchIndexPort orderSearchIndexPort;
+
+    @Mock
+    private OrderReindexCheckpointPort orderReindexCheckpointPort;
+
+    @Mock
+    private OrderIndexingPort orderIndexingPort;
+
+    @InjectMocks
+    private OrderReindexService orderReindexService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(orderReindexService, "sliceCount", 2);
+        ReflectionTestUtils.setField(orderReindexService, "parallelism", 2);
+        ReflectionTestUtils.setField(orderReindexService, "batchSize", 1000);
+        ReflectionTestUtils.setField(orderReindexService, "progressLogInterval", 1000L);
+    }
+
+    @Test
+    @DisplayName("새 인덱스를 구간별로 채운 뒤 alias 전환")
+    void reindexIntoNewIndex() {
+        given(orderReindexCheckpointPort.findLatestJob()).willReturn(Optional.empty());
+        given(orderSearchIndexPort.createVersionedIndex()).willReturn(INDEX);
+        given(scanOrderIdPort.findSliceBoundaries(OrderStorage.HOT, 2)).willReturn(List.of(ID_2, ID_4));
+        given(scanOrderIdPort.findSliceBoundaries(OrderStorage.ARCHIVE, 2)).willReturn(List.of());
+        given(scanOrderIdPort.countOrders(OrderStorage.HOT)).willReturn(4L);
+        given(scanOrderIdPort.countOrders(OrderStorage.ARCHIVE)).willReturn(0L);
+        given(orderReindexCheckpointPort.findSlices(INDEX)).willReturn(List.of(
+                ReindexSlice.of(OrderStorage.HOT, 0, null, ID_2),
+                ReindexSlice.of(OrderStorage.HOT, 1, ID_2, null)
+        ));
+        given(scanOrderIdPort.findIdsInRange(OrderStorage.HOT, null, ID_2, 1000)).willReturn(List.of(ID_1, ID_2));
+        given(scanOrderIdPort.findIdsInRange(OrderStorage.HOT, ID_2, ID_2, 1000)).willReturn(List.of());
+        given(scanOrderIdPort.findIdsInRange(OrderStorage.HOT, ID_2, null, 1000)).willReturn(List.of(ID_3, ID_4));
+        given(scanOrderIdPort.findIdsInRange(OrderStorage.HOT, ID_4, null, 1000)).willReturn(List.of());
+        given(loadOrderPort.findAllById(anyList())).willReturn(List.of(mock(Order.class), mock(Order.class)));
+
+        orderReindexService.startReindex();
+
+        verify(orderIndexingPort, timeout(WAIT_MILLIS)).requestIndexing(anyList());
+        verify(orderReindexCheckpointPort).createJob(
+                argThat(job -> job.indexName().equals(INDEX) && job.totalCount() == 4),
+                argThat(slices -> slices.size() == 2 && slices.get(1).upperBound() == null));
+        verify(orderSearchIndexPort, times(2)).bulkIndex(eq(INDEX), anyList());
+        verify(orderReindexCheckpointPort, times(2)).saveSliceProgress(eq(INDEX),
+                argThat(slice -> slice.completed() && slice.indexedCount() == 2));
+        verify(orderSearchIndexPort).finishBulkLoad(INDEX);
+        verify(orderSearchIndexPort).switchAlias(INDEX);
+        verify(orderReindexCheckpointPort).updateJobStatus(eq(INDEX), eq(ReindexJobStatus.COMPLETED), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("미완료 작업은 구간별 체크포인트부터 재개")
+    void resumeFromCheckpoint() {
+        ReindexJob failedJob = new ReindexJob(INDEX, ReindexJobStatus.FAILED, 4, LocalDateTime.now().minusHours(1), null);
+        given(orderReindexCheckpointPort.findLatestJob()).willReturn(Optional.of(failedJob));
+        given(orderSearchIndexPort.exists(INDEX)).willReturn(true);
+        given(orderReindexCheckpointPort.findSlices(INDEX)).willReturn(List.of(
+                new ReindexSlice(OrderStorage.HOT, 0, null, ID_2, ID_2, 2, true),
+                new ReindexSlice(OrderStorage.HOT, 1, ID_2, null, ID_3, 1, false)
+        ));
+        given(scanOrderIdPort.findIdsInRange(OrderStorage.HOT, ID_3, null, 1000)).willReturn(List.of(ID_4));
+        given(scanOrderIdPort.findIdsInRange(OrderStorage.HOT, ID_4, null, 1000)).willReturn(List.of());
+        given(loadOrderPort.findAllById(List.of(ID_4))).willReturn(List.of(mock(Order.class)));
+
+        orderReindexService.startReindex();
+
+        verify(orderIndexingPort, timeout(WAIT_MILLIS)).requestIndexing(anyList());
+        verify(orderSearchIndexPort, never()).createVersionedIndex();
+        verify(scanOrderIdPort, never()).findIdsInRange(eq(OrderStorage.HOT), eq(null), eq(ID_2), anyInt());
+        verify(orderReindexCheckpointPort).saveSliceProgress(eq(INDEX),
+                argThat(slice -> slice.sliceNo() == 1 && slice.completed() && slice.indexedCount() == 2));
+        verify(orderSearchIndexPort).switchAlias(INDEX);
+        verify(scanOrderIdPort).findIdsUpdatedSince(failedJob.startedAt());
+    }
+
+    @Test
+    @DisplayName("인덱싱 실패 시 alias를 전환하지 않고 작업을 실패 처리")
+    void failWithoutSwitchingAlias() {
+        given(orderReindexCheckpointPort.findLatestJob()).willReturn(Optional.empty());
+        given(orderSearchIndexPort.createVersionedIndex()).willReturn(INDEX);
+        given(scanOrderIdPort.findSliceBoundaries(OrderStorage.HOT, 2)).willReturn(List.of(ID_2));
+        given(scanOrderIdPort.findSliceBoundaries(OrderStorage.ARCHIVE, 2)).willReturn(List.of());
+        given(orderReindexCheckpointPort.findSlices(INDEX)).willReturn(List.of(
+                ReindexSlice.of(OrderStorage.HOT, 0, null, null)
+        ));
+        given(scanOrderIdPort.findIdsInRange(OrderStorage.HOT, null, null, 1000)).willReturn(List.of(ID_1, ID_2));
+        given(loadOrderPort.findAllById(anyList())).willReturn(List.of(mock(Order.class), mock(Order.class)));
+        doThrow(new RuntimeException("bulk failed")).when(orderSearchIndexPort).bulkIndex(eq(INDEX), anyList());
+
+        orderReindexService.startReindex();
+
+        verify(orderReindexCheckpointPort, timeout(WAIT_MILLIS))
+                .updateJobStatus(eq(INDEX), eq(ReindexJobStatus.FAILED), any(LocalDateTime.class));
+        verify(orderSearchIndexPort, never()).switchAlias(any());
+        verify(orderReindexCheckpointPort, never()).saveSliceProgress(eq(INDEX), any(ReindexSlice.class));
+    }
+}
@@ -1,13 +1,24 @@
 package jjh.delivery.application.service;
 
 import jjh.delivery.adapter.in.web.dto.CursorPageResponse;
+import jjh.delivery.application.port.in.CreateOrderUseCase;
+import jjh.delivery.application.port.in.CreateOrderUseCase.BulkCreateOrderCommand;
 import jjh.delivery.application.port.in.CreateOrderUseCase.CreateOrderCommand;
 import jjh.delivery.application.port.in.CreateOrderUseCase.OrderItemCommand;
+import jjh.delivery.application.port.in.ManageCouponUseCase;
+import jjh.delivery.application.port.in.ManageCouponUseCase.RedeemCouponCommand;
+import jjh.delivery.application.port.in.ReserveInventoryUseCase;
 import jjh.delivery.application.port.in.SearchOrderUseCase.SearchOrderQuery;
 import jjh.delivery.application.port.out.LoadOrderPort;
 import jjh.delivery.application.port.out.OrderEventPort;
+import jjh.delivery.application.port.out.OrderIndexingPort;
+import jjh.delivery.application.port.out.OrderQueryPort;
+import jjh.delivery.application.port.out.OrderQueryPort.OrderSummary;
+import jjh.delivery.application.port.out.OrderQueryPort.OwnerOrderPageQuery;
 import jjh.delivery.application.port.out.OrderSearchPort;
+import jjh.delivery.application.port.out.OrderSearchPort.OrderSearchResult;
 import jjh.delivery.application.port.out.SaveOrderPort;
+import jjh.delivery.application.port.out.SaveSellerDailyStatsPort;
 import jjh.delivery.domain.order.Order;
 import jjh.delivery.domain.order.OrderItem;
 import jjh.delivery.domain.order.OrderStatus;
@@ -15,6 +26,7 @@ import jjh.delivery.domain.order.ShippingAddress;
 import jjh.delivery.domain.order.event.OrderCreatedEvent;
 import jjh.delivery.domain.order.event.OrderStatusChangedEvent;
 import jjh.delivery.domain.order.exception.OrderNotFoundException;
+import jjh.delivery.domain.product.exception.InsufficientStockException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -24,6 +36,8 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -31,7 +45,10 @@ import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
 import static org.mockito.Mockito.*;
 
 /**
@@ -53,6 +70,21 @@ class OrderServiceTest {
     @Mock
     private OrderSearchPort orderSearchPort;
 
+    @Mock
+    private OrderIndexingPort orderIndexingPort;
+
+    @Mock
+    private OrderQueryPort orderQueryPort;
+
+    @Mock
+    private SaveSellerDailyStatsPort saveSellerDailyStatsPort;
+
+    @Mock
+    private ReserveInventoryUseCase reserveInventoryUseCase;
+
+    @Mock
+    private ManageCouponUseCase manageCouponUseCase;
+
     @InjectMocks
     private OrderService orderService;
 
@@ -119,6 +151,12 @@ class OrderServiceTest {
         return order;
     }
 
+    private OrderSearchResult createSearchResult() {
+        return new OrderSearchResult(
+                UUID.randomUUID(), "ORD-1", CUSTOMER_ID, SELLER_ID, OrderStatus.PENDING,
+                BigDecimal.valueOf(20000), "서울시 강남구", 1, List.of(), LocalDateTime.now(), LocalDateTime.now());
+    }
+
     private CreateOrderCommand createOrderCommand() {
         return new CreateOrderCommand(
                 CUSTOMER_ID.toString(),
@@ -158,9 +196,74 @@ class OrderServiceTest {
             assertThat(result.getStatus()).isEqualTo(OrderStatus.PENDING);
             assertThat(result.getItems()).hasSize(1);
 
+            verify(reserveInventoryUseCase).reserve(List.of(result));
             verify(saveOrderPort).save(any(Order.class));
-            verify(orderSearchPort).index(any(Order.class));
+            verify(saveSellerDailyStatsPort).applyOrdersCreated(List.of(result));
+            verify(orderIndexingPort).requestIndexing(anyList());
             verify(orderEventPort).publishAsync(any(OrderCreatedEvent.class));
+            verify(manageCouponUseCase, never()).redeemCoupon(any());
+        }
+
+        @Test
+        @DisplayName("쿠폰을 지정하면 같은 트랜잭션에서 주문 고객/주문 ID로 쿠폰 사용")
+        void createOrderRedeemsCoupon() {
+            // given
+            UUID couponId = UUID.randomUUID();
+            CreateOrderCommand command = new CreateOrderCommand(
+                    CUSTOMER_ID.toString(),
+                    SELLER_ID.toString(),
+                    List.of(OrderItemCommand.of(PRODUCT_ID.toString(), "테스트 상품", 2, new BigDecimal("10000"))),
+                    ShippingAddress.of("홍길동", "010-1234-5678", "12345", "서울시 강남구", "상세주소", null),
+                    null, null, couponId.toString()
+            );
+
+            given(saveOrderPort.save(any(Order.class)))
+                    .willAnswer(invocation -> invocation.getArgument(0));
+
+            // when
+            Order result = orderService.createOrder(command);
+
+            // then
+            verify(manageCouponUseCase).redeemCoupon(new RedeemCouponCommand(couponId, CUSTOMER_ID, result.getId()));
+        }
+
+        @Test
+        @DisplayName("쿠폰을 사용할 수 없으면 예외로 주문 생성 전체 롤백")
+        void createOrderCouponNotUsable() {
+            // given
+            CreateOrderCommand command = new CreateOrderCommand(
+                    CUSTOMER_ID.toString(),
+                    SELLER_ID.toString(),
+                    List.of(OrderItemCommand.of(PRODUCT_ID.toString(), "테스트 상품", 2, new BigDecimal("10000"))),
+                    ShippingAddress.of("홍길동", "010-1234-5678", "12345", "서울시 강남구", "상세주소", null),
+                    null, null, UUID.randomUUID().toString()
+            );
+
+            given(saveOrderPort.save(any(Order.class)))
+                    .willAnswer(invocation -> invocation.getArgument(0));
+            willThrow(new IllegalStateException("Coupon is not usable"))
+                    .given(manageCouponUseCase).redeemCoupon(any());
+
+            // when & then
+            assertThatThrownBy(() -> orderService.createOrder(command))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessage("Coupon is not usable");
+        }
+
+        @Test
+        @DisplayName("재고가 부족하면 주문을 저장하지 않음")
+        void createOrderInsufficientStock() {
+            // given
+            CreateOrderCommand command = createOrderCommand();
+
+            willThrow(new InsufficientStockException(PRODUCT_ID, null))
+                    .given(reserveInventoryUseCase).reserve(anyList());
+
+            // when & then
+            assertThatThrownBy(() -> orderService.createOrder(command))
+                    .isInstanceOf(InsufficientStockException.class);
+            verify(saveOrderPort, never()).save(any(Order.class));
+            verify(orderEventPort, never()).publishAsync(any());
         }
 
         @Test
@@ -192,6 +295,41 @@ class OrderServiceTest {
             assertThat(result.getItems().get(0).variantId()).isEqualTo(UUID.fromString(variantId));
             assertThat(result.getItems().get(0).variantName()).isEqualTo("빨강/L");
         }
+
+        @Test
+        @DisplayName("주문 일괄 생성 - 저장/인덱싱/이벤트 발행을 각각 한 번에 처리")
+        void createOrdersInBulk() {
+            // given
+            BulkCreateOrderCommand command = new BulkCreateOrderCommand(
+                    List.of(createOrderCommand(), createOrderCommand(), createOrderCommand())
+            );
+
+            given(saveOrderPort.saveAll(anyList()))
+                    .willAnswer(invocation -> invocation.getArgument(0));
+
+            // when
+            List<Order> result = orderService.createOrders(command);
+
+            // then
+            assertThat(result).hasSize(3);
+            assertThat(result).extracting(Order::getId).doesNotHaveDuplicates();
+
+            verify(saveOrderPort).saveAll(anyList());
+            verify(saveSellerDailyStatsPort).applyOrdersCreated(result);
+            verify(orderIndexingPort).requestIndexing(anyList());
+            verify(orderEventPort).publishAll(argThat(events -> events.size() == 3));
+            verify(saveOrderPort, never()).save(any(Order.class));
+        }
+
+        @Test
+        @DisplayName("일괄 생성 최대 주문 수 초과 시 예외")
+        void createOrdersExceedsLimit() {
+            List<CreateOrderCommand> commands = Collections.nCopies(
+                    CreateOrderUseCase.MAX_BULK_ORDERS + 1, createOrderCommand());
+
+            assertThatThrownBy(() -> new BulkCreateOrderCommand(commands))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
     }
 
     // =====================================================
@@ -288,7 +426,8 @@ class OrderServiceTest {
 
             // then
             assertThat(result.getStatus()).isEqualTo(OrderStatus.PAID);
-            verify(orderSearchPort).index(any(Order.class));
+            verify(reserveInventoryUseCase).confirm(result);
+            verify(orderIndexingPort).requestIndexing(anyList());
             verify(orderEventPort).publishAsync(any(OrderStatusChangedEvent.class));
         }
 
@@ -362,6 +501,9 @@ class OrderServiceTest {
 
             // then
             assertThat(result.getStatus()).isEqualTo(OrderStatus.CANCELLED);
+            verify(reserveInventoryUseCase).release(order.getId());
+            verify(manageCouponUseCase).cancelCouponRedemption(order.getId());
+            verify(saveSellerDailyStatsPort).applyStatusChange(result, OrderStatus.PENDING);
         }
 
         @Test
@@ -436,55 +578,126 @@ class OrderServiceTest {
         @DisplayName("고객별 주문 조회")
         void findByCustomerIdSuccess() {
             // given
-            List<Order> orders = List.of(createOrder());
+            List<OrderSearchResult> results = List.of(createSearchResult());
 
-            given(orderSearchPort.findByCustomerId(CUSTOMER_ID))
-                    .willReturn(orders);
+            given(orderSearchPort.findByCustomerId(CUSTOMER_ID, true))
+                    .willReturn(results);
 
             // when
-            List<Order> result = orderService.findByCustomerId(CUSTOMER_ID);
+            List<OrderSearchResult> result = orderService.findByCustomerId(CUSTOMER_ID, true);
 
             // then
             assertThat(result).hasSize(1);
-            assertThat(result.get(0).getCustomerId()).isEqualTo(CUSTOMER_ID);
+            assertThat(result.get(0).customerId()).isEqualTo(CUSTOMER_ID);
         }
 
         @Test
-        @DisplayName("판매자별 주문 조회")
+        @DisplayName("판매자별 주문 조회 - 아이템 미포함")
         void findBySellerIdSuccess() {
             // given
-            List<Order> orders = List.of(createOrder());
+            List<OrderSearchResult> results = List.of(createSearchResult());
 
-            given(orderSearchPort.findBySellerId(SELLER_ID))
-                    .willReturn(orders);
+            given(orderSearchPort.findBySellerId(SELLER_ID, false))
+                    .willReturn(results);
 
             // when
-            List<Order> result = orderService.findBySellerId(SELLER_ID);
+            List<OrderSearchResult> result = orderService.findBySellerId(SELLER_ID, false);
 
             // then
             assertThat(result).hasSize(1);
-            assertThat(result.get(0).getSellerId()).isEqualTo(SELLER_ID);
+            assertThat(result.get(0).sellerId()).isEqualTo(SELLER_ID);
         }
 
         @Test
         @DisplayName("검색 쿼리로 주문 검색")
         void searchOrdersSuccess() {
             // given
-            List<Order> orders = List.of(createOrder());
             SearchOrderQuery query = SearchOrderQuery.builder()
                     .customerId(CUSTOMER_ID.toString())
                     .build();
+            OrderSummary summary = new OrderSummary(
+                    UUID.randomUUID(), "ORD-1", CUSTOMER_ID, SELLER_ID, OrderStatus.PENDING,
+                    BigDecimal.valueOf(20000), 1, LocalDateTime.now(), null);
 
-            CursorPageResponse<Order> cursorPageResponse = new CursorPageResponse<>(orders, 10, false, null);
+            CursorPageResponse<OrderSummary> cursorPageResponse = new CursorPageResponse<>(List.of(summary), 10, false, null);
 
             given(orderSearchPort.search(query))
                     .willReturn(cursorPageResponse);
 
             // when
-            CursorPageResponse<Order> result = orderService.searchOrders(query);
+            CursorPageResponse<OrderSummary> result = orderService.searchOrders(query);
+
+            // then
+            assertThat(result.content()).hasSize(1);
+        }
+
+        @Test
+        @DisplayName("point-in-time 커서로 주문 요약 탐색")
+        void browseOrdersSuccess() {
+            // given
+            SearchOrderQuery query = SearchOrderQuery.builder()
+                    .status(OrderStatus.PAID)
+                    .cursor("pit-cursor")
+                    .build();
+            OrderSummary summary = new OrderSummary(
+                    UUID.randomUUID(), "ORD-1", CUSTOMER_ID, SELLER_ID, OrderStatus.PAID,
+                    BigDecimal.valueOf(20000), 2, LocalDateTime.now(), null);
+
+            given(orderSearchPort.browse(query))
+                    .willReturn(new CursorPageResponse<>(List.of(summary), 20, true, "next-pit-cursor"));
+
+            // when
+            CursorPageResponse<OrderSummary> result = orderService.browseOrders(query);
+
+            // then
+            assertThat(result.content()).containsExactly(summary);
+            assertThat(result.nextCursor()).isEqualTo("next-pit-cursor");
+        }
+
+        @Test
+        @DisplayName("고객별 커서 기반 주문 조회")
+        void findByCustomerIdPageSuccess() {
+            // given
+            CursorPageResponse<Order> page = new CursorPageResponse<>(List.of(createOrder()), 20, true, "next");
+
+            given(orderQueryPort.findOrdersByOwner(OwnerOrderPageQuery.forCustomer(CUSTOMER_ID, null, 20)))
+                    .willReturn(page);
+
+            // when
+            CursorPageResponse<Order> result = orderService.findByCustomerId(CUSTOMER_ID, null, 20);
 
             // then
             assertThat(result.content()).hasSize(1);
+            assertThat(result.hasNext()).isTrue();
+            assertThat(result.nextCursor()).isEqualTo("next");
+        }
+
+        @Test
+        @DisplayName("판매자별 주문 요약 조회")
+        void findSummariesBySellerIdSuccess() {
+            // given
+            OrderSummary summary = new OrderSummary(
+                    ORDER_ID, "ORD-20250101-000001", CUSTOMER_ID, SELLER_ID,
+                    OrderStatus.PAID, new BigDecimal("20000"), 1, null, null
+            );
+            CursorPageResponse<OrderSummary> page = new CursorPageResponse<>(List.of(summary), 20, false, null);
+
+            given(orderQueryPort.findOrderSummariesByOwner(OwnerOrderPageQuery.forSeller(SELLER_ID, null, 20)))
+                    .willReturn(page);
+
+            // when
+            CursorPageResponse<OrderSummary> result = orderService.findSummariesBySellerId(SELLER_ID, null, 20);
+
+            // then
+            assertThat(result.content()).extracting(OrderSummary::sellerId).containsExactly(SELLER_ID);
+            assertThat(result.hasNext()).isFalse();
+        }
+
+        @Test
+        @DisplayName("고객/판매자 ID 둘 다 없으면 페이지 쿼리 생성 실패")
+        void ownerPageQueryRequiresOwner() {
+            assertThatThrownBy(() -> new OwnerOrderPageQuery(null, null, null, 20))
+                    .isInstanceOf(IllegalArgumentException.class);
         }
     }
 }
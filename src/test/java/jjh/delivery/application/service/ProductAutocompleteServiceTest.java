@@ -0,0 +1,149 @@
+package jjh.delivery.application.service;
+
+import jjh.delivery.adapter.out.search.ProductSuggestionIndexAdapter;
+import jjh.delivery.application.port.in.AutocompleteProductUseCase.ProductSuggestion;
+import jjh.delivery.application.port.out.LoadProductSuggestionPort;
+import jjh.delivery.application.port.out.LoadProductSuggestionPort.ProductSuggestionSource;
+import jjh.delivery.application.port.out.ScanProductChangePort;
+import jjh.delivery.application.port.out.ScanProductChangePort.ProductChange;
+import jjh.delivery.domain.product.ProductStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * ProductAutocompleteService Unit Tests
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ProductAutocompleteService 테스트")
+class ProductAutocompleteServiceTest {
+
+    private static final UUID IPHONE_ID = UUID.fromString("00000000-0000-0000-0000-000000000001");
+    private static final UUID IPHONE_CASE_ID = UUID.fromString("00000000-0000-0000-0000-000000000002");
+    private static final UUID IPAD_ID = UUID.fromString("00000000-0000-0000-0000-000000000003");
+    private static final UUID GALAXY_ID = UUID.fromString("00000000-0000-0000-0000-000000000004");
+
+    @Mock
+    private LoadProductSuggestionPort loadProductSuggestionPort;
+
+    @Mock
+    private ScanProductChangePort scanProductChangePort;
+
+    private ProductAutocompleteService productAutocompleteService;
+
+    @BeforeEach
+    void setUp() {
+        ProductSuggestionIndexAdapter productSuggestionIndexAdapter = new ProductSuggestionIndexAdapter();
+        ReflectionTestUtils.setField(productSuggestionIndexAdapter, "maxKeyLength", 30);
+        ReflectionTestUtils.setField(productSuggestionIndexAdapter, "maxWordKeys", 3);
+        productAutocompleteService = new ProductAutocompleteService(
+                loadProductSuggestionPort, scanProductChangePort, productSuggestionIndexAdapter);
+
+        ReflectionTestUtils.setField(productAutocompleteService, "batchSize", 100);
+        ReflectionTestUtils.setField(productAutocompleteService, "popularityDays", 90);
+        ReflectionTestUtils.setField(productAutocompleteService, "maxSize", 20);
+        ReflectionTestUtils.setField(productAutocompleteService, "commitLagSeconds", 5L);
+    }
+
+    private ProductSuggestionSource source(UUID id, String name, long popularity) {
+        return new ProductSuggestionSource(id, name, ProductStatus.ACTIVE, popularity);
+    }
+
+    private void buildIndex() {
+        given(loadProductSuggestionPort.findSellableAfter(isNull(), eq(100), any()))
+                .willReturn(List.of(
+                        source(IPHONE_ID, "Apple iPhone 15", 500),
+                        source(IPHONE_CASE_ID, "iPhone 15 실리콘 케이스", 800),
+                        source(IPAD_ID, "Apple iPad Air", 300),
+                        source(GALAXY_ID, "갤럭시 S24 울트라", 1000)
+                ));
+        productAutocompleteService.rebuild();
+    }
+
+    private List<UUID> suggestIds(String prefix, int limit) {
+        return productAutocompleteService.suggest(prefix, limit).stream()
+                .map(ProductSuggestion::productId)
+                .toList();
+    }
+
+    @Nested
+    @DisplayName("자동완성 조회")
+    class Suggest {
+
+        @Test
+        @DisplayName("접두어가 일치하는 상품을 인기순으로 반환")
+        void suggestByPopularity() {
+            buildIndex();
+
+            assertThat(suggestIds("apple i", 10)).containsExactly(IPHONE_ID, IPAD_ID);
+        }
+
+        @Test
+        @DisplayName("상품명 중간 단어로도 검색되며 대소문자를 구분하지 않음")
+        void suggestByWordPrefix() {
+            buildIndex();
+
+            assertThat(suggestIds("IPHONE", 10)).containsExactly(IPHONE_CASE_ID, IPHONE_ID);
+            assertThat(suggestIds("울트", 10)).containsExactly(GALAXY_ID);
+        }
+
+        @Test
+        @DisplayName("limit만큼만 반환")
+        void suggestWithLimit() {
+            buildIndex();
+
+            assertThat(suggestIds("i", 1)).containsExactly(IPHONE_CASE_ID);
+        }
+
+        @Test
+        @DisplayName("인덱스 적재 전에는 DB 조회 없이 빈 목록")
+        void emptyBeforeBuild() {
+            assertThat(productAutocompleteService.suggest("apple", 10)).isEmpty();
+            verifyNoInteractions(loadProductSuggestionPort);
+        }
+    }
+
+    @Nested
+    @DisplayName("변경분 반영")
+    class ApplyChanges {
+
+        @Test
+        @DisplayName("이름이 바뀐 상품은 새 이름으로, 판매 중지된 상품은 제외")
+        void applyRenameAndRemoval() {
+            buildIndex();
+            LocalDateTime updatedAt = LocalDateTime.now().minusMinutes(1);
+            given(scanProductChangePort.findChangedAfter(any(), any(), any(), anyInt()))
+                    .willReturn(List.of(
+                            new ProductChange(IPHONE_ID, updatedAt),
+                            new ProductChange(IPAD_ID, updatedAt)))
+                    .willReturn(List.of());
+            given(loadProductSuggestionPort.findAllById(eq(List.of(IPHONE_ID, IPAD_ID)), any()))
+                    .willReturn(List.of(
+                            source(IPHONE_ID, "Apple iPhone 16 Pro", 500),
+                            new ProductSuggestionSource(IPAD_ID, "Apple iPad Air", ProductStatus.INACTIVE, 300)));
+
+            productAutocompleteService.applyChanges();
+
+            assertThat(productAutocompleteService.suggest("apple", 10))
+                    .containsExactly(new ProductSuggestion(IPHONE_ID, "Apple iPhone 16 Pro"));
+            assertThat(suggestIds("iphone 15", 10)).containsExactly(IPHONE_CASE_ID);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package jjh.delivery.application.service;
+
+import jjh.delivery.application.port.out.ProductIndexingPort;
+import jjh.delivery.application.port.out.ScanProductChangePort;
+import jjh.delivery.application.port.out.ScanProductChangePort.ProductChange;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * ProductIndexSyncService Unit Tests
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ProductIndexSyncService 테스트")
+class ProductIndexSyncServiceTest {
+
+    private static final LocalDateTime INDEXED_AT = LocalDateTime.of(2026, 1, 1, 12, 0);
+    private static final UUID PRODUCT_1 = UUID.fromString("00000000-0000-0000-0000-000000000001");
+    private static final UUID PRODUCT_2 = UUID.fromString("00000000-0000-0000-0000-000000000002");
+
+    @Mock
+    private ScanProductChangePort scanProductChangePort;
+
+    @Mock
+    private ProductIndexingPort productIndexingPort;
+
+    @InjectMocks
+    private ProductIndexSyncService productIndexSyncService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(productIndexSyncService, "batchSize", 2);
+        ReflectionTestUtils.setField(productIndexSyncService, "commitLagSeconds", 5L);
+    }
+
+    @Test
+    @DisplayName("인덱스가 비어 있으면 처음부터 스캔하여 인덱싱 요청")
+    void syncFromBeginningWhenIndexEmpty() {
+        given(productIndexingPort.findLatestIndexedUpdatedAt()).willReturn(Optional.empty());
+        given(scanProductChangePort.findChangedAfter(isNull(), isNull(), any(), eq(2)))
+                .willReturn(List.of(new ProductChange(PRODUCT_1, INDEXED_AT)));
+
+        productIndexSyncService.syncChangedProducts();
+
+        verify(productIndexingPort).requestIndexing(List.of(PRODUCT_1));
+    }
+
+    @Test
+    @DisplayName("배치가 가득 차면 워터마크 이후를 이어서 스캔")
+    void continueScanAfterWatermark() {
+        LocalDateTime secondUpdatedAt = INDEXED_AT.plusMinutes(1);
+        given(productIndexingPort.findLatestIndexedUpdatedAt()).willReturn(Optional.of(INDEXED_AT));
+        given(scanProductChangePort.findChangedAfter(eq(INDEXED_AT), eq(new UUID(0L, 0L)), any(), eq(2)))
+                .willReturn(List.of(
+                        new ProductChange(PRODUCT_1, INDEXED_AT),
+                        new ProductChange(PRODUCT_2, secondUpdatedAt)));
+        given(scanProductChangePort.findChangedAfter(eq(secondUpdatedAt), eq(PRODUCT_2), any(), eq(2)))
+                .willReturn(List.of());
+
+        productIndexSyncService.syncChangedProducts();
+
+        verify(productIndexingPort).requestIndexing(List.of(PRODUCT_1, PRODUCT_2));
+        verify(scanProductChangePort, times(2)).findChangedAfter(any(), any(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("워터마크는 기동 후 한 번만 인덱스에서 초기화")
+    void initializeWatermarkOnce() {
+        given(productIndexingPort.findLatestIndexedUpdatedAt()).willReturn(Optional.of(INDEXED_AT));
+        given(scanProductChangePort.findChangedAfter(any(), any(), any(), anyInt())).willReturn(List.of());
+
+        productIndexSyncService.syncChangedProducts();
+        productIndexSyncService.syncChangedProducts();
+
+        verify(productIndexingPort, times(1)).findLatestIndexedUpdatedAt();
+        verify(productIndexingPort, never()).requestIndexing(any());
+    }
+}
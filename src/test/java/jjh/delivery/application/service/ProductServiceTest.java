@@ -0,0 +1,183 @@
+package jjh.delivery.application.service;
+
+import jjh.delivery.application.port.in.ManageProductUseCase.RegisterProductCommand;
+import jjh.delivery.application.port.out.InventoryReservationPort;
+import jjh.delivery.application.port.out.LoadProductPort;
+import jjh.delivery.application.port.out.ProductEventPort;
+import jjh.delivery.application.port.out.SaveProductPort;
+import jjh.delivery.domain.product.Product;
+import jjh.delivery.domain.product.ProductStatus;
+import jjh.delivery.domain.product.event.ProductCreatedEvent;
+import jjh.delivery.domain.product.event.ProductEvent;
+import jjh.delivery.domain.product.event.ProductPriceChangedEvent;
+import jjh.delivery.domain.product.event.ProductStatusChangedEvent;
+import jjh.delivery.domain.product.event.ProductStockChangedEvent;
+import jjh.delivery.domain.product.exception.ProductNotFoundException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * ProductService Unit Tests
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ProductService 테스트")
+class ProductServiceTest {
+
+    private static final UUID SELLER_ID = UUID.fromString("00000000-0000-0000-0000-000000000001");
+
+    @Mock
+    private LoadProductPort loadProductPort;
+
+    @Mock
+    private SaveProductPort saveProductPort;
+
+    @Mock
+    private ProductEventPort productEventPort;
+
+    @Mock
+    private InventoryReservationPort inventoryReservationPort;
+
+    @InjectMocks
+    private ProductService productService;
+
+    private Product givenProduct(ProductStatus status, int stockQuantity) {
+        Product product = Product.builder()
+                .sellerId(SELLER_ID)
+                .name("무선 이어폰")
+                .basePrice(new BigDecimal("59000"))
+                .status(status)
+                .build();
+        product.increaseStock(null, stockQuantity);
+        given(loadProductPort.findAllById(List.of(product.getId()))).willReturn(List.of(product));
+        given(saveProductPort.save(any(Product.class))).willAnswer(invocation -> invocation.getArgument(0));
+        return product;
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<ProductEvent> publishedEvents() {
+        ArgumentCaptor<List<ProductEvent>> captor = ArgumentCaptor.forClass(List.class);
+        verify(productEventPort).publishAll(captor.capture());
+        return captor.getValue();
+    }
+
+    @Test
+    @DisplayName("상품 등록 시 생성 이벤트 발행")
+    void registerProductPublishesCreated() {
+        given(saveProductPort.save(any(Product.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+        Product product = productService.registerProduct(new RegisterProductCommand(
+                SELLER_ID, "무선 이어폰", null, new BigDecimal("59000"), null, null));
+
+        ArgumentCaptor<ProductEvent> captor = ArgumentCaptor.forClass(ProductEvent.class);
+        verify(productEventPort).publish(captor.capture());
+        assertThat(captor.getValue()).isInstanceOf(ProductCreatedEvent.class);
+        assertThat(captor.getValue().productId()).isEqualTo(product.getId());
+        assertThat(product.getStatus()).isEqualTo(ProductStatus.DRAFT);
+    }
+
+    @Nested
+    @DisplayName("상품 변경 이벤트")
+    class ChangeEvents {
+
+        @Test
+        @DisplayName("가격 변경 시 이전/변경 가격을 담은 이벤트 발행")
+        void changePrice() {
+            Product product = givenProduct(ProductStatus.ACTIVE, 10);
+
+            productService.changePrice(product.getId(), new BigDecimal("49000"));
+
+            assertThat(publishedEvents()).singleElement()
+                    .isInstanceOfSatisfying(ProductPriceChangedEvent.class, event -> {
+                        assertThat(event.productId()).isEqualTo(product.getId());
+                        assertThat(event.previousPrice()).isEqualByComparingTo("59000");
+                        assertThat(event.newPrice()).isEqualByComparingTo("49000");
+                    });
+        }
+
+        @Test
+        @DisplayName("같은 가격으로 변경하면 이벤트 없음")
+        void samePriceNoEvent() {
+            Product product = givenProduct(ProductStatus.ACTIVE, 10);
+
+            productService.changePrice(product.getId(), new BigDecimal("59000.00"));
+
+            assertThat(publishedEvents()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("재고 소진 시 재고 변경과 품절 상태 변경 이벤트를 함께 발행")
+        void stockOutPublishesStockAndStatus() {
+            // 조건부 UPDATE로 3 → 0 차감된 뒤 읽은 상품
+            Product product = givenProduct(ProductStatus.ACTIVE, 0);
+            given(loadProductPort.existsById(product.getId())).willReturn(true);
+            given(inventoryReservationPort.adjustStock(product.getId(), null, -3)).willReturn(true);
+
+            productService.adjustStock(product.getId(), null, -3);
+
+            List<ProductEvent> events = publishedEvents();
+            assertThat(events).hasSize(2);
+            assertThat(events.get(0)).isInstanceOfSatisfying(ProductStockChangedEvent.class, event -> {
+                assertThat(event.previousQuantity()).isEqualTo(3);
+                assertThat(event.newQuantity()).isZero();
+            });
+            assertThat(events.get(1)).isInstanceOfSatisfying(ProductStatusChangedEvent.class, event -> {
+                assertThat(event.previousStatus()).isEqualTo(ProductStatus.ACTIVE);
+                assertThat(event.newStatus()).isEqualTo(ProductStatus.OUT_OF_STOCK);
+            });
+        }
+
+        @Test
+        @DisplayName("재고 조정은 상품 저장이 아닌 조건부 UPDATE로 하며, 재고가 부족하면 예외이고 저장/이벤트 없음")
+        void adjustStockNotEnough() {
+            UUID productId = UUID.randomUUID();
+            given(loadProductPort.existsById(productId)).willReturn(true);
+            given(inventoryReservationPort.adjustStock(productId, null, -5)).willReturn(false);
+
+            assertThatThrownBy(() -> productService.adjustStock(productId, null, -5))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("Not enough stock");
+            verify(saveProductPort, never()).save(any());
+            verify(productEventPort, never()).publishAll(any());
+        }
+
+        @Test
+        @DisplayName("판매 중지 시 상태 변경 이벤트 발행")
+        void deactivate() {
+            Product product = givenProduct(ProductStatus.ACTIVE, 10);
+
+            productService.changeStatus(product.getId(), ProductStatus.INACTIVE);
+
+            assertThat(publishedEvents()).singleElement()
+                    .isInstanceOfSatisfying(ProductStatusChangedEvent.class, event ->
+                            assertThat(event.newStatus()).isEqualTo(ProductStatus.INACTIVE));
+        }
+
+        @Test
+        @DisplayName("존재하지 않는 상품은 예외이며 이벤트 없음")
+        void productNotFound() {
+            UUID productId = UUID.randomUUID();
+            given(loadProductPort.findAllById(List.of(productId))).willReturn(List.of());
+
+            assertThatThrownBy(() -> productService.changePrice(productId, BigDecimal.TEN))
+                    .isInstanceOf(ProductNotFoundException.class);
+            verify(productEventPort, never()).publishAll(any());
+        }
+    }
+}
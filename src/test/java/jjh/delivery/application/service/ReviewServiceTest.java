@@ -6,6 +6,7 @@ import jjh.delivery.application.port.in.ManageReviewUseCase.ReviewRatingInfo;
 import jjh.delivery.application.port.in.ManageReviewUseCase.UpdateReviewCommand;
 import jjh.delivery.application.port.out.LoadReviewPort;
 import jjh.delivery.application.port.out.LoadReviewStatsPort;
+import jjh.delivery.application.port.out.ProductIndexingPort;
 import jjh.delivery.application.port.out.SaveReviewPort;
 import jjh.delivery.domain.review.Review;
 import jjh.delivery.domain.review.ReviewReply;
@@ -44,6 +45,9 @@ class ReviewServiceTest {
     @Mock
     private SaveReviewPort saveReviewPort;
 
+    @Mock
+    private ProductIndexingPort productIndexingPort;
+
     @InjectMocks
     private ReviewService reviewService;
 
@@ -118,6 +122,7 @@ class ReviewServiceTest {
             assertThat(result.getContent()).isEqualTo("좋은 상품입니다!");
             assertThat(result.getImages()).hasSize(2);
             verify(saveReviewPort).save(any(Review.class));
+            verify(productIndexingPort).requestIndexing(List.of(PRODUCT_ID));
         }
 
         @Test
@@ -243,6 +248,7 @@ class ReviewServiceTest {
 
             // then
             verify(saveReviewPort).delete(REVIEW_ID);
+            verify(productIndexingPort).requestIndexing(List.of(PRODUCT_ID));
         }
 
         @Test
@@ -0,0 +1,193 @@
+package jjh.delivery.config.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+/**
+ * ReplicationRoutingDataSource / ReplicaLagMonitor / ReadYourWritesFilter Unit Tests
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReplicationRoutingDataSource 테스트")
+class ReplicationRoutingDataSourceTest {
+
+    @Mock
+    private DataSource primary;
+
+    @Mock
+    private DataSource replica0;
+
+    @Mock
+    private DataSource replica1;
+
+    private ReplicationRoutingDataSource routingDataSource;
+
+    @BeforeEach
+    void setUp() {
+        routingDataSource = new ReplicationRoutingDataSource(primary, List.of(replica0, replica1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.clear();
+        ReadYourWritesContext.close();
+        SecurityContextHolder.clearContext();
+    }
+
+    private void beginTransaction(boolean readOnly) {
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(readOnly);
+    }
+
+    private void markAllHealthy() {
+        routingDataSource.updateHealth("replica-0", true);
+        routingDataSource.updateHealth("replica-1", true);
+    }
+
+    @Nested
+    @DisplayName("라우팅")
+    class Routing {
+
+        @Test
+        @DisplayName("읽기/쓰기 트랜잭션과 트랜잭션 밖 접근은 primary")
+        void writesGoToPrimary() {
+            markAllHealthy();
+
+            assertThat(routingDataSource.determineCurrentLookupKey()).isEqualTo(ReplicationRoutingDataSource.PRIMARY);
+
+            beginTransaction(false);
+            assertThat(routingDataSource.determineCurrentLookupKey()).isEqualTo(ReplicationRoutingDataSource.PRIMARY);
+        }
+
+        @Test
+        @DisplayName("읽기 전용 트랜잭션은 정상 replica를 라운드 로빈")
+        void readOnlyRoundRobin() {
+            markAllHealthy();
+            beginTransaction(true);
+
+            List<Object> keys = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                keys.add(routingDataSource.determineCurrentLookupKey());
+            }
+
+            assertThat(keys).containsExactly("replica-0", "replica-1", "replica-0", "replica-1");
+        }
+
+        @Test
+        @DisplayName("정상 replica가 없으면 primary로 fallback")
+        void fallbackToPrimary() {
+            beginTransaction(true);
+
+            assertThat(routingDataSource.determineCurrentLookupKey()).isEqualTo(ReplicationRoutingDataSource.PRIMARY);
+        }
+
+        @Test
+        @DisplayName("같은 요청에서 쓰기 트랜잭션 이후의 읽기는 primary")
+        void readAfterWriteInSameRequest() {
+            markAllHealthy();
+            ReadYourWritesContext.open(false);
+
+            beginTransaction(false);
+            routingDataSource.determineCurrentLookupKey();
+            TransactionSynchronizationManager.clear();
+
+            beginTransaction(true);
+            assertThat(routingDataSource.determineCurrentLookupKey()).isEqualTo(ReplicationRoutingDataSource.PRIMARY);
+        }
+    }
+
+    @Nested
+    @DisplayName("복제 지연 확인")
+    class LagMonitor {
+
+        private DataSource replicaWithLag(double lagSeconds) throws SQLException {
+            DataSource dataSource = mock(DataSource.class);
+            Connection connection = mock(Connection.class);
+            Statement statement = mock(Statement.class);
+            ResultSet resultSet = mock(ResultSet.class);
+            given(dataSource.getConnection()).willReturn(connection);
+            given(connection.createStatement()).willReturn(statement);
+            given(statement.executeQuery(anyString())).willReturn(resultSet);
+            given(resultSet.getDouble(1)).willReturn(lagSeconds);
+            return dataSource;
+        }
+
+        @Test
+        @DisplayName("허용 지연을 넘은 replica와 확인에 실패한 replica는 라우팅에서 제외")
+        void excludeLaggingReplica() throws SQLException {
+            DataSource lagging = replicaWithLag(10);
+            DataSource failing = mock(DataSource.class);
+            given(failing.getConnection()).willThrow(new SQLException("connection refused"));
+            ReplicationRoutingDataSource routing =
+                    new ReplicationRoutingDataSource(primary, List.of(replicaWithLag(0.5), lagging, failing));
+
+            new ReplicaLagMonitor(routing, Duration.ofSeconds(5)).checkLag();
+            beginTransaction(true);
+
+            assertThat(routing.determineCurrentLookupKey()).isEqualTo("replica-0");
+            assertThat(routing.determineCurrentLookupKey()).isEqualTo("replica-0");
+        }
+    }
+
+    @Nested
+    @DisplayName("Read-Your-Writes")
+    class ReadYourWrites {
+
+        @Test
+        @DisplayName("쓰기를 한 사용자의 다음 요청은 고정 시간 동안 primary 사용")
+        void stickAfterWrite() throws Exception {
+            ReadYourWritesFilter filter = new ReadYourWritesFilter(Duration.ofMinutes(1));
+            SecurityContextHolder.getContext().setAuthentication(
+                    new UsernamePasswordAuthenticationToken("customer", null, List.of()));
+            List<Boolean> sticky = new ArrayList<>();
+
+            filter.doFilter(new MockHttpServletRequest(), new MockHttpServletResponse(),
+                    (request, response) -> {
+                        sticky.add(ReadYourWritesContext.isStickToPrimary());
+                        ReadYourWritesContext.markWrite();
+                    });
+            filter.doFilter(new MockHttpServletRequest(), new MockHttpServletResponse(),
+                    (request, response) -> sticky.add(ReadYourWritesContext.isStickToPrimary()));
+
+            assertThat(sticky).containsExactly(false, true);
+        }
+
+        @Test
+        @DisplayName("인증되지 않은 요청은 쓰기 기록을 남기지 않음")
+        void anonymousNotTracked() throws Exception {
+            ReadYourWritesFilter filter = new ReadYourWritesFilter(Duration.ofMinutes(1));
+            List<Boolean> sticky = new ArrayList<>();
+
+            filter.doFilter(new MockHttpServletRequest(), new MockHttpServletResponse(),
+                    (request, response) -> ReadYourWritesContext.markWrite());
+            filter.doFilter(new MockHttpServletRequest(), new MockHttpServletResponse(),
+                    (request, response) -> sticky.add(ReadYourWritesContext.isStickToPrimary()));
+
+            assertThat(sticky).containsExactly(false);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package jjh.delivery.domain.common;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * IdGenerator Unit Tests
+ */
+@DisplayName("IdGenerator 테스트")
+class IdGeneratorTest {
+
+    @AfterEach
+    void resetStrategy() {
+        IdGenerator.configure(IdGenerator.Strategy.TIME_ORDERED);
+    }
+
+    @Test
+    @DisplayName("기본 전략은 UUIDv7 (RFC variant)")
+    void generatesVersion7() {
+        UUID id = IdGenerator.newId();
+
+        assertThat(id.version()).isEqualTo(7);
+        assertThat(id.variant()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("UUIDv7 상위 48bit는 현재 unix ms 타임스탬프")
+    void embedsTimestamp() {
+        long before = System.currentTimeMillis();
+        UUID id = IdGenerator.newId();
+        long after = System.currentTimeMillis();
+
+        long millis = id.getMostSignificantBits() >>> 16;
+        assertThat(millis).isBetween(before, after + 1);
+    }
+
+    @Test
+    @DisplayName("연속 생성 시 바이트 순서(PostgreSQL uuid 정렬)로 단조 증가")
+    void monotonicallyIncreasing() {
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            ids.add(IdGenerator.newId().toString());
+        }
+
+        assertThat(ids).isSorted();
+        assertThat(new HashSet<>(ids)).hasSize(ids.size());
+    }
+
+    @Test
+    @DisplayName("RANDOM 전략으로 변경하면 UUIDv4 생성")
+    void randomStrategy() {
+        IdGenerator.configure(IdGenerator.Strategy.RANDOM);
+
+        assertThat(IdGenerator.newId().version()).isEqualTo(4);
+    }
+}
@@ -0,0 +1,65 @@
+package jjh.delivery.domain.order;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * OrderNumberGenerator Unit Tests
+ */
+@DisplayName("OrderNumberGenerator 테스트")
+class OrderNumberGeneratorTest {
+
+    @Test
+    @DisplayName("주문번호 형식: ORD-yyyyMMdd-15자리, 30자 이내")
+    void format() {
+        OrderNumberGenerator generator = new OrderNumberGenerator(ZoneId.of("Asia/Seoul"));
+        generator.setNodeId(12);
+
+        String orderNumber = generator.generate();
+
+        assertThat(orderNumber).matches("ORD-\\d{8}-\\d{15}");
+        assertThat(orderNumber).hasSizeLessThanOrEqualTo(30);
+        assertThat(orderNumber.substring(21, 24)).isEqualTo("012");
+    }
+
+    @Test
+    @DisplayName("같은 노드에서 연속 생성 시 중복 없이 단조 증가")
+    void monotonicAndUnique() {
+        OrderNumberGenerator generator = new OrderNumberGenerator(ZoneId.of("Asia/Seoul"));
+
+        List<String> numbers = new ArrayList<>();
+        for (int i = 0; i < 20_000; i++) {
+            numbers.add(generator.generate());
+        }
+
+        assertThat(numbers).isSorted();
+        assertThat(new HashSet<>(numbers)).hasSize(numbers.size());
+    }
+
+    @Test
+    @DisplayName("노드 ID가 다르면 같은 시점에도 주문번호가 다름")
+    void differentNodes() {
+        OrderNumberGenerator node1 = new OrderNumberGenerator(ZoneId.of("Asia/Seoul"));
+        OrderNumberGenerator node2 = new OrderNumberGenerator(ZoneId.of("Asia/Seoul"));
+        node1.setNodeId(1);
+        node2.setNodeId(2);
+
+        assertThat(node1.generate()).isNotEqualTo(node2.generate());
+    }
+
+    @Test
+    @DisplayName("노드 ID 범위(0~999) 초과 시 예외")
+    void invalidNodeId() {
+        OrderNumberGenerator generator = new OrderNumberGenerator(ZoneId.of("Asia/Seoul"));
+
+        assertThatThrownBy(() -> generator.setNodeId(1000))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}